@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the usual JMH command line options and,
+ * unless another result format is requested with {@code -rf}, writes the results in JSON
+ * to {@code jmh-result.json} (or the file given with {@code -rff}), so that the results
+ * of two commits can be compared with any JMH results viewer or a simple script.
+ *
+ * @since 5.2
+ */
+public final class BenchmarkRunner {
+
+	private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+			if (!commandLineOptions.getResult().hasValue()) {
+				options.result(DEFAULT_RESULT_FILE);
+			}
+		}
+		new Runner(options.build()).run();
+	}
+
+}
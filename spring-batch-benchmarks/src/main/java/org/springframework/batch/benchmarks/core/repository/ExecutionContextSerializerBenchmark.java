@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.core.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.BinaryExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+
+/**
+ * Benchmarks of the {@link ExecutionContextSerializer} implementations, with a context
+ * typical of a restartable step (reader and writer positions and a few counters).
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionContextSerializerBenchmark {
+
+	@Param({ "default", "jackson", "binary" })
+	public String serializerType;
+
+	@Param({ "10" })
+	public int entryCount;
+
+	private ExecutionContextSerializer serializer;
+
+	private Map<String, Object> context;
+
+	private byte[] serializedContext;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.serializer = switch (this.serializerType) {
+			case "default" -> new DefaultExecutionContextSerializer();
+			case "jackson" -> new Jackson2ExecutionContextStringSerializer();
+			case "binary" -> new BinaryExecutionContextSerializer();
+			default -> throw new IllegalArgumentException("Unknown serializer type: " + this.serializerType);
+		};
+		this.context = new HashMap<>();
+		this.context.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+		this.context.put("batch.stepType", "org.springframework.batch.core.step.tasklet.TaskletStep");
+		for (int i = 0; i < this.entryCount; i++) {
+			this.context.put("reader" + i + ".read.count", i * 1000);
+			this.context.put("writer" + i + ".current.count", (long) i * 100_000);
+			this.context.put("writer" + i + ".name", "writer-" + i);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		this.serializer.serialize(this.context, out);
+		this.serializedContext = out.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(this.serializedContext.length);
+		this.serializer.serialize(this.context, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Map<String, Object> deserialize() throws Exception {
+		return this.serializer.deserialize(new ByteArrayInputStream(this.serializedContext));
+	}
+
+}
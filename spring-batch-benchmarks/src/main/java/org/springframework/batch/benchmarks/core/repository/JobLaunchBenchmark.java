@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.core.repository;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+
+/**
+ * Benchmarks of concurrent launches of different job instances with a JDBC based job
+ * repository, depending on the isolation level of the transactions creating the job
+ * executions. Failed launches, such as deadlocks or serialization failures, are counted
+ * separately.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JobLaunchBenchmark {
+
+	@Param({ "HSQL", "H2" })
+	public EmbeddedDatabaseType databaseType;
+
+	@Param({ "SERIALIZABLE", "READ_COMMITTED" })
+	public Isolation isolationLevelForCreate;
+
+	private final AtomicLong run = new AtomicLong();
+
+	private EmbeddedDatabase database;
+
+	private JobRepository jobRepository;
+
+	@Setup
+	public void setUp() throws Exception {
+		String platform = this.databaseType == EmbeddedDatabaseType.HSQL ? "hsqldb" : "h2";
+		this.database = new EmbeddedDatabaseBuilder().setType(this.databaseType)
+			.generateUniqueName(true)
+			.addScript("/org/springframework/batch/core/schema-" + platform + ".sql")
+			.build();
+		JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+		factory.setDataSource(this.database);
+		factory.setTransactionManager(new JdbcTransactionManager(this.database));
+		factory.setIsolationLevelForCreateEnum(this.isolationLevelForCreate);
+		factory.afterPropertiesSet();
+		this.jobRepository = factory.getObject();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Benchmark
+	public void createJobExecution(Launches launches) {
+		JobParameters jobParameters = new JobParametersBuilder().addLong("run", this.run.incrementAndGet())
+			.toJobParameters();
+		try {
+			this.jobRepository.createJobExecution("job", jobParameters);
+		}
+		catch (Exception e) {
+			launches.failed++;
+		}
+	}
+
+	/**
+	 * The number of failed launches of each thread.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Launches {
+
+		public long failed;
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.core.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.repository.support.SimpleJobRepository;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+/**
+ * Benchmarks of the update paths of a JDBC based {@link SimpleJobRepository}, which are
+ * called at each chunk of a step, against embedded databases.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobRepositoryBenchmark {
+
+	@Param({ "HSQL", "H2" })
+	public EmbeddedDatabaseType databaseType;
+
+	private EmbeddedDatabase database;
+
+	private JobRepository jobRepository;
+
+	private JobExecution jobExecution;
+
+	private StepExecution stepExecution;
+
+	@Setup
+	public void setUp() throws Exception {
+		String platform = this.databaseType == EmbeddedDatabaseType.HSQL ? "hsqldb" : "h2";
+		this.database = new EmbeddedDatabaseBuilder().setType(this.databaseType)
+			.generateUniqueName(true)
+			.addScript("/org/springframework/batch/core/schema-" + platform + ".sql")
+			.build();
+		JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+		factory.setDataSource(this.database);
+		factory.setTransactionManager(new JdbcTransactionManager(this.database));
+		factory.afterPropertiesSet();
+		this.jobRepository = factory.getObject();
+		this.jobExecution = this.jobRepository.createJobExecution("job", new JobParameters());
+		this.stepExecution = this.jobExecution.createStepExecution("step");
+		this.jobRepository.add(this.stepExecution);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Benchmark
+	public void updateStepExecution() {
+		this.stepExecution.incrementCommitCount();
+		this.jobRepository.update(this.stepExecution);
+	}
+
+	@Benchmark
+	public void updateStepExecutionContext() {
+		this.stepExecution.getExecutionContext().putLong("reader.read.count", this.stepExecution.getVersion());
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+	}
+
+	@Benchmark
+	public void updateJobExecution() {
+		this.jobRepository.update(this.jobExecution);
+	}
+
+	@Benchmark
+	public void updateJobExecutionContext() {
+		this.jobExecution.getExecutionContext().putLong("job.counter", this.jobExecution.getVersion());
+		this.jobRepository.updateExecutionContext(this.jobExecution);
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.core.step;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.step.item.BatchRetryTemplate;
+import org.springframework.batch.core.step.item.ChunkProcessor;
+import org.springframework.batch.core.step.item.ChunkProvider;
+import org.springframework.batch.core.step.item.FaultTolerantChunkProcessor;
+import org.springframework.batch.core.step.item.FaultTolerantChunkProvider;
+import org.springframework.batch.core.step.item.SimpleChunkProcessor;
+import org.springframework.batch.core.step.item.SimpleChunkProvider;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+
+/**
+ * Benchmark of the overhead of reading, processing and writing a chunk with
+ * {@link SimpleChunkProvider} and {@link SimpleChunkProcessor}, or with
+ * {@link FaultTolerantChunkProvider} and {@link FaultTolerantChunkProcessor}. Items are
+ * read from an in-memory reader cycling over preallocated items, then passed to a
+ * pass-through processor and a no-op writer, so that only the overhead of the chunk
+ * oriented processing is measured.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkProcessorBenchmark {
+
+	@Param({ "simple", "faultTolerant" })
+	public String processorType;
+
+	@Param({ "100" })
+	public int chunkSize;
+
+	private ChunkProvider<Long> chunkProvider;
+
+	private ChunkProcessor<Long> chunkProcessor;
+
+	private StepExecution stepExecution;
+
+	@Setup
+	public void setUp() {
+		ItemReader<Long> itemReader = new CyclingItemReader(this.chunkSize);
+		ItemProcessor<Long, Long> itemProcessor = item -> item;
+		ItemWriter<Long> itemWriter = chunk -> {
+		};
+		RepeatTemplate repeatTemplate = new RepeatTemplate();
+		repeatTemplate.setCompletionPolicy(new SimpleCompletionPolicy(this.chunkSize));
+		switch (this.processorType) {
+			case "simple" -> {
+				this.chunkProvider = new SimpleChunkProvider<>(itemReader, repeatTemplate);
+				this.chunkProcessor = new SimpleChunkProcessor<>(itemProcessor, itemWriter);
+			}
+			case "faultTolerant" -> {
+				this.chunkProvider = new FaultTolerantChunkProvider<>(itemReader, repeatTemplate);
+				this.chunkProcessor = new FaultTolerantChunkProcessor<>(itemProcessor, itemWriter,
+						new BatchRetryTemplate());
+			}
+			default -> throw new IllegalArgumentException("Unknown processor type: " + this.processorType);
+		}
+		this.stepExecution = new StepExecution("step",
+				new JobExecution(new JobInstance(1L, "job"), 1L, new JobParameters()));
+	}
+
+	@Benchmark
+	public StepContribution process() throws Exception {
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		Chunk<Long> chunk = this.chunkProvider.provide(contribution);
+		this.chunkProcessor.process(contribution, chunk);
+		this.chunkProvider.postProcess(contribution, chunk);
+		return contribution;
+	}
+
+	/**
+	 * Reader returning the same preallocated items over and over, so that it is never
+	 * exhausted and does not allocate.
+	 */
+	private static class CyclingItemReader implements ItemReader<Long> {
+
+		private final Long[] items;
+
+		private int index;
+
+		CyclingItemReader(int itemCount) {
+			this.items = new Long[itemCount];
+			for (int i = 0; i < itemCount; i++) {
+				this.items[i] = (long) i;
+			}
+		}
+
+		@Override
+		public Long read() {
+			Long item = this.items[this.index];
+			this.index = (this.index + 1) % this.items.length;
+			return item;
+		}
+
+	}
+
+}
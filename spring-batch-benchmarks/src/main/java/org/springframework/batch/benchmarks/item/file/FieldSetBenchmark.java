@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.item.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+/**
+ * Benchmarks of the typed reads of {@link DefaultFieldSet}, by index and by name.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldSetBenchmark {
+
+	private FieldSet fieldSet;
+
+	@Setup
+	public void setUp() {
+		this.fieldSet = new DefaultFieldSet(
+				new String[] { "1042", "John Doe", "Springfield", "1234.56", "2024-01-31", "true" },
+				new String[] { "id", "name", "city", "amount", "date", "active" });
+	}
+
+	@Benchmark
+	public void readByIndex(Blackhole blackhole) {
+		blackhole.consume(this.fieldSet.readInt(0));
+		blackhole.consume(this.fieldSet.readString(1));
+		blackhole.consume(this.fieldSet.readString(2));
+		blackhole.consume(this.fieldSet.readBigDecimal(3));
+		blackhole.consume(this.fieldSet.readDate(4, "yyyy-MM-dd"));
+		blackhole.consume(this.fieldSet.readBoolean(5));
+	}
+
+	@Benchmark
+	public void readByName(Blackhole blackhole) {
+		blackhole.consume(this.fieldSet.readInt("id"));
+		blackhole.consume(this.fieldSet.readString("name"));
+		blackhole.consume(this.fieldSet.readString("city"));
+		blackhole.consume(this.fieldSet.readBigDecimal("amount"));
+		blackhole.consume(this.fieldSet.readDate("date", "yyyy-MM-dd"));
+		blackhole.consume(this.fieldSet.readBoolean("active"));
+	}
+
+	@Benchmark
+	public void readNumbers(Blackhole blackhole) {
+		blackhole.consume(this.fieldSet.readLong(0));
+		blackhole.consume(this.fieldSet.readDouble(3));
+		blackhole.consume(this.fieldSet.readFloat(3));
+	}
+
+}
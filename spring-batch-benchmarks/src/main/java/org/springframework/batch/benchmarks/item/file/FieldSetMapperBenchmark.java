@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.item.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.CompiledFieldSetMapper;
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+/**
+ * Benchmarks of {@link BeanWrapperFieldSetMapper}, compared to
+ * {@link CompiledFieldSetMapper}.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldSetMapperBenchmark {
+
+	private FieldSet fieldSet;
+
+	private BeanWrapperFieldSetMapper<Customer> beanWrapperFieldSetMapper;
+
+	private CompiledFieldSetMapper<Customer> compiledFieldSetMapper;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.fieldSet = new DefaultFieldSet(new String[] { "1042", "John Doe", "Springfield", "1234.56", "true" },
+				new String[] { "id", "name", "city", "amount", "active" });
+
+		this.beanWrapperFieldSetMapper = new BeanWrapperFieldSetMapper<>();
+		this.beanWrapperFieldSetMapper.setTargetType(Customer.class);
+		this.beanWrapperFieldSetMapper.afterPropertiesSet();
+
+		this.compiledFieldSetMapper = new CompiledFieldSetMapper<>();
+		this.compiledFieldSetMapper.setTargetType(Customer.class);
+		this.compiledFieldSetMapper.afterPropertiesSet();
+	}
+
+	@Benchmark
+	public Customer beanWrapper() throws Exception {
+		return this.beanWrapperFieldSetMapper.mapFieldSet(this.fieldSet);
+	}
+
+	@Benchmark
+	public Customer compiled() throws Exception {
+		return this.compiledFieldSetMapper.mapFieldSet(this.fieldSet);
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.item.file;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmark of a {@link FlatFileItemReader} reading and mapping a whole delimited file.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatFileItemReaderBenchmark {
+
+	@Param({ "10000" })
+	public int itemCount;
+
+	private Path file;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.file = Files.createTempFile("flat-file-reader-benchmark", ".csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file)) {
+			for (int i = 0; i < this.itemCount; i++) {
+				writer.write(i + ",John Doe " + i + ",Springfield," + i + ".56,true");
+				writer.newLine();
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	public void readFile(Blackhole blackhole) throws Exception {
+		FlatFileItemReader<Customer> reader = new FlatFileItemReaderBuilder<Customer>().name("reader")
+			.resource(new FileSystemResource(this.file))
+			.delimited()
+			.names("id", "name", "city", "amount", "active")
+			.targetType(Customer.class)
+			.build();
+		reader.open(new ExecutionContext());
+		try {
+			Customer customer;
+			while ((customer = reader.read()) != null) {
+				blackhole.consume(customer);
+			}
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+}
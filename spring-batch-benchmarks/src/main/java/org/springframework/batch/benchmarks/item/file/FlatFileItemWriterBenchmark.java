@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.item.file;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmark of a {@link FlatFileItemWriter} writing chunks of items to a delimited file.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatFileItemWriterBenchmark {
+
+	@Param({ "100" })
+	public int chunkSize;
+
+	private Path file;
+
+	private Chunk<Customer> chunk;
+
+	private FlatFileItemWriter<Customer> writer;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.file = Files.createTempFile("flat-file-writer-benchmark", ".csv");
+		this.chunk = new Chunk<>();
+		for (int i = 0; i < this.chunkSize; i++) {
+			Customer customer = new Customer();
+			customer.setId(i);
+			customer.setName("John Doe " + i);
+			customer.setCity("Springfield");
+			customer.setAmount(new BigDecimal(i + ".56"));
+			customer.setActive(true);
+			this.chunk.add(customer);
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void openWriter() {
+		// a new file for each iteration, so that it does not grow indefinitely
+		this.writer = new FlatFileItemWriterBuilder<Customer>().name("writer")
+			.resource(new FileSystemResource(this.file))
+			.transactional(false)
+			.delimited()
+			.names("id", "name", "city", "amount", "active")
+			.build();
+		this.writer.open(new ExecutionContext());
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeWriter() {
+		this.writer.close();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	public void writeChunk() throws Exception {
+		this.writer.write(this.chunk);
+	}
+
+}
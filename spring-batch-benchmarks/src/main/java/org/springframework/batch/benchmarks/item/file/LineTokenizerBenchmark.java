@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks.item.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.batch.item.file.transform.FixedLengthTokenizer;
+import org.springframework.batch.item.file.transform.Range;
+
+/**
+ * Benchmarks of {@link DelimitedLineTokenizer} and {@link FixedLengthTokenizer}.
+ *
+ * @since 5.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineTokenizerBenchmark {
+
+	private static final String[] NAMES = { "id", "name", "city", "amount", "date", "active" };
+
+	private static final String DELIMITED_LINE = "1042,John Doe,Springfield,1234.56,2024-01-31,true";
+
+	private static final String QUOTED_LINE = "1042,\"Doe, John\",\"Springfield\",1234.56,2024-01-31,true";
+
+	private static final String FIXED_LENGTH_LINE = "1042John Doe  Springfield 1234.562024-01-31true";
+
+	private DelimitedLineTokenizer delimitedLineTokenizer;
+
+	private FixedLengthTokenizer fixedLengthTokenizer;
+
+	@Setup
+	public void setUp() {
+		this.delimitedLineTokenizer = new DelimitedLineTokenizer();
+		this.delimitedLineTokenizer.setNames(NAMES);
+
+		this.fixedLengthTokenizer = new FixedLengthTokenizer();
+		this.fixedLengthTokenizer.setNames(NAMES);
+		this.fixedLengthTokenizer.setColumns(new Range(1, 4), new Range(5, 14), new Range(15, 26), new Range(27, 33),
+				new Range(34, 43), new Range(44, 47));
+	}
+
+	@Benchmark
+	public FieldSet delimited() {
+		return this.delimitedLineTokenizer.tokenize(DELIMITED_LINE);
+	}
+
+	@Benchmark
+	public FieldSet delimitedWithQuotes() {
+		return this.delimitedLineTokenizer.tokenize(QUOTED_LINE);
+	}
+
+	@Benchmark
+	public FieldSet fixedLength() {
+		return this.fixedLengthTokenizer.tokenize(FIXED_LENGTH_LINE);
+	}
+
+}
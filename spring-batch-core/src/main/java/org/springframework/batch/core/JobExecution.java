@@ -27,9 +27,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Batch domain object representing the execution of a job.
@@ -49,6 +51,15 @@ public class JobExecution extends Entity {
 
 	private volatile Collection<StepExecution> stepExecutions = Collections.synchronizedSet(new LinkedHashSet<>());
 
+	// not serialized, like the loader without which detached step executions can not be
+	// returned
+	private transient volatile Set<Long> detachedStepExecutionIds = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	@Nullable
+	private transient volatile Function<Collection<Long>, List<StepExecution>> detachedStepExecutionsLoader;
+
+	private transient volatile List<Throwable> detachedFailureExceptions = new CopyOnWriteArrayList<>();
+
 	private volatile BatchStatus status = BatchStatus.STARTING;
 
 	private volatile LocalDateTime startTime = null;
@@ -73,7 +84,11 @@ public class JobExecution extends Entity {
 	public JobExecution(JobExecution original) {
 		this.jobParameters = original.getJobParameters();
 		this.jobInstance = original.getJobInstance();
-		this.stepExecutions = original.getStepExecutions();
+		// detached step executions are copied by ID rather than loaded
+		this.stepExecutions = List.copyOf(original.stepExecutions);
+		this.detachedStepExecutionIds.addAll(original.getDetachedStepExecutionIds());
+		this.detachedStepExecutionsLoader = original.detachedStepExecutionsLoader;
+		this.detachedFailureExceptions = original.detachedFailureExceptions;
 		this.status = original.getStatus();
 		this.startTime = original.getStartTime();
 		this.createTime = original.getCreateTime();
@@ -234,11 +249,76 @@ public class JobExecution extends Entity {
 	}
 
 	/**
-	 * Accessor for the step executions.
+	 * Accessor for the step executions. Step executions that were detached with
+	 * {@link #detachStepExecutions(Collection, Function)} are loaded on each call.
 	 * @return the step executions that were registered.
 	 */
 	public Collection<StepExecution> getStepExecutions() {
-		return List.copyOf(stepExecutions);
+		Function<Collection<Long>, List<StepExecution>> loader = this.detachedStepExecutionsLoader;
+		if (this.detachedStepExecutionIds.isEmpty() || loader == null) {
+			return List.copyOf(stepExecutions);
+		}
+		List<StepExecution> result = new ArrayList<>(stepExecutions);
+		result.addAll(loader.apply(getDetachedStepExecutionIds()));
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Detach the given step executions from this job execution to release the memory they
+	 * use, for example, once the partitions of a step with a very large number of
+	 * partitions are aggregated. The detached step executions are still returned by
+	 * {@link #getStepExecutions()}, which loads them with the given loader on each call,
+	 * but the loaded step executions are read-only snapshots that are not attached to
+	 * this job execution. The failure exceptions of the detached step executions are kept
+	 * and returned by {@link #getAllFailureExceptions()}.
+	 * @param stepExecutions the step executions to detach, which must have been saved
+	 * @param loader the function loading step executions by their IDs, replacing the
+	 * loader of the step executions that were previously detached
+	 * @since 5.2
+	 */
+	public void detachStepExecutions(Collection<StepExecution> stepExecutions,
+			Function<Collection<Long>, List<StepExecution>> loader) {
+		Assert.notNull(loader, "The step executions loader must not be null");
+		Set<Long> ids = new LinkedHashSet<>(stepExecutions.size());
+		for (StepExecution stepExecution : stepExecutions) {
+			Assert.state(stepExecution.getId() != null,
+					"StepExecution has null id. It must be saved first: " + stepExecution);
+			ids.add(stepExecution.getId());
+		}
+		this.detachedStepExecutionsLoader = loader;
+		// the hash code of step executions changes when they are saved, so they are
+		// removed by ID rather than by equality
+		this.stepExecutions.removeIf(stepExecution -> {
+			if (ids.contains(stepExecution.getId())) {
+				this.detachedFailureExceptions.addAll(stepExecution.getFailureExceptions());
+				return true;
+			}
+			return false;
+		});
+		this.detachedStepExecutionIds.addAll(ids);
+	}
+
+	/**
+	 * Whether this job execution has step executions, including the detached ones. Unlike
+	 * {@code getStepExecutions().isEmpty()}, this does not load the detached step
+	 * executions.
+	 * @return {@code true} if step executions were registered with this job execution
+	 * @since 5.2
+	 */
+	public boolean hasStepExecutions() {
+		return !this.stepExecutions.isEmpty() || !this.detachedStepExecutionIds.isEmpty();
+	}
+
+	/**
+	 * @return the IDs of the step executions that were detached from this job execution,
+	 * in the order they were detached
+	 * @since 5.2
+	 * @see #detachStepExecutions(Collection, Function)
+	 */
+	public List<Long> getDetachedStepExecutionIds() {
+		synchronized (this.detachedStepExecutionIds) {
+			return List.copyOf(this.detachedStepExecutionIds);
+		}
 	}
 
 	/**
@@ -355,6 +435,7 @@ public class JobExecution extends Entity {
 	public synchronized List<Throwable> getAllFailureExceptions() {
 
 		Set<Throwable> allExceptions = new HashSet<>(failureExceptions);
+		allExceptions.addAll(detachedFailureExceptions);
 		for (StepExecution stepExecution : stepExecutions) {
 			allExceptions.addAll(stepExecution.getFailureExceptions());
 		}
@@ -371,6 +452,8 @@ public class JobExecution extends Entity {
 	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
 		stream.defaultReadObject();
 		failureExceptions = new ArrayList<>();
+		detachedStepExecutionIds = Collections.synchronizedSet(new LinkedHashSet<>());
+		detachedFailureExceptions = new ArrayList<>();
 	}
 
 	@Override
@@ -17,6 +17,7 @@ package org.springframework.batch.core.configuration.support;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.Types;
 
 import javax.sql.DataSource;
@@ -24,6 +25,7 @@ import javax.sql.DataSource;
 import org.springframework.batch.core.DefaultJobKeyGenerator;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobKeyGenerator;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.configuration.BatchConfigurationException;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.converter.DateToStringConverter;
@@ -35,6 +37,7 @@ import org.springframework.batch.core.converter.StringToLocalDateConverter;
 import org.springframework.batch.core.converter.StringToLocalDateTimeConverter;
 import org.springframework.batch.core.converter.StringToLocalTimeConverter;
 import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.FileJobExplorerFactoryBean;
 import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
@@ -44,14 +47,17 @@ import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore;
 import org.springframework.batch.core.repository.dao.JdbcExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JdbcJobExecutionDao;
 import org.springframework.batch.core.repository.dao.JdbcStepExecutionDao;
+import org.springframework.batch.core.repository.support.FileJobRepositoryFactoryBean;
 import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
 import org.springframework.batch.item.database.support.DataFieldMaxValueIncrementerFactory;
 import org.springframework.batch.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
 import org.springframework.batch.support.DatabaseType;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
@@ -67,6 +73,7 @@ import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.springframework.jdbc.support.lob.DefaultLobHandler;
 import org.springframework.jdbc.support.lob.LobHandler;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
 
@@ -112,10 +119,12 @@ import org.springframework.transaction.annotation.Isolation;
  */
 @Configuration(proxyBeanMethods = false)
 @Import(ScopeConfiguration.class)
-public class DefaultBatchConfiguration implements ApplicationContextAware {
+public class DefaultBatchConfiguration implements ApplicationContextAware, DisposableBean {
 
 	protected ApplicationContext applicationContext;
 
+	private FileJobRepositoryStore jobRepositoryStore;
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -123,6 +132,9 @@ public class DefaultBatchConfiguration implements ApplicationContextAware {
 
 	@Bean
 	public JobRepository jobRepository() throws BatchConfigurationException {
+		if (getJobRepositoryDirectory() != null) {
+			return fileJobRepository();
+		}
 		JobRepositoryFactoryBean jobRepositoryFactoryBean = new JobRepositoryFactoryBean();
 		try {
 			jobRepositoryFactoryBean.setDataSource(getDataSource());
@@ -182,6 +194,9 @@ public class DefaultBatchConfiguration implements ApplicationContextAware {
 
 	@Bean
 	public JobExplorer jobExplorer() throws BatchConfigurationException {
+		if (getJobRepositoryDirectory() != null) {
+			return fileJobExplorer();
+		}
 		JobExplorerFactoryBean jobExplorerFactoryBean = new JobExplorerFactoryBean();
 		jobExplorerFactoryBean.setDataSource(getDataSource());
 		jobExplorerFactoryBean.setTransactionManager(getTransactionManager());
@@ -201,6 +216,62 @@ public class DefaultBatchConfiguration implements ApplicationContextAware {
 		}
 	}
 
+	private JobRepository fileJobRepository() throws BatchConfigurationException {
+		FileJobRepositoryFactoryBean jobRepositoryFactoryBean = new FileJobRepositoryFactoryBean();
+		try {
+			jobRepositoryFactoryBean.setStore(getJobRepositoryStore());
+			jobRepositoryFactoryBean.setTransactionManager(getTransactionManager());
+			jobRepositoryFactoryBean.setJobKeyGenerator(getJobParametersKeyGenerator());
+			jobRepositoryFactoryBean.setSerializer(getExecutionContextSerializer());
+			jobRepositoryFactoryBean.setConversionService(getConversionService());
+			jobRepositoryFactoryBean.setIsolationLevelForCreateEnum(getIsolationLevelForCreate());
+			jobRepositoryFactoryBean.setValidateTransactionState(getValidateTransactionState());
+			jobRepositoryFactoryBean.afterPropertiesSet();
+			return jobRepositoryFactoryBean.getObject();
+		}
+		catch (Exception e) {
+			throw new BatchConfigurationException("Unable to configure the default job repository", e);
+		}
+	}
+
+	private JobExplorer fileJobExplorer() throws BatchConfigurationException {
+		FileJobExplorerFactoryBean jobExplorerFactoryBean = new FileJobExplorerFactoryBean();
+		try {
+			jobExplorerFactoryBean.setStore(getJobRepositoryStore());
+			jobExplorerFactoryBean.setTransactionManager(getTransactionManager());
+			jobExplorerFactoryBean.setJobKeyGenerator(getJobParametersKeyGenerator());
+			jobExplorerFactoryBean.setSerializer(getExecutionContextSerializer());
+			jobExplorerFactoryBean.setConversionService(getConversionService());
+			jobExplorerFactoryBean.afterPropertiesSet();
+			return jobExplorerFactoryBean.getObject();
+		}
+		catch (Exception e) {
+			throw new BatchConfigurationException("Unable to configure the default job explorer", e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private JobKeyGenerator<JobParameters> getJobParametersKeyGenerator() {
+		return (JobKeyGenerator<JobParameters>) getJobKeyGenerator();
+	}
+
+	private synchronized FileJobRepositoryStore getJobRepositoryStore() throws Exception {
+		if (this.jobRepositoryStore == null) {
+			FileJobRepositoryStore store = new FileJobRepositoryStore(getJobRepositoryDirectory());
+			store.open();
+			this.jobRepositoryStore = store;
+		}
+		return this.jobRepositoryStore;
+	}
+
+	@Override
+	public synchronized void destroy() throws Exception {
+		if (this.jobRepositoryStore != null) {
+			this.jobRepositoryStore.close();
+			this.jobRepositoryStore = null;
+		}
+	}
+
 	@Bean
 	public JobRegistry jobRegistry() throws BatchConfigurationException {
 		return new MapJobRegistry();
@@ -292,6 +363,20 @@ public class DefaultBatchConfiguration implements ApplicationContextAware {
 	 * Getters to customize the configuration of infrastructure beans
 	 */
 
+	/**
+	 * Return the directory of the file-based job repository. When not {@code null}, the
+	 * job repository and the job explorer store the Batch meta-data in a
+	 * {@link FileJobRepositoryStore} in this directory instead of a database, and no data
+	 * source is required. Defaults to {@code null}.
+	 * @return the directory of the file-based job repository, or {@code null} to use a
+	 * database
+	 * @since 5.2
+	 */
+	@Nullable
+	protected Path getJobRepositoryDirectory() {
+		return null;
+	}
+
 	/**
 	 * Return the data source to use for Batch meta-data. Defaults to the bean of type
 	 * {@link DataSource} and named "dataSource" in the application context.
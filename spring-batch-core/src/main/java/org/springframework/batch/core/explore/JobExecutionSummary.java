@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.explore;
+
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.lang.Nullable;
+
+/**
+ * Lightweight, read-only view of a {@link JobExecution}, without its job parameters,
+ * execution context and step executions.
+ *
+ * @param jobExecutionId the ID of the job execution
+ * @param jobInstanceId the ID of the job instance of the job execution
+ * @param jobName the name of the job
+ * @param status the status of the job execution
+ * @param exitCode the exit code of the job execution
+ * @param createTime the creation time of the job execution
+ * @param startTime the start time of the job execution, if started
+ * @param endTime the end time of the job execution, if ended
+ * @param lastUpdated the last time the job execution was updated
+ * @since 5.2
+ * @see JobExplorer#findJobExecutionSummaries(String, Long, int)
+ */
+public record JobExecutionSummary(long jobExecutionId, long jobInstanceId, String jobName, BatchStatus status,
+		String exitCode, LocalDateTime createTime, @Nullable LocalDateTime startTime, @Nullable LocalDateTime endTime,
+		@Nullable LocalDateTime lastUpdated) {
+
+	/**
+	 * @return {@code true} if the job execution is running, as defined by
+	 * {@link BatchStatus#isRunning()}
+	 */
+	public boolean isRunning() {
+		return this.status.isRunning();
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.core.explore;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -87,6 +89,27 @@ public interface JobExplorer {
 	@Nullable
 	StepExecution getStepExecution(@Nullable Long jobExecutionId, @Nullable Long stepExecutionId);
 
+	/**
+	 * Retrieve the {@link StepExecution}s with the given IDs of a parent
+	 * {@link JobExecution}, as returned by {@link #getStepExecution(Long, Long)}. The
+	 * parent job execution of the result does not necessarily contain the other step
+	 * executions. The default implementation retrieves them one by one.
+	 * @param jobExecutionId The parent job execution ID.
+	 * @param stepExecutionIds The step execution IDs.
+	 * @return the {@link StepExecution}s found, ordered by ID.
+	 * @since 5.2
+	 */
+	default List<StepExecution> getStepExecutions(Long jobExecutionId, Collection<Long> stepExecutionIds) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepExecutionIds.size());
+		stepExecutionIds.stream().sorted().distinct().forEach(stepExecutionId -> {
+			StepExecution stepExecution = getStepExecution(jobExecutionId, stepExecutionId);
+			if (stepExecution != null) {
+				stepExecutions.add(stepExecution);
+			}
+		});
+		return stepExecutions;
+	}
+
 	/**
 	 * @param instanceId {@link Long} The ID for the {@link JobInstance} to obtain.
 	 * @return the {@code JobInstance} that has this ID, or {@code null} if not found.
@@ -142,6 +165,24 @@ public interface JobExplorer {
 	 */
 	Set<JobExecution> findRunningJobExecutions(@Nullable String jobName);
 
+	/**
+	 * Fetch summaries of job executions in descending order of ID, without their job
+	 * parameters, execution contexts and step executions. Pages are fetched by passing
+	 * the ID of the last summary of the previous page (keyset pagination), so the cost of
+	 * a page does not depend on its position.
+	 * @param jobName The name of the job, or {@code null} for the executions of all jobs.
+	 * @param lastJobExecutionId The ID of the last job execution of the previous page, or
+	 * {@code null} to fetch the first page.
+	 * @param count The maximum number of summaries to return.
+	 * @return the summaries of the job executions with an ID lower than
+	 * {@code lastJobExecutionId}, most recent first.
+	 * @since 5.2
+	 */
+	default List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Query the repository for all unique {@link JobInstance} names (sorted
 	 * alphabetically).
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.explore.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExecutionSummary;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JobExplorer} decorator caching job instances, job executions and step executions
+ * retrieved by ID, as well as the job executions of job instances, to reduce the load of
+ * frequent polling (for example, by a monitoring application) on the job repository.
+ * <p>
+ * Executions in a final state ({@link BatchStatus#COMPLETED} or
+ * {@link BatchStatus#ABANDONED}), which can not be updated anymore, and job instances are
+ * cached until they are evicted by newer entries when the cache is full. Other executions
+ * (running, failed or stopped) are only cached for a short time, as they may still be
+ * updated or restarted. Queries returning running or multiple executions by job name are
+ * not cached.
+ * <p>
+ * Cached objects are shared between callers and must not be modified.
+ *
+ * @since 5.2
+ */
+public class CachingJobExplorer implements JobExplorer {
+
+	private final JobExplorer delegate;
+
+	private int maximumSize = 1000;
+
+	private Duration timeToLive = Duration.ofSeconds(5);
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<CacheKey, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+			return size() > maximumSize;
+		}
+	};
+
+	/**
+	 * Create a new {@link CachingJobExplorer}.
+	 * @param delegate the job explorer to retrieve the entries that are not cached from
+	 */
+	public CachingJobExplorer(JobExplorer delegate) {
+		Assert.notNull(delegate, "The delegate job explorer must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the maximum number of cached entries. The least recently used entries are
+	 * evicted first. Defaults to 1000.
+	 * @param maximumSize the maximum number of cached entries
+	 */
+	public void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "The maximum size must be greater than zero");
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Set the time during which executions that are not in a final state are cached.
+	 * {@link Duration#ZERO} disables the caching of such executions. Defaults to 5
+	 * seconds.
+	 * @param timeToLive the time to live of executions that are not in a final state
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "The time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative(), "The time to live must not be negative");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Remove all the entries from the cache.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.cache.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Nullable
+	@Override
+	public JobExecution getJobExecution(@Nullable Long executionId) {
+		if (executionId == null) {
+			return null;
+		}
+		return getOrLoad(new CacheKey(JobExecution.class, executionId),
+				() -> this.delegate.getJobExecution(executionId), jobExecution -> isFinal(jobExecution.getStatus()));
+	}
+
+	@Nullable
+	@Override
+	public StepExecution getStepExecution(@Nullable Long jobExecutionId, @Nullable Long stepExecutionId) {
+		if (jobExecutionId == null || stepExecutionId == null) {
+			return this.delegate.getStepExecution(jobExecutionId, stepExecutionId);
+		}
+		return getOrLoad(new CacheKey(StepExecution.class, stepExecutionId),
+				() -> this.delegate.getStepExecution(jobExecutionId, stepExecutionId),
+				stepExecution -> isFinal(stepExecution.getStatus()));
+	}
+
+	@Override
+	public List<StepExecution> getStepExecutions(Long jobExecutionId, Collection<Long> stepExecutionIds) {
+		return this.delegate.getStepExecutions(jobExecutionId, stepExecutionIds);
+	}
+
+	@Nullable
+	@Override
+	public JobInstance getJobInstance(@Nullable Long instanceId) {
+		if (instanceId == null) {
+			return null;
+		}
+		return getOrLoad(new CacheKey(JobInstance.class, instanceId), () -> this.delegate.getJobInstance(instanceId),
+				jobInstance -> true);
+	}
+
+	/**
+	 * The job executions of a job instance are cached until evicted once the last one is
+	 * in a final state, since no other execution can be created for the job instance.
+	 */
+	@Override
+	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+		if (jobInstance.getId() == null) {
+			return this.delegate.getJobExecutions(jobInstance);
+		}
+		return getOrLoad(new CacheKey(List.class, jobInstance.getId()),
+				() -> this.delegate.getJobExecutions(jobInstance),
+				jobExecutions -> !jobExecutions.isEmpty() && isFinal(jobExecutions.get(0).getStatus()));
+	}
+
+	@Nullable
+	@Override
+	public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.getJobInstance(jobName, jobParameters);
+	}
+
+	@Nullable
+	@Override
+	public JobInstance getLastJobInstance(String jobName) {
+		return this.delegate.getLastJobInstance(jobName);
+	}
+
+	@Nullable
+	@Override
+	public JobExecution getLastJobExecution(JobInstance jobInstance) {
+		return this.delegate.getLastJobExecution(jobInstance);
+	}
+
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(@Nullable String jobName) {
+		return this.delegate.findRunningJobExecutions(jobName);
+	}
+
+	@Override
+	public List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		return this.delegate.findJobExecutionSummaries(jobName, lastJobExecutionId, count);
+	}
+
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, int start, int count) {
+		return this.delegate.getJobInstances(jobName, start, count);
+	}
+
+	@Override
+	public List<String> getJobNames() {
+		return this.delegate.getJobNames();
+	}
+
+	@Override
+	public List<JobInstance> findJobInstancesByJobName(String jobName, int start, int count) {
+		return this.delegate.findJobInstancesByJobName(jobName, start, count);
+	}
+
+	@Override
+	public long getJobInstanceCount(@Nullable String jobName) throws NoSuchJobException {
+		return this.delegate.getJobInstanceCount(jobName);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T getOrLoad(CacheKey key, Supplier<T> loader, Predicate<T> isFinal) {
+		this.lock.lock();
+		try {
+			CacheEntry entry = this.cache.get(key);
+			if (entry != null) {
+				if (!entry.isExpired()) {
+					return (T) entry.value();
+				}
+				this.cache.remove(key);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		T value = loader.get();
+		if (value == null) {
+			return null;
+		}
+		boolean permanent = isFinal.test(value);
+		if (!permanent && this.timeToLive.isZero()) {
+			return value;
+		}
+		CacheEntry entry = new CacheEntry(value, permanent, System.nanoTime() + this.timeToLive.toNanos());
+		this.lock.lock();
+		try {
+			this.cache.put(key, entry);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return value;
+	}
+
+	private static boolean isFinal(BatchStatus status) {
+		return status == BatchStatus.COMPLETED || status == BatchStatus.ABANDONED;
+	}
+
+	private record CacheKey(Class<?> type, long id) {
+	}
+
+	private record CacheEntry(Object value, boolean permanent, long expiresAt) {
+
+		boolean isExpired() {
+			return !this.permanent && this.expiresAt - System.nanoTime() <= 0;
+		}
+
+	}
+
+}
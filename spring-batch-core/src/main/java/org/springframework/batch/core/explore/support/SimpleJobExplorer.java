@@ -20,15 +20,20 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExecutionSummary;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.lang.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -147,6 +152,32 @@ public class SimpleJobExplorer implements JobExplorer {
 		return stepExecution;
 	}
 
+	/**
+	 * Retrieve the step executions and their execution contexts at once, without loading
+	 * the other step executions of the parent job execution.
+	 */
+	@Override
+	public List<StepExecution> getStepExecutions(Long jobExecutionId, Collection<Long> stepExecutionIds) {
+		JobExecution jobExecution = jobExecutionDao.getJobExecution(jobExecutionId);
+		if (jobExecution == null || stepExecutionIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		jobExecution.setJobInstance(jobInstanceDao.getJobInstance(jobExecution));
+		jobExecution.setExecutionContext(ecDao.getExecutionContext(jobExecution));
+		List<StepExecution> stepExecutions = stepExecutionDao.getStepExecutions(jobExecution, stepExecutionIds);
+		Map<Long, ExecutionContext> executionContexts = ecDao.getExecutionContexts(stepExecutions);
+		for (StepExecution stepExecution : stepExecutions) {
+			stepExecution.setExecutionContext(executionContexts.get(stepExecution.getId()));
+		}
+		return stepExecutions;
+	}
+
+	@Override
+	public List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		return jobExecutionDao.findJobExecutionSummaries(jobName, lastJobExecutionId, count);
+	}
+
 	@Nullable
 	@Override
 	public JobInstance getJobInstance(@Nullable Long instanceId) {
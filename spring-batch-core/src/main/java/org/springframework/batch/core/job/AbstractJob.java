@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -345,8 +345,7 @@ public abstract class AbstractJob implements Job, StepLocator, BeanNameAware, In
 		}
 		finally {
 			try {
-				if (execution.getStatus().isLessThanOrEqualTo(BatchStatus.STOPPED)
-						&& execution.getStepExecutions().isEmpty()) {
+				if (execution.getStatus().isLessThanOrEqualTo(BatchStatus.STOPPED) && !execution.hasStepExecutions()) {
 					ExitStatus exitStatus = execution.getExitStatus();
 					ExitStatus newExitStatus = ExitStatus.NOOP
 						.addExitDescription("All steps already completed or no steps configured for this job.");
@@ -131,7 +131,7 @@ public class JobFlowExecutor implements FlowExecutor {
 			// TODO: mark the step execution in some more definitive way?
 			return true;
 		}
-		return execution.getStepExecutions().isEmpty();
+		return !execution.hasStepExecutions();
 	}
 
 	@Override
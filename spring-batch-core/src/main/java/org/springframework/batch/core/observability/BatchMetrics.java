@@ -19,8 +19,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -90,6 +93,48 @@ public final class BatchMetrics {
 			.register(meterRegistry);
 	}
 
+	/**
+	 * Create a {@link Gauge}.
+	 * @param meterRegistry the meter registry to use
+	 * @param name of the gauge. Will be prefixed with
+	 * {@link BatchMetrics#METRICS_PREFIX}.
+	 * @param description of the gauge
+	 * @param object the object the value of the gauge is obtained from
+	 * @param valueFunction the function returning the value of the gauge
+	 * @param tags of the gauge
+	 * @param <T> the type of the object the value is obtained from
+	 * @return a new gauge instance
+	 * @since 5.2
+	 */
+	public static <T> Gauge createGauge(MeterRegistry meterRegistry, String name, String description, T object,
+			ToDoubleFunction<T> valueFunction, Tag... tags) {
+		return Gauge.builder(METRICS_PREFIX + name, object, valueFunction)
+			.description(description)
+			.tags(Arrays.asList(tags))
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Create a {@link FunctionCounter}.
+	 * @param meterRegistry the meter registry to use
+	 * @param name of the counter. Will be prefixed with
+	 * {@link BatchMetrics#METRICS_PREFIX}.
+	 * @param description of the counter
+	 * @param object the object the count is obtained from
+	 * @param countFunction the function returning the monotonically increasing count
+	 * @param tags of the counter
+	 * @param <T> the type of the object the count is obtained from
+	 * @return a new function counter instance
+	 * @since 5.2
+	 */
+	public static <T> FunctionCounter createFunctionCounter(MeterRegistry meterRegistry, String name,
+			String description, T object, ToDoubleFunction<T> countFunction, Tag... tags) {
+		return FunctionCounter.builder(METRICS_PREFIX + name, object, countFunction)
+			.description(description)
+			.tags(Arrays.asList(tags))
+			.register(meterRegistry);
+	}
+
 	/**
 	 * Create a new {@link Observation}. It's not started, you must explicitly call
 	 * {@link Observation#start()} to start it.
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.BufferedReaderFactory;
+import org.springframework.batch.item.file.FileChannelBufferedReaderFactory;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.SeekableReader;
+import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
+import org.springframework.batch.item.file.separator.SimpleRecordSeparatorPolicy;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single flat file into ranges of
+ * bytes aligned to record boundaries, so that the file can be read by several
+ * {@link FlatFileItemReader}s in parallel (see
+ * {@link FlatFileItemReader#setStartPosition(long)} and
+ * {@link FlatFileItemReader#setEndPosition(long)}). Creates an {@link ExecutionContext}
+ * per range with the start and end offsets of the range, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>.<br>
+ * <br>
+ *
+ * The part of the file following the {@link #setLinesToSkip(int) header lines} is split
+ * in grid size ranges of roughly the same size, and each boundary is moved forward to the
+ * start of the next record. With the default {@link SimpleRecordSeparatorPolicy}, where
+ * each line is a record, this only requires reading one line per boundary. Other policies
+ * may let a record span several lines, which cannot be detected from an arbitrary
+ * position: the file is then scanned once, record by record, to find the boundaries. As
+ * boundaries can collapse, fewer partitions than the grid size may be created.<br>
+ * <br>
+ *
+ * The readers should be configured with the same encoding, comment prefixes and record
+ * separator policy as this partitioner. The header lines are excluded from the first
+ * range, and since readers ignore their lines to skip when the range does not start at
+ * the beginning of the file, they can keep the same configuration as well. Reading a
+ * range requires the readers to use a {@link FileChannelBufferedReaderFactory}.
+ *
+ * @since 5.2
+ */
+public class FlatFileRangePartitioner implements Partitioner {
+
+	private static final String DEFAULT_START_KEY_NAME = "startPosition";
+
+	private static final String DEFAULT_END_KEY_NAME = "endPosition";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private Resource resource;
+
+	private String encoding = FlatFileItemReader.DEFAULT_CHARSET;
+
+	private int linesToSkip = 0;
+
+	private String[] comments = FlatFileItemReader.DEFAULT_COMMENT_PREFIXES;
+
+	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
+
+	private BufferedReaderFactory bufferedReaderFactory = new FileChannelBufferedReaderFactory();
+
+	private String startKeyName = DEFAULT_START_KEY_NAME;
+
+	private String endKeyName = DEFAULT_END_KEY_NAME;
+
+	/**
+	 * The resource to split. It must be a file in the file system.
+	 * @param resource the resource to split
+	 */
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * The encoding of the resource. Defaults to
+	 * {@link FlatFileItemReader#DEFAULT_CHARSET}.
+	 * @param encoding the encoding of the resource
+	 */
+	public void setEncoding(String encoding) {
+		this.encoding = encoding;
+	}
+
+	/**
+	 * The number of header lines at the start of the file, which are excluded from the
+	 * first range. Each header is a single line, even if the record separator policy
+	 * would join it with the following lines. Comment lines are not counted. Defaults to
+	 * 0.
+	 * @param linesToSkip the number of lines to skip
+	 */
+	public void setLinesToSkip(int linesToSkip) {
+		this.linesToSkip = linesToSkip;
+	}
+
+	/**
+	 * The prefixes of comment lines. Defaults to
+	 * {@link FlatFileItemReader#DEFAULT_COMMENT_PREFIXES}.
+	 * @param comments an array of comment line prefixes
+	 */
+	public void setComments(String[] comments) {
+		this.comments = comments.clone();
+	}
+
+	/**
+	 * The policy used to determine where records end. Defaults to a
+	 * {@link SimpleRecordSeparatorPolicy}.
+	 * @param recordSeparatorPolicy the record separator policy to use
+	 */
+	public void setRecordSeparatorPolicy(RecordSeparatorPolicy recordSeparatorPolicy) {
+		this.recordSeparatorPolicy = recordSeparatorPolicy;
+	}
+
+	/**
+	 * The factory of the readers used to find the boundaries of the ranges. The readers
+	 * it creates must implement {@link SeekableReader}. Defaults to a
+	 * {@link FileChannelBufferedReaderFactory}.
+	 * @param bufferedReaderFactory the factory to use
+	 */
+	public void setBufferedReaderFactory(BufferedReaderFactory bufferedReaderFactory) {
+		this.bufferedReaderFactory = bufferedReaderFactory;
+	}
+
+	/**
+	 * The name of the key for the start offset of the range in each
+	 * {@link ExecutionContext}. Defaults to "startPosition".
+	 * @param startKeyName the value of the key
+	 */
+	public void setStartKeyName(String startKeyName) {
+		this.startKeyName = startKeyName;
+	}
+
+	/**
+	 * The name of the key for the end offset (exclusive) of the range in each
+	 * {@link ExecutionContext}. Defaults to "endPosition".
+	 * @param endKeyName the value of the key
+	 */
+	public void setEndKeyName(String endKeyName) {
+		this.endKeyName = endKeyName;
+	}
+
+	/**
+	 * Split the resource in ranges of bytes aligned to record boundaries and assign each
+	 * of them to an {@link ExecutionContext}.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.state(this.resource != null, "A resource is required.");
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		List<Long> boundaries;
+		try (BufferedReader reader = this.bufferedReaderFactory.create(this.resource, this.encoding)) {
+			Assert.state(reader instanceof SeekableReader,
+					"Resource must be a file in the file system with an encoding supported by a SeekableReader: "
+							+ this.resource);
+			boundaries = findBoundaries(reader, this.resource.contentLength(), Math.max(gridSize, 1));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be partitioned: " + this.resource, e);
+		}
+		Map<String, ExecutionContext> map = new HashMap<>(gridSize);
+		for (int i = 0; i < boundaries.size() - 1; i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putLong(this.startKeyName, boundaries.get(i));
+			context.putLong(this.endKeyName, boundaries.get(i + 1));
+			map.put(PARTITION_KEY + i, context);
+		}
+		return map;
+	}
+
+	private List<Long> findBoundaries(BufferedReader reader, long length, int gridSize) throws IOException {
+		SeekableReader seekableReader = (SeekableReader) reader;
+		// header lines are single lines, whatever the record separator policy
+		for (int i = 0; i < this.linesToSkip; i++) {
+			readLine(reader);
+		}
+		long start = seekableReader.position();
+		boolean linePerRecord = this.recordSeparatorPolicy.getClass() == SimpleRecordSeparatorPolicy.class;
+		List<Long> boundaries = new ArrayList<>(gridSize + 1);
+		boundaries.add(start);
+		long position = start;
+		for (int i = 1; i < gridSize && position < length; i++) {
+			long target = start + (length - start) * i / gridSize;
+			if (target <= position) {
+				continue;
+			}
+			if (linePerRecord) {
+				// the next line starts after the terminator of the line holding the byte
+				// before the target
+				seekableReader.position(target - 1);
+				reader.readLine();
+				position = seekableReader.position();
+			}
+			else {
+				while (position < target && readRecord(reader) != null) {
+					position = seekableReader.position();
+				}
+			}
+			if (position < length && position > boundaries.get(boundaries.size() - 1)) {
+				boundaries.add(position);
+			}
+		}
+		boundaries.add(Math.max(length, start));
+		return boundaries;
+	}
+
+	@Nullable
+	private String readLine(BufferedReader reader) throws IOException {
+		String line = reader.readLine();
+		while (line != null && isComment(line)) {
+			line = reader.readLine();
+		}
+		return line;
+	}
+
+	@Nullable
+	private String readRecord(BufferedReader reader) throws IOException {
+		String line = readLine(reader);
+		String record = line;
+		while (line != null && !this.recordSeparatorPolicy.isEndOfRecord(record)) {
+			line = reader.readLine();
+			if (line != null) {
+				record = this.recordSeparatorPolicy.preProcess(record) + line;
+			}
+		}
+		return record;
+	}
+
+	private boolean isComment(String line) {
+		for (String prefix : this.comments) {
+			if (line.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
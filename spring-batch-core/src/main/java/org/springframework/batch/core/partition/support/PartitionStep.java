@@ -20,6 +20,7 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.partition.PartitionHandler;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.batch.core.step.AbstractStep;
@@ -44,6 +45,8 @@ public class PartitionStep extends AbstractStep {
 
 	private StepExecutionAggregator stepExecutionAggregator = new DefaultStepExecutionAggregator();
 
+	private JobExplorer jobExplorer;
+
 	/**
 	 * A {@link PartitionHandler} which can send out step executions for remote processing
 	 * and bring back the results.
@@ -62,6 +65,24 @@ public class PartitionStep extends AbstractStep {
 		this.stepExecutionAggregator = stepExecutionAggregator;
 	}
 
+	/**
+	 * Set the {@link JobExplorer} used to load the partition step executions on demand.
+	 * When set, the partition step executions are detached from the job execution once
+	 * they are aggregated, so that the memory they use (including their execution
+	 * contexts) is released for the rest of the job. They are then loaded from the job
+	 * repository by
+	 * {@link org.springframework.batch.core.JobExecution#getStepExecutions()} when
+	 * needed. This is recommended for steps with a very large number of partitions.
+	 * Defaults to {@code null} (the partition step executions are kept in memory).
+	 * @param jobExplorer the {@link JobExplorer} to set
+	 * @since 5.2
+	 * @see org.springframework.batch.core.JobExecution#detachStepExecutions(Collection,
+	 * java.util.function.Function)
+	 */
+	public void setJobExplorer(JobExplorer jobExplorer) {
+		this.jobExplorer = jobExplorer;
+	}
+
 	/**
 	 * Public setter for mandatory property {@link StepExecutionSplitter}.
 	 * @param stepExecutionSplitter the {@link StepExecutionSplitter} to set
@@ -103,6 +124,13 @@ public class PartitionStep extends AbstractStep {
 		stepExecution.upgradeStatus(BatchStatus.COMPLETED);
 		stepExecutionAggregator.aggregate(stepExecution, executions);
 
+		if (jobExplorer != null) {
+			Long jobExecutionId = stepExecution.getJobExecutionId();
+			stepExecution.getJobExecution()
+				.detachStepExecutions(executions,
+						stepExecutionIds -> jobExplorer.getStepExecutions(jobExecutionId, stepExecutionIds));
+		}
+
 		// If anything failed or had a problem we need to crap out
 		if (stepExecution.getStatus().isUnsuccessful()) {
 			throw new JobExecutionException("Partition handler returned an unsuccessful step");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,7 @@ package org.springframework.batch.core.partition.support;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.beans.factory.InitializingBean;
@@ -40,6 +37,8 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator, I
 
 	private JobExplorer jobExplorer;
 
+	private int pageSize = Integer.MAX_VALUE;
+
 	/**
 	 * Create a new instance (useful for configuration purposes).
 	 */
@@ -70,6 +69,21 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator, I
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Set the number of step executions refreshed from the {@link JobExplorer} and passed
+	 * to the delegate at once. With a page size lower than the number of partitions, only
+	 * one page of step executions (and their execution contexts) is kept in memory at any
+	 * time, and the delegate is called once per page, so it must accumulate the step
+	 * executions into the result, as the {@link DefaultStepExecutionAggregator} does.
+	 * Defaults to {@link Integer#MAX_VALUE} (all the step executions at once).
+	 * @param pageSize the number of step executions per page
+	 * @since 5.2
+	 */
+	public void setPageSize(int pageSize) {
+		Assert.isTrue(pageSize > 0, "The page size must be greater than zero");
+		this.pageSize = pageSize;
+	}
+
 	/**
 	 * @throws Exception if the job explorer is not provided
 	 */
@@ -91,19 +105,19 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator, I
 		if (executions == null) {
 			return;
 		}
-		Set<Long> stepExecutionIds = executions.stream().map(stepExecution -> {
+		List<Long> stepExecutionIds = executions.stream().map(stepExecution -> {
 			Long id = stepExecution.getId();
 			Assert.state(id != null, "StepExecution has null id. It must be saved first: " + stepExecution);
 			return id;
-		}).collect(Collectors.toSet());
-		JobExecution jobExecution = jobExplorer.getJobExecution(result.getJobExecutionId());
-		Assert.state(jobExecution != null,
-				"Could not load JobExecution from JobRepository for id " + result.getJobExecutionId());
-		List<StepExecution> updates = jobExecution.getStepExecutions()
-			.stream()
-			.filter(stepExecution -> stepExecutionIds.contains(stepExecution.getId()))
-			.collect(Collectors.toList());
-		delegate.aggregate(result, updates);
+		}).sorted().distinct().toList();
+		for (int from = 0; from < stepExecutionIds.size(); from += pageSize) {
+			List<Long> page = stepExecutionIds.subList(from, Math.min(from + pageSize, stepExecutionIds.size()));
+			List<StepExecution> updates = jobExplorer.getStepExecutions(result.getJobExecutionId(), page);
+			Assert.state(updates.size() == page.size(),
+					"Could not load all StepExecutions from JobRepository for JobExecution with id "
+							+ result.getJobExecutionId());
+			delegate.aggregate(result, updates);
+		}
 	}
 
 }
@@ -33,6 +33,7 @@ import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -60,6 +61,12 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter, Initi
 
 	private JobRepository jobRepository;
 
+	/*
+	 * The last executions of the partitions being split by the current thread, retrieved
+	 * at once before checking if each partition is startable.
+	 */
+	private final ThreadLocal<Map<String, StepExecution>> lastStepExecutions = new ThreadLocal<>();
+
 	/**
 	 * Default constructor for convenience in configuration.
 	 */
@@ -151,19 +158,36 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter, Initi
 		Map<String, ExecutionContext> contexts = getContexts(stepExecution, gridSize);
 		Set<StepExecution> set = new HashSet<>(contexts.size());
 
-		for (Entry<String, ExecutionContext> context : contexts.entrySet()) {
+		// Make the step execution names unique and repeatable
+		Map<String, String> stepNames = new HashMap<>(contexts.size());
+		for (String partitionName : contexts.keySet()) {
+			stepNames.put(partitionName, this.stepName + STEP_NAME_SEPARATOR + partitionName);
+		}
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>(stepNames.size());
+		for (String stepName : stepNames.values()) {
+			lastStepExecutions.put(stepName, null);
+		}
+		lastStepExecutions
+			.putAll(jobRepository.getLastStepExecutions(jobExecution.getJobInstance(), stepNames.values()));
+
+		this.lastStepExecutions.set(lastStepExecutions);
+		try {
+			for (Entry<String, ExecutionContext> context : contexts.entrySet()) {
 
-			// Make the step execution name unique and repeatable
-			String stepName = this.stepName + STEP_NAME_SEPARATOR + context.getKey();
+				String stepName = stepNames.get(context.getKey());
 
-			StepExecution currentStepExecution = jobExecution.createStepExecution(stepName);
+				StepExecution currentStepExecution = jobExecution.createStepExecution(stepName);
 
-			boolean startable = isStartable(currentStepExecution, context.getValue());
+				boolean startable = isStartable(currentStepExecution, context.getValue());
 
-			if (startable) {
-				set.add(currentStepExecution);
+				if (startable) {
+					set.add(currentStepExecution);
+				}
 			}
 		}
+		finally {
+			this.lastStepExecutions.remove();
+		}
 
 		jobRepository.addAll(set);
 
@@ -212,7 +236,9 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter, Initi
 	}
 
 	/**
-	 * Check if a step execution is startable.
+	 * Check if a step execution is startable. The last executions of all the partitions
+	 * are retrieved at once by {@link #split(StepExecution, int)}, and looked up in the
+	 * job repository one by one otherwise.
 	 * @param stepExecution the step execution to check
 	 * @param context the execution context of the step
 	 * @return true if the step execution is startable, false otherwise
@@ -221,7 +247,7 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter, Initi
 	protected boolean isStartable(StepExecution stepExecution, ExecutionContext context) throws JobExecutionException {
 		JobInstance jobInstance = stepExecution.getJobExecution().getJobInstance();
 		String stepName = stepExecution.getStepName();
-		StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobInstance, stepName);
+		StepExecution lastStepExecution = getLastStepExecution(jobInstance, stepName);
 
 		boolean isRestart = (lastStepExecution != null && lastStepExecution.getStatus() != BatchStatus.COMPLETED);
 
@@ -236,6 +262,15 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter, Initi
 
 	}
 
+	@Nullable
+	private StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		Map<String, StepExecution> lastStepExecutions = this.lastStepExecutions.get();
+		if (lastStepExecutions != null && lastStepExecutions.containsKey(stepName)) {
+			return lastStepExecutions.get(stepName);
+		}
+		return jobRepository.getLastStepExecution(jobInstance, stepName);
+	}
+
 	private boolean shouldStart(boolean allowStartIfComplete, StepExecution stepExecution,
 			StepExecution lastStepExecution) throws JobExecutionException {
 
@@ -30,7 +30,9 @@ import org.springframework.transaction.annotation.Isolation;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -121,6 +123,14 @@ public interface JobRepository {
 	 * using a non-relational data-store, or if the platform does not support the higher
 	 * isolation levels).
 	 * </p>
+	 *
+	 * <p>
+	 * The JDBC implementation created by the job repository factory beans also detects
+	 * concurrent launches at {@link Isolation#READ_COMMITTED}, which is recommended when
+	 * launching many jobs concurrently on most databases: the existing job instance is
+	 * locked before looking for running executions, and the creation of the same new job
+	 * instance twice is prevented by the unique key of the job instance table.
+	 * </p>
 	 * @param jobName the name of the job that is to be executed
 	 * @param jobParameters the runtime parameters for the job
 	 * @return a valid {@link JobExecution} for the arguments provided
@@ -208,6 +218,27 @@ public interface JobRepository {
 	@Nullable
 	StepExecution getLastStepExecution(JobInstance jobInstance, String stepName);
 
+	/**
+	 * Retrieve the last execution of each of the given steps, as returned by
+	 * {@link #getLastStepExecution(JobInstance, String)}. The default implementation
+	 * retrieves them one by one.
+	 * @param jobInstance {@link JobInstance} instance containing the step executions.
+	 * @param stepNames the names of the step executions that might have run.
+	 * @return the last execution of each step by step name, without the steps that never
+	 * ran for the given job instance.
+	 * @since 5.2
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution lastStepExecution = getLastStepExecution(jobInstance, stepName);
+			if (lastStepExecution != null) {
+				lastStepExecutions.put(stepName, lastStepExecution);
+			}
+		}
+		return lastStepExecutions;
+	}
+
 	/**
 	 * @param jobInstance {@link JobInstance} instance containing the step executions.
 	 * @param stepName the name of the step execution that might have run.
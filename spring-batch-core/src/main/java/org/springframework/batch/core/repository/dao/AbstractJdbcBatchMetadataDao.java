@@ -17,6 +17,7 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.sql.Types;
+import java.util.Collections;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -41,6 +42,13 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 
 	public static final int DEFAULT_SHORT_CONTEXT_LENGTH = 2500;
 
+	/**
+	 * Maximum number of values bound to a single {@code IN} clause, which is within the
+	 * limits of all supported databases. Larger lookups are split in several queries.
+	 * @since 5.2
+	 */
+	protected static final int MAX_IN_CLAUSE_SIZE = 500;
+
 	private String tablePrefix = DEFAULT_TABLE_PREFIX;
 
 	private int clobTypeToUse = Types.CLOB;
@@ -51,6 +59,19 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 		return StringUtils.replace(base, "%PREFIX%", tablePrefix);
 	}
 
+	/**
+	 * Resolve the table prefix of the given query and replace its {@code %IN_CLAUSE%}
+	 * placeholder with the given number of bind parameters.
+	 * @param base the query
+	 * @param inClauseSize the number of values bound to the {@code IN} clause
+	 * @return the query to execute
+	 * @since 5.2
+	 */
+	protected String getQuery(String base, int inClauseSize) {
+		String parameters = String.join(", ", Collections.nCopies(inClauseSize, "?"));
+		return getQuery(StringUtils.replace(base, "%IN_CLAUSE%", parameters));
+	}
+
 	protected String getTablePrefix() {
 		return tablePrefix;
 	}
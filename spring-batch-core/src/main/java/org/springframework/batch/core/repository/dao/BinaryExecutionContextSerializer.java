@@ -0,0 +1,444 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ExecutionContextSerializer} that produces a compact binary representation of
+ * the execution context, encoded in Base64 so that it can be stored in the text columns
+ * of the job repository.
+ * <p>
+ * The format is schema-less: each value is written with a one byte type tag followed by
+ * its content. Strings, numbers ({@link Integer} and {@link Long} use a variable length
+ * encoding), booleans, dates ({@link Date}, {@link LocalDate}, {@link LocalTime},
+ * {@link LocalDateTime} and {@link Instant}) and lists and maps of those are written
+ * directly. Other {@link Serializable} values fall back to Java serialization. If the
+ * encoded context is larger than a threshold, it is compressed with the deflate
+ * algorithm.
+ * <p>
+ * Contexts written by this serializer start with a specific header. To migrate a job
+ * repository holding contexts written by another serializer, set that serializer as the
+ * {@link #setFallbackSerializer(ExecutionContextSerializer) fallback serializer}: it is
+ * used to read any content that is not in this format, and contexts are written in this
+ * format the next time they are saved. As contexts of completed executions are never
+ * saved again, the fallback serializer should be kept as long as such executions need to
+ * be read, for instance by a {@link org.springframework.batch.core.explore.JobExplorer}.
+ *
+ * @since 5.2
+ */
+public class BinaryExecutionContextSerializer implements ExecutionContextSerializer {
+
+	/**
+	 * Default size (in bytes) of the encoded context above which it is compressed.
+	 */
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+	// Base64 encodes these 3 bytes as the 4 characters "unwQ" (or "unwR" if compressed)
+	private static final byte MAGIC_1 = (byte) 0xBA;
+
+	private static final byte MAGIC_2 = (byte) 0x7C;
+
+	private static final byte VERSION = 0x10;
+
+	private static final byte COMPRESSED = 0x01;
+
+	private static final int HEADER_LENGTH = 3;
+
+	private static final int ENCODED_HEADER_LENGTH = 4;
+
+	private static final byte NULL = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte DOUBLE = 4;
+
+	private static final byte FLOAT = 5;
+
+	private static final byte TRUE = 6;
+
+	private static final byte FALSE = 7;
+
+	private static final byte DATE = 8;
+
+	private static final byte LOCAL_DATE = 9;
+
+	private static final byte LOCAL_TIME = 10;
+
+	private static final byte LOCAL_DATE_TIME = 11;
+
+	private static final byte INSTANT = 12;
+
+	private static final byte LIST = 13;
+
+	private static final byte MAP = 14;
+
+	private static final byte SERIALIZED = 15;
+
+	private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+	@Nullable
+	private ExecutionContextSerializer fallbackSerializer;
+
+	/**
+	 * Set the size (in bytes) of the encoded context above which it is compressed. Use
+	 * {@link Integer#MAX_VALUE} to disable compression. Defaults to
+	 * {@link #DEFAULT_COMPRESSION_THRESHOLD}.
+	 * @param compressionThreshold the compression threshold
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		Assert.isTrue(compressionThreshold >= 0, "The compression threshold must not be negative");
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Set the serializer used to read contexts that were not written by this serializer,
+	 * typically the serializer previously used by the job repository. If not set, such
+	 * contexts cannot be read.
+	 * @param fallbackSerializer the serializer to use for contexts in another format
+	 */
+	public void setFallbackSerializer(ExecutionContextSerializer fallbackSerializer) {
+		this.fallbackSerializer = fallbackSerializer;
+	}
+
+	/**
+	 * Serializes an execution context to the provided {@link OutputStream}. The stream is
+	 * not closed prior to it's return.
+	 * @param context {@link Map} contents of the {@code ExecutionContext}.
+	 * @param out {@link OutputStream} where the serialized context information will be
+	 * written.
+	 */
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		Assert.notNull(context, "context is required");
+		Assert.notNull(out, "OutputStream is required");
+
+		ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+		DataOutputStream data = new DataOutputStream(payload);
+		writeVarInt(data, context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			Assert.notNull(entry.getValue(), "A null value was found");
+			writeString(data, entry.getKey());
+			writeValue(data, entry.getValue());
+		}
+		data.flush();
+
+		boolean compress = payload.size() > this.compressionThreshold;
+		ByteArrayOutputStream content = new ByteArrayOutputStream(payload.size() + HEADER_LENGTH);
+		content.write(MAGIC_1);
+		content.write(MAGIC_2);
+		content.write(compress ? VERSION | COMPRESSED : VERSION);
+		if (compress) {
+			try (DeflaterOutputStream deflater = new DeflaterOutputStream(content)) {
+				payload.writeTo(deflater);
+			}
+		}
+		else {
+			payload.writeTo(content);
+		}
+		out.write(Base64.getEncoder().encode(content.toByteArray()));
+	}
+
+	/**
+	 * Deserializes an execution context from the provided {@link InputStream}. Content
+	 * that was not written by this serializer is read with the fallback serializer.
+	 * @param inputStream {@link InputStream} containing the information to be
+	 * deserialized.
+	 * @return the context serialized in the provided {@link InputStream}
+	 */
+	@Override
+	public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+		byte[] encoded = inputStream.readAllBytes();
+		byte[] content = isCompactFormat(encoded) ? decode(encoded) : null;
+		if (content == null) {
+			if (this.fallbackSerializer == null) {
+				throw new IllegalArgumentException(
+						"The execution context was not serialized by this serializer and no fallback serializer is set");
+			}
+			return this.fallbackSerializer.deserialize(new ByteArrayInputStream(encoded));
+		}
+
+		InputStream payload = new ByteArrayInputStream(content, HEADER_LENGTH, content.length - HEADER_LENGTH);
+		if ((content[2] & COMPRESSED) != 0) {
+			payload = new InflaterInputStream(payload);
+		}
+		try (DataInputStream data = new DataInputStream(payload)) {
+			int size = readVarInt(data);
+			Map<String, Object> context = new HashMap<>(capacity(size));
+			for (int i = 0; i < size; i++) {
+				context.put(readString(data), readValue(data));
+			}
+			return context;
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalStateException("Failed to deserialize object type", ex);
+		}
+	}
+
+	private static boolean isCompactFormat(byte[] encoded) {
+		if (encoded.length < ENCODED_HEADER_LENGTH) {
+			return false;
+		}
+		try {
+			byte[] header = Base64.getDecoder()
+				.decode(new String(encoded, 0, ENCODED_HEADER_LENGTH, StandardCharsets.ISO_8859_1));
+			return header[0] == MAGIC_1 && header[1] == MAGIC_2 && (header[2] & ~COMPRESSED) == VERSION;
+		}
+		catch (IllegalArgumentException ex) {
+			return false;
+		}
+	}
+
+	@Nullable
+	private static byte[] decode(byte[] encoded) {
+		try {
+			return Base64.getDecoder().decode(encoded);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, @Nullable Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		}
+		else if (value instanceof String string) {
+			out.writeByte(STRING);
+			writeString(out, string);
+		}
+		else if (value instanceof Integer integer) {
+			out.writeByte(INTEGER);
+			writeVarLong(out, zigZag(integer));
+		}
+		else if (value instanceof Long longValue) {
+			out.writeByte(LONG);
+			writeVarLong(out, zigZag(longValue));
+		}
+		else if (value instanceof Double doubleValue) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(doubleValue);
+		}
+		else if (value instanceof Float floatValue) {
+			out.writeByte(FLOAT);
+			out.writeFloat(floatValue);
+		}
+		else if (value instanceof Boolean booleanValue) {
+			out.writeByte(booleanValue ? TRUE : FALSE);
+		}
+		else if (value.getClass() == Date.class) {
+			out.writeByte(DATE);
+			writeVarLong(out, zigZag(((Date) value).getTime()));
+		}
+		else if (value instanceof LocalDate localDate) {
+			out.writeByte(LOCAL_DATE);
+			writeVarLong(out, zigZag(localDate.toEpochDay()));
+		}
+		else if (value instanceof LocalTime localTime) {
+			out.writeByte(LOCAL_TIME);
+			writeVarLong(out, localTime.toNanoOfDay());
+		}
+		else if (value instanceof LocalDateTime localDateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			writeVarLong(out, zigZag(localDateTime.toLocalDate().toEpochDay()));
+			writeVarLong(out, localDateTime.toLocalTime().toNanoOfDay());
+		}
+		else if (value instanceof Instant instant) {
+			out.writeByte(INSTANT);
+			writeVarLong(out, zigZag(instant.getEpochSecond()));
+			writeVarInt(out, instant.getNano());
+		}
+		else if (value.getClass() == ArrayList.class) {
+			List<?> list = (List<?>) value;
+			out.writeByte(LIST);
+			writeVarInt(out, list.size());
+			for (Object element : list) {
+				writeValue(out, element);
+			}
+		}
+		else if (value.getClass() == HashMap.class && hasStringKeys((Map<?, ?>) value)) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(MAP);
+			writeVarInt(out, map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeString(out, (String) entry.getKey());
+				writeValue(out, entry.getValue());
+			}
+		}
+		else if (value instanceof Serializable) {
+			out.writeByte(SERIALIZED);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+				objectOutputStream.writeObject(value);
+			}
+			writeVarInt(out, bytes.size());
+			bytes.writeTo(out);
+		}
+		else {
+			throw new IllegalArgumentException("Value: [" + value + "] must be serializable. " + "Object of class: ["
+					+ value.getClass().getName() + "] must be an instance of " + Serializable.class);
+		}
+	}
+
+	@Nullable
+	private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+		byte type = in.readByte();
+		switch (type) {
+			case NULL:
+				return null;
+			case STRING:
+				return readString(in);
+			case INTEGER:
+				return (int) unZigZag(readVarLong(in));
+			case LONG:
+				return unZigZag(readVarLong(in));
+			case DOUBLE:
+				return in.readDouble();
+			case FLOAT:
+				return in.readFloat();
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case DATE:
+				return new Date(unZigZag(readVarLong(in)));
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay(readVarLong(in));
+			case LOCAL_DATE_TIME:
+				LocalDate date = LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+				return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(in)));
+			case INSTANT:
+				long seconds = unZigZag(readVarLong(in));
+				return Instant.ofEpochSecond(seconds, readVarInt(in));
+			case LIST:
+				int listSize = readVarInt(in);
+				List<Object> list = new ArrayList<>(listSize);
+				for (int i = 0; i < listSize; i++) {
+					list.add(readValue(in));
+				}
+				return list;
+			case MAP:
+				int mapSize = readVarInt(in);
+				Map<String, Object> map = new HashMap<>(capacity(mapSize));
+				for (int i = 0; i < mapSize; i++) {
+					map.put(readString(in), readValue(in));
+				}
+				return map;
+			case SERIALIZED:
+				byte[] bytes = new byte[readVarInt(in)];
+				in.readFully(bytes);
+				try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					return objectInputStream.readObject();
+				}
+			default:
+				throw new IllegalArgumentException("Unknown value type in serialized execution context: " + type);
+		}
+	}
+
+	private static boolean hasStringKeys(Map<?, ?> map) {
+		for (Object key : map.keySet()) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		return (int) readVarLong(in);
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed variable length number in serialized execution context");
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static int capacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
@@ -43,6 +45,23 @@ public interface ExecutionContextDao {
 	 */
 	ExecutionContext getExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Retrieve the execution contexts of the given step executions. The default
+	 * implementation retrieves them one by one, implementations should override it to
+	 * fetch them at once.
+	 * @param stepExecutions a collection of {@link StepExecution}s that contain the
+	 * contexts.
+	 * @return the execution context of each step execution by step execution id
+	 * @since 5.2
+	 */
+	default Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>(stepExecutions.size());
+		for (StepExecution stepExecution : stepExecutions) {
+			executionContexts.put(stepExecution.getId(), getExecutionContext(stepExecution));
+		}
+		return executionContexts;
+	}
+
 	/**
 	 * Persist the execution context associated with the given jobExecution, persistent
 	 * entry for the context should not exist yet.
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ExecutionContextDao} implementation storing execution contexts in a
+ * {@link FileJobRepositoryStore}. Contexts are serialized with the configured
+ * {@link ExecutionContextSerializer} and an update is not written to the store when the
+ * serialized context did not change.
+ *
+ * @since 5.2
+ */
+public class FileExecutionContextDao implements ExecutionContextDao {
+
+	private final FileJobRepositoryStore store;
+
+	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
+
+	/**
+	 * Create a new {@link FileExecutionContextDao}.
+	 * @param store the store of the execution contexts
+	 */
+	public FileExecutionContextDao(FileJobRepositoryStore store) {
+		Assert.notNull(store, "The store must not be null");
+		this.store = store;
+	}
+
+	/**
+	 * Setter for {@link ExecutionContextSerializer} implementation. Defaults to
+	 * {@link DefaultExecutionContextSerializer}.
+	 * @param serializer {@link ExecutionContextSerializer} instance to use.
+	 */
+	public void setSerializer(ExecutionContextSerializer serializer) {
+		Assert.notNull(serializer, "Serializer must not be null");
+		this.serializer = serializer;
+	}
+
+	@Override
+	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
+		Long executionId = jobExecution.getId();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
+
+		return deserializeContext(this.store.getJobExecutionContext(executionId));
+	}
+
+	@Override
+	public ExecutionContext getExecutionContext(StepExecution stepExecution) {
+		Long executionId = stepExecution.getId();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
+
+		return deserializeContext(this.store.getStepExecutionContext(executionId));
+	}
+
+	@Override
+	public void saveExecutionContext(JobExecution jobExecution) {
+		updateExecutionContext(jobExecution);
+	}
+
+	@Override
+	public void saveExecutionContext(StepExecution stepExecution) {
+		updateExecutionContext(stepExecution);
+	}
+
+	@Override
+	public void saveExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Assert.notNull(stepExecutions, "Attempt to save an null collection of step executions");
+		Map<Long, byte[]> contexts = new LinkedHashMap<>(stepExecutions.size());
+		for (StepExecution stepExecution : stepExecutions) {
+			Long executionId = stepExecution.getId();
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			Assert.notNull(executionId, "ExecutionId must not be null.");
+			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+			contexts.put(executionId, serializeContext(executionContext));
+		}
+		this.store.saveStepExecutionContexts(contexts);
+	}
+
+	@Override
+	public void updateExecutionContext(JobExecution jobExecution) {
+		Long executionId = jobExecution.getId();
+		ExecutionContext executionContext = jobExecution.getExecutionContext();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
+		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+
+		this.store.saveJobExecutionContext(executionId, serializeContext(executionContext));
+	}
+
+	@Override
+	public void updateExecutionContext(StepExecution stepExecution) {
+		Long executionId = stepExecution.getId();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
+		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+
+		this.store.saveStepExecutionContexts(Map.of(executionId, serializeContext(executionContext)));
+	}
+
+	@Override
+	public void deleteExecutionContext(JobExecution jobExecution) {
+		this.store.deleteJobExecutionContext(jobExecution.getId());
+	}
+
+	@Override
+	public void deleteExecutionContext(StepExecution stepExecution) {
+		this.store.deleteStepExecutionContext(stepExecution.getId());
+	}
+
+	private byte[] serializeContext(ExecutionContext executionContext) {
+		Map<String, Object> map = new HashMap<>();
+		for (Entry<String, Object> entry : executionContext.entrySet()) {
+			map.put(entry.getKey(), entry.getValue());
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			this.serializer.serialize(map, out);
+		}
+		catch (IOException ioe) {
+			throw new IllegalArgumentException("Could not serialize the execution context", ioe);
+		}
+		return out.toByteArray();
+	}
+
+	private ExecutionContext deserializeContext(@Nullable byte[] serializedContext) {
+		if (serializedContext == null) {
+			return new ExecutionContext();
+		}
+		try {
+			return new ExecutionContext(this.serializer.deserialize(new ByteArrayInputStream(serializedContext)));
+		}
+		catch (IOException ioe) {
+			throw new IllegalArgumentException("Unable to deserialize the execution context", ioe);
+		}
+	}
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.converter.DateToStringConverter;
+import org.springframework.batch.core.converter.LocalDateTimeToStringConverter;
+import org.springframework.batch.core.converter.LocalDateToStringConverter;
+import org.springframework.batch.core.converter.LocalTimeToStringConverter;
+import org.springframework.batch.core.converter.StringToDateConverter;
+import org.springframework.batch.core.converter.StringToLocalDateConverter;
+import org.springframework.batch.core.converter.StringToLocalDateTimeConverter;
+import org.springframework.batch.core.converter.StringToLocalTimeConverter;
+import org.springframework.batch.core.explore.JobExecutionSummary;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobExecutionRow;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobInstanceRow;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobParameterRow;
+import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JobExecutionDao} implementation storing job executions and their parameters in a
+ * {@link FileJobRepositoryStore}.
+ *
+ * @since 5.2
+ */
+public class FileJobExecutionDao implements JobExecutionDao {
+
+	private final FileJobRepositoryStore store;
+
+	private ConfigurableConversionService conversionService;
+
+	/**
+	 * Create a new {@link FileJobExecutionDao}.
+	 * @param store the store of the job executions
+	 */
+	public FileJobExecutionDao(FileJobRepositoryStore store) {
+		Assert.notNull(store, "The store must not be null");
+		this.store = store;
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(new DateToStringConverter());
+		conversionService.addConverter(new StringToDateConverter());
+		conversionService.addConverter(new LocalDateToStringConverter());
+		conversionService.addConverter(new StringToLocalDateConverter());
+		conversionService.addConverter(new LocalTimeToStringConverter());
+		conversionService.addConverter(new StringToLocalTimeConverter());
+		conversionService.addConverter(new LocalDateTimeToStringConverter());
+		conversionService.addConverter(new StringToLocalDateTimeConverter());
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Set the conversion service to use to convert job parameters from String literals to
+	 * typed values and vice versa.
+	 * @param conversionService the conversion service to use
+	 */
+	public void setConversionService(ConfigurableConversionService conversionService) {
+		Assert.notNull(conversionService, "conversionService must not be null");
+		this.conversionService = conversionService;
+	}
+
+	@Override
+	public void saveJobExecution(JobExecution jobExecution) {
+		validateJobExecution(jobExecution);
+
+		jobExecution.incrementVersion();
+		jobExecution.setId(this.store.nextJobExecutionId());
+
+		List<JobParameterRow> parameters = new ArrayList<>();
+		for (Map.Entry<String, JobParameter<?>> entry : jobExecution.getJobParameters().getParameters().entrySet()) {
+			JobParameter<?> jobParameter = entry.getValue();
+			parameters.add(new JobParameterRow(entry.getKey(), jobParameter.getType().getName(),
+					this.conversionService.convert(jobParameter.getValue(), String.class),
+					jobParameter.isIdentifying()));
+		}
+		this.store.saveJobExecution(toRow(jobExecution, jobExecution.getVersion()), parameters);
+	}
+
+	@Override
+	public void updateJobExecution(JobExecution jobExecution) {
+		validateJobExecution(jobExecution);
+		Assert.notNull(jobExecution.getId(),
+				"JobExecution ID cannot be null. JobExecution must be saved before it can be updated");
+		Assert.notNull(jobExecution.getVersion(),
+				"JobExecution version cannot be null. JobExecution must be saved before it can be updated");
+
+		this.store.updateJobExecution(toRow(jobExecution, jobExecution.getVersion() + 1), jobExecution.getVersion());
+		jobExecution.incrementVersion();
+	}
+
+	@Override
+	public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+		Assert.notNull(jobInstance, "Job cannot be null.");
+		Assert.notNull(jobInstance.getId(), "Job Id cannot be null.");
+
+		return this.store.findJobExecutions(jobInstance.getId())
+			.stream()
+			.map(row -> toJobExecution(row, jobInstance))
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	@Nullable
+	public JobExecution getLastJobExecution(JobInstance jobInstance) {
+		JobExecutionRow row = this.store.getLastJobExecution(jobInstance.getId());
+		return row == null ? null : toJobExecution(row, jobInstance);
+	}
+
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(String jobName) {
+		Set<JobExecution> result = new HashSet<>();
+		for (JobExecutionRow row : this.store.findRunningJobExecutions(jobName)) {
+			result.add(toJobExecution(row, null));
+		}
+		return result;
+	}
+
+	@Override
+	@Nullable
+	public JobExecution getJobExecution(Long executionId) {
+		JobExecutionRow row = this.store.getJobExecution(executionId);
+		return row == null ? null : toJobExecution(row, null);
+	}
+
+	@Override
+	public List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		long maxJobExecutionId = lastJobExecutionId == null ? Long.MAX_VALUE : lastJobExecutionId;
+		List<JobExecutionSummary> summaries = new ArrayList<>();
+		for (JobExecutionRow row : this.store.findJobExecutions(jobName, maxJobExecutionId, count)) {
+			JobInstanceRow jobInstance = this.store.getJobInstance(row.jobInstanceId());
+			if (jobInstance != null) {
+				summaries.add(new JobExecutionSummary(row.id(), row.jobInstanceId(), jobInstance.jobName(),
+						BatchStatus.valueOf(row.status()), row.exitCode(), row.createTime(), row.startTime(),
+						row.endTime(), row.lastUpdated()));
+			}
+		}
+		return summaries;
+	}
+
+	@Override
+	public void synchronizeStatus(JobExecution jobExecution) {
+		JobExecutionRow row = this.store.getJobExecution(jobExecution.getId());
+		Assert.state(row != null, "JobExecution " + jobExecution.getId() + " not found");
+		if (row.version() != jobExecution.getVersion()) {
+			jobExecution.upgradeStatus(BatchStatus.valueOf(row.status()));
+			jobExecution.setVersion(row.version());
+		}
+	}
+
+	@Override
+	public void deleteJobExecution(JobExecution jobExecution) {
+		this.store.deleteJobExecution(jobExecution.getId());
+	}
+
+	@Override
+	public void deleteJobExecutionParameters(JobExecution jobExecution) {
+		this.store.deleteJobParameters(jobExecution.getId());
+	}
+
+	private void validateJobExecution(JobExecution jobExecution) {
+		Assert.notNull(jobExecution, "jobExecution cannot be null");
+		Assert.notNull(jobExecution.getJobId(), "JobExecution Job-Id cannot be null.");
+		Assert.notNull(jobExecution.getStatus(), "JobExecution status cannot be null.");
+		Assert.notNull(jobExecution.getCreateTime(), "JobExecution create time cannot be null");
+	}
+
+	private static JobExecutionRow toRow(JobExecution jobExecution, int version) {
+		return new JobExecutionRow(jobExecution.getId(), jobExecution.getJobId(), version,
+				jobExecution.getStatus().toString(), jobExecution.getExitStatus().getExitCode(),
+				jobExecution.getExitStatus().getExitDescription(), jobExecution.getCreateTime(),
+				jobExecution.getStartTime(), jobExecution.getEndTime(), jobExecution.getLastUpdated());
+	}
+
+	private JobExecution toJobExecution(JobExecutionRow row, @Nullable JobInstance jobInstance) {
+		JobParameters jobParameters = getJobParameters(row.id());
+		JobExecution jobExecution = jobInstance == null ? new JobExecution(row.id(), jobParameters)
+				: new JobExecution(jobInstance, row.id(), jobParameters);
+		jobExecution.setStartTime(row.startTime());
+		jobExecution.setEndTime(row.endTime());
+		jobExecution.setStatus(BatchStatus.valueOf(row.status()));
+		jobExecution.setExitStatus(new ExitStatus(row.exitCode(), row.exitDescription()));
+		jobExecution.setCreateTime(row.createTime());
+		jobExecution.setLastUpdated(row.lastUpdated());
+		jobExecution.setVersion(row.version());
+		return jobExecution;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private JobParameters getJobParameters(long jobExecutionId) {
+		Map<String, JobParameter<?>> map = new HashMap<>();
+		for (JobParameterRow row : this.store.getJobParameters(jobExecutionId)) {
+			Class<?> parameterType;
+			try {
+				parameterType = Class.forName(row.type());
+			}
+			catch (ClassNotFoundException e) {
+				throw new RuntimeException(e);
+			}
+			Object typedValue = this.conversionService.convert(row.value(), parameterType);
+			map.put(row.name(), new JobParameter(typedValue, parameterType, row.identifying()));
+		}
+		return new JobParameters(map);
+	}
+
+}
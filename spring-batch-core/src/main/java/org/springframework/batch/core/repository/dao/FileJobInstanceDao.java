@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.regex.Pattern;
+
+import org.springframework.batch.core.DefaultJobKeyGenerator;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobKeyGenerator;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobExecutionRow;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobInstanceRow;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JobInstanceDao} implementation storing job instances in a
+ * {@link FileJobRepositoryStore}.
+ *
+ * @since 5.2
+ */
+public class FileJobInstanceDao implements JobInstanceDao {
+
+	private static final String STAR_WILDCARD = "*";
+
+	private final FileJobRepositoryStore store;
+
+	private JobKeyGenerator<JobParameters> jobKeyGenerator = new DefaultJobKeyGenerator();
+
+	/**
+	 * Create a new {@link FileJobInstanceDao}.
+	 * @param store the store of the job instances
+	 */
+	public FileJobInstanceDao(FileJobRepositoryStore store) {
+		Assert.notNull(store, "The store must not be null");
+		this.store = store;
+	}
+
+	/**
+	 * Setter for {@link JobKeyGenerator} to be used when generating unique identifiers
+	 * for {@link JobInstance} objects.
+	 * @param jobKeyGenerator the {@link JobKeyGenerator}
+	 */
+	public void setJobKeyGenerator(JobKeyGenerator<JobParameters> jobKeyGenerator) {
+		Assert.notNull(jobKeyGenerator, "jobKeyGenerator must not be null.");
+		this.jobKeyGenerator = jobKeyGenerator;
+	}
+
+	@Override
+	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		Assert.notNull(jobName, "Job name must not be null.");
+		Assert.notNull(jobParameters, "JobParameters must not be null.");
+
+		JobInstance jobInstance = new JobInstance(this.store.nextJobInstanceId(), jobName);
+		jobInstance.incrementVersion();
+		this.store.saveJobInstance(new JobInstanceRow(jobInstance.getId(), jobInstance.getVersion(), jobName,
+				this.jobKeyGenerator.generateKey(jobParameters)));
+		return jobInstance;
+	}
+
+	@Override
+	@Nullable
+	public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		Assert.notNull(jobName, "Job name must not be null.");
+		Assert.notNull(jobParameters, "JobParameters must not be null.");
+
+		return toJobInstance(this.store.getJobInstance(jobName, this.jobKeyGenerator.generateKey(jobParameters)));
+	}
+
+	@Override
+	@Nullable
+	public JobInstance getJobInstance(@Nullable Long instanceId) {
+		return instanceId == null ? null : toJobInstance(this.store.getJobInstance(instanceId));
+	}
+
+	@Override
+	@Nullable
+	public JobInstance getJobInstance(JobExecution jobExecution) {
+		JobExecutionRow row = this.store.getJobExecution(jobExecution.getId());
+		return row == null ? null : toJobInstance(this.store.getJobInstance(row.jobInstanceId()));
+	}
+
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, int start, int count) {
+		return page(this.store.findJobInstances(jobName::equals), start, count);
+	}
+
+	@Override
+	@Nullable
+	public JobInstance getLastJobInstance(String jobName) {
+		List<JobInstanceRow> jobInstances = this.store.findJobInstances(jobName::equals);
+		return jobInstances.isEmpty() ? null : toJobInstance(jobInstances.get(0));
+	}
+
+	@Override
+	public List<String> getJobNames() {
+		return this.store.getJobNames();
+	}
+
+	@Override
+	public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+		Predicate<String> matcher = jobName::equals;
+		if (jobName.contains(STAR_WILDCARD)) {
+			String[] parts = jobName.split("\\" + STAR_WILDCARD, -1);
+			StringBuilder regex = new StringBuilder();
+			for (int i = 0; i < parts.length; i++) {
+				if (i > 0) {
+					regex.append(".*");
+				}
+				regex.append(Pattern.quote(parts[i]));
+			}
+			matcher = Pattern.compile(regex.toString()).asMatchPredicate();
+		}
+		return page(this.store.findJobInstances(matcher), start, count);
+	}
+
+	@Override
+	public long getJobInstanceCount(@Nullable String jobName) {
+		return jobName == null ? 0 : this.store.findJobInstances(jobName::equals).size();
+	}
+
+	@Override
+	public void deleteJobInstance(JobInstance jobInstance) {
+		this.store.deleteJobInstance(jobInstance.getId());
+	}
+
+	private static List<JobInstance> page(List<JobInstanceRow> jobInstances, int start, int count) {
+		return jobInstances.stream()
+			.skip(start)
+			.limit(count)
+			.map(FileJobInstanceDao::toJobInstance)
+			.collect(Collectors.toList());
+	}
+
+	@Nullable
+	private static JobInstance toJobInstance(@Nullable JobInstanceRow row) {
+		if (row == null) {
+			return null;
+		}
+		JobInstance jobInstance = new JobInstance(row.id(), row.jobName());
+		// should always be at version=0 because they never get updated
+		jobInstance.incrementVersion();
+		return jobInstance;
+	}
+
+}
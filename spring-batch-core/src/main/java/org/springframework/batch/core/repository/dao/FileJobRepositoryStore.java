@@ -0,0 +1,1123 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Storage of the batch meta-data in a local append-only log, used by the file-based DAOs
+ * ({@link FileJobInstanceDao}, {@link FileJobExecutionDao}, {@link FileStepExecutionDao}
+ * and {@link FileExecutionContextDao}) as a replacement for a database in single-node
+ * deployments.
+ * <p>
+ * Each change to a job instance, job execution, step execution or execution context is
+ * appended to the log as a checksummed record holding the new state of the entity, and
+ * applied to an in-memory index which serves all the queries. When the store is opened,
+ * the log is replayed to rebuild the index. A record that was partially written when the
+ * process crashed is detected by its checksum and discarded, along with the rest of the
+ * log.
+ * <p>
+ * By default, the log is forced to the storage device (fsync) when a job or step
+ * execution is saved or updated, which happens at chunk boundaries, so that the state
+ * used to restart a job survives a system crash. As execution contexts are updated just
+ * before their step execution, they are forced along with it. Forcing writes can be
+ * disabled with {@link #setForceWrites(boolean)} to trade durability on system crashes
+ * (but not on process crashes) for faster updates.
+ * <p>
+ * As entities are updated, the log accumulates obsolete records. Once their number
+ * exceeds the {@link #setCompactionThreshold(int) compaction threshold}, the log is
+ * compacted by writing the current state of all entities to a new log which atomically
+ * replaces the current one.
+ * <p>
+ * Changes are written immediately and are not part of the transactions managed by the
+ * transaction manager of the job repository, which can therefore be a
+ * {@link org.springframework.batch.support.transaction.ResourcelessTransactionManager}. A
+ * store must be used by a single process at a time (this is enforced with a file lock)
+ * and the same instance must be shared by the job repository and the job explorer.
+ *
+ * @since 5.2
+ */
+public class FileJobRepositoryStore implements InitializingBean, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(FileJobRepositoryStore.class);
+
+	/**
+	 * Default number of obsolete records in the log above which it is compacted.
+	 */
+	public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+	static final String LOG_FILE_NAME = "job-repository.log";
+
+	private static final String COMPACTED_LOG_FILE_NAME = "job-repository.log.compacted";
+
+	private static final String LOCK_FILE_NAME = "job-repository.lock";
+
+	// "SBJR"
+	private static final int MAGIC = 0x53424A52;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int FILE_HEADER_LENGTH = 8;
+
+	private static final int RECORD_HEADER_LENGTH = 8;
+
+	private static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+	private static final Set<String> RUNNING_STATUSES = Set.of("STARTING", "STARTED", "STOPPING");
+
+	private static final byte JOB_INSTANCE = 1;
+
+	private static final byte JOB_EXECUTION = 2;
+
+	private static final byte JOB_PARAMETERS = 3;
+
+	private static final byte STEP_EXECUTION = 4;
+
+	private static final byte JOB_EXECUTION_CONTEXT = 5;
+
+	private static final byte STEP_EXECUTION_CONTEXT = 6;
+
+	private static final byte DELETE_JOB_INSTANCE = 7;
+
+	private static final byte DELETE_JOB_EXECUTION = 8;
+
+	private static final byte DELETE_JOB_PARAMETERS = 9;
+
+	private static final byte DELETE_STEP_EXECUTION = 10;
+
+	private static final byte DELETE_JOB_EXECUTION_CONTEXT = 11;
+
+	private static final byte DELETE_STEP_EXECUTION_CONTEXT = 12;
+
+	private final Path directory;
+
+	private final Path logFile;
+
+	private boolean forceWrites = true;
+
+	private int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private FileChannel channel;
+
+	private FileChannel lockChannel;
+
+	private FileLock fileLock;
+
+	private long recordCount;
+
+	private long nextCompactionRecordCount;
+
+	private final AtomicLong jobInstanceIds = new AtomicLong();
+
+	private final AtomicLong jobExecutionIds = new AtomicLong();
+
+	private final AtomicLong stepExecutionIds = new AtomicLong();
+
+	private final NavigableMap<Long, JobInstanceRow> jobInstances = new TreeMap<>();
+
+	private final Map<String, Long> jobInstanceIdsByKey = new HashMap<>();
+
+	private final NavigableMap<Long, JobExecutionRow> jobExecutions = new TreeMap<>();
+
+	private final Map<Long, NavigableSet<Long>> jobExecutionIdsByJobInstance = new HashMap<>();
+
+	private final Map<Long, List<JobParameterRow>> jobParameters = new HashMap<>();
+
+	private final NavigableMap<Long, StepExecutionRow> stepExecutions = new TreeMap<>();
+
+	private final Map<Long, NavigableSet<Long>> stepExecutionIdsByJobExecution = new HashMap<>();
+
+	private final Map<Long, byte[]> jobExecutionContexts = new HashMap<>();
+
+	private final Map<Long, byte[]> stepExecutionContexts = new HashMap<>();
+
+	/**
+	 * Create a new store keeping its files in the given directory, which is created if it
+	 * does not exist. The store must be {@link #open() opened} before use.
+	 * @param directory the directory of the store
+	 */
+	public FileJobRepositoryStore(Path directory) {
+		Assert.notNull(directory, "The directory must not be null");
+		this.directory = directory;
+		this.logFile = directory.resolve(LOG_FILE_NAME);
+	}
+
+	/**
+	 * Set whether to force the log to the storage device when a job or step execution is
+	 * saved or updated. Defaults to {@code true}.
+	 * @param forceWrites whether to force writes to the storage device
+	 */
+	public void setForceWrites(boolean forceWrites) {
+		this.forceWrites = forceWrites;
+	}
+
+	/**
+	 * Set the number of obsolete records in the log above which it is compacted. Defaults
+	 * to {@link #DEFAULT_COMPACTION_THRESHOLD}.
+	 * @param compactionThreshold the compaction threshold, must be greater than zero
+	 */
+	public void setCompactionThreshold(int compactionThreshold) {
+		Assert.isTrue(compactionThreshold > 0, "The compaction threshold must be greater than zero");
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		open();
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		close();
+	}
+
+	/**
+	 * Open the store: lock its directory and replay the log to rebuild the in-memory
+	 * index.
+	 * @throws IOException if the log can not be read or created
+	 * @throws IllegalStateException if the store is already open or used by another
+	 * process
+	 */
+	public void open() throws IOException {
+		this.lock.writeLock().lock();
+		try {
+			Assert.state(this.channel == null, "The store is already open");
+			Files.createDirectories(this.directory);
+			lockDirectory();
+			try {
+				Files.deleteIfExists(this.directory.resolve(COMPACTED_LOG_FILE_NAME));
+				long validLength = Files.exists(this.logFile) ? replay() : 0;
+				this.channel = FileChannel.open(this.logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+						StandardOpenOption.WRITE);
+				if (validLength < FILE_HEADER_LENGTH) {
+					this.channel.truncate(0);
+					writeFully(this.channel, fileHeader());
+					this.channel.force(true);
+				}
+				else if (validLength < this.channel.size()) {
+					this.channel.truncate(validLength);
+					this.channel.force(true);
+				}
+				this.channel.position(this.channel.size());
+				this.nextCompactionRecordCount = 0;
+				if (isCompactionDue()) {
+					compactLog();
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				closeChannels();
+				throw ex;
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Close the store and release the lock on its directory.
+	 * @throws IOException if the log can not be closed
+	 */
+	public void close() throws IOException {
+		this.lock.writeLock().lock();
+		try {
+			if (this.channel != null) {
+				closeChannels();
+				clearIndex();
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Compact the log by replacing it with the current state of all entities.
+	 * @throws DataAccessResourceFailureException if the log can not be compacted
+	 */
+	public void compact() {
+		this.lock.writeLock().lock();
+		try {
+			assertOpen();
+			compactLog();
+		}
+		catch (IOException ex) {
+			throw new DataAccessResourceFailureException("Unable to compact the job repository log", ex);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/*
+	 * Job instances
+	 */
+
+	long nextJobInstanceId() {
+		return this.jobInstanceIds.incrementAndGet();
+	}
+
+	void saveJobInstance(JobInstanceRow jobInstance) {
+		write(() -> {
+			Assert.state(
+					!this.jobInstanceIdsByKey.containsKey(instanceKey(jobInstance.jobName(), jobInstance.jobKey())),
+					"JobInstance must not already exist");
+			append(jobInstance, false);
+		});
+	}
+
+	@Nullable
+	JobInstanceRow getJobInstance(long jobInstanceId) {
+		return read(() -> this.jobInstances.get(jobInstanceId));
+	}
+
+	@Nullable
+	JobInstanceRow getJobInstance(String jobName, String jobKey) {
+		return read(() -> {
+			Long jobInstanceId = this.jobInstanceIdsByKey.get(instanceKey(jobName, jobKey));
+			return jobInstanceId == null ? null : this.jobInstances.get(jobInstanceId);
+		});
+	}
+
+	/**
+	 * @return the job instances whose name matches the given predicate, the most recent
+	 * first
+	 */
+	List<JobInstanceRow> findJobInstances(Predicate<String> jobNameMatcher) {
+		return read(() -> this.jobInstances.descendingMap()
+			.values()
+			.stream()
+			.filter(jobInstance -> jobNameMatcher.test(jobInstance.jobName()))
+			.toList());
+	}
+
+	List<String> getJobNames() {
+		return read(
+				() -> this.jobInstances.values().stream().map(JobInstanceRow::jobName).distinct().sorted().toList());
+	}
+
+	void deleteJobInstance(long jobInstanceId) {
+		write(() -> append(new Deletion(DELETE_JOB_INSTANCE, jobInstanceId), false));
+	}
+
+	/*
+	 * Job executions
+	 */
+
+	long nextJobExecutionId() {
+		return this.jobExecutionIds.incrementAndGet();
+	}
+
+	void saveJobExecution(JobExecutionRow jobExecution, List<JobParameterRow> parameters) {
+		write(() -> {
+			append(new JobParametersRow(jobExecution.id(), parameters), false);
+			append(jobExecution, true);
+		});
+	}
+
+	void updateJobExecution(JobExecutionRow jobExecution, int expectedVersion) {
+		write(() -> {
+			JobExecutionRow current = this.jobExecutions.get(jobExecution.id());
+			if (current == null) {
+				throw new NoSuchObjectException("Invalid JobExecution, ID " + jobExecution.id() + " not found.");
+			}
+			if (current.version() != expectedVersion) {
+				throw new OptimisticLockingFailureException(
+						"Attempt to update job execution id=" + jobExecution.id() + " with wrong version ("
+								+ expectedVersion + "), where current version is " + current.version());
+			}
+			append(jobExecution, true);
+		});
+	}
+
+	@Nullable
+	JobExecutionRow getJobExecution(long jobExecutionId) {
+		return read(() -> this.jobExecutions.get(jobExecutionId));
+	}
+
+	/**
+	 * @return the executions of the given job instance, the most recent first
+	 */
+	List<JobExecutionRow> findJobExecutions(long jobInstanceId) {
+		return read(() -> {
+			NavigableSet<Long> ids = this.jobExecutionIdsByJobInstance.get(jobInstanceId);
+			return ids == null ? List.of() : ids.descendingSet().stream().map(this.jobExecutions::get).toList();
+		});
+	}
+
+	@Nullable
+	JobExecutionRow getLastJobExecution(long jobInstanceId) {
+		return read(() -> {
+			NavigableSet<Long> ids = this.jobExecutionIdsByJobInstance.get(jobInstanceId);
+			return ids == null || ids.isEmpty() ? null : this.jobExecutions.get(ids.last());
+		});
+	}
+
+	/**
+	 * @return at most {@code count} executions with an ID lower than the given one, of
+	 * the job with the given name or of all jobs, the most recent first
+	 */
+	List<JobExecutionRow> findJobExecutions(@Nullable String jobName, long maxJobExecutionId, int count) {
+		return read(() -> this.jobExecutions.headMap(maxJobExecutionId, false)
+			.descendingMap()
+			.values()
+			.stream()
+			.filter(jobExecution -> {
+				if (jobName == null) {
+					return true;
+				}
+				JobInstanceRow jobInstance = this.jobInstances.get(jobExecution.jobInstanceId());
+				return jobInstance != null && jobInstance.jobName().equals(jobName);
+			})
+			.limit(count)
+			.toList());
+	}
+
+	List<JobExecutionRow> findRunningJobExecutions(String jobName) {
+		return read(() -> this.jobExecutions.values().stream().filter(jobExecution -> {
+			JobInstanceRow jobInstance = this.jobInstances.get(jobExecution.jobInstanceId());
+			return jobInstance != null && jobInstance.jobName().equals(jobName)
+					&& RUNNING_STATUSES.contains(jobExecution.status());
+		}).toList());
+	}
+
+	List<JobParameterRow> getJobParameters(long jobExecutionId) {
+		return read(() -> this.jobParameters.getOrDefault(jobExecutionId, List.of()));
+	}
+
+	void deleteJobExecution(long jobExecutionId) {
+		write(() -> append(new Deletion(DELETE_JOB_EXECUTION, jobExecutionId), false));
+	}
+
+	void deleteJobParameters(long jobExecutionId) {
+		write(() -> append(new Deletion(DELETE_JOB_PARAMETERS, jobExecutionId), false));
+	}
+
+	/*
+	 * Step executions
+	 */
+
+	long nextStepExecutionId() {
+		return this.stepExecutionIds.incrementAndGet();
+	}
+
+	void saveStepExecutions(Collection<StepExecutionRow> stepExecutions) {
+		write(() -> {
+			int remaining = stepExecutions.size();
+			for (StepExecutionRow stepExecution : stepExecutions) {
+				append(stepExecution, --remaining == 0);
+			}
+		});
+	}
+
+	void updateStepExecution(StepExecutionRow stepExecution, int expectedVersion) {
+		write(() -> {
+			StepExecutionRow current = this.stepExecutions.get(stepExecution.id());
+			if (current == null) {
+				throw new NoSuchObjectException("Invalid StepExecution, ID " + stepExecution.id() + " not found.");
+			}
+			if (current.version() != expectedVersion) {
+				throw new OptimisticLockingFailureException(
+						"Attempt to update step execution id=" + stepExecution.id() + " with wrong version ("
+								+ expectedVersion + "), where current version is " + current.version());
+			}
+			append(stepExecution, true);
+		});
+	}
+
+	@Nullable
+	StepExecutionRow getStepExecution(long stepExecutionId) {
+		return read(() -> this.stepExecutions.get(stepExecutionId));
+	}
+
+	/**
+	 * @return the step executions of the given job execution, in the order they were
+	 * created
+	 */
+	List<StepExecutionRow> getStepExecutions(long jobExecutionId) {
+		return read(() -> {
+			NavigableSet<Long> ids = this.stepExecutionIdsByJobExecution.get(jobExecutionId);
+			return ids == null ? List.of() : ids.stream().map(this.stepExecutions::get).toList();
+		});
+	}
+
+	/**
+	 * @return the step executions with the given name in all the executions of the given
+	 * job instance, the most recent first
+	 */
+	List<StepExecutionRow> findStepExecutions(long jobInstanceId, String stepName) {
+		return read(() -> {
+			NavigableSet<Long> jobExecutionIds = this.jobExecutionIdsByJobInstance.get(jobInstanceId);
+			if (jobExecutionIds == null) {
+				return List.of();
+			}
+			List<StepExecutionRow> result = new ArrayList<>();
+			for (Long jobExecutionId : jobExecutionIds) {
+				NavigableSet<Long> ids = this.stepExecutionIdsByJobExecution.get(jobExecutionId);
+				if (ids != null) {
+					ids.stream()
+						.map(this.stepExecutions::get)
+						.filter(stepExecution -> stepExecution.stepName().equals(stepName))
+						.forEach(result::add);
+				}
+			}
+			result.sort(Comparator
+				.comparing(StepExecutionRow::createTime,
+						Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+				.thenComparing(StepExecutionRow::id)
+				.reversed());
+			return result;
+		});
+	}
+
+	void deleteStepExecution(long stepExecutionId) {
+		write(() -> append(new Deletion(DELETE_STEP_EXECUTION, stepExecutionId), false));
+	}
+
+	/*
+	 * Execution contexts
+	 */
+
+	@Nullable
+	byte[] getJobExecutionContext(long jobExecutionId) {
+		return read(() -> this.jobExecutionContexts.get(jobExecutionId));
+	}
+
+	@Nullable
+	byte[] getStepExecutionContext(long stepExecutionId) {
+		return read(() -> this.stepExecutionContexts.get(stepExecutionId));
+	}
+
+	void saveJobExecutionContext(long jobExecutionId, byte[] context) {
+		write(() -> {
+			if (!Arrays.equals(this.jobExecutionContexts.get(jobExecutionId), context)) {
+				append(new ExecutionContextRow(JOB_EXECUTION_CONTEXT, jobExecutionId, context), false);
+			}
+		});
+	}
+
+	void saveStepExecutionContexts(Map<Long, byte[]> contexts) {
+		write(() -> {
+			for (Map.Entry<Long, byte[]> context : contexts.entrySet()) {
+				if (!Arrays.equals(this.stepExecutionContexts.get(context.getKey()), context.getValue())) {
+					append(new ExecutionContextRow(STEP_EXECUTION_CONTEXT, context.getKey(), context.getValue()),
+							false);
+				}
+			}
+		});
+	}
+
+	void deleteJobExecutionContext(long jobExecutionId) {
+		write(() -> append(new Deletion(DELETE_JOB_EXECUTION_CONTEXT, jobExecutionId), false));
+	}
+
+	void deleteStepExecutionContext(long stepExecutionId) {
+		write(() -> append(new Deletion(DELETE_STEP_EXECUTION_CONTEXT, stepExecutionId), false));
+	}
+
+	/*
+	 * Log management
+	 */
+
+	private <T> T read(Query<T> query) {
+		this.lock.readLock().lock();
+		try {
+			assertOpen();
+			return query.execute();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private void write(Update update) {
+		this.lock.writeLock().lock();
+		try {
+			assertOpen();
+			update.execute();
+			if (isCompactionDue()) {
+				try {
+					compactLog();
+				}
+				catch (IOException ex) {
+					// the current log is still valid, try again later
+					this.nextCompactionRecordCount = this.recordCount + this.compactionThreshold;
+					logger.warn("Unable to compact the job repository log " + this.logFile, ex);
+				}
+			}
+		}
+		catch (IOException ex) {
+			throw new DataAccessResourceFailureException("Unable to write to the job repository log " + this.logFile,
+					ex);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private void append(Record record, boolean force) throws IOException {
+		ByteBuffer buffer = encodeRecord(record);
+		long position = this.channel.position();
+		try {
+			writeFully(this.channel, buffer);
+			if (force && this.forceWrites) {
+				this.channel.force(false);
+			}
+		}
+		catch (IOException ex) {
+			// do not leave a partial record before the next appended records
+			try {
+				this.channel.truncate(position);
+				this.channel.position(position);
+			}
+			catch (IOException truncateEx) {
+				ex.addSuppressed(truncateEx);
+			}
+			throw ex;
+		}
+		apply(record);
+		this.recordCount++;
+	}
+
+	private boolean isCompactionDue() {
+		return this.recordCount >= this.nextCompactionRecordCount
+				&& this.recordCount - liveRecordCount() > this.compactionThreshold;
+	}
+
+	private long liveRecordCount() {
+		return this.jobInstances.size() + this.jobExecutions.size() + this.jobParameters.size()
+				+ this.stepExecutions.size() + this.jobExecutionContexts.size() + this.stepExecutionContexts.size();
+	}
+
+	private void compactLog() throws IOException {
+		Path compactedLogFile = this.directory.resolve(COMPACTED_LOG_FILE_NAME);
+		List<Record> records = new ArrayList<>((int) liveRecordCount());
+		records.addAll(this.jobInstances.values());
+		records.addAll(this.jobExecutions.values());
+		this.jobParameters.forEach((id, parameters) -> records.add(new JobParametersRow(id, parameters)));
+		records.addAll(this.stepExecutions.values());
+		this.jobExecutionContexts
+			.forEach((id, context) -> records.add(new ExecutionContextRow(JOB_EXECUTION_CONTEXT, id, context)));
+		this.stepExecutionContexts
+			.forEach((id, context) -> records.add(new ExecutionContextRow(STEP_EXECUTION_CONTEXT, id, context)));
+
+		// the compacted log stays open across the move, the current log is only closed
+		// once it is replaced
+		FileChannel compactedChannel = FileChannel.open(compactedLogFile, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			OutputStream out = new BufferedOutputStream(Channels.newOutputStream(compactedChannel), 64 * 1024);
+			out.write(fileHeader().array());
+			for (Record record : records) {
+				out.write(encodeRecord(record).array());
+			}
+			out.flush();
+			compactedChannel.force(true);
+			Files.move(compactedLogFile, this.logFile, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException ex) {
+			try {
+				compactedChannel.close();
+				Files.deleteIfExists(compactedLogFile);
+			}
+			catch (IOException cleanupEx) {
+				ex.addSuppressed(cleanupEx);
+			}
+			throw ex;
+		}
+		FileChannel previousChannel = this.channel;
+		this.channel = compactedChannel;
+		this.channel.position(this.channel.size());
+		if (logger.isDebugEnabled()) {
+			logger.debug("Compacted the job repository log " + this.logFile + " from " + this.recordCount + " to "
+					+ records.size() + " records");
+		}
+		this.recordCount = records.size();
+		this.nextCompactionRecordCount = 0;
+		try {
+			previousChannel.close();
+		}
+		catch (IOException ex) {
+			logger.debug("Unable to close the replaced job repository log", ex);
+		}
+		forceDirectory();
+	}
+
+	/**
+	 * Replay the log to rebuild the index.
+	 * @return the length of the valid part of the log
+	 */
+	private long replay() throws IOException {
+		try (InputStream in = Files.newInputStream(this.logFile)) {
+			DataInputStream input = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+			try {
+				if (input.readInt() != MAGIC) {
+					throw new IllegalStateException(this.logFile + " is not a job repository log");
+				}
+				int formatVersion = input.readInt();
+				if (formatVersion != FORMAT_VERSION) {
+					throw new IllegalStateException(
+							"Unsupported version " + formatVersion + " of the job repository log " + this.logFile);
+				}
+			}
+			catch (EOFException ex) {
+				// the log was being created
+				return 0;
+			}
+			long position = FILE_HEADER_LENGTH;
+			CRC32 crc = new CRC32();
+			while (true) {
+				int length;
+				try {
+					length = input.readInt();
+				}
+				catch (EOFException ex) {
+					return position;
+				}
+				try {
+					int checksum = input.readInt();
+					if (length <= 0 || length > MAX_RECORD_LENGTH) {
+						throw new IOException("Invalid record length " + length);
+					}
+					byte[] payload = new byte[length];
+					input.readFully(payload);
+					crc.reset();
+					crc.update(payload);
+					if ((int) crc.getValue() != checksum) {
+						throw new IOException("Invalid record checksum");
+					}
+					apply(decodeRecord(payload));
+				}
+				catch (IOException ex) {
+					logger.warn("Discarding the end of the job repository log " + this.logFile + " from position "
+							+ position + ", which was not completely written: " + ex.getMessage());
+					return position;
+				}
+				this.recordCount++;
+				position += RECORD_HEADER_LENGTH + length;
+			}
+		}
+	}
+
+	private void apply(Record record) {
+		if (record instanceof JobInstanceRow jobInstance) {
+			this.jobInstances.put(jobInstance.id(), jobInstance);
+			this.jobInstanceIdsByKey.put(instanceKey(jobInstance.jobName(), jobInstance.jobKey()), jobInstance.id());
+			this.jobInstanceIds.accumulateAndGet(jobInstance.id(), Math::max);
+		}
+		else if (record instanceof JobExecutionRow jobExecution) {
+			this.jobExecutions.put(jobExecution.id(), jobExecution);
+			this.jobExecutionIdsByJobInstance.computeIfAbsent(jobExecution.jobInstanceId(), id -> new TreeSet<>())
+				.add(jobExecution.id());
+			this.jobExecutionIds.accumulateAndGet(jobExecution.id(), Math::max);
+		}
+		else if (record instanceof JobParametersRow parameters) {
+			this.jobParameters.put(parameters.jobExecutionId(), parameters.parameters());
+		}
+		else if (record instanceof StepExecutionRow stepExecution) {
+			this.stepExecutions.put(stepExecution.id(), stepExecution);
+			this.stepExecutionIdsByJobExecution.computeIfAbsent(stepExecution.jobExecutionId(), id -> new TreeSet<>())
+				.add(stepExecution.id());
+			this.stepExecutionIds.accumulateAndGet(stepExecution.id(), Math::max);
+		}
+		else if (record instanceof ExecutionContextRow context) {
+			contexts(context.type()).put(context.executionId(), context.context());
+		}
+		else if (record instanceof Deletion deletion) {
+			applyDeletion(deletion);
+		}
+	}
+
+	private void applyDeletion(Deletion deletion) {
+		long id = deletion.id();
+		switch (deletion.type()) {
+			case DELETE_JOB_INSTANCE -> {
+				JobInstanceRow jobInstance = this.jobInstances.remove(id);
+				if (jobInstance != null) {
+					this.jobInstanceIdsByKey.remove(instanceKey(jobInstance.jobName(), jobInstance.jobKey()));
+				}
+				this.jobExecutionIdsByJobInstance.remove(id);
+			}
+			case DELETE_JOB_EXECUTION -> {
+				JobExecutionRow jobExecution = this.jobExecutions.remove(id);
+				if (jobExecution != null) {
+					NavigableSet<Long> ids = this.jobExecutionIdsByJobInstance.get(jobExecution.jobInstanceId());
+					if (ids != null) {
+						ids.remove(id);
+					}
+				}
+				this.stepExecutionIdsByJobExecution.remove(id);
+			}
+			case DELETE_JOB_PARAMETERS -> this.jobParameters.remove(id);
+			case DELETE_STEP_EXECUTION -> {
+				StepExecutionRow stepExecution = this.stepExecutions.remove(id);
+				if (stepExecution != null) {
+					NavigableSet<Long> ids = this.stepExecutionIdsByJobExecution.get(stepExecution.jobExecutionId());
+					if (ids != null) {
+						ids.remove(id);
+					}
+				}
+			}
+			case DELETE_JOB_EXECUTION_CONTEXT -> this.jobExecutionContexts.remove(id);
+			case DELETE_STEP_EXECUTION_CONTEXT -> this.stepExecutionContexts.remove(id);
+			default -> throw new IllegalStateException("Unknown deletion type: " + deletion.type());
+		}
+	}
+
+	private Map<Long, byte[]> contexts(byte type) {
+		return type == JOB_EXECUTION_CONTEXT ? this.jobExecutionContexts : this.stepExecutionContexts;
+	}
+
+	private void lockDirectory() throws IOException {
+		this.lockChannel = FileChannel.open(this.directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+		try {
+			this.fileLock = this.lockChannel.tryLock();
+		}
+		catch (OverlappingFileLockException ex) {
+			this.fileLock = null;
+		}
+		if (this.fileLock == null) {
+			this.lockChannel.close();
+			this.lockChannel = null;
+			throw new IllegalStateException("The job repository in " + this.directory + " is already in use");
+		}
+	}
+
+	private void closeChannels() throws IOException {
+		try {
+			if (this.channel != null) {
+				this.channel.close();
+			}
+		}
+		finally {
+			this.channel = null;
+			if (this.fileLock != null) {
+				this.fileLock.release();
+				this.fileLock = null;
+			}
+			if (this.lockChannel != null) {
+				this.lockChannel.close();
+				this.lockChannel = null;
+			}
+		}
+	}
+
+	private void clearIndex() {
+		this.jobInstances.clear();
+		this.jobInstanceIdsByKey.clear();
+		this.jobExecutions.clear();
+		this.jobExecutionIdsByJobInstance.clear();
+		this.jobParameters.clear();
+		this.stepExecutions.clear();
+		this.stepExecutionIdsByJobExecution.clear();
+		this.jobExecutionContexts.clear();
+		this.stepExecutionContexts.clear();
+		this.jobInstanceIds.set(0);
+		this.jobExecutionIds.set(0);
+		this.stepExecutionIds.set(0);
+		this.recordCount = 0;
+	}
+
+	private void forceDirectory() {
+		// make the rename of the compacted log durable, where supported
+		try (FileChannel directoryChannel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+			directoryChannel.force(true);
+		}
+		catch (IOException ex) {
+			// not supported on this platform
+		}
+	}
+
+	private void assertOpen() {
+		Assert.state(this.channel != null, "The job repository store is not open");
+	}
+
+	private static String instanceKey(String jobName, @Nullable String jobKey) {
+		return jobName + '\u0000' + (jobKey == null ? "" : jobKey);
+	}
+
+	private static ByteBuffer fileHeader() {
+		return ByteBuffer.allocate(FILE_HEADER_LENGTH).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/*
+	 * Record encoding
+	 */
+
+	private static ByteBuffer encodeRecord(Record record) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0);
+		out.writeInt(0);
+		encode(record, out);
+		out.flush();
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		int length = buffer.capacity() - RECORD_HEADER_LENGTH;
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), RECORD_HEADER_LENGTH, length);
+		buffer.putInt(0, length).putInt(4, (int) crc.getValue());
+		return buffer;
+	}
+
+	private static void encode(Record record, DataOutputStream out) throws IOException {
+		if (record instanceof JobInstanceRow jobInstance) {
+			out.writeByte(JOB_INSTANCE);
+			out.writeLong(jobInstance.id());
+			out.writeInt(jobInstance.version());
+			writeString(out, jobInstance.jobName());
+			writeString(out, jobInstance.jobKey());
+		}
+		else if (record instanceof JobExecutionRow jobExecution) {
+			out.writeByte(JOB_EXECUTION);
+			out.writeLong(jobExecution.id());
+			out.writeLong(jobExecution.jobInstanceId());
+			out.writeInt(jobExecution.version());
+			writeString(out, jobExecution.status());
+			writeString(out, jobExecution.exitCode());
+			writeString(out, jobExecution.exitDescription());
+			writeDateTime(out, jobExecution.createTime());
+			writeDateTime(out, jobExecution.startTime());
+			writeDateTime(out, jobExecution.endTime());
+			writeDateTime(out, jobExecution.lastUpdated());
+		}
+		else if (record instanceof JobParametersRow parameters) {
+			out.writeByte(JOB_PARAMETERS);
+			out.writeLong(parameters.jobExecutionId());
+			out.writeInt(parameters.parameters().size());
+			for (JobParameterRow parameter : parameters.parameters()) {
+				writeString(out, parameter.name());
+				writeString(out, parameter.type());
+				writeString(out, parameter.value());
+				out.writeBoolean(parameter.identifying());
+			}
+		}
+		else if (record instanceof StepExecutionRow stepExecution) {
+			out.writeByte(STEP_EXECUTION);
+			out.writeLong(stepExecution.id());
+			out.writeLong(stepExecution.jobExecutionId());
+			out.writeInt(stepExecution.version());
+			writeString(out, stepExecution.stepName());
+			writeString(out, stepExecution.status());
+			writeString(out, stepExecution.exitCode());
+			writeString(out, stepExecution.exitDescription());
+			out.writeLong(stepExecution.commitCount());
+			out.writeLong(stepExecution.readCount());
+			out.writeLong(stepExecution.filterCount());
+			out.writeLong(stepExecution.writeCount());
+			out.writeLong(stepExecution.readSkipCount());
+			out.writeLong(stepExecution.writeSkipCount());
+			out.writeLong(stepExecution.processSkipCount());
+			out.writeLong(stepExecution.rollbackCount());
+			writeDateTime(out, stepExecution.createTime());
+			writeDateTime(out, stepExecution.startTime());
+			writeDateTime(out, stepExecution.endTime());
+			writeDateTime(out, stepExecution.lastUpdated());
+		}
+		else if (record instanceof ExecutionContextRow context) {
+			out.writeByte(context.type());
+			out.writeLong(context.executionId());
+			out.writeInt(context.context().length);
+			out.write(context.context());
+		}
+		else if (record instanceof Deletion deletion) {
+			out.writeByte(deletion.type());
+			out.writeLong(deletion.id());
+		}
+	}
+
+	private static Record decodeRecord(byte[] payload) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		byte type = in.readByte();
+		return switch (type) {
+			case JOB_INSTANCE -> new JobInstanceRow(in.readLong(), in.readInt(), readString(in), readString(in));
+			case JOB_EXECUTION ->
+				new JobExecutionRow(in.readLong(), in.readLong(), in.readInt(), readString(in), readString(in),
+						readString(in), readDateTime(in), readDateTime(in), readDateTime(in), readDateTime(in));
+			case JOB_PARAMETERS -> {
+				long jobExecutionId = in.readLong();
+				int size = in.readInt();
+				List<JobParameterRow> parameters = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					parameters
+						.add(new JobParameterRow(readString(in), readString(in), readString(in), in.readBoolean()));
+				}
+				yield new JobParametersRow(jobExecutionId, parameters);
+			}
+			case STEP_EXECUTION -> new StepExecutionRow(in.readLong(), in.readLong(), in.readInt(), readString(in),
+					readString(in), readString(in), readString(in), in.readLong(), in.readLong(), in.readLong(),
+					in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong(), readDateTime(in),
+					readDateTime(in), readDateTime(in), readDateTime(in));
+			case JOB_EXECUTION_CONTEXT, STEP_EXECUTION_CONTEXT -> {
+				long executionId = in.readLong();
+				byte[] context = new byte[in.readInt()];
+				in.readFully(context);
+				yield new ExecutionContextRow(type, executionId, context);
+			}
+			case DELETE_JOB_INSTANCE, DELETE_JOB_EXECUTION, DELETE_JOB_PARAMETERS, DELETE_STEP_EXECUTION,
+					DELETE_JOB_EXECUTION_CONTEXT, DELETE_STEP_EXECUTION_CONTEXT ->
+				new Deletion(type, in.readLong());
+			default -> throw new IOException("Unknown record type " + type);
+		};
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		}
+		else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	@Nullable
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeDateTime(DataOutputStream out, @Nullable LocalDateTime value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.toLocalDate().toEpochDay());
+			out.writeLong(value.toLocalTime().toNanoOfDay());
+		}
+	}
+
+	@Nullable
+	private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		LocalDate date = LocalDate.ofEpochDay(in.readLong());
+		return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+	}
+
+	@FunctionalInterface
+	private interface Query<T> {
+
+		T execute();
+
+	}
+
+	@FunctionalInterface
+	private interface Update {
+
+		void execute() throws IOException;
+
+	}
+
+	/*
+	 * Records of the log, which are also the entries of the index
+	 */
+
+	private sealed interface Record permits JobInstanceRow, JobExecutionRow, JobParametersRow, StepExecutionRow, ExecutionContextRow, Deletion {
+
+	}
+
+	record JobInstanceRow(long id, int version, String jobName, @Nullable String jobKey) implements Record {
+	}
+
+	record JobExecutionRow(long id, long jobInstanceId, int version, String status, String exitCode,
+			@Nullable String exitDescription, @Nullable LocalDateTime createTime, @Nullable LocalDateTime startTime,
+			@Nullable LocalDateTime endTime, @Nullable LocalDateTime lastUpdated) implements Record {
+	}
+
+	record JobParameterRow(String name, String type, @Nullable String value, boolean identifying) {
+	}
+
+	private record JobParametersRow(long jobExecutionId, List<JobParameterRow> parameters) implements Record {
+	}
+
+	record StepExecutionRow(long id, long jobExecutionId, int version, String stepName, String status, String exitCode,
+			@Nullable String exitDescription, long commitCount, long readCount, long filterCount, long writeCount,
+			long readSkipCount, long writeSkipCount, long processSkipCount, long rollbackCount,
+			@Nullable LocalDateTime createTime, @Nullable LocalDateTime startTime, @Nullable LocalDateTime endTime,
+			@Nullable LocalDateTime lastUpdated) implements Record {
+	}
+
+	private record ExecutionContextRow(byte type, long executionId, byte[] context) implements Record {
+	}
+
+	private record Deletion(byte type, long id) implements Record {
+	}
+
+}
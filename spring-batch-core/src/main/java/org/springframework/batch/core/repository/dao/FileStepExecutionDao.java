@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.JobExecutionRow;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore.StepExecutionRow;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StepExecutionDao} implementation storing step executions in a
+ * {@link FileJobRepositoryStore}.
+ *
+ * @since 5.2
+ */
+public class FileStepExecutionDao implements StepExecutionDao {
+
+	private final FileJobRepositoryStore store;
+
+	/**
+	 * Create a new {@link FileStepExecutionDao}.
+	 * @param store the store of the step executions
+	 */
+	public FileStepExecutionDao(FileJobRepositoryStore store) {
+		Assert.notNull(store, "The store must not be null");
+		this.store = store;
+	}
+
+	@Override
+	public void saveStepExecution(StepExecution stepExecution) {
+		this.store.saveStepExecutions(List.of(prepareForSave(stepExecution)));
+	}
+
+	@Override
+	public void saveStepExecutions(Collection<StepExecution> stepExecutions) {
+		Assert.notNull(stepExecutions, "Attempt to save a null collection of step executions");
+
+		if (!stepExecutions.isEmpty()) {
+			List<StepExecutionRow> rows = new ArrayList<>(stepExecutions.size());
+			for (StepExecution stepExecution : stepExecutions) {
+				rows.add(prepareForSave(stepExecution));
+			}
+			this.store.saveStepExecutions(rows);
+		}
+	}
+
+	private StepExecutionRow prepareForSave(StepExecution stepExecution) {
+		Assert.isNull(stepExecution.getId(),
+				"to-be-saved (not updated) StepExecution can't already have an id assigned");
+		Assert.isNull(stepExecution.getVersion(),
+				"to-be-saved (not updated) StepExecution can't already have a version assigned");
+		validateStepExecution(stepExecution);
+		stepExecution.setId(this.store.nextStepExecutionId());
+		stepExecution.incrementVersion(); // Should be 0
+		return toRow(stepExecution, stepExecution.getVersion());
+	}
+
+	@Override
+	public void updateStepExecution(StepExecution stepExecution) {
+		validateStepExecution(stepExecution);
+		Assert.notNull(stepExecution.getId(),
+				"StepExecution Id cannot be null. StepExecution must saved" + " before it can be updated.");
+
+		this.store.updateStepExecution(toRow(stepExecution, stepExecution.getVersion() + 1),
+				stepExecution.getVersion());
+		stepExecution.incrementVersion();
+	}
+
+	@Override
+	@Nullable
+	public StepExecution getStepExecution(JobExecution jobExecution, Long stepExecutionId) {
+		StepExecutionRow row = this.store.getStepExecution(stepExecutionId);
+		if (row == null || row.jobExecutionId() != jobExecution.getId()) {
+			return null;
+		}
+		return toStepExecution(row, jobExecution);
+	}
+
+	@Override
+	@Nullable
+	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		List<StepExecutionRow> stepExecutions = this.store.findStepExecutions(jobInstance.getInstanceId(), stepName);
+		if (stepExecutions.isEmpty()) {
+			return null;
+		}
+		StepExecutionRow row = stepExecutions.get(0);
+		JobExecutionRow jobExecutionRow = this.store.getJobExecution(row.jobExecutionId());
+		JobExecution jobExecution = new JobExecution(row.jobExecutionId());
+		if (jobExecutionRow != null) {
+			jobExecution.setStartTime(jobExecutionRow.startTime());
+			jobExecution.setEndTime(jobExecutionRow.endTime());
+			jobExecution.setStatus(BatchStatus.valueOf(jobExecutionRow.status()));
+			jobExecution.setExitStatus(new ExitStatus(jobExecutionRow.exitCode(), jobExecutionRow.exitDescription()));
+			jobExecution.setCreateTime(jobExecutionRow.createTime());
+			jobExecution.setLastUpdated(jobExecutionRow.lastUpdated());
+			jobExecution.setVersion(jobExecutionRow.version());
+		}
+		return toStepExecution(row, jobExecution);
+	}
+
+	@Override
+	public void addStepExecutions(JobExecution jobExecution) {
+		for (StepExecutionRow row : this.store.getStepExecutions(jobExecution.getId())) {
+			toStepExecution(row, jobExecution);
+		}
+	}
+
+	@Override
+	public long countStepExecutions(JobInstance jobInstance, String stepName) {
+		return this.store.findStepExecutions(jobInstance.getInstanceId(), stepName).size();
+	}
+
+	@Override
+	public void deleteStepExecution(StepExecution stepExecution) {
+		this.store.deleteStepExecution(stepExecution.getId());
+	}
+
+	private void validateStepExecution(StepExecution stepExecution) {
+		Assert.notNull(stepExecution, "stepExecution is required");
+		Assert.notNull(stepExecution.getStepName(), "StepExecution step name cannot be null.");
+		Assert.notNull(stepExecution.getCreateTime(), "StepExecution create time cannot be null.");
+		Assert.notNull(stepExecution.getStatus(), "StepExecution status cannot be null.");
+	}
+
+	private static StepExecutionRow toRow(StepExecution stepExecution, int version) {
+		return new StepExecutionRow(stepExecution.getId(), stepExecution.getJobExecutionId(), version,
+				stepExecution.getStepName(), stepExecution.getStatus().toString(),
+				stepExecution.getExitStatus().getExitCode(), stepExecution.getExitStatus().getExitDescription(),
+				stepExecution.getCommitCount(), stepExecution.getReadCount(), stepExecution.getFilterCount(),
+				stepExecution.getWriteCount(), stepExecution.getReadSkipCount(), stepExecution.getWriteSkipCount(),
+				stepExecution.getProcessSkipCount(), stepExecution.getRollbackCount(), stepExecution.getCreateTime(),
+				stepExecution.getStartTime(), stepExecution.getEndTime(), stepExecution.getLastUpdated());
+	}
+
+	private static StepExecution toStepExecution(StepExecutionRow row, JobExecution jobExecution) {
+		StepExecution stepExecution = new StepExecution(row.stepName(), jobExecution, row.id());
+		stepExecution.setStartTime(row.startTime());
+		stepExecution.setEndTime(row.endTime());
+		stepExecution.setStatus(BatchStatus.valueOf(row.status()));
+		stepExecution.setCommitCount(row.commitCount());
+		stepExecution.setReadCount(row.readCount());
+		stepExecution.setFilterCount(row.filterCount());
+		stepExecution.setWriteCount(row.writeCount());
+		stepExecution.setExitStatus(new ExitStatus(row.exitCode(), row.exitDescription()));
+		stepExecution.setReadSkipCount(row.readSkipCount());
+		stepExecution.setWriteSkipCount(row.writeSkipCount());
+		stepExecution.setProcessSkipCount(row.processSkipCount());
+		stepExecution.setRollbackCount(row.rollbackCount());
+		stepExecution.setLastUpdated(row.lastUpdated());
+		stepExecution.setVersion(row.version());
+		stepExecution.setCreateTime(row.createTime());
+		return stepExecution;
+	}
+
+}
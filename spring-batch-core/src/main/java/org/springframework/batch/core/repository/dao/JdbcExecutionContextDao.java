@@ -19,14 +19,19 @@ package org.springframework.batch.core.repository.dao;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,10 +44,13 @@ import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.lob.DefaultLobHandler;
 import org.springframework.jdbc.support.lob.LobHandler;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -50,6 +58,10 @@ import org.springframework.util.Assert;
  * <p>
  * Stores execution context data related to both Step and Job using a different table for
  * each.
+ * <p>
+ * Optionally, updates of an execution context that did not change since it was last
+ * persisted can be skipped without serializing it, see
+ * {@link #setSkipUnchangedContexts(boolean)}.
  *
  * @author Lucas Ward
  * @author Robert Kasanicky
@@ -83,6 +95,12 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE STEP_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_STEP_EXECUTION_CONTEXTS = """
+			SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (%IN_CLAUSE%)
+			""";
+
 	private static final String INSERT_STEP_EXECUTION_CONTEXT = """
 			INSERT INTO %PREFIX%STEP_EXECUTION_CONTEXT (SHORT_CONTEXT, SERIALIZED_CONTEXT, STEP_EXECUTION_ID)
 				VALUES(?, ?, ?)
@@ -108,6 +126,8 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	private static final int DEFAULT_MAX_VARCHAR_LENGTH = 2500;
 
+	private static final int DEFAULT_PERSISTED_CONTEXTS_CACHE_SIZE = 1024;
+
 	private int shortContextLength = DEFAULT_MAX_VARCHAR_LENGTH;
 
 	private LobHandler lobHandler = new DefaultLobHandler();
@@ -116,6 +136,13 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	private final Lock lock = new ReentrantLock();
 
+	private boolean skipUnchangedContexts = false;
+
+	// the contexts are weakly referenced so that they are not retained after their step
+	private final Map<Long, Reference<ExecutionContext>> persistedJobContexts = createPersistedContextsCache();
+
+	private final Map<Long, Reference<ExecutionContext>> persistedStepContexts = createPersistedContextsCache();
+
 	/**
 	 * Setter for {@link Serializer} implementation
 	 * @param serializer {@link ExecutionContextSerializer} instance to use.
@@ -149,6 +176,22 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		this.charset = charset;
 	}
 
+	/**
+	 * Set whether to skip the update of an execution context when none of its keys
+	 * changed since this DAO last persisted it, in which case it is not serialized. Once
+	 * the transaction in which a context was written is committed, its
+	 * {@link ExecutionContext#getChangedKeys() changed keys} are cleared, and the context
+	 * is remembered as persisted for the most recently updated executions. This should
+	 * only be enabled if the execution contexts of an execution are not updated by other
+	 * means, for example by another job repository, and not modified between their update
+	 * and the commit of the transaction, while it is running. Defaults to {@code false}.
+	 * @param skipUnchangedContexts whether to skip the update of unchanged contexts
+	 * @since 5.2
+	 */
+	public void setSkipUnchangedContexts(boolean skipUnchangedContexts) {
+		this.skipUnchangedContexts = skipUnchangedContexts;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		Long executionId = jobExecution.getId();
@@ -179,6 +222,34 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		}
 	}
 
+	/**
+	 * Retrieve the execution contexts with one query per {@value #MAX_IN_CLAUSE_SIZE}
+	 * step executions.
+	 */
+	@Override
+	public Map<Long, ExecutionContext> getExecutionContexts(Collection<StepExecution> stepExecutions) {
+		List<Long> executionIds = new ArrayList<>(stepExecutions.size());
+		for (StepExecution stepExecution : stepExecutions) {
+			Long executionId = stepExecution.getId();
+			Assert.notNull(executionId, "ExecutionId must not be null.");
+			executionIds.add(executionId);
+		}
+
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>(executionIds.size());
+		ExecutionContextRowMapper rowMapper = new ExecutionContextRowMapper();
+		for (int i = 0; i < executionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> batch = executionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, executionIds.size()));
+			getJdbcTemplate().query(getQuery(FIND_STEP_EXECUTION_CONTEXTS, batch.size()),
+					(RowCallbackHandler) rs -> executionContexts.put(rs.getLong("STEP_EXECUTION_ID"),
+							rowMapper.mapRow(rs, rs.getRow())),
+					batch.toArray());
+		}
+		for (Long executionId : executionIds) {
+			executionContexts.putIfAbsent(executionId, new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
 	@Override
 	public void updateExecutionContext(final JobExecution jobExecution) {
 		Long executionId = jobExecution.getId();
@@ -186,9 +257,13 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		Assert.notNull(executionId, "ExecutionId must not be null.");
 		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
 
+		if (isPersisted(this.persistedJobContexts, executionId, executionContext)) {
+			return;
+		}
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, UPDATE_JOB_EXECUTION_CONTEXT);
+		recordPersisted(this.persistedJobContexts, executionId, executionContext);
 	}
 
 	@Override
@@ -202,9 +277,13 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			Assert.notNull(executionId, "ExecutionId must not be null.");
 			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
 
+			if (isPersisted(this.persistedStepContexts, executionId, executionContext)) {
+				return;
+			}
 			String serializedContext = serializeContext(executionContext);
 
 			persistSerializedContext(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT);
+			recordPersisted(this.persistedStepContexts, executionId, executionContext);
 		}
 		finally {
 			this.lock.unlock();
@@ -222,6 +301,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, INSERT_JOB_EXECUTION_CONTEXT);
+		recordPersisted(this.persistedJobContexts, executionId, executionContext);
 	}
 
 	@Override
@@ -234,6 +314,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, INSERT_STEP_EXECUTION_CONTEXT);
+		recordPersisted(this.persistedStepContexts, executionId, executionContext);
 	}
 
 	@Override
@@ -248,6 +329,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			serializedContexts.put(executionId, serializeContext(executionContext));
 		}
 		persistSerializedContexts(serializedContexts, INSERT_STEP_EXECUTION_CONTEXT);
+		for (StepExecution stepExecution : stepExecutions) {
+			recordPersisted(this.persistedStepContexts, stepExecution.getId(), stepExecution.getExecutionContext());
+		}
 	}
 
 	/**
@@ -257,6 +341,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 	@Override
 	public void deleteExecutionContext(JobExecution jobExecution) {
 		getJdbcTemplate().update(getQuery(DELETE_JOB_EXECUTION_CONTEXT), jobExecution.getId());
+		this.persistedJobContexts.remove(jobExecution.getId());
 	}
 
 	/**
@@ -266,6 +351,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 	@Override
 	public void deleteExecutionContext(StepExecution stepExecution) {
 		getJdbcTemplate().update(getQuery(DELETE_STEP_EXECUTION_CONTEXT), stepExecution.getId());
+		this.persistedStepContexts.remove(stepExecution.getId());
 	}
 
 	public void setLobHandler(LobHandler lobHandler) {
@@ -353,6 +439,54 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		}
 	}
 
+	/**
+	 * Whether the given context is the one last persisted for the execution and none of
+	 * its keys changed since.
+	 */
+	private boolean isPersisted(Map<Long, Reference<ExecutionContext>> persistedContexts, Long executionId,
+			ExecutionContext executionContext) {
+		if (!this.skipUnchangedContexts) {
+			return false;
+		}
+		Reference<ExecutionContext> persistedContext = persistedContexts.get(executionId);
+		return persistedContext != null && persistedContext.get() == executionContext
+				&& executionContext.getChangedKeys().isEmpty();
+	}
+
+	/**
+	 * Record a persisted context and clear its changed keys once the current transaction
+	 * (if any) is committed, so that a rolled back update is never taken as persisted.
+	 */
+	private void recordPersisted(Map<Long, Reference<ExecutionContext>> persistedContexts, Long executionId,
+			ExecutionContext executionContext) {
+		if (!this.skipUnchangedContexts) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			persistedContexts.remove(executionId);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					executionContext.clearDirtyFlag();
+					persistedContexts.put(executionId, new WeakReference<>(executionContext));
+				}
+			});
+		}
+		else {
+			executionContext.clearDirtyFlag();
+			persistedContexts.put(executionId, new WeakReference<>(executionContext));
+		}
+	}
+
+	private static Map<Long, Reference<ExecutionContext>> createPersistedContextsCache() {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Reference<ExecutionContext>> eldest) {
+				return size() > DEFAULT_PERSISTED_CONTEXTS_CACHE_SIZE;
+			}
+		});
+	}
+
 	private String serializeContext(ExecutionContext ctx) {
 		Map<String, Object> m = new HashMap<>();
 		for (Entry<String, Object> me : ctx.entrySet()) {
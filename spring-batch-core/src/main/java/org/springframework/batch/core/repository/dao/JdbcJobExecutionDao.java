@@ -21,6 +21,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +40,7 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExecutionSummary;
 import org.springframework.batch.core.converter.DateToStringConverter;
 import org.springframework.batch.core.converter.LocalDateTimeToStringConverter;
 import org.springframework.batch.core.converter.LocalDateToStringConverter;
@@ -51,6 +54,7 @@ import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
@@ -127,6 +131,20 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE E.JOB_INSTANCE_ID=I.JOB_INSTANCE_ID AND I.JOB_NAME=? AND E.STATUS IN ('STARTING', 'STARTED', 'STOPPING')
 			""";
 
+	private static final String FIND_JOB_EXECUTION_SUMMARIES = """
+			SELECT E.JOB_EXECUTION_ID, E.JOB_INSTANCE_ID, I.JOB_NAME, E.STATUS, E.EXIT_CODE, E.CREATE_TIME, E.START_TIME, E.END_TIME, E.LAST_UPDATED
+			FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I
+			WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID AND E.JOB_EXECUTION_ID < ?
+			ORDER BY E.JOB_EXECUTION_ID DESC
+			""";
+
+	private static final String FIND_JOB_EXECUTION_SUMMARIES_BY_JOB_NAME = """
+			SELECT E.JOB_EXECUTION_ID, E.JOB_INSTANCE_ID, I.JOB_NAME, E.STATUS, E.EXIT_CODE, E.CREATE_TIME, E.START_TIME, E.END_TIME, E.LAST_UPDATED
+			FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I
+			WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID AND I.JOB_NAME = ? AND E.JOB_EXECUTION_ID < ?
+			ORDER BY E.JOB_EXECUTION_ID DESC
+			""";
+
 	private static final String CURRENT_VERSION_JOB_EXECUTION = """
 			SELECT VERSION
 			FROM %PREFIX%JOB_EXECUTION
@@ -377,6 +395,44 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 		return result;
 	}
 
+	@Override
+	public List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		long maxJobExecutionId = lastJobExecutionId == null ? Long.MAX_VALUE : lastJobExecutionId;
+		List<JobExecutionSummary> summaries = new ArrayList<>();
+		ResultSetExtractor<List<JobExecutionSummary>> extractor = rs -> {
+			while (summaries.size() < count && rs.next()) {
+				summaries.add(new JobExecutionSummary(rs.getLong(1), rs.getLong(2), rs.getString(3),
+						BatchStatus.valueOf(rs.getString(4)), rs.getString(5), toLocalDateTime(rs.getTimestamp(6)),
+						toLocalDateTime(rs.getTimestamp(7)), toLocalDateTime(rs.getTimestamp(8)),
+						toLocalDateTime(rs.getTimestamp(9))));
+			}
+			return summaries;
+		};
+		return getJdbcTemplate().query(connection -> {
+			PreparedStatement statement;
+			if (jobName == null) {
+				statement = connection.prepareStatement(getQuery(FIND_JOB_EXECUTION_SUMMARIES));
+				statement.setLong(1, maxJobExecutionId);
+			}
+			else {
+				statement = connection.prepareStatement(getQuery(FIND_JOB_EXECUTION_SUMMARIES_BY_JOB_NAME));
+				statement.setString(1, jobName);
+				statement.setLong(2, maxJobExecutionId);
+			}
+			if (count > 0) {
+				// only the rows of the page are read, whatever the position of the page
+				statement.setMaxRows(count);
+			}
+			return statement;
+		}, extractor);
+	}
+
+	@Nullable
+	private static LocalDateTime toLocalDateTime(@Nullable Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+
 	@Override
 	public void synchronizeStatus(JobExecution jobExecution) {
 		int currentVersion = getJdbcTemplate().queryForObject(getQuery(CURRENT_VERSION_JOB_EXECUTION), Integer.class,
@@ -31,6 +31,7 @@ import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
@@ -122,6 +123,12 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE JOB_NAME LIKE ? ORDER BY JOB_INSTANCE_ID DESC
 			""";
 
+	private static final String LOCK_JOB_INSTANCE = """
+			UPDATE %PREFIX%JOB_INSTANCE
+			SET VERSION = VERSION + 1
+			WHERE JOB_INSTANCE_ID = ?
+			""";
+
 	private static final String DELETE_JOB_INSTANCE = """
 			DELETE FROM %PREFIX%JOB_INSTANCE
 			WHERE JOB_INSTANCE_ID = ?
@@ -284,6 +291,24 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		getJdbcTemplate().update(getQuery(DELETE_JOB_INSTANCE), jobInstance.getId());
 	}
 
+	/**
+	 * Lock the job instance row by incrementing its version. The row lock is held by the
+	 * database until the end of the current transaction, which makes concurrent launches
+	 * of the same job instance wait for each other even at
+	 * {@code ISOLATION_READ_COMMITTED}.
+	 * @param jobInstance the job instance to lock
+	 * @throws OptimisticLockingFailureException if the job instance does not exist
+	 * anymore
+	 */
+	@Override
+	public void lockJobInstance(JobInstance jobInstance) {
+		int count = getJdbcTemplate().update(getQuery(LOCK_JOB_INSTANCE), jobInstance.getId());
+		if (count == 0) {
+			throw new OptimisticLockingFailureException(
+					"JobInstance with id=" + jobInstance.getId() + " not found, it may have been deleted");
+		}
+	}
+
 	/**
 	 * Setter for {@link DataFieldMaxValueIncrementer} to be used when generating primary
 	 * keys for {@link JobInstance} instances.
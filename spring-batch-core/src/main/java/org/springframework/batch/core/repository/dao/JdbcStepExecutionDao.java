@@ -24,10 +24,14 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,11 +41,16 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.database.support.PooledDataFieldMaxValueIncrementer;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.OracleSequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -92,6 +101,9 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 	private static final String GET_STEP_EXECUTION = GET_RAW_STEP_EXECUTIONS + " AND STEP_EXECUTION_ID = ?";
 
+	private static final String GET_STEP_EXECUTIONS_BY_IDS = GET_RAW_STEP_EXECUTIONS
+			+ " AND STEP_EXECUTION_ID IN (%IN_CLAUSE%) ORDER BY STEP_EXECUTION_ID";
+
 	private static final String GET_LAST_STEP_EXECUTION = """
 			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
 			FROM %PREFIX%JOB_EXECUTION JE
@@ -100,6 +112,14 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
 			""";
 
+	private static final String GET_LAST_STEP_EXECUTIONS = """
+			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
+			FROM %PREFIX%JOB_EXECUTION JE
+				JOIN %PREFIX%STEP_EXECUTION SE ON SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID
+			WHERE JE.JOB_INSTANCE_ID = ? AND SE.STEP_NAME IN (%IN_CLAUSE%)
+			ORDER BY SE.CREATE_TIME DESC, SE.STEP_EXECUTION_ID DESC
+			""";
+
 	private static final String CURRENT_VERSION_STEP_EXECUTION = """
 			SELECT VERSION FROM %PREFIX%STEP_EXECUTION
 			WHERE STEP_EXECUTION_ID=?
@@ -151,6 +171,9 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 	 */
 	@Override
 	public void saveStepExecution(StepExecution stepExecution) {
+		validateStepExecutionForSave(stepExecution);
+		stepExecution.setId(stepExecutionIncrementer.nextLongValue());
+		stepExecution.incrementVersion(); // Should be 0
 		List<Object[]> parameters = buildStepExecutionParameters(stepExecution);
 		Object[] parameterValues = parameters.get(0);
 
@@ -164,7 +187,11 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 	}
 
 	/**
-	 * Batch insert StepExecutions
+	 * Batch insert StepExecutions. The ids of all the step executions are obtained before
+	 * the insert: from the reserved blocks if the stepExecutionIncrementer is a
+	 * {@link PooledDataFieldMaxValueIncrementer}, or with a single query if it is a
+	 * sequence incrementer for H2, Oracle or PostgreSQL. Otherwise, the incrementer is
+	 * called once per step execution.
 	 * @see StepExecutionDao#saveStepExecutions(Collection)
 	 */
 	@Override
@@ -172,6 +199,15 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		Assert.notNull(stepExecutions, "Attempt to save a null collection of step executions");
 
 		if (!stepExecutions.isEmpty()) {
+			for (StepExecution stepExecution : stepExecutions) {
+				validateStepExecutionForSave(stepExecution);
+			}
+			long[] ids = nextStepExecutionIds(stepExecutions.size());
+			int index = 0;
+			for (StepExecution stepExecution : stepExecutions) {
+				stepExecution.setId(ids[index++]);
+				stepExecution.incrementVersion(); // Should be 0
+			}
 			final Iterator<StepExecution> iterator = stepExecutions.iterator();
 			getJdbcTemplate().batchUpdate(getQuery(SAVE_STEP_EXECUTION), new BatchPreparedStatementSetter() {
 
@@ -201,14 +237,50 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}
 	}
 
-	private List<Object[]> buildStepExecutionParameters(StepExecution stepExecution) {
+	private long[] nextStepExecutionIds(int count) {
+		if (stepExecutionIncrementer instanceof PooledDataFieldMaxValueIncrementer pooledIncrementer) {
+			return pooledIncrementer.nextLongValues(count);
+		}
+		String sequenceQuery = count > 1 ? getMultiValueSequenceQuery(stepExecutionIncrementer) : null;
+		if (sequenceQuery != null) {
+			List<Long> values = getJdbcTemplate().queryForList(sequenceQuery, Long.class, count);
+			Assert.state(values.size() == count, "Unable to get " + count + " values from the step execution sequence");
+			return values.stream().mapToLong(Long::longValue).toArray();
+		}
+		long[] ids = new long[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = stepExecutionIncrementer.nextLongValue();
+		}
+		return ids;
+	}
+
+	/**
+	 * Return a query returning the given number of values of the sequence of the
+	 * incrementer, or {@code null} if its database has no such query.
+	 */
+	@Nullable
+	private static String getMultiValueSequenceQuery(DataFieldMaxValueIncrementer incrementer) {
+		if (incrementer instanceof H2SequenceMaxValueIncrementer h2Incrementer) {
+			return "SELECT NEXT VALUE FOR " + h2Incrementer.getIncrementerName() + " FROM SYSTEM_RANGE(1, ?)";
+		}
+		if (incrementer instanceof OracleSequenceMaxValueIncrementer oracleIncrementer) {
+			return "SELECT " + oracleIncrementer.getIncrementerName() + ".NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?";
+		}
+		if (incrementer instanceof PostgresSequenceMaxValueIncrementer postgresIncrementer) {
+			return "SELECT NEXTVAL('" + postgresIncrementer.getIncrementerName() + "') FROM GENERATE_SERIES(1, ?)";
+		}
+		return null;
+	}
+
+	private void validateStepExecutionForSave(StepExecution stepExecution) {
 		Assert.isNull(stepExecution.getId(),
 				"to-be-saved (not updated) StepExecution can't already have an id assigned");
 		Assert.isNull(stepExecution.getVersion(),
 				"to-be-saved (not updated) StepExecution can't already have a version assigned");
 		validateStepExecution(stepExecution);
-		stepExecution.setId(stepExecutionIncrementer.nextLongValue());
-		stepExecution.incrementVersion(); // Should be 0
+	}
+
+	private List<Object[]> buildStepExecutionParameters(StepExecution stepExecution) {
 		List<Object[]> parameters = new ArrayList<>();
 		String exitDescription = truncateExitDescription(stepExecution.getExitStatus().getExitDescription());
 		Timestamp startTime = stepExecution.getStartTime() == null ? null
@@ -336,18 +408,9 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 	@Override
 	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
-		List<StepExecution> executions = getJdbcTemplate().query(getQuery(GET_LAST_STEP_EXECUTION), (rs, rowNum) -> {
-			Long jobExecutionId = rs.getLong(19);
-			JobExecution jobExecution = new JobExecution(jobExecutionId);
-			jobExecution.setStartTime(rs.getTimestamp(20) == null ? null : rs.getTimestamp(20).toLocalDateTime());
-			jobExecution.setEndTime(rs.getTimestamp(21) == null ? null : rs.getTimestamp(21).toLocalDateTime());
-			jobExecution.setStatus(BatchStatus.valueOf(rs.getString(22)));
-			jobExecution.setExitStatus(new ExitStatus(rs.getString(23), rs.getString(24)));
-			jobExecution.setCreateTime(rs.getTimestamp(25) == null ? null : rs.getTimestamp(25).toLocalDateTime());
-			jobExecution.setLastUpdated(rs.getTimestamp(26) == null ? null : rs.getTimestamp(26).toLocalDateTime());
-			jobExecution.setVersion(rs.getInt(27));
-			return new StepExecutionRowMapper(jobExecution).mapRow(rs, rowNum);
-		}, jobInstance.getInstanceId(), stepName);
+		List<StepExecution> executions = getJdbcTemplate().query(getQuery(GET_LAST_STEP_EXECUTION),
+				(rs, rowNum) -> new StepExecutionRowMapper(mapJobExecution(rs)).mapRow(rs, rowNum),
+				jobInstance.getInstanceId(), stepName);
 		if (executions.isEmpty()) {
 			return null;
 		}
@@ -356,6 +419,74 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}
 	}
 
+	/**
+	 * Retrieve the last step executions of the given steps with one query per
+	 * {@value #MAX_IN_CLAUSE_SIZE} step names. The step executions belonging to the same
+	 * job execution share the same {@link JobExecution} instance.
+	 */
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		List<String> names = new ArrayList<>(new LinkedHashSet<>(stepNames));
+		for (int i = 0; i < names.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<String> batch = names.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, names.size()));
+			Object[] parameters = new Object[batch.size() + 1];
+			parameters[0] = jobInstance.getInstanceId();
+			for (int j = 0; j < batch.size(); j++) {
+				parameters[j + 1] = batch.get(j);
+			}
+			// rows are ordered from the most recent, so the first row of a step is its
+			// last execution and the following ones are not mapped
+			getJdbcTemplate().query(getQuery(GET_LAST_STEP_EXECUTIONS, batch.size()), (RowCallbackHandler) rs -> {
+				String stepName = rs.getString(2);
+				if (!lastStepExecutions.containsKey(stepName)) {
+					JobExecution jobExecution = jobExecutions.get(rs.getLong(19));
+					if (jobExecution == null) {
+						jobExecution = mapJobExecution(rs);
+						jobExecutions.put(jobExecution.getId(), jobExecution);
+					}
+					lastStepExecutions.put(stepName, new StepExecutionRowMapper(jobExecution).mapRow(rs, rs.getRow()));
+				}
+			}, parameters);
+		}
+		return lastStepExecutions;
+	}
+
+	/**
+	 * Retrieve the given step executions with one query per {@value #MAX_IN_CLAUSE_SIZE}
+	 * ids.
+	 */
+	@Override
+	public List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		List<Long> ids = stepExecutionIds.stream().sorted().distinct().collect(Collectors.toList());
+		List<StepExecution> stepExecutions = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> batch = ids.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, ids.size()));
+			Object[] parameters = new Object[batch.size() + 1];
+			parameters[0] = jobExecution.getId();
+			for (int j = 0; j < batch.size(); j++) {
+				parameters[j + 1] = batch.get(j);
+			}
+			stepExecutions.addAll(getJdbcTemplate().query(getQuery(GET_STEP_EXECUTIONS_BY_IDS, batch.size()),
+					new StepExecutionRowMapper(jobExecution), parameters));
+		}
+		return stepExecutions;
+	}
+
+	private JobExecution mapJobExecution(ResultSet rs) throws SQLException {
+		Long jobExecutionId = rs.getLong(19);
+		JobExecution jobExecution = new JobExecution(jobExecutionId);
+		jobExecution.setStartTime(rs.getTimestamp(20) == null ? null : rs.getTimestamp(20).toLocalDateTime());
+		jobExecution.setEndTime(rs.getTimestamp(21) == null ? null : rs.getTimestamp(21).toLocalDateTime());
+		jobExecution.setStatus(BatchStatus.valueOf(rs.getString(22)));
+		jobExecution.setExitStatus(new ExitStatus(rs.getString(23), rs.getString(24)));
+		jobExecution.setCreateTime(rs.getTimestamp(25) == null ? null : rs.getTimestamp(25).toLocalDateTime());
+		jobExecution.setLastUpdated(rs.getTimestamp(26) == null ? null : rs.getTimestamp(26).toLocalDateTime());
+		jobExecution.setVersion(rs.getInt(27));
+		return jobExecution;
+	}
+
 	@Override
 	public void addStepExecutions(JobExecution jobExecution) {
 		getJdbcTemplate().query(getQuery(GET_STEP_EXECUTIONS), new StepExecutionRowMapper(jobExecution),
@@ -21,6 +21,7 @@ import java.util.Set;
 
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExecutionSummary;
 import org.springframework.lang.Nullable;
 
 /**
@@ -81,6 +82,22 @@ public interface JobExecutionDao {
 	@Nullable
 	JobExecution getJobExecution(Long executionId);
 
+	/**
+	 * Find summaries of job executions in descending order of ID, starting after the
+	 * given job execution ID (keyset pagination).
+	 * @param jobName the name of the job, or {@code null} for all jobs
+	 * @param lastJobExecutionId the ID of the last job execution of the previous page, or
+	 * {@code null} for the first page
+	 * @param count the maximum number of summaries to return
+	 * @return the summaries of the job executions with an ID lower than
+	 * {@code lastJobExecutionId}
+	 * @since 5.2
+	 */
+	default List<JobExecutionSummary> findJobExecutionSummaries(@Nullable String jobName,
+			@Nullable Long lastJobExecutionId, int count) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Because it may be possible that the status of a JobExecution is updated while
 	 * running, the following method will synchronize only the status and version fields.
@@ -140,4 +140,14 @@ public interface JobInstanceDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Lock the given job instance until the end of the current transaction, so that
+	 * concurrent launches of the same job instance are serialized whatever the
+	 * transaction isolation level is. The default implementation does nothing.
+	 * @param jobInstance the job instance to lock
+	 * @since 5.2
+	 */
+	default void lockJobInstance(JobInstance jobInstance) {
+	}
+
 }
@@ -16,7 +16,11 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
@@ -74,6 +78,49 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the {@link StepExecution}s of a given {@link JobExecution} from their ids.
+	 * The default implementation retrieves them one by one, implementations should
+	 * override it to fetch them at once.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the step execution ids
+	 * @return the {@link StepExecution}s found, ordered by id
+	 * @since 5.2
+	 */
+	default List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepExecutionIds.size());
+		stepExecutionIds.stream().sorted().distinct().forEach(stepExecutionId -> {
+			StepExecution stepExecution = getStepExecution(jobExecution, stepExecutionId);
+			if (stepExecution != null) {
+				stepExecutions.add(stepExecution);
+			}
+		});
+		return stepExecutions;
+	}
+
+	/**
+	 * Retrieve the last {@link StepExecution} of each of the given steps for a given
+	 * {@link JobInstance}, as returned by
+	 * {@link #getLastStepExecution(JobInstance, String)}. The default implementation
+	 * retrieves them one by one, implementations should override it to fetch them at
+	 * once.
+	 * @param jobInstance the parent {@link JobInstance}
+	 * @param stepNames the names of the steps
+	 * @return the last {@link StepExecution} of each step by step name, without the steps
+	 * that were never executed
+	 * @since 5.2
+	 */
+	default Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+		for (String stepName : stepNames) {
+			StepExecution lastStepExecution = getLastStepExecution(jobInstance, stepName);
+			if (lastStepExecution != null) {
+				lastStepExecutions.put(stepName, lastStepExecution);
+			}
+		}
+		return lastStepExecutions;
+	}
+
 	/**
 	 * Retrieve all the {@link StepExecution} for the parent {@link JobExecution}.
 	 * @param jobExecution the parent job execution
@@ -123,7 +123,10 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 	 * public setter for the isolation level to be used for the transaction when job
 	 * execution entities are initially created. The default is ISOLATION_SERIALIZABLE,
 	 * which prevents accidental concurrent execution of the same job
-	 * (ISOLATION_REPEATABLE_READ would work as well).
+	 * (ISOLATION_REPEATABLE_READ would work as well). ISOLATION_READ_COMMITTED reduces
+	 * lock contention when launching many jobs concurrently, concurrent launches of the
+	 * same job instance being detected by locking job instances in that case (see
+	 * {@link SimpleJobRepository#setLockJobInstanceOnCreate(boolean)}).
 	 * @param isolationLevelForCreate the isolation level name to set
 	 *
 	 * @see SimpleJobRepository#createJobExecution(String,
@@ -137,7 +140,10 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 	 * public setter for the isolation level to be used for the transaction when job
 	 * execution entities are initially created. The default is ISOLATION_SERIALIZABLE,
 	 * which prevents accidental concurrent execution of the same job
-	 * (ISOLATION_REPEATABLE_READ would work as well).
+	 * (ISOLATION_REPEATABLE_READ would work as well). ISOLATION_READ_COMMITTED reduces
+	 * lock contention when launching many jobs concurrently, concurrent launches of the
+	 * same job instance being detected by locking job instances in that case (see
+	 * {@link SimpleJobRepository#setLockJobInstanceOnCreate(boolean)}).
 	 * @param isolationLevelForCreate the isolation level to set
 	 *
 	 * @see SimpleJobRepository#createJobExecution(String,
@@ -216,8 +222,14 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 	}
 
 	private Object getTarget() throws Exception {
-		return new SimpleJobRepository(createJobInstanceDao(), createJobExecutionDao(), createStepExecutionDao(),
-				createExecutionContextDao());
+		SimpleJobRepository jobRepository = new SimpleJobRepository(createJobInstanceDao(), createJobExecutionDao(),
+				createStepExecutionDao(), createExecutionContextDao());
+		// the higher isolation levels already prevent concurrent launches
+		jobRepository.setLockJobInstanceOnCreate(this.isolationLevelForCreate
+			.equals(TRANSACTION_ISOLATION_LEVEL_PREFIX + Isolation.READ_COMMITTED.name())
+				|| this.isolationLevelForCreate
+					.equals(TRANSACTION_ISOLATION_LEVEL_PREFIX + Isolation.READ_UNCOMMITTED.name()));
+		return jobRepository;
 	}
 
 }
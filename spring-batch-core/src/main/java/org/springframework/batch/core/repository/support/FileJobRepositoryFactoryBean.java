@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import org.springframework.batch.core.DefaultJobKeyGenerator;
+import org.springframework.batch.core.JobKeyGenerator;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.FileExecutionContextDao;
+import org.springframework.batch.core.repository.dao.FileJobExecutionDao;
+import org.springframework.batch.core.repository.dao.FileJobInstanceDao;
+import org.springframework.batch.core.repository.dao.FileJobRepositoryStore;
+import org.springframework.batch.core.repository.dao.FileStepExecutionDao;
+import org.springframework.batch.core.repository.dao.JobExecutionDao;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link org.springframework.beans.factory.FactoryBean} that automates the creation of
+ * a {@link SimpleJobRepository} storing the meta-data in a {@link FileJobRepositoryStore}
+ * instead of a database. The store must be shared with the job explorer, if any.
+ * <p>
+ * Changes are written to the store immediately and are not rolled back with the
+ * transactions of the steps, so a {@link ResourcelessTransactionManager} is used if no
+ * transaction manager is set.
+ *
+ * @see org.springframework.batch.core.explore.support.FileJobExplorerFactoryBean
+ * @since 5.2
+ */
+public class FileJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean {
+
+	private FileJobRepositoryStore store;
+
+	private JobKeyGenerator<JobParameters> jobKeyGenerator = new DefaultJobKeyGenerator();
+
+	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
+
+	private ConfigurableConversionService conversionService;
+
+	/**
+	 * Set the store of the meta-data.
+	 * @param store the store to use
+	 */
+	public void setStore(FileJobRepositoryStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Set the {@link JobKeyGenerator} to use to generate the keys of job instances.
+	 * Defaults to {@link DefaultJobKeyGenerator}.
+	 * @param jobKeyGenerator the job key generator to use
+	 */
+	public void setJobKeyGenerator(JobKeyGenerator<JobParameters> jobKeyGenerator) {
+		Assert.notNull(jobKeyGenerator, "jobKeyGenerator must not be null");
+		this.jobKeyGenerator = jobKeyGenerator;
+	}
+
+	/**
+	 * Set the {@link ExecutionContextSerializer} to use to serialize execution contexts.
+	 * Defaults to {@link DefaultExecutionContextSerializer}.
+	 * @param serializer the serializer to use
+	 */
+	public void setSerializer(ExecutionContextSerializer serializer) {
+		Assert.notNull(serializer, "serializer must not be null");
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Set the conversion service to use to convert job parameters from String literals to
+	 * typed values and vice versa. Defaults to the conversion service of
+	 * {@link FileJobExecutionDao}.
+	 * @param conversionService the conversion service to use
+	 */
+	public void setConversionService(ConfigurableConversionService conversionService) {
+		Assert.notNull(conversionService, "conversionService must not be null");
+		this.conversionService = conversionService;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(this.store != null, "The store must not be null.");
+		if (getTransactionManager() == null) {
+			setTransactionManager(new ResourcelessTransactionManager());
+		}
+		super.afterPropertiesSet();
+	}
+
+	@Override
+	protected JobInstanceDao createJobInstanceDao() {
+		FileJobInstanceDao dao = new FileJobInstanceDao(this.store);
+		dao.setJobKeyGenerator(this.jobKeyGenerator);
+		return dao;
+	}
+
+	@Override
+	protected JobExecutionDao createJobExecutionDao() {
+		FileJobExecutionDao dao = new FileJobExecutionDao(this.store);
+		if (this.conversionService != null) {
+			dao.setConversionService(this.conversionService);
+		}
+		return dao;
+	}
+
+	@Override
+	protected StepExecutionDao createStepExecutionDao() {
+		return new FileStepExecutionDao(this.store);
+	}
+
+	@Override
+	protected ExecutionContextDao createExecutionContextDao() {
+		FileExecutionContextDao dao = new FileExecutionContextDao(this.store);
+		dao.setSerializer(this.serializer);
+		return dao;
+	}
+
+}
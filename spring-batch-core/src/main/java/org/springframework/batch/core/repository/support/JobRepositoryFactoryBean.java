@@ -105,6 +105,8 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	private ConfigurableConversionService conversionService;
 
+	private boolean skipUnchangedExecutionContexts = false;
+
 	/**
 	 * @param type a value from the {@link java.sql.Types} class to indicate the type to
 	 * use for a CLOB
@@ -115,7 +117,10 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	/**
 	 * A custom implementation of the {@link ExecutionContextSerializer}. The default, if
-	 * not injected, is the {@link DefaultExecutionContextSerializer}.
+	 * not injected, is the {@link DefaultExecutionContextSerializer}. The
+	 * {@link org.springframework.batch.core.repository.dao.BinaryExecutionContextSerializer}
+	 * provides a more compact format, see its documentation to migrate an existing job
+	 * repository.
 	 * @param serializer used to serialize/deserialize
 	 * {@link org.springframework.batch.item.ExecutionContext}
 	 * @see ExecutionContextSerializer
@@ -251,6 +256,18 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		this.conversionService = conversionService;
 	}
 
+	/**
+	 * Set whether to skip the update of an execution context when none of its keys
+	 * changed since it was last persisted. Defaults to {@code false}.
+	 * @param skipUnchangedExecutionContexts whether to skip the update of unchanged
+	 * execution contexts
+	 * @see JdbcExecutionContextDao#setSkipUnchangedContexts(boolean)
+	 * @since 5.2
+	 */
+	public void setSkipUnchangedExecutionContexts(boolean skipUnchangedExecutionContexts) {
+		this.skipUnchangedExecutionContexts = skipUnchangedExecutionContexts;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
@@ -353,6 +370,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setSerializer(serializer);
 		dao.setCharset(charset);
+		dao.setSkipUnchangedContexts(this.skipUnchangedExecutionContexts);
 
 		if (lobHandler != null) {
 			dao.setLobHandler(lobHandler);
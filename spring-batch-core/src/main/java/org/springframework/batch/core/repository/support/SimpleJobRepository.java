@@ -32,12 +32,18 @@ import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  *
@@ -72,6 +78,8 @@ public class SimpleJobRepository implements JobRepository {
 
 	private ExecutionContextDao ecDao;
 
+	private boolean lockJobInstanceOnCreate = false;
+
 	/**
 	 * Provide default constructor with low visibility in case user wants to use
 	 * aop:proxy-target-class="true" for AOP interceptor.
@@ -88,6 +96,22 @@ public class SimpleJobRepository implements JobRepository {
 		this.ecDao = ecDao;
 	}
 
+	/**
+	 * Set whether concurrent launches of the same job instance should be detected when
+	 * job executions are created at {@code ISOLATION_READ_COMMITTED}. If {@code true}, an
+	 * existing job instance is locked before looking for its running executions, and the
+	 * creation of the same new job instance by a concurrent launch is reported as a
+	 * {@link JobExecutionAlreadyRunningException}. Not needed, and disabled by default,
+	 * at the higher isolation levels.
+	 * @param lockJobInstanceOnCreate {@code true} to lock job instances when creating job
+	 * executions
+	 * @since 5.2
+	 * @see JobInstanceDao#lockJobInstance(JobInstance)
+	 */
+	public void setLockJobInstanceOnCreate(boolean lockJobInstanceOnCreate) {
+		this.lockJobInstanceOnCreate = lockJobInstanceOnCreate;
+	}
+
 	@Override
 	public List<String> getJobNames() {
 		return this.jobInstanceDao.getJobNames();
@@ -124,7 +148,10 @@ public class SimpleJobRepository implements JobRepository {
 		 *
 		 * If this method is transactional, and the isolation level is REPEATABLE_READ or
 		 * better, another launcher trying to start the same job in another thread or
-		 * process will block until this transaction has finished.
+		 * process will block until this transaction has finished. At READ_COMMITTED, if
+		 * enabled, concurrent launches are detected by locking the existing job instance
+		 * before looking for running executions, and by the unique key of new job
+		 * instances.
 		 */
 
 		JobInstance jobInstance = jobInstanceDao.getJobInstance(jobName, jobParameters);
@@ -133,6 +160,11 @@ public class SimpleJobRepository implements JobRepository {
 		// existing job instance found
 		if (jobInstance != null) {
 
+			if (this.lockJobInstanceOnCreate) {
+				// wait for concurrent launches of the same instance to commit
+				jobInstanceDao.lockJobInstance(jobInstance);
+			}
+
 			List<JobExecution> executions = jobExecutionDao.findJobExecutions(jobInstance);
 
 			if (executions.isEmpty()) {
@@ -165,7 +197,19 @@ public class SimpleJobRepository implements JobRepository {
 		}
 		else {
 			// no job found, create one
-			jobInstance = jobInstanceDao.createJobInstance(jobName, jobParameters);
+			try {
+				jobInstance = jobInstanceDao.createJobInstance(jobName, jobParameters);
+			}
+			catch (DuplicateKeyException | IllegalStateException e) {
+				// the job instance might also have been committed since it was looked up
+				if (!this.lockJobInstanceOnCreate || !isJobInstanceCreatedConcurrently(jobName, jobParameters, e)) {
+					throw e;
+				}
+				throw new JobExecutionAlreadyRunningException(
+						"A job instance for this job and these parameters was created concurrently: jobName=" + jobName
+								+ ", jobParameters=" + jobParameters,
+						e);
+			}
 			executionContext = new ExecutionContext();
 		}
 
@@ -182,6 +226,27 @@ public class SimpleJobRepository implements JobRepository {
 
 	}
 
+	/*
+	 * A duplicate key might also come from the primary key, for example with a
+	 * misconfigured incrementer. Only a violation of the unique key of the job name and
+	 * parameters means that the job instance was created by a concurrent launch. The name
+	 * of that key is part of the error message on most databases, otherwise the job
+	 * instance has to be visible now that the concurrent launch has committed.
+	 */
+	private boolean isJobInstanceCreatedConcurrently(String jobName, JobParameters jobParameters, RuntimeException e) {
+		String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+		if (message != null && message.toUpperCase(Locale.ROOT).contains("JOB_INST_UN")) {
+			return true;
+		}
+		try {
+			return jobInstanceDao.getJobInstance(jobName, jobParameters) != null;
+		}
+		catch (DataAccessException ex) {
+			// the transaction might not be usable after the failed insert
+			return false;
+		}
+	}
+
 	@Override
 	public void update(JobExecution jobExecution) {
 
@@ -269,6 +334,27 @@ public class SimpleJobRepository implements JobRepository {
 		return latest;
 	}
 
+	@Override
+	public Map<String, StepExecution> getLastStepExecutions(JobInstance jobInstance, Collection<String> stepNames) {
+		Map<String, StepExecution> lastStepExecutions = stepExecutionDao.getLastStepExecutions(jobInstance, stepNames);
+		if (lastStepExecutions.isEmpty()) {
+			return lastStepExecutions;
+		}
+
+		Map<Long, ExecutionContext> stepExecutionContexts = ecDao.getExecutionContexts(lastStepExecutions.values());
+		Map<Long, ExecutionContext> jobExecutionContexts = new HashMap<>();
+		for (StepExecution lastStepExecution : lastStepExecutions.values()) {
+			lastStepExecution.setExecutionContext(stepExecutionContexts.get(lastStepExecution.getId()));
+			JobExecution jobExecution = lastStepExecution.getJobExecution();
+			// partitions usually share the same job execution, load its context once
+			ExecutionContext jobExecutionContext = jobExecutionContexts.computeIfAbsent(jobExecution.getId(),
+					id -> ecDao.getExecutionContext(jobExecution));
+			jobExecution.setExecutionContext(jobExecutionContext);
+		}
+
+		return lastStepExecutions;
+	}
+
 	/**
 	 * @return number of executions of the step within given job instance
 	 */
@@ -16,6 +16,7 @@
 package org.springframework.batch.core.step.builder;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -71,6 +72,10 @@ public abstract class AbstractTaskletStepBuilder<B extends AbstractTaskletStepBu
 
 	private TaskExecutor taskExecutor;
 
+	private int checkpointInterval;
+
+	private Duration checkpointTimeInterval;
+
 	public AbstractTaskletStepBuilder(StepBuilderHelper<?> parent) {
 		super(parent);
 	}
@@ -90,6 +95,8 @@ public abstract class AbstractTaskletStepBuilder<B extends AbstractTaskletStepBu
 		this.exceptionHandler = parent.exceptionHandler;
 		this.throttleLimit = parent.throttleLimit;
 		this.taskExecutor = parent.taskExecutor;
+		this.checkpointInterval = parent.checkpointInterval;
+		this.checkpointTimeInterval = parent.checkpointTimeInterval;
 	}
 
 	protected abstract Tasklet createTasklet();
@@ -118,6 +125,14 @@ public abstract class AbstractTaskletStepBuilder<B extends AbstractTaskletStepBu
 			step.setTransactionAttribute(transactionAttribute);
 		}
 
+		if (checkpointInterval > 0) {
+			step.setCheckpointInterval(checkpointInterval);
+		}
+
+		if (checkpointTimeInterval != null) {
+			step.setCheckpointTimeInterval(checkpointTimeInterval);
+		}
+
 		if (stepOperations == null) {
 
 			stepOperations = new RepeatTemplate();
@@ -272,6 +287,34 @@ public abstract class AbstractTaskletStepBuilder<B extends AbstractTaskletStepBu
 		return self();
 	}
 
+	/**
+	 * Save the step execution and its execution context in the job repository only every
+	 * given number of chunks instead of at each chunk. On restart, the chunks committed
+	 * after the last checkpoint are processed again.
+	 * @param checkpointInterval the number of chunks between two checkpoints
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see TaskletStep#setCheckpointInterval(int)
+	 */
+	public B checkpointInterval(int checkpointInterval) {
+		this.checkpointInterval = checkpointInterval;
+		return self();
+	}
+
+	/**
+	 * Save the step execution and its execution context in the job repository only when
+	 * the given time has elapsed since the last checkpoint, instead of at each chunk. On
+	 * restart, the chunks committed after the last checkpoint are processed again.
+	 * @param checkpointTimeInterval the time between two checkpoints
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see TaskletStep#setCheckpointTimeInterval(Duration)
+	 */
+	public B checkpointInterval(Duration checkpointTimeInterval) {
+		this.checkpointTimeInterval = checkpointTimeInterval;
+		return self();
+	}
+
 	/**
 	 * Convenience method for subclasses to access the step operations that were injected
 	 * by user.
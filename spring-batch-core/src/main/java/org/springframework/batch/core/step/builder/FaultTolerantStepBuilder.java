@@ -128,6 +128,8 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 
 	private boolean processorTransactional = true;
 
+	private boolean bisectingScan = false;
+
 	/**
 	 * Create a new builder initialized with any properties in the parent. The parent is
 	 * copied, so it can be re-used.
@@ -175,6 +177,8 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 	protected Tasklet createTasklet() {
 		Assert.state(getReader() != null, "ItemReader must be provided");
 		Assert.state(getWriter() != null, "ItemWriter must be provided");
+		Assert.state(!isPipelined(), "Pipelined chunk execution is not supported in a fault tolerant step");
+		Assert.state(!isFanOut(), "Fan-out chunk execution is not supported in a fault tolerant step");
 		addSpecialExceptions();
 		registerSkipListeners();
 		ChunkProvider<I> chunkProvider = createChunkProvider();
@@ -393,6 +397,20 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 		return this;
 	}
 
+	/**
+	 * Scan a chunk that failed to be written by bisection instead of item by item
+	 * (default is the opposite). The chunk is recursively split in halves, the halves
+	 * that can be written are written together, so each failed item is found in about
+	 * log2(n) transactions instead of n for a chunk of n items.
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see FaultTolerantChunkProcessor#setBisectingScan(boolean)
+	 */
+	public FaultTolerantStepBuilder<I, O> bisectingScan() {
+		this.bisectingScan = true;
+		return this;
+	}
+
 	@Override
 	public SimpleStepBuilder<I, O> stream(ItemStream stream) {
 		if (stream instanceof ItemReader<?>) {
@@ -427,6 +445,7 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 		chunkProvider.setMaxSkipsOnRead(Math.max(getChunkSize(), FaultTolerantChunkProvider.DEFAULT_MAX_SKIPS_ON_READ));
 		chunkProvider.setSkipPolicy(readSkipPolicy);
 		chunkProvider.setRollbackClassifier(getRollbackClassifier());
+		chunkProvider.setChunkTimings(isChunkTimings());
 		ArrayList<StepListener> listeners = new ArrayList<>(getItemListeners());
 		listeners.addAll(skipListeners);
 		chunkProvider.setListeners(listeners);
@@ -443,6 +462,12 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 				getWriter(), batchRetryTemplate);
 		chunkProcessor.setBuffering(!isReaderTransactionalQueue());
 		chunkProcessor.setProcessorTransactional(processorTransactional);
+		chunkProcessor.setBisectingScan(bisectingScan);
+		chunkProcessor.setProcessingConcurrency(getProcessingConcurrency());
+		chunkProcessor.setChunkTimings(isChunkTimings());
+		if (getProcessingTaskExecutor() != null) {
+			chunkProcessor.setProcessingTaskExecutor(getProcessingTaskExecutor());
+		}
 
 		SkipPolicy writeSkipPolicy = createSkipPolicy();
 		writeSkipPolicy = getFatalExceptionAwareProxy(writeSkipPolicy);
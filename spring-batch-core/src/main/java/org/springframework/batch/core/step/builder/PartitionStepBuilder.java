@@ -16,6 +16,7 @@
 package org.springframework.batch.core.step.builder;
 
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.partition.PartitionHandler;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.batch.core.partition.support.PartitionStep;
@@ -54,6 +55,8 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 
 	private StepExecutionAggregator aggregator;
 
+	private JobExplorer jobExplorer;
+
 	private String stepName;
 
 	/**
@@ -158,6 +161,20 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 		return this;
 	}
 
+	/**
+	 * Provide a job explorer to load the partition step executions on demand instead of
+	 * keeping them in memory once they are aggregated. Recommended for steps with a very
+	 * large number of partitions.
+	 * @param jobExplorer a job explorer
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see PartitionStep#setJobExplorer(JobExplorer)
+	 */
+	public PartitionStepBuilder jobExplorer(JobExplorer jobExplorer) {
+		this.jobExplorer = jobExplorer;
+		return this;
+	}
+
 	public Step build() {
 		PartitionStep step = new PartitionStep();
 		step.setName(getName());
@@ -211,6 +228,10 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 			step.setStepExecutionAggregator(aggregator);
 		}
 
+		if (jobExplorer != null) {
+			step.setJobExplorer(jobExplorer);
+		}
+
 		try {
 			step.afterPropertiesSet();
 		}
@@ -23,11 +23,14 @@ import java.util.Set;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
 
+import org.springframework.aop.support.AopUtils;
 import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.ItemProcessListener;
 import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.StepListener;
 import org.springframework.batch.core.annotation.AfterProcess;
@@ -40,7 +43,10 @@ import org.springframework.batch.core.annotation.OnProcessError;
 import org.springframework.batch.core.annotation.OnReadError;
 import org.springframework.batch.core.annotation.OnWriteError;
 import org.springframework.batch.core.listener.StepListenerFactoryBean;
+import org.springframework.batch.core.observability.BatchMetrics;
 import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.FanOutChunkProvider;
+import org.springframework.batch.core.step.item.PipelinedChunkOrientedTasklet;
 import org.springframework.batch.core.step.item.SimpleChunkProcessor;
 import org.springframework.batch.core.step.item.SimpleChunkProvider;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -49,11 +55,14 @@ import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemStream;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.LookupItemProcessor;
 import org.springframework.batch.repeat.CompletionPolicy;
 import org.springframework.batch.repeat.RepeatOperations;
+import org.springframework.batch.repeat.policy.AdaptiveCompletionPolicy;
 import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
 import org.springframework.batch.repeat.support.RepeatTemplate;
 import org.springframework.batch.support.ReflectionUtils;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -87,6 +96,20 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 
 	private boolean readerTransactionalQueue = false;
 
+	private boolean pipelined = false;
+
+	private TaskExecutor pipelineTaskExecutor;
+
+	private int fanOutBufferSize = 0;
+
+	private TaskExecutor fanOutTaskExecutor;
+
+	private int processingConcurrency = 1;
+
+	private TaskExecutor processingTaskExecutor;
+
+	private boolean chunkTimings = false;
+
 	private MeterRegistry meterRegistry = Metrics.globalRegistry;
 
 	/**
@@ -113,6 +136,13 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		this.processor = parent.processor;
 		this.itemListeners = parent.itemListeners;
 		this.readerTransactionalQueue = parent.readerTransactionalQueue;
+		this.pipelined = parent.pipelined;
+		this.pipelineTaskExecutor = parent.pipelineTaskExecutor;
+		this.fanOutBufferSize = parent.fanOutBufferSize;
+		this.fanOutTaskExecutor = parent.fanOutTaskExecutor;
+		this.processingConcurrency = parent.processingConcurrency;
+		this.processingTaskExecutor = parent.processingTaskExecutor;
+		this.chunkTimings = parent.chunkTimings;
 		this.meterRegistry = parent.meterRegistry;
 	}
 
@@ -130,9 +160,65 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 
 		registerStepListenerAsItemListener();
 		registerAsStreamsAndListeners(reader, processor, writer);
+		registerCompletionPolicy();
+		registerLookupMetrics();
 		return super.build();
 	}
 
+	/**
+	 * Register the chunk completion policy as a stream if it is stateful, and expose the
+	 * chunk size of an {@link AdaptiveCompletionPolicy} as a gauge tagged with the job
+	 * and step names of the execution, once the step is started.
+	 */
+	protected void registerCompletionPolicy() {
+		if (completionPolicy instanceof ItemStream stream) {
+			stream(stream);
+		}
+		if (completionPolicy instanceof AdaptiveCompletionPolicy adaptiveCompletionPolicy) {
+			MeterRegistry meterRegistry = properties.getMeterRegistry();
+			String metricName = BatchMetrics.METRICS_PREFIX + "chunk.size";
+			listener(new StepExecutionListener() {
+				@Override
+				public void beforeStep(StepExecution stepExecution) {
+					BatchMetrics.createGauge(meterRegistry, "chunk.size", "Chunk size", adaptiveCompletionPolicy,
+							AdaptiveCompletionPolicy::getChunkSize,
+							Tag.of(metricName + ".job.name",
+									stepExecution.getJobExecution().getJobInstance().getJobName()),
+							Tag.of(metricName + ".step.name", stepExecution.getStepName()));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Expose the cache hit, miss and eviction counts of a {@link LookupItemProcessor} as
+	 * counters tagged with the name of the processor and the job and step names of the
+	 * execution, once the step is started. Scoped processors are proxies that can not be
+	 * used outside of their scope and are not instrumented.
+	 */
+	protected void registerLookupMetrics() {
+		if (processor instanceof LookupItemProcessor<?, ?, ?, ?> lookupItemProcessor
+				&& !AopUtils.isAopProxy(processor)) {
+			MeterRegistry meterRegistry = properties.getMeterRegistry();
+			String metricName = BatchMetrics.METRICS_PREFIX + "item.lookup.cache";
+			listener(new StepExecutionListener() {
+				@Override
+				public void beforeStep(StepExecution stepExecution) {
+					Tag[] tags = { Tag.of(metricName + ".name", lookupItemProcessor.getName()),
+							Tag.of(metricName + ".job.name",
+									stepExecution.getJobExecution().getJobInstance().getJobName()),
+							Tag.of(metricName + ".step.name", stepExecution.getStepName()) };
+					BatchMetrics.createFunctionCounter(meterRegistry, "item.lookup.cache.hits", "Lookup cache hits",
+							lookupItemProcessor, LookupItemProcessor::getHitCount, tags);
+					BatchMetrics.createFunctionCounter(meterRegistry, "item.lookup.cache.misses", "Lookup cache misses",
+							lookupItemProcessor, LookupItemProcessor::getMissCount, tags);
+					BatchMetrics.createFunctionCounter(meterRegistry, "item.lookup.cache.evictions",
+							"Lookup cache evictions", lookupItemProcessor, LookupItemProcessor::getEvictionCount, tags);
+				}
+			});
+		}
+	}
+
 	protected void registerStepListenerAsItemListener() {
 		for (StepExecutionListener stepExecutionListener : properties.getStepExecutionListeners()) {
 			checkAndAddItemListener(stepExecutionListener);
@@ -164,8 +250,40 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		SimpleChunkProcessor<I, O> chunkProcessor = new SimpleChunkProcessor<>(getProcessor(), getWriter());
 		chunkProvider.setListeners(new ArrayList<>(itemListeners));
 		chunkProvider.setMeterRegistry(this.meterRegistry);
+		chunkProvider.setChunkTimings(chunkTimings);
 		chunkProcessor.setListeners(new ArrayList<>(itemListeners));
 		chunkProcessor.setMeterRegistry(this.meterRegistry);
+		chunkProcessor.setChunkTimings(chunkTimings);
+		chunkProcessor.setProcessingConcurrency(processingConcurrency);
+		if (processingTaskExecutor != null) {
+			chunkProcessor.setProcessingTaskExecutor(processingTaskExecutor);
+		}
+		if (pipelined) {
+			Assert.state(!isFanOut(), "Pipelined and fan-out chunk execution can not be combined");
+			Assert.state(!readerTransactionalQueue,
+					"Pipelined chunk execution is not supported with a transactional reader");
+			Assert.state(!concurrent(), "Pipelined chunk execution is not supported in a multi-threaded step");
+			PipelinedChunkOrientedTasklet<I, O> tasklet = new PipelinedChunkOrientedTasklet<>(chunkProvider,
+					chunkProcessor);
+			if (pipelineTaskExecutor != null) {
+				tasklet.setTaskExecutor(pipelineTaskExecutor);
+			}
+			// the tasklet manages the state of the reader
+			stream(tasklet);
+			return tasklet;
+		}
+		if (isFanOut()) {
+			Assert.state(!readerTransactionalQueue,
+					"Fan-out chunk execution is not supported with a transactional reader");
+			FanOutChunkProvider<I> fanOutChunkProvider = new FanOutChunkProvider<>(chunkProvider);
+			fanOutChunkProvider.setBufferSize(fanOutBufferSize);
+			if (fanOutTaskExecutor != null) {
+				fanOutChunkProvider.setTaskExecutor(fanOutTaskExecutor);
+			}
+			// the chunk provider manages the state of the reader
+			stream(fanOutChunkProvider);
+			return new ChunkOrientedTasklet<>(fanOutChunkProvider, chunkProcessor);
+		}
 		ChunkOrientedTasklet<I> tasklet = new ChunkOrientedTasklet<>(chunkProvider, chunkProcessor);
 		tasklet.setBuffering(!readerTransactionalQueue);
 		return tasklet;
@@ -249,6 +367,121 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		return this;
 	}
 
+	/**
+	 * Enable pipelined chunk execution: the next chunk is read and processed in a
+	 * background thread while the current chunk is written and committed. The reader
+	 * state saved at each commit is still the state after the last chunk written. Default
+	 * is false. Not compatible with fault tolerance, transactional readers and
+	 * multi-threaded steps.
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see PipelinedChunkOrientedTasklet
+	 */
+	public SimpleStepBuilder<I, O> pipelined() {
+		this.pipelined = true;
+		return this;
+	}
+
+	/**
+	 * Enable pipelined chunk execution, reading and processing chunks in the background
+	 * with the given task executor.
+	 * @param taskExecutor the task executor used to read and process chunks
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see #pipelined()
+	 */
+	public SimpleStepBuilder<I, O> pipelined(TaskExecutor taskExecutor) {
+		this.pipelined = true;
+		this.pipelineTaskExecutor = taskExecutor;
+		return this;
+	}
+
+	/**
+	 * Enable fan-out chunk execution: items are read in a single dedicated thread into a
+	 * buffer of chunks, from which each thread of the step takes a whole chunk to process
+	 * and write. The reader state saved at each commit is the state after the last chunk
+	 * of the contiguous sequence of committed chunks, so the step remains restartable
+	 * although chunks are committed out of order. Meant for multi-threaded steps
+	 * configured with a {@link #taskExecutor(TaskExecutor) task executor}. Not compatible
+	 * with fault tolerance, transactional readers and pipelined chunk execution.
+	 * @param bufferSize the maximum number of chunks read ahead of the threads of the
+	 * step
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see FanOutChunkProvider
+	 */
+	public SimpleStepBuilder<I, O> fanOut(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		this.fanOutBufferSize = bufferSize;
+		return this;
+	}
+
+	/**
+	 * Enable fan-out chunk execution, reading chunks in a thread obtained from the given
+	 * task executor.
+	 * @param bufferSize the maximum number of chunks read ahead of the threads of the
+	 * step
+	 * @param taskExecutor the task executor used to run the reader thread
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see #fanOut(int)
+	 */
+	public SimpleStepBuilder<I, O> fanOut(int bufferSize, TaskExecutor taskExecutor) {
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		this.fanOutBufferSize = bufferSize;
+		this.fanOutTaskExecutor = taskExecutor;
+		return this;
+	}
+
+	/**
+	 * Process the items of each chunk concurrently in the given number of threads,
+	 * including the thread of the chunk. The outputs are written in the order of the
+	 * chunk, and filtered or failed items are handled as if they were processed in
+	 * sequence. By default, the additional threads are virtual threads if they are
+	 * supported by the JVM. The item processor and the process listeners must be
+	 * thread-safe and must not rely on the transaction of the chunk.
+	 * @param concurrency the number of threads processing the items of a chunk
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see SimpleChunkProcessor#setProcessingConcurrency(int)
+	 */
+	public SimpleStepBuilder<I, O> concurrentProcessing(int concurrency) {
+		Assert.isTrue(concurrency > 0, "The processing concurrency must be greater than zero");
+		this.processingConcurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Process the items of each chunk concurrently in the given number of threads,
+	 * obtaining the additional threads from the given task executor.
+	 * @param concurrency the number of threads processing the items of a chunk
+	 * @param taskExecutor the task executor used to process items
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see #concurrentProcessing(int)
+	 */
+	public SimpleStepBuilder<I, O> concurrentProcessing(int concurrency, TaskExecutor taskExecutor) {
+		Assert.isTrue(concurrency > 0, "The processing concurrency must be greater than zero");
+		this.processingConcurrency = concurrency;
+		this.processingTaskExecutor = taskExecutor;
+		return this;
+	}
+
+	/**
+	 * Time the reading and processing of each chunk, with {@code chunk.read} and
+	 * {@code chunk.process} timers, instead of the reading and processing of each item,
+	 * with {@code item.read} and {@code item.process} timers. This reduces the overhead
+	 * of metrics for steps with cheap readers and processors.
+	 * @return this for fluent chaining
+	 * @since 5.2
+	 * @see SimpleChunkProvider#setChunkTimings(boolean)
+	 * @see SimpleChunkProcessor#setChunkTimings(boolean)
+	 */
+	public SimpleStepBuilder<I, O> chunkTimings() {
+		this.chunkTimings = true;
+		return this;
+	}
+
 	/**
 	 * Registers objects using the annotation based listener configuration.
 	 * @param listener the object that has a method configured with listener annotation
@@ -355,6 +588,26 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		return readerTransactionalQueue;
 	}
 
+	protected boolean isPipelined() {
+		return pipelined;
+	}
+
+	protected boolean isFanOut() {
+		return fanOutBufferSize > 0;
+	}
+
+	protected int getProcessingConcurrency() {
+		return processingConcurrency;
+	}
+
+	protected TaskExecutor getProcessingTaskExecutor() {
+		return processingTaskExecutor;
+	}
+
+	protected boolean isChunkTimings() {
+		return chunkTimings;
+	}
+
 	protected Set<StepListener> getItemListeners() {
 		return itemListeners;
 	}
@@ -383,7 +636,7 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 	protected void registerAsStreamsAndListeners(ItemReader<? extends I> itemReader,
 			ItemProcessor<? super I, ? extends O> itemProcessor, ItemWriter<? super O> itemWriter) {
 		for (Object itemHandler : new Object[] { itemReader, itemWriter, itemProcessor }) {
-			if (itemHandler instanceof ItemStream) {
+			if (itemHandler instanceof ItemStream && !((pipelined || isFanOut()) && itemHandler == itemReader)) {
 				stream((ItemStream) itemHandler);
 			}
 			if (StepListenerFactoryBean.isListener(itemHandler)) {
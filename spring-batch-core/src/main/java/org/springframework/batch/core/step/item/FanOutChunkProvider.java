@@ -0,0 +1,392 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ChunkProvider} for multi-threaded steps reading items in a single dedicated
+ * thread and fanning out whole chunks to the threads of the step. The reader thread,
+ * obtained from a {@link TaskExecutor}, reads chunks with a {@link SimpleChunkProvider}
+ * into a bounded buffer, from which each thread of the step takes a chunk to process and
+ * write. Contrary to a multi-threaded step reading with a synchronized item reader, the
+ * threads of the step do not contend for the reader on each item, and the items of a
+ * chunk are read in sequence.
+ * <p>
+ * The provider is an {@link ItemStream} that opens, updates and closes the item reader in
+ * place of the step. Chunks are committed out of order by the threads of the step, so the
+ * state of the reader is captured as soon as a chunk is read, and
+ * {@link #update(ExecutionContext)} saves the state captured for the last chunk of the
+ * contiguous sequence of committed chunks (the watermark). On restart, the chunks read
+ * after the watermark are read again, including those that were committed out of order
+ * before the failure, which the writer must tolerate.
+ * <p>
+ * The reader and its listeners are called from the reader thread, outside the
+ * transactions of the chunks, so they must not rely on resources bound to the thread or
+ * the transaction of the step. Fault tolerance and transactional readers are not
+ * supported.
+ *
+ * @since 5.2
+ * @param <I> input item type
+ * @see PipelinedChunkOrientedTasklet
+ */
+public class FanOutChunkProvider<I> implements ChunkProvider<I>, ItemStream {
+
+	private final SimpleChunkProvider<I> chunkProvider;
+
+	@Nullable
+	private final ItemStream readerStream;
+
+	private int bufferSize = 4;
+
+	private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("fan-out-reader-");
+
+	/*
+	 * The same step can be executed concurrently by a partition handler, and its threads
+	 * change from a chunk to another, so the state of each execution is bound to the step
+	 * execution.
+	 */
+	private final Map<StepExecution, FanOut<I>> fanOuts = new IdentityHashMap<>();
+
+	private final Lock lock = new ReentrantLock();
+
+	public FanOutChunkProvider(SimpleChunkProvider<I> chunkProvider) {
+		Assert.notNull(chunkProvider, "The chunk provider must not be null");
+		this.chunkProvider = chunkProvider;
+		this.readerStream = chunkProvider.itemReader instanceof ItemStream stream ? stream : null;
+	}
+
+	/**
+	 * Set the maximum number of chunks read ahead of the threads of the step. Defaults to
+	 * 4.
+	 * @param bufferSize the maximum number of chunks waiting to be processed
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set the task executor used to run the reader thread. A single task is submitted for
+	 * each step execution. Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param taskExecutor the task executor to use
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "The task executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Open the item reader, capture its initial state and start reading chunks in the
+	 * reader thread.
+	 */
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		StepExecution stepExecution = getStepExecution();
+		if (this.readerStream != null) {
+			this.readerStream.open(executionContext);
+		}
+		FanOut<I> fanOut = new FanOut<>(this.bufferSize, captureState());
+		this.lock.lock();
+		try {
+			this.fanOuts.put(stepExecution, fanOut);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		// make step scoped readers available to the reader thread
+		fanOut.reader = new FutureTask<>(StepContextTasks.wrap(stepExecution, () -> read(fanOut, stepExecution)), null);
+		this.taskExecutor.execute(fanOut.reader);
+	}
+
+	/**
+	 * Save the state of the item reader as it was after reading the last chunk of the
+	 * contiguous sequence of committed chunks.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		FanOut<I> fanOut = getFanOut(getStepExecution());
+		if (fanOut == null) {
+			return;
+		}
+		ExecutionContext committedState = fanOut.getCommittedState();
+		if (committedState != null) {
+			for (Map.Entry<String, Object> entry : committedState.entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Stop the reader thread, discard the chunks read but not processed and close the
+	 * item reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		StepExecution stepExecution = getStepExecution();
+		FanOut<I> fanOut;
+		this.lock.lock();
+		try {
+			fanOut = this.fanOuts.remove(stepExecution);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (fanOut != null) {
+			fanOut.closed = true;
+			fanOut.buffer.clear();
+			if (fanOut.reader != null) {
+				try {
+					fanOut.reader.get();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				catch (ExecutionException e) {
+					// failures are reported to the threads of the step
+				}
+			}
+		}
+		if (this.readerStream != null) {
+			this.readerStream.close();
+		}
+	}
+
+	/**
+	 * Take the next chunk read by the reader thread, waiting for it if necessary.
+	 * @return the next chunk, or an empty chunk marked as the end of the input if all the
+	 * chunks were taken
+	 * @throws Exception if the reader thread failed to read the next chunk
+	 */
+	@Override
+	public Chunk<I> provide(StepContribution contribution) throws Exception {
+		FanOut<I> fanOut = getFanOut(contribution.getStepExecution());
+		Assert.state(fanOut != null, "The chunk provider must be opened before chunks are provided");
+		SequencedChunk<I> chunk = fanOut.buffer.take();
+		if (chunk.isEnd()) {
+			// let the other threads of the step see the end of the input
+			fanOut.buffer.offer(chunk);
+			Throwable failure = fanOut.failure;
+			if (failure instanceof Exception exception) {
+				throw exception;
+			}
+			if (failure != null) {
+				throw (Error) failure;
+			}
+			return chunk;
+		}
+		for (long i = 0; i < chunk.readCount; i++) {
+			contribution.incrementReadCount();
+		}
+		return chunk;
+	}
+
+	/**
+	 * Mark the chunk as committed once the current transaction is committed, or
+	 * immediately if no transaction synchronization is active.
+	 */
+	@Override
+	public void postProcess(StepContribution contribution, Chunk<I> chunk) {
+		if (!(chunk instanceof SequencedChunk<I> sequencedChunk) || sequencedChunk.isEnd()) {
+			return;
+		}
+		FanOut<I> fanOut = getFanOut(contribution.getStepExecution());
+		if (fanOut == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_COMMITTED) {
+						fanOut.committed(sequencedChunk);
+					}
+				}
+			});
+		}
+		else {
+			fanOut.committed(sequencedChunk);
+		}
+	}
+
+	private void read(FanOut<I> fanOut, StepExecution stepExecution) {
+		long sequence = 0;
+		try {
+			while (!fanOut.closed) {
+				StepContribution contribution = new StepContribution(stepExecution);
+				Chunk<I> inputs = this.chunkProvider.provide(contribution);
+				if (!inputs.isEmpty()) {
+					put(fanOut, new SequencedChunk<>(inputs.getItems(), sequence++, contribution.getReadCount(),
+							captureState()));
+				}
+				if (inputs.isEnd()) {
+					break;
+				}
+			}
+		}
+		catch (Throwable e) {
+			fanOut.failure = e;
+		}
+		SequencedChunk<I> end = new SequencedChunk<>(List.of(), -1, 0, null);
+		end.setEnd();
+		while (true) {
+			try {
+				put(fanOut, end);
+				return;
+			}
+			catch (InterruptedException e) {
+				// the threads of the step still need to see the end of the input
+			}
+		}
+	}
+
+	private void put(FanOut<I> fanOut, SequencedChunk<I> chunk) throws InterruptedException {
+		while (!fanOut.closed) {
+			if (fanOut.buffer.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		}
+	}
+
+	@Nullable
+	private ExecutionContext captureState() {
+		if (this.readerStream == null) {
+			return null;
+		}
+		ExecutionContext state = new ExecutionContext();
+		this.readerStream.update(state);
+		return state;
+	}
+
+	@Nullable
+	private FanOut<I> getFanOut(StepExecution stepExecution) {
+		this.lock.lock();
+		try {
+			return this.fanOuts.get(stepExecution);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private static StepExecution getStepExecution() {
+		StepContext context = StepSynchronizationManager.getContext();
+		Assert.state(context != null, "The chunk provider must be used in the scope of a step execution");
+		return context.getStepExecution();
+	}
+
+	private static class FanOut<I> {
+
+		private final BlockingQueue<SequencedChunk<I>> buffer;
+
+		@Nullable
+		private FutureTask<Void> reader;
+
+		private volatile boolean closed;
+
+		@Nullable
+		private volatile Throwable failure;
+
+		private final Lock lock = new ReentrantLock();
+
+		private long nextSequence;
+
+		private final Map<Long, SequencedChunk<I>> committedAhead = new HashMap<>();
+
+		@Nullable
+		private ExecutionContext committedState;
+
+		FanOut(int bufferSize, @Nullable ExecutionContext initialState) {
+			this.buffer = new ArrayBlockingQueue<>(bufferSize);
+			this.committedState = initialState;
+		}
+
+		/*
+		 * Move the watermark forward as long as the next chunks in sequence are
+		 * committed.
+		 */
+		void committed(SequencedChunk<I> chunk) {
+			this.lock.lock();
+			try {
+				this.committedAhead.put(chunk.sequence, chunk);
+				SequencedChunk<I> next;
+				while ((next = this.committedAhead.remove(this.nextSequence)) != null) {
+					this.committedState = next.state;
+					this.nextSequence++;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Nullable
+		ExecutionContext getCommittedState() {
+			this.lock.lock();
+			try {
+				return this.committedState;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+	}
+
+	private static class SequencedChunk<I> extends Chunk<I> {
+
+		private final long sequence;
+
+		private final long readCount;
+
+		@Nullable
+		private final ExecutionContext state;
+
+		SequencedChunk(List<? extends I> items, long sequence, long readCount, @Nullable ExecutionContext state) {
+			super(items);
+			this.sequence = sequence;
+			this.readCount = readCount;
+			this.state = state;
+		}
+
+	}
+
+}
@@ -39,6 +39,7 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.SkipWrapper;
 import org.springframework.classify.BinaryExceptionClassifier;
 import org.springframework.classify.Classifier;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.ExhaustedRetryException;
 import org.springframework.retry.RecoveryCallback;
 import org.springframework.retry.RetryCallback;
@@ -71,6 +72,8 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 	private boolean processorTransactional = true;
 
+	private boolean bisectingScan = false;
+
 	/**
 	 * The {@link KeyGenerator} to use to identify failed items across rollback. Not used
 	 * in the case of the {@link #setBuffering(boolean) buffering flag} being true (the
@@ -132,6 +135,21 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		this.processorTransactional = processorTransactional;
 	}
 
+	/**
+	 * Flag to say that the items of a chunk that failed to be written are scanned by
+	 * bisection (defaults to false). When a write fails, the chunk is scanned to find the
+	 * failed items. By default, the items are written one per transaction. If this flag
+	 * is set, the chunk is recursively split in halves instead: the halves that can be
+	 * written are written together and only the halves that fail are split further, so
+	 * each failed item is found in about log2(n) transactions for a chunk of n items.
+	 * Failed items are skipped and reported to the listeners in the same way.
+	 * @param bisectingScan the flag value to set
+	 * @since 5.2
+	 */
+	public void setBisectingScan(boolean bisectingScan) {
+		this.bisectingScan = bisectingScan;
+	}
+
 	public FaultTolerantChunkProcessor(ItemProcessor<? super I, ? extends O> itemProcessor,
 			ItemWriter<? super O> itemWriter, BatchRetryTemplate batchRetryTemplate) {
 		super(itemProcessor, itemWriter);
@@ -208,16 +226,24 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		final Chunk<O> cache = data.getOutputs();
 		final Iterator<O> cacheIterator = cache.isEmpty() ? null : new ArrayList<>(cache.getItems()).iterator();
 
-		// final int scanLimit = processorTransactional && data.scanning() ? 1 :
-		// 0;
+		final int scanLimit = data.scanning() ? data.scanWindow(inputs.size(), bisectingScan) : 0;
+		int processed = 0;
+
+		// items are processed one at a time when scanning, and cached outputs are reused
+		final ProcessedItems<O> processedItems = data.scanning() ? null
+				: processItemsTogether(contribution, inputs, processorTransactional ? 0 : cache.size());
+		int index = 0;
 
 		for (final Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext();) {
 
 			final I item = iterator.next();
+			final int itemIndex = index++;
 
 			RetryCallback<O, Exception> retryCallback = context -> {
 				Timer.Sample sample = BatchMetrics.createTimerSample(meterRegistry);
 				String status = BatchMetrics.STATUS_SUCCESS;
+				// timed by the processing thread if processed concurrently
+				boolean processedTogether = processedItems != null && processedItems.contains(itemIndex);
 				O output = null;
 				try {
 					O cached = (cacheIterator != null && cacheIterator.hasNext()) ? cacheIterator.next() : null;
@@ -225,7 +251,7 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 						output = cached;
 					}
 					else {
-						output = doProcess(item);
+						output = processedTogether ? processedItems.take(itemIndex) : doProcess(item);
 						if (output == null) {
 							data.incrementFilterCount();
 						}
@@ -260,7 +286,9 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 					}
 				}
 				finally {
-					stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+					if (!processedTogether && !isChunkTimings()) {
+						stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+					}
 				}
 				if (output == null) {
 					// No need to re-process filtered items
@@ -295,14 +323,14 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			}
 
 			/*
-			 * We only want to process the first item if there is a scan for a failed
-			 * item.
+			 * We only want to process the items written in the next transaction if there
+			 * is a scan for a failed item.
 			 */
-			if (data.scanning()) {
+			if (data.scanning() && ++processed >= scanLimit) {
 				while (cacheIterator != null && cacheIterator.hasNext()) {
 					outputs.add(cacheIterator.next());
 				}
-				// Only process the first item if scanning
+				// Only process the scanned items if scanning
 				break;
 			}
 		}
@@ -402,7 +430,7 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 				}
 
 				inputs.setBusy(true);
-				data.scanning(true);
+				data.startScan(outputs.size());
 				scan(contribution, inputs, outputs, chunkMonitor, true);
 				return null;
 			};
@@ -421,7 +449,7 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 					 * BATCH-1761: we need advance warning of the scan about to start in
 					 * the next transaction, so we can change the processing behaviour.
 					 */
-					data.scanning(true);
+					data.startScan(outputs.size());
 				}
 				throw e;
 			}
@@ -432,6 +460,27 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 	}
 
+	/**
+	 * Process the items together, falling back to processing them one at a time if they
+	 * can not be processed together, in order to find the items that failed. The
+	 * listeners and the item timer are only called for the failed items by their own
+	 * processing.
+	 */
+	@Nullable
+	private ProcessedItems<O> processItemsTogether(StepContribution contribution, Chunk<I> inputs, int from)
+			throws InterruptedException {
+		try {
+			return processItems(contribution, inputs, from, true);
+		}
+		catch (InterruptedException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			logger.debug("Processing items one at a time after a failure to process them together", e);
+			return null;
+		}
+	}
+
 	private void callSkipListeners(final Chunk<I> inputs, final Chunk<O> outputs) {
 
 		for (SkipWrapper<I> wrapper : inputs.getSkips()) {
@@ -570,6 +619,12 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			}
 		}
 
+		int window = data.scanWindow(outputs.size(), bisectingScan);
+		if (window > 1) {
+			scanRange(contribution, inputs, outputs, chunkMonitor, window);
+			return;
+		}
+
 		Chunk<O> items = Chunk.of(outputIterator.next());
 		inputIterator.next();
 		try {
@@ -580,6 +635,7 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			contribution.incrementWriteCount(1);
 			inputIterator.remove();
 			outputIterator.remove();
+			data.failedRange = Math.max(data.failedRange - 1, 0);
 		}
 		catch (Exception e) {
 			try {
@@ -598,6 +654,8 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 				else {
 					checkSkipPolicy(inputIterator, outputIterator, cause, contribution, recovery);
 				}
+				// the failed item is found, the remaining items are unknown
+				data.failedRange = 0;
 				if (rollbackClassifier.classify(cause)) {
 					throw (Exception) cause;
 				}
@@ -611,6 +669,54 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		}
 	}
 
+	/**
+	 * Write the first items of the outputs together while scanning by bisection. If the
+	 * write fails, the failed item is among these items, and the range to write in the
+	 * next transaction is halved. The write listeners are not notified of the error until
+	 * the range is reduced to the failed item.
+	 */
+	private void scanRange(final StepContribution contribution, final Chunk<I> inputs, final Chunk<O> outputs,
+			ChunkMonitor chunkMonitor, int window) throws Exception {
+
+		@SuppressWarnings("unchecked")
+		final UserData<O> data = (UserData<O>) inputs.getUserData();
+
+		Chunk<O> items = new Chunk<>(new ArrayList<>(outputs.getItems().subList(0, window)));
+		try {
+			writeItems(items);
+			doAfterWrite(items);
+		}
+		catch (Exception e) {
+			Throwable cause = e;
+			if (e instanceof StepListenerFailedException) {
+				cause = e.getCause();
+			}
+			data.failedRange = window;
+			if (rollbackClassifier.classify(cause)) {
+				throw (Exception) cause;
+			}
+			// roll back the items written before the failure
+			throw new ForceRollbackForWriteSkipException(
+					"Force rollback on skippable exception so that skipped item can be located.", cause);
+		}
+		contribution.incrementWriteCount(window);
+		Chunk<I>.ChunkIterator inputIterator = inputs.iterator();
+		Chunk<O>.ChunkIterator outputIterator = outputs.iterator();
+		for (int i = 0; i < window; i++) {
+			inputIterator.next();
+			inputIterator.remove();
+			outputIterator.next();
+			outputIterator.remove();
+			chunkMonitor.incrementOffset();
+		}
+		data.failedRange = Math.max(data.failedRange - window, 0);
+		if (outputs.isEmpty()) {
+			data.scanning(false);
+			inputs.setBusy(false);
+			chunkMonitor.resetOffset();
+		}
+	}
+
 	private static class UserData<O> {
 
 		private Chunk<O> outputs;
@@ -619,6 +725,9 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 		private boolean scanning;
 
+		// number of leading outputs known to contain a failed item, 0 if unknown
+		private int failedRange = 0;
+
 		public boolean scanning() {
 			return scanning;
 		}
@@ -627,6 +736,21 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			this.scanning = scanning;
 		}
 
+		public void startScan(int failedRange) {
+			if (!scanning) {
+				this.scanning = true;
+				this.failedRange = failedRange;
+			}
+		}
+
+		public int scanWindow(int remaining, boolean bisecting) {
+			if (!bisecting) {
+				return 1;
+			}
+			int window = failedRange > 0 ? (failedRange + 1) / 2 : remaining;
+			return Math.max(Math.min(window, remaining), 1);
+		}
+
 		public void incrementFilterCount() {
 			filterCount++;
 		}
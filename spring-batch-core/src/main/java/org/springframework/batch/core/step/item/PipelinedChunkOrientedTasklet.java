@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Tasklet} implementing read-process-write item handling in a pipeline: while a
+ * chunk is written and committed, the next chunk is read and processed in a background
+ * thread obtained from a {@link TaskExecutor}. This lets the latency of the reader and
+ * processor overlap with the latency of the writer and of the commit.
+ * <p>
+ * The tasklet is an {@link ItemStream} that opens, updates and closes the item reader in
+ * place of the step. Checkpoints are not affected by reading ahead: the state of the
+ * reader is captured as soon as a chunk is read, and {@link #update(ExecutionContext)}
+ * saves the state captured for the last chunk written, which the step persists in the
+ * same transaction as the write. A chunk read ahead but not written is read again on
+ * restart.
+ * <p>
+ * The reader, the processor and their listeners are called from the background thread,
+ * outside the transaction of the chunk, so they must not rely on resources bound to the
+ * thread or the transaction of the step. The processor must not be an {@link ItemStream}
+ * whose state depends on the items processed, as it is updated while the next chunk is
+ * processed. Fault tolerance and transactional readers are not supported, and the step
+ * must not be multi-threaded.
+ *
+ * @since 5.2
+ * @param <I> input item type
+ * @param <O> output item type
+ * @see ChunkOrientedTasklet
+ */
+public class PipelinedChunkOrientedTasklet<I, O> implements Tasklet, ItemStream {
+
+	private static final String CHUNK_KEY = "PIPELINED_CHUNK";
+
+	private final SimpleChunkProvider<I> chunkProvider;
+
+	private final SimpleChunkProcessor<I, O> chunkProcessor;
+
+	@Nullable
+	private final ItemStream readerStream;
+
+	private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("pipelined-chunk-");
+
+	/*
+	 * A step is opened, executed and closed by a single thread, but the same step can be
+	 * executed concurrently by a partition handler, so the state of each execution is
+	 * bound to its thread.
+	 */
+	private final ThreadLocal<Pipeline<I, O>> pipelines = new ThreadLocal<>();
+
+	public PipelinedChunkOrientedTasklet(SimpleChunkProvider<I> chunkProvider,
+			SimpleChunkProcessor<I, O> chunkProcessor) {
+		this.chunkProvider = chunkProvider;
+		this.chunkProcessor = chunkProcessor;
+		this.readerStream = chunkProvider.itemReader instanceof ItemStream stream ? stream : null;
+	}
+
+	/**
+	 * Set the task executor used to read and process chunks in the background. A task is
+	 * submitted for each chunk. Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param taskExecutor the task executor to use
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "The task executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Open the item reader and capture its initial state.
+	 */
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.readerStream != null) {
+			this.readerStream.open(executionContext);
+		}
+		Pipeline<I, O> pipeline = new Pipeline<>();
+		pipeline.writtenState = captureState();
+		this.pipelines.set(pipeline);
+	}
+
+	/**
+	 * Save the state of the item reader as it was after reading the last chunk written.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		Pipeline<I, O> pipeline = this.pipelines.get();
+		if (pipeline != null && pipeline.writtenState != null) {
+			for (Map.Entry<String, Object> entry : pipeline.writtenState.entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Wait for the chunk being read ahead, if any, discard it and close the item reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		Pipeline<I, O> pipeline = this.pipelines.get();
+		if (pipeline != null) {
+			pipeline.lock.lock();
+			try {
+				pipeline.closed = true;
+				pipeline.next = null;
+			}
+			finally {
+				pipeline.lock.unlock();
+			}
+			this.pipelines.remove();
+		}
+		if (this.readerStream != null) {
+			this.readerStream.close();
+		}
+	}
+
+	@Nullable
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		Pipeline<I, O> pipeline = this.pipelines.get();
+		Assert.state(pipeline != null, "The tasklet must be opened before it is executed");
+		StepExecution stepExecution = contribution.getStepExecution();
+
+		@SuppressWarnings("unchecked")
+		ProcessedChunk<I, O> chunk = (ProcessedChunk<I, O>) chunkContext.getAttribute(CHUNK_KEY);
+		if (chunk == null) {
+			FutureTask<ProcessedChunk<I, O>> next = pipeline.next;
+			pipeline.next = null;
+			chunk = next != null ? await(next) : readAndProcess(pipeline, stepExecution);
+			chunkContext.setAttribute(CHUNK_KEY, chunk);
+			apply(chunk.contribution(), contribution);
+			if (!chunk.inputs().isEnd()) {
+				pipeline.next = submit(pipeline, stepExecution);
+			}
+		}
+
+		if (!this.chunkProcessor.isComplete(chunk.inputs())) {
+			this.chunkProcessor.write(contribution, chunk.inputs(), chunk.outputs());
+		}
+		this.chunkProvider.postProcess(contribution, chunk.inputs());
+		// saved by the step in the transaction of the write
+		pipeline.writtenState = chunk.state();
+
+		chunkContext.removeAttribute(CHUNK_KEY);
+		chunkContext.setComplete();
+		return RepeatStatus.continueIf(!chunk.inputs().isEnd());
+	}
+
+	private FutureTask<ProcessedChunk<I, O>> submit(Pipeline<I, O> pipeline, StepExecution stepExecution) {
+		// make step scoped readers and processors available to the background thread
+		FutureTask<ProcessedChunk<I, O>> task = new FutureTask<>(
+				StepContextTasks.wrap(stepExecution, () -> readAndProcess(pipeline, stepExecution)));
+		this.taskExecutor.execute(task);
+		return task;
+	}
+
+	@Nullable
+	private ProcessedChunk<I, O> readAndProcess(Pipeline<I, O> pipeline, StepExecution stepExecution) throws Exception {
+		pipeline.lock.lock();
+		try {
+			if (pipeline.closed) {
+				return null;
+			}
+			StepContribution contribution = new StepContribution(stepExecution);
+			Chunk<I> inputs = this.chunkProvider.provide(contribution);
+			ExecutionContext state = captureState();
+			this.chunkProcessor.initializeUserData(inputs);
+			Chunk<O> outputs = new Chunk<>();
+			if (!this.chunkProcessor.isComplete(inputs)) {
+				outputs = this.chunkProcessor.transform(contribution, inputs);
+				contribution.incrementFilterCount(this.chunkProcessor.getFilterCount(inputs, outputs));
+				outputs = this.chunkProcessor.getAdjustedOutputs(inputs, outputs);
+			}
+			return new ProcessedChunk<>(inputs, outputs, contribution, state);
+		}
+		finally {
+			pipeline.lock.unlock();
+		}
+	}
+
+	@Nullable
+	private ExecutionContext captureState() {
+		if (this.readerStream == null) {
+			return null;
+		}
+		ExecutionContext state = new ExecutionContext();
+		this.readerStream.update(state);
+		return state;
+	}
+
+	private static <I, O> ProcessedChunk<I, O> await(FutureTask<ProcessedChunk<I, O>> next) throws Exception {
+		try {
+			return next.get();
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception exception) {
+				throw exception;
+			}
+			throw (Error) e.getCause();
+		}
+	}
+
+	private static void apply(StepContribution source, StepContribution target) {
+		for (long i = 0; i < source.getReadCount(); i++) {
+			target.incrementReadCount();
+		}
+		target.incrementFilterCount(source.getFilterCount());
+	}
+
+	private static class Pipeline<I, O> {
+
+		private final Lock lock = new ReentrantLock();
+
+		private boolean closed;
+
+		@Nullable
+		private FutureTask<ProcessedChunk<I, O>> next;
+
+		@Nullable
+		private ExecutionContext writtenState;
+
+	}
+
+	private record ProcessedChunk<I, O>(Chunk<I> inputs, Chunk<O> outputs, StepContribution contribution,
+			@Nullable ExecutionContext state) {
+	}
+
+}
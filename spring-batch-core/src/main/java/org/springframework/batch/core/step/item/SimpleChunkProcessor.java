@@ -17,10 +17,14 @@
 package org.springframework.batch.core.step.item;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 
 import org.springframework.batch.core.StepContribution;
@@ -29,9 +33,13 @@ import org.springframework.batch.core.StepListener;
 import org.springframework.batch.core.listener.MulticasterBatchListener;
 import org.springframework.batch.core.observability.BatchMetrics;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -51,6 +59,14 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 
 	protected MeterRegistry meterRegistry = Metrics.globalRegistry;
 
+	private final Map<String, StepTimers> timers = new ConcurrentHashMap<>();
+
+	private boolean chunkTimings;
+
+	private int processingConcurrency = 1;
+
+	private TaskExecutor processingTaskExecutor;
+
 	/**
 	 * Default constructor for ease of configuration.
 	 */
@@ -90,6 +106,60 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 	 */
 	public void setMeterRegistry(MeterRegistry meterRegistry) {
 		this.meterRegistry = meterRegistry;
+		this.timers.clear();
+	}
+
+	/**
+	 * Set whether processing is timed once per chunk, with a {@code chunk.process} timer,
+	 * instead of once per item, with an {@code item.process} timer. Timing chunks reduces
+	 * the overhead of metrics when processing an item is cheap. Defaults to
+	 * {@code false}.
+	 * @param chunkTimings {@code true} to time the processing of chunks instead of items
+	 * @since 5.2
+	 */
+	public void setChunkTimings(boolean chunkTimings) {
+		this.chunkTimings = chunkTimings;
+	}
+
+	/**
+	 * @return {@code true} if processing is timed once per chunk instead of once per item
+	 * @since 5.2
+	 */
+	protected boolean isChunkTimings() {
+		return this.chunkTimings;
+	}
+
+	/**
+	 * Set the number of threads processing the items of a chunk concurrently. Defaults to
+	 * 1, which processes the items in sequence in the thread of the chunk. The items are
+	 * written in the order of the chunk, and filtered or failed items are handled as if
+	 * they were processed in sequence, but the items following a failed item may have
+	 * been processed already. The item processor and the process listeners must be
+	 * thread-safe and must not rely on the transaction of the chunk. Not used if the item
+	 * processor is a {@link ChunkItemProcessor}.
+	 * @param processingConcurrency the number of threads processing the items of a chunk
+	 * @since 5.2
+	 */
+	public void setProcessingConcurrency(int processingConcurrency) {
+		Assert.isTrue(processingConcurrency > 0, "The processing concurrency must be greater than zero");
+		this.processingConcurrency = processingConcurrency;
+		if (processingConcurrency > 1 && this.processingTaskExecutor == null) {
+			this.processingTaskExecutor = createProcessingTaskExecutor();
+		}
+	}
+
+	/**
+	 * Set the task executor used to process the items of a chunk concurrently. The thread
+	 * of the chunk processes items as well, so each chunk submits one task less than the
+	 * {@link #setProcessingConcurrency(int) processing concurrency}. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} using virtual threads if they are supported by the
+	 * JVM.
+	 * @param processingTaskExecutor the task executor to use
+	 * @since 5.2
+	 */
+	public void setProcessingTaskExecutor(TaskExecutor processingTaskExecutor) {
+		Assert.notNull(processingTaskExecutor, "The processing task executor must not be null");
+		this.processingTaskExecutor = processingTaskExecutor;
 	}
 
 	/**
@@ -217,7 +287,24 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 
 		// Make the transformation, calling remove() on the inputs iterator if
 		// any items are filtered. Might throw exception and cause rollback.
-		Chunk<O> outputs = transform(contribution, inputs);
+		Chunk<O> outputs;
+		if (this.chunkTimings) {
+			Timer.Sample sample = BatchMetrics.createTimerSample(this.meterRegistry);
+			String status = BatchMetrics.STATUS_SUCCESS;
+			try {
+				outputs = transform(contribution, inputs);
+			}
+			catch (Exception e) {
+				status = BatchMetrics.STATUS_FAILURE;
+				throw e;
+			}
+			finally {
+				stopTimer(sample, contribution.getStepExecution(), "chunk.process", status, "Chunk processing");
+			}
+		}
+		else {
+			outputs = transform(contribution, inputs);
+		}
 
 		// Adjust the filter count based on available data
 		contribution.incrementFilterCount(getFilterCount(inputs, outputs));
@@ -313,13 +400,20 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 
 	protected Chunk<O> transform(StepContribution contribution, Chunk<I> inputs) throws Exception {
 		Chunk<O> outputs = new Chunk<>();
+		ProcessedItems<O> processedItems;
+		try {
+			processedItems = processItems(contribution, inputs, 0, false);
+		}
+		catch (Exception e) {
+			inputs.clear();
+			throw e;
+		}
+		int index = 0;
 		for (Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext();) {
 			final I item = iterator.next();
 			O output;
-			Timer.Sample sample = BatchMetrics.createTimerSample(this.meterRegistry);
-			String status = BatchMetrics.STATUS_SUCCESS;
 			try {
-				output = doProcess(item);
+				output = processedItems != null ? processedItems.take(index++) : processItem(contribution, item);
 			}
 			catch (Exception e) {
 				/*
@@ -327,12 +421,8 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 				 * prevent any more processing of these inputs.
 				 */
 				inputs.clear();
-				status = BatchMetrics.STATUS_FAILURE;
 				throw e;
 			}
-			finally {
-				stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
-			}
 			if (output != null) {
 				outputs.add(output);
 			}
@@ -346,14 +436,228 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 		return outputs;
 	}
 
+	/**
+	 * Process the items of the inputs starting at the given index at once if the item
+	 * processor is a {@link ChunkItemProcessor}, or concurrently if the
+	 * {@link #setProcessingConcurrency(int) processing concurrency} allows it.
+	 * @param contribution the current step contribution
+	 * @param inputs the inputs to process
+	 * @param from the index of the first item to process
+	 * @param oneByOneOnFailure whether the items are processed again one at a time if the
+	 * chunk item processor fails, in which case the failure is reported by the processing
+	 * of the failed item only
+	 * @return the processed items, or {@code null} if the items are to be processed one
+	 * by one in sequence
+	 * @throws Exception if the chunk item processor failed to process the items
+	 */
+	@Nullable
+	final ProcessedItems<O> processItems(StepContribution contribution, Chunk<I> inputs, int from,
+			boolean oneByOneOnFailure) throws Exception {
+		if (this.itemProcessor instanceof ChunkItemProcessor<? super I, ? extends O> chunkItemProcessor) {
+			return processChunk(chunkItemProcessor, contribution, inputs, from, oneByOneOnFailure);
+		}
+		return processConcurrently(contribution, inputs, from);
+	}
+
+	/*
+	 * The item processor can not tell which item a failure of the chunk comes from. When
+	 * the items are processed again one at a time after a failure, the listeners and the
+	 * item timer are therefore only called once the chunk was processed, so that each
+	 * item is reported once, by either the chunk or its own processing. Otherwise, the
+	 * failure is reported to the listeners for each item and timed once for the chunk.
+	 */
+	@Nullable
+	private ProcessedItems<O> processChunk(ChunkItemProcessor<? super I, ? extends O> chunkItemProcessor,
+			StepContribution contribution, Chunk<I> inputs, int from, boolean oneByOneOnFailure) throws Exception {
+		List<I> items = inputs.getItems().subList(from, inputs.size());
+		if (items.isEmpty()) {
+			return null;
+		}
+		if (!oneByOneOnFailure) {
+			for (I item : items) {
+				listener.beforeProcess(item);
+			}
+		}
+		long start = System.nanoTime();
+		Chunk<? extends O> outputs;
+		try {
+			outputs = chunkItemProcessor.processChunk(new Chunk<>(items));
+		}
+		catch (Exception e) {
+			if (!oneByOneOnFailure) {
+				for (I item : items) {
+					listener.onProcessError(item, e);
+				}
+				if (!this.chunkTimings) {
+					getTimer(contribution.getStepExecution(), "item.process", BatchMetrics.STATUS_FAILURE,
+							"Item processing")
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+			}
+			throw e;
+		}
+		long duration = System.nanoTime() - start;
+		Assert.state(outputs != null && outputs.size() == items.size(),
+				"The chunk item processor must return one output per input item");
+		if (!this.chunkTimings) {
+			// the duration of the chunk is shared by its items
+			Timer timer = getTimer(contribution.getStepExecution(), "item.process", BatchMetrics.STATUS_SUCCESS,
+					"Item processing");
+			for (int i = 0; i < items.size(); i++) {
+				timer.record(duration / items.size(), TimeUnit.NANOSECONDS);
+			}
+		}
+		ProcessedItems<O> processedItems = new ProcessedItems<>(from, items.size());
+		for (int i = 0; i < items.size(); i++) {
+			I item = items.get(i);
+			O output = outputs.getItems().get(i);
+			processedItems.outputs[i] = output;
+			if (oneByOneOnFailure) {
+				listener.beforeProcess(item);
+			}
+			listener.afterProcess(item, output);
+		}
+		return processedItems;
+	}
+
+	/**
+	 * Process the items of the inputs starting at the given index concurrently, if the
+	 * {@link #setProcessingConcurrency(int) processing concurrency} allows it.
+	 * @param contribution the current step contribution
+	 * @param inputs the inputs to process
+	 * @param from the index of the first item to process
+	 * @return the processed items, or {@code null} if the items are to be processed in
+	 * sequence
+	 * @throws InterruptedException if interrupted while waiting for the items to be
+	 * processed
+	 */
+	@Nullable
+	private ProcessedItems<O> processConcurrently(StepContribution contribution, Chunk<I> inputs, int from)
+			throws InterruptedException {
+		List<I> items = inputs.getItems();
+		int count = items.size() - from;
+		if (this.processingConcurrency < 2 || this.itemProcessor == null || count < 2) {
+			return null;
+		}
+		ProcessedItems<O> processedItems = new ProcessedItems<>(from, count);
+		AtomicInteger next = new AtomicInteger();
+		Runnable task = () -> {
+			int i;
+			while ((i = next.getAndIncrement()) < count) {
+				try {
+					processedItems.outputs[i] = processItem(contribution, items.get(from + i));
+				}
+				catch (Throwable e) {
+					processedItems.failures[i] = e;
+				}
+			}
+		};
+		StepExecution stepExecution = contribution.getStepExecution();
+		int tasks = Math.min(this.processingConcurrency, count) - 1;
+		CountDownLatch latch = new CountDownLatch(tasks);
+		// make step scoped processors available to the processing threads
+		Runnable stepScopedTask = StepContextTasks.wrap(stepExecution, task);
+		for (int t = 0; t < tasks; t++) {
+			try {
+				this.processingTaskExecutor.execute(() -> {
+					try {
+						stepScopedTask.run();
+					}
+					finally {
+						latch.countDown();
+					}
+				});
+			}
+			catch (TaskRejectedException e) {
+				// the items are processed by the other threads
+				latch.countDown();
+			}
+		}
+		task.run();
+		latch.await();
+		return processedItems;
+	}
+
+	private O processItem(StepContribution contribution, I item) throws Exception {
+		if (this.chunkTimings) {
+			return doProcess(item);
+		}
+		Timer.Sample sample = BatchMetrics.createTimerSample(this.meterRegistry);
+		String status = BatchMetrics.STATUS_SUCCESS;
+		try {
+			return doProcess(item);
+		}
+		catch (Exception e) {
+			status = BatchMetrics.STATUS_FAILURE;
+			throw e;
+		}
+		finally {
+			stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+		}
+	}
+
+	private static TaskExecutor createProcessingTaskExecutor() {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("item-processor-");
+		try {
+			taskExecutor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException e) {
+			// platform threads before Java 21
+		}
+		return taskExecutor;
+	}
+
 	protected void stopTimer(Timer.Sample sample, StepExecution stepExecution, String metricName, String status,
 			String description) {
-		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + metricName;
-		sample.stop(BatchMetrics.createTimer(this.meterRegistry, metricName, description + " duration",
-				Tag.of(fullyQualifiedMetricName + ".job.name",
-						stepExecution.getJobExecution().getJobInstance().getJobName()),
-				Tag.of(fullyQualifiedMetricName + ".step.name", stepExecution.getStepName()),
-				Tag.of(fullyQualifiedMetricName + ".status", status)));
+		sample.stop(getTimer(stepExecution, metricName, status, description));
+	}
+
+	private Timer getTimer(StepExecution stepExecution, String metricName, String status, String description) {
+		return this.timers.computeIfAbsent(metricName, name -> new StepTimers(this.meterRegistry, name, description))
+			.getTimer(stepExecution, status);
+	}
+
+	/**
+	 * The outcome of the items of a chunk processed concurrently, each of which is taken
+	 * in sequence by the thread of the chunk.
+	 */
+	static final class ProcessedItems<O> {
+
+		private final int offset;
+
+		private final Object[] outputs;
+
+		private final Throwable[] failures;
+
+		private final boolean[] taken;
+
+		ProcessedItems(int offset, int count) {
+			this.offset = offset;
+			this.outputs = new Object[count];
+			this.failures = new Throwable[count];
+			this.taken = new boolean[count];
+		}
+
+		boolean contains(int index) {
+			int i = index - this.offset;
+			return i >= 0 && i < this.outputs.length && !this.taken[i];
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		O take(int index) throws Exception {
+			int i = index - this.offset;
+			this.taken[i] = true;
+			Throwable failure = this.failures[i];
+			if (failure instanceof Exception exception) {
+				throw exception;
+			}
+			if (failure != null) {
+				throw (Error) failure;
+			}
+			return (O) this.outputs[i];
+		}
+
 	}
 
 }
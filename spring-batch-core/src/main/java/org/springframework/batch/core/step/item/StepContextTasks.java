@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * Wrappers of the tasks that a step hands to other threads, making the step scope of the
+ * running step execution available to them. The step context is only unregistered from
+ * the thread when the task completes: it is not closed, as its step scoped beans are
+ * still used by the step and are destroyed when the step ends.
+ *
+ * @since 5.2
+ */
+final class StepContextTasks {
+
+	private StepContextTasks() {
+	}
+
+	/**
+	 * @param stepExecution the step execution whose step scope the task uses
+	 * @param task the task to wrap
+	 * @param <T> the type of the result of the task
+	 * @return a task registering the step context before calling the given task
+	 */
+	static <T> Callable<T> wrap(StepExecution stepExecution, Callable<T> task) {
+		return () -> {
+			StepSynchronizationManager.register(stepExecution);
+			try {
+				return task.call();
+			}
+			finally {
+				StepSynchronizationManager.close();
+			}
+		};
+	}
+
+	/**
+	 * @param stepExecution the step execution whose step scope the task uses
+	 * @param task the task to wrap
+	 * @return a task registering the step context before running the given task
+	 */
+	static Runnable wrap(StepExecution stepExecution, Runnable task) {
+		return () -> {
+			StepSynchronizationManager.register(stepExecution);
+			try {
+				task.run();
+			}
+			finally {
+				StepSynchronizationManager.close();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.observability.BatchMetrics;
+
+/**
+ * The timers of a metric of chunk-oriented steps. Timers are registered once per job
+ * name, step name and status, and reused by the subsequent measurements instead of being
+ * looked up in the meter registry each time an item is read, processed or written.
+ *
+ * @since 5.2
+ */
+final class StepTimers {
+
+	private final MeterRegistry meterRegistry;
+
+	private final String metricName;
+
+	private final String description;
+
+	private final Map<StepKey, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+	private volatile Bound bound;
+
+	/**
+	 * @param meterRegistry the meter registry to register the timers in
+	 * @param metricName the name of the metric, without the
+	 * {@link BatchMetrics#METRICS_PREFIX prefix}
+	 * @param description the description of the metric
+	 */
+	StepTimers(MeterRegistry meterRegistry, String metricName, String description) {
+		this.meterRegistry = meterRegistry;
+		this.metricName = metricName;
+		this.description = description;
+	}
+
+	/**
+	 * Return the timer of the given step execution and status, registering it on first
+	 * use.
+	 * @param stepExecution the step execution being measured
+	 * @param status the status of the measured operation
+	 * @return the timer of the step execution and status
+	 */
+	Timer getTimer(StepExecution stepExecution, String status) {
+		Bound bound = this.bound;
+		if (bound == null || bound.stepExecution() != stepExecution) {
+			// executions of the same step share their timers
+			StepKey key = new StepKey(stepExecution.getJobExecution().getJobInstance().getJobName(),
+					stepExecution.getStepName());
+			bound = new Bound(stepExecution, key, this.timers.computeIfAbsent(key, k -> new ConcurrentHashMap<>()));
+			this.bound = bound;
+		}
+		StepKey key = bound.key();
+		return bound.timers().computeIfAbsent(status, s -> createTimer(key, s));
+	}
+
+	private Timer createTimer(StepKey key, String status) {
+		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + this.metricName;
+		return BatchMetrics.createTimer(this.meterRegistry, this.metricName, this.description + " duration",
+				Tag.of(fullyQualifiedMetricName + ".job.name", key.jobName()),
+				Tag.of(fullyQualifiedMetricName + ".step.name", key.stepName()),
+				Tag.of(fullyQualifiedMetricName + ".status", status));
+	}
+
+	private record StepKey(String jobName, String stepName) {
+	}
+
+	private record Bound(StepExecution stepExecution, StepKey key, Map<String, Timer> timers) {
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link Tasklet} purging the batch meta-data of job executions that ended before a
+ * cutoff date from the {@code BATCH_*} tables, optionally archiving the purged rows in
+ * tables with the same structure and another prefix.
+ * <p>
+ * Each call to {@link #execute(StepContribution, ChunkContext)} purges a chunk of job
+ * executions, in ascending id order, with set-based {@code DELETE} statements (and
+ * {@code INSERT ... SELECT} statements when archiving) in dependency order: step
+ * execution contexts, step executions, job execution contexts, job execution parameters,
+ * job executions and finally the job instances without any remaining execution. The
+ * tasklet returns {@link RepeatStatus#CONTINUABLE} until no job execution is left to
+ * purge, so that each chunk is committed in its own transaction by the step. The
+ * transaction manager of the step should therefore manage the transactions of the data
+ * source of the meta-data.
+ * <p>
+ * The cutoff date and the id of the last purged job execution are stored in the step
+ * execution context, so that a restart resumes where the failed execution stopped. The
+ * number of rows purged from each table is also stored in the step execution context and
+ * added to the write count of the step, and the throughput of the current run (excluding
+ * the rows purged by the previous runs of a restarted purge) is logged at the end of the
+ * purge.
+ * <p>
+ * Job executions that have not ended (i.e. without an end time) are never purged. The
+ * statements only use standard SQL and are portable across all the databases supported by
+ * the job repository. The job executions of a chunk are selected with the maximum number
+ * of rows of the JDBC statement set to the chunk size, rather than with a
+ * database-specific row limit clause. The number of job executions per chunk is bounded
+ * by the maximum size of an {@code IN} list, since some databases limit it.
+ *
+ * @since 5.2
+ */
+public class JdbcMetadataPurgeTasklet implements Tasklet, InitializingBean {
+
+	private static final Log logger = LogFactory.getLog(JdbcMetadataPurgeTasklet.class);
+
+	/**
+	 * Key of the cutoff date in the step execution context.
+	 */
+	public static final String CUTOFF_KEY = JdbcMetadataPurgeTasklet.class.getName() + ".cutoff";
+
+	/**
+	 * Key of the id of the last purged job execution in the step execution context.
+	 */
+	public static final String LAST_JOB_EXECUTION_ID_KEY = JdbcMetadataPurgeTasklet.class.getName()
+			+ ".lastJobExecutionId";
+
+	/**
+	 * Prefix of the keys of the number of rows purged from each table in the step
+	 * execution context. The keys are suffixed with the table name without prefix.
+	 */
+	public static final String PURGED_ROWS_KEY_PREFIX = JdbcMetadataPurgeTasklet.class.getName() + ".purgedRows.";
+
+	private static final int MAX_CHUNK_SIZE = 500;
+
+	private static final String IDS = "%IDS%";
+
+	private static final String FIND_JOB_EXECUTIONS = """
+			SELECT JOB_EXECUTION_ID, JOB_INSTANCE_ID
+			FROM %PREFIX%JOB_EXECUTION
+			WHERE JOB_EXECUTION_ID > ? AND END_TIME < ?
+			ORDER BY JOB_EXECUTION_ID
+			""";
+
+	private static final List<TablePurge> JOB_EXECUTION_PURGES = List.of(new TablePurge("STEP_EXECUTION_CONTEXT",
+			"STEP_EXECUTION_ID IN (SELECT STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (%IDS%))"),
+			new TablePurge("STEP_EXECUTION", "JOB_EXECUTION_ID IN (%IDS%)"),
+			new TablePurge("JOB_EXECUTION_CONTEXT", "JOB_EXECUTION_ID IN (%IDS%)"),
+			new TablePurge("JOB_EXECUTION_PARAMS", "JOB_EXECUTION_ID IN (%IDS%)"),
+			new TablePurge("JOB_EXECUTION", "JOB_EXECUTION_ID IN (%IDS%)"));
+
+	private static final TablePurge JOB_INSTANCE_PURGE = new TablePurge("JOB_INSTANCE",
+			"JOB_INSTANCE_ID IN (%IDS%) AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION E WHERE E.JOB_INSTANCE_ID = %PREFIX%JOB_INSTANCE.JOB_INSTANCE_ID)");
+
+	private JdbcOperations jdbcTemplate;
+
+	private String tablePrefix = AbstractJdbcBatchMetadataDao.DEFAULT_TABLE_PREFIX;
+
+	@Nullable
+	private String archiveTablePrefix;
+
+	@Nullable
+	private LocalDateTime cutoff;
+
+	@Nullable
+	private Duration retention;
+
+	private int chunkSize = MAX_CHUNK_SIZE;
+
+	/**
+	 * Set the data source of the meta-data. Either this or
+	 * {@link #setJdbcTemplate(JdbcOperations)} is required.
+	 * @param dataSource the data source of the meta-data
+	 */
+	public void setDataSource(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * Set the {@link JdbcOperations} used to access the meta-data. Either this or
+	 * {@link #setDataSource(DataSource)} is required.
+	 * @param jdbcTemplate the {@link JdbcOperations} to use
+	 */
+	public void setJdbcTemplate(JdbcOperations jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Set the prefix of the meta-data tables. Defaults to
+	 * {@link AbstractJdbcBatchMetadataDao#DEFAULT_TABLE_PREFIX}.
+	 * @param tablePrefix the prefix of the meta-data tables
+	 */
+	public void setTablePrefix(String tablePrefix) {
+		this.tablePrefix = tablePrefix;
+	}
+
+	/**
+	 * Set the prefix of the archive tables. When set, purged rows are copied to the table
+	 * with the same name and this prefix before being deleted. The archive tables must
+	 * have the same columns, in the same order, as the meta-data tables. Defaults to
+	 * {@code null} (no archival).
+	 * @param archiveTablePrefix the prefix of the archive tables
+	 */
+	public void setArchiveTablePrefix(@Nullable String archiveTablePrefix) {
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
+	/**
+	 * Set the date before which ended job executions are purged. Either this or
+	 * {@link #setRetention(Duration)} is required.
+	 * @param cutoff the cutoff date
+	 */
+	public void setCutoff(LocalDateTime cutoff) {
+		this.cutoff = cutoff;
+	}
+
+	/**
+	 * Set the retention period of ended job executions: job executions that ended before
+	 * the start of the purge minus this period are purged. Either this or
+	 * {@link #setCutoff(LocalDateTime)} is required.
+	 * @param retention the retention period
+	 */
+	public void setRetention(Duration retention) {
+		this.retention = retention;
+	}
+
+	/**
+	 * Set the number of job executions purged in each transaction. Defaults to 500, which
+	 * is also the maximum.
+	 * @param chunkSize the number of job executions per chunk
+	 */
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(this.jdbcTemplate != null, "A data source or a JdbcTemplate is required");
+		Assert.state(this.cutoff != null ^ this.retention != null, "Exactly one of cutoff or retention is required");
+		Assert.state(this.chunkSize > 0 && this.chunkSize <= MAX_CHUNK_SIZE,
+				"The chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+		Assert.state(this.archiveTablePrefix == null || !this.archiveTablePrefix.equals(this.tablePrefix),
+				"The archive table prefix must differ from the table prefix");
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+		StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		LocalDateTime cutoff = getCutoff(executionContext);
+		long lastJobExecutionId = executionContext.getLong(LAST_JOB_EXECUTION_ID_KEY, Long.MIN_VALUE);
+
+		List<Long> jobExecutionIds = new ArrayList<>(this.chunkSize);
+		Set<Long> jobInstanceIds = new LinkedHashSet<>();
+		this.jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(getQuery(FIND_JOB_EXECUTIONS));
+			// let the database stop after the chunk instead of sorting all the matches
+			statement.setMaxRows(this.chunkSize);
+			statement.setLong(1, lastJobExecutionId);
+			statement.setTimestamp(2, Timestamp.valueOf(cutoff));
+			return statement;
+		}, (ResultSetExtractor<Void>) rs -> {
+			while (jobExecutionIds.size() < this.chunkSize && rs.next()) {
+				jobExecutionIds.add(rs.getLong(1));
+				jobInstanceIds.add(rs.getLong(2));
+			}
+			return null;
+		});
+
+		if (jobExecutionIds.isEmpty()) {
+			logPurgeSummary(stepExecution, cutoff);
+			return RepeatStatus.FINISHED;
+		}
+
+		long purgedRows = 0;
+		for (TablePurge purge : JOB_EXECUTION_PURGES) {
+			purgedRows += purge(purge, jobExecutionIds, executionContext);
+		}
+		purgedRows += purge(JOB_INSTANCE_PURGE, jobInstanceIds, executionContext);
+
+		contribution.incrementWriteCount(purgedRows);
+		executionContext.putLong(LAST_JOB_EXECUTION_ID_KEY, jobExecutionIds.get(jobExecutionIds.size() - 1));
+		if (logger.isDebugEnabled()) {
+			logger.debug("Purged " + jobExecutionIds.size() + " job executions (" + purgedRows
+					+ " rows) up to job execution id " + jobExecutionIds.get(jobExecutionIds.size() - 1));
+		}
+		return RepeatStatus.CONTINUABLE;
+	}
+
+	private LocalDateTime getCutoff(ExecutionContext executionContext) {
+		if (executionContext.containsKey(CUTOFF_KEY)) {
+			return LocalDateTime.parse(executionContext.getString(CUTOFF_KEY));
+		}
+		LocalDateTime cutoff = this.cutoff != null ? this.cutoff : LocalDateTime.now().minus(this.retention);
+		executionContext.putString(CUTOFF_KEY, cutoff.toString());
+		return cutoff;
+	}
+
+	private int purge(TablePurge purge, Collection<Long> ids, ExecutionContext executionContext) {
+		String inClause = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+		String where = getQuery(purge.where().replace(IDS, inClause));
+		Object[] args = ids.toArray();
+		if (StringUtils.hasText(this.archiveTablePrefix)) {
+			this.jdbcTemplate.update("INSERT INTO " + this.archiveTablePrefix + purge.table() + " SELECT * FROM "
+					+ this.tablePrefix + purge.table() + " WHERE " + where, args);
+		}
+		int count = this.jdbcTemplate.update("DELETE FROM " + this.tablePrefix + purge.table() + " WHERE " + where,
+				args);
+		String key = PURGED_ROWS_KEY_PREFIX + purge.table();
+		executionContext.putLong(key, executionContext.getLong(key, 0L) + count);
+		return count;
+	}
+
+	private void logPurgeSummary(StepExecution stepExecution, LocalDateTime cutoff) {
+		if (!logger.isInfoEnabled()) {
+			return;
+		}
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		List<TablePurge> purges = new ArrayList<>(JOB_EXECUTION_PURGES);
+		purges.add(JOB_INSTANCE_PURGE);
+		StringBuilder details = new StringBuilder();
+		for (TablePurge purge : purges) {
+			long count = executionContext.getLong(PURGED_ROWS_KEY_PREFIX + purge.table(), 0L);
+			details.append(details.isEmpty() ? "" : ", ")
+				.append(this.tablePrefix)
+				.append(purge.table())
+				.append('=')
+				.append(count);
+		}
+		// the write count and start time are those of this run, the table counts are
+		// accumulated across restarts
+		long purgedRows = stepExecution.getWriteCount();
+		LocalDateTime startTime = stepExecution.getStartTime();
+		String throughput = "";
+		if (startTime != null) {
+			long elapsed = Math.max(Duration.between(startTime, LocalDateTime.now()).toMillis(), 1);
+			throughput = " in " + elapsed + "ms (" + (purgedRows * 1000 / elapsed) + " rows/s in this run)";
+		}
+		logger.info("Purged " + purgedRows + " rows in this run of job executions that ended before " + cutoff
+				+ throughput + ", total rows purged per table including previous runs: " + details);
+	}
+
+	private String getQuery(String base) {
+		return base.replace("%PREFIX%", this.tablePrefix);
+	}
+
+	private record TablePurge(String table, String where) {
+	}
+
+}
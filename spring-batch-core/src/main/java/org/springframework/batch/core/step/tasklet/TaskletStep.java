@@ -48,8 +48,10 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -98,6 +100,11 @@ public class TaskletStep extends AbstractStep {
 
 	private Tasklet tasklet;
 
+	private int checkpointInterval = 0;
+
+	@Nullable
+	private Duration checkpointTimeInterval;
+
 	public static final String TASKLET_TYPE_KEY = "batch.taskletType";
 
 	/**
@@ -199,6 +206,41 @@ public class TaskletStep extends AbstractStep {
 		this.stepOperations = stepOperations;
 	}
 
+	/**
+	 * Set the number of chunks after which the step execution and its
+	 * {@link ExecutionContext} are saved in the {@link JobRepository} (a checkpoint). By
+	 * default, a checkpoint is made at each chunk.
+	 * <p>
+	 * Making checkpoints less often reduces the load on the job repository, at the cost
+	 * of replaying more work on restart: a restart resumes from the last checkpoint, so
+	 * the chunks committed after it are processed again, and the item writers must be
+	 * able to write their items again (for instance by being idempotent). A checkpoint is
+	 * always made at the last chunk of the step. Requests to stop the job are also only
+	 * detected at checkpoints.
+	 * @param checkpointInterval the number of chunks between two checkpoints, must be
+	 * greater than zero
+	 * @since 5.2
+	 * @see #setCheckpointTimeInterval(Duration)
+	 */
+	public void setCheckpointInterval(int checkpointInterval) {
+		Assert.isTrue(checkpointInterval > 0, "The checkpoint interval must be greater than zero");
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	/**
+	 * Set the minimum time elapsed between two checkpoints of the step execution and its
+	 * {@link ExecutionContext} in the {@link JobRepository}. When used with
+	 * {@link #setCheckpointInterval(int)}, a checkpoint is made as soon as one of the
+	 * intervals is reached. See {@link #setCheckpointInterval(int)} for the consequences
+	 * on restart.
+	 * @param checkpointTimeInterval the time between two checkpoints
+	 * @since 5.2
+	 */
+	public void setCheckpointTimeInterval(Duration checkpointTimeInterval) {
+		Assert.notNull(checkpointTimeInterval, "The checkpoint time interval must not be null");
+		this.checkpointTimeInterval = checkpointTimeInterval;
+	}
+
 	/**
 	 * Setter for the {@link StepInterruptionPolicy}. The policy is used to check whether
 	 * an external request has been made to interrupt the job execution.
@@ -231,6 +273,7 @@ public class TaskletStep extends AbstractStep {
 		// Shared semaphore per step execution, so other step executions can run
 		// in parallel without needing the lock
 		final Semaphore semaphore = createSemaphore();
+		final Checkpoint checkpoint = new Checkpoint();
 
 		stepOperations.iterate(new StepContextRepeatCallback(stepExecution) {
 
@@ -247,7 +290,7 @@ public class TaskletStep extends AbstractStep {
 				RepeatStatus result;
 				try {
 					result = new TransactionTemplate(transactionManager, transactionAttribute)
-						.execute(new ChunkTransactionCallback(chunkContext, semaphore));
+						.execute(new ChunkTransactionCallback(chunkContext, semaphore, checkpoint));
 				}
 				catch (UncheckedTransactionException e) {
 					// Allow checked exceptions to be thrown inside callback
@@ -320,15 +363,23 @@ public class TaskletStep extends AbstractStep {
 
 		private final Semaphore semaphore;
 
-		public ChunkTransactionCallback(ChunkContext chunkContext, Semaphore semaphore) {
+		private final Checkpoint checkpoint;
+
+		private boolean checkpointed = false;
+
+		public ChunkTransactionCallback(ChunkContext chunkContext, Semaphore semaphore, Checkpoint checkpoint) {
 			this.chunkContext = chunkContext;
 			this.stepExecution = chunkContext.getStepContext().getStepExecution();
 			this.semaphore = semaphore;
+			this.checkpoint = checkpoint;
 		}
 
 		@Override
 		public void afterCompletion(int status) {
 			try {
+				if (status == TransactionSynchronization.STATUS_COMMITTED) {
+					checkpoint.chunkCommitted(checkpointed);
+				}
 				if (status != TransactionSynchronization.STATUS_COMMITTED) {
 					if (stepExecutionUpdated) {
 						// Wah! the commit failed. We need to rescue the step
@@ -420,19 +471,24 @@ public class TaskletStep extends AbstractStep {
 
 				stepExecutionUpdated = true;
 
-				stream.update(stepExecution.getExecutionContext());
+				checkpointed = !result.isContinuable() || stepExecution.isTerminateOnly() || checkpoint.isDue();
+				if (checkpointed) {
+					stream.update(stepExecution.getExecutionContext());
+				}
 
 				try {
 					// Going to attempt a commit. If it fails this flag will
 					// stay false and we can use that later.
-					if (stepExecution.getExecutionContext().isDirty()) {
+					if (checkpointed && stepExecution.getExecutionContext().isDirty()) {
 						getJobRepository().updateExecutionContext(stepExecution);
 					}
 					stepExecution.incrementCommitCount();
-					if (logger.isDebugEnabled()) {
-						logger.debug("Saving step execution before commit: " + stepExecution);
+					if (checkpointed) {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Saving step execution before commit: " + stepExecution);
+						}
+						getJobRepository().update(stepExecution);
 					}
-					getJobRepository().update(stepExecution);
 				}
 				catch (Exception e) {
 					// If we get to here there was a problem saving the step
@@ -486,4 +542,37 @@ public class TaskletStep extends AbstractStep {
 
 	}
 
+	/**
+	 * Tracks the chunks committed since the last checkpoint of a step execution. Only
+	 * accessed while holding the semaphore of the step execution.
+	 */
+	private class Checkpoint {
+
+		private int chunks = 0;
+
+		private long lastCheckpointTime = System.nanoTime();
+
+		boolean isDue() {
+			if (checkpointInterval == 0 && checkpointTimeInterval == null) {
+				return true;
+			}
+			if (checkpointInterval > 0 && this.chunks + 1 >= checkpointInterval) {
+				return true;
+			}
+			return checkpointTimeInterval != null
+					&& System.nanoTime() - this.lastCheckpointTime >= checkpointTimeInterval.toNanos();
+		}
+
+		void chunkCommitted(boolean checkpointed) {
+			if (checkpointed) {
+				this.chunks = 0;
+				this.lastCheckpointTime = System.nanoTime();
+			}
+			else {
+				this.chunks++;
+			}
+		}
+
+	}
+
 }
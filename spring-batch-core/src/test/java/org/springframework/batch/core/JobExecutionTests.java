@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 package org.springframework.batch.core;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -227,4 +229,63 @@ class JobExecutionTests {
 		assertTrue(allExceptions.contains(stepException1));
 	}
 
+	@Test
+	void testDetachStepExecutions() {
+		StepExecution stepExecution1 = execution.createStepExecution("step1");
+		StepExecution stepExecution2 = execution.createStepExecution("step2");
+		stepExecution1.setId(1L);
+		stepExecution2.setId(2L);
+		RuntimeException stepException = new RuntimeException();
+		stepExecution2.addFailureException(stepException);
+		List<Collection<Long>> loadedIds = new ArrayList<>();
+
+		execution.detachStepExecutions(List.of(stepExecution2), ids -> {
+			loadedIds.add(ids);
+			return List.of(new StepExecution("step2", new JobExecution(12L), 2L));
+		});
+
+		assertEquals(List.of(2L), execution.getDetachedStepExecutionIds());
+		assertTrue(loadedIds.isEmpty());
+		Collection<StepExecution> stepExecutions = execution.getStepExecutions();
+		assertEquals(List.of(List.of(2L)), loadedIds);
+		assertEquals(2, stepExecutions.size());
+		assertTrue(stepExecutions.contains(stepExecution1));
+		assertTrue(stepExecutions.contains(stepExecution2));
+		assertEquals(List.of(stepException), execution.getAllFailureExceptions());
+	}
+
+	@Test
+	void testDetachedStepExecutionsNotLoadedByChecksAndCopies() {
+		assertFalse(execution.hasStepExecutions());
+		StepExecution stepExecution = execution.createStepExecution("step");
+		stepExecution.setId(1L);
+		assertTrue(execution.hasStepExecutions());
+		List<Collection<Long>> loadedIds = new ArrayList<>();
+		execution.detachStepExecutions(List.of(stepExecution), ids -> {
+			loadedIds.add(ids);
+			return List.of(new StepExecution("step", new JobExecution(12L), 1L));
+		});
+
+		assertTrue(execution.hasStepExecutions());
+		JobExecution copy = new JobExecution(execution);
+		assertTrue(copy.hasStepExecutions());
+		assertEquals(List.of(1L), copy.getDetachedStepExecutionIds());
+		assertTrue(loadedIds.isEmpty());
+
+		assertEquals(1, copy.getStepExecutions().size());
+		assertEquals(List.of(List.of(1L)), loadedIds);
+	}
+
+	@Test
+	void testDetachedStepExecutionIdsNotSerialized() {
+		StepExecution stepExecution = execution.createStepExecution("step");
+		stepExecution.setId(1L);
+		execution.detachStepExecutions(List.of(stepExecution), ids -> List.of());
+
+		JobExecution clone = SerializationUtils.clone(execution);
+
+		assertTrue(clone.getDetachedStepExecutionIds().isEmpty());
+		assertFalse(clone.hasStepExecutions());
+	}
+
 }
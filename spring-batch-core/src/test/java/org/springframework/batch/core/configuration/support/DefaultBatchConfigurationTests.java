@@ -15,12 +15,14 @@
  */
 package org.springframework.batch.core.configuration.support;
 
+import java.nio.file.Path;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
@@ -37,6 +39,7 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -51,6 +54,9 @@ import org.springframework.transaction.PlatformTransactionManager;
  */
 class DefaultBatchConfigurationTests {
 
+	@TempDir
+	static Path jobRepositoryDirectory;
+
 	@Test
 	void testDefaultConfiguration() throws Exception {
 		// given
@@ -65,6 +71,28 @@ class DefaultBatchConfigurationTests {
 		Assertions.assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
 	}
 
+	@Test
+	void testFileJobRepositoryConfiguration() throws Exception {
+		// given
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				MyJobConfigurationWithFileJobRepository.class);
+		Job job = context.getBean(Job.class);
+		JobLauncher jobLauncher = context.getBean(JobLauncher.class);
+
+		// when
+		JobExecution jobExecution = jobLauncher.run(job, new JobParameters());
+		context.close();
+
+		// then
+		Assertions.assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+		context = new AnnotationConfigApplicationContext(MyJobConfigurationWithFileJobRepository.class);
+		JobExplorer jobExplorer = context.getBean(JobExplorer.class);
+		JobExecution restoredJobExecution = jobExplorer.getJobExecution(jobExecution.getId());
+		Assertions.assertEquals(ExitStatus.COMPLETED, restoredJobExecution.getExitStatus());
+		Assertions.assertEquals(1, restoredJobExecution.getStepExecutions().size());
+		context.close();
+	}
+
 	@Test
 	void testConfigurationWithoutDataSource() {
 		Assertions.assertThrows(BeanCreationException.class,
@@ -152,6 +180,32 @@ class DefaultBatchConfigurationTests {
 
 	}
 
+	@Configuration
+	static class MyJobConfigurationWithFileJobRepository extends DefaultBatchConfiguration {
+
+		@Bean
+		public Step myStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+			Tasklet myTasklet = (contribution, chunkContext) -> RepeatStatus.FINISHED;
+			return new StepBuilder("myStep", jobRepository).tasklet(myTasklet, transactionManager).build();
+		}
+
+		@Bean
+		public Job job(JobRepository jobRepository, Step myStep) {
+			return new JobBuilder("job", jobRepository).start(myStep).build();
+		}
+
+		@Bean
+		public PlatformTransactionManager transactionManager() {
+			return new ResourcelessTransactionManager();
+		}
+
+		@Override
+		protected Path getJobRepositoryDirectory() {
+			return jobRepositoryDirectory;
+		}
+
+	}
+
 	@Configuration
 	static class MyJobConfigurationWithCustomInfrastructureBean extends MyJobConfiguration {
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.explore.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJobExplorerTests {
+
+	private final JobInstance jobInstance = new JobInstance(1L, "job");
+
+	private JobExplorer delegate;
+
+	private CachingJobExplorer jobExplorer;
+
+	@BeforeEach
+	void setUp() {
+		this.delegate = mock();
+		this.jobExplorer = new CachingJobExplorer(this.delegate);
+	}
+
+	@Test
+	void testCompletedJobExecutionIsCached() {
+		JobExecution jobExecution = createJobExecution(1L, BatchStatus.COMPLETED);
+		when(this.delegate.getJobExecution(1L)).thenReturn(jobExecution);
+		this.jobExplorer.setTimeToLive(Duration.ZERO);
+
+		assertSame(jobExecution, this.jobExplorer.getJobExecution(1L));
+		assertSame(jobExecution, this.jobExplorer.getJobExecution(1L));
+
+		verify(this.delegate, times(1)).getJobExecution(1L);
+	}
+
+	@Test
+	void testRunningJobExecutionIsCachedUntilExpired() {
+		when(this.delegate.getJobExecution(1L)).thenReturn(createJobExecution(1L, BatchStatus.STARTED));
+
+		this.jobExplorer.getJobExecution(1L);
+		this.jobExplorer.getJobExecution(1L);
+		verify(this.delegate, times(1)).getJobExecution(1L);
+
+		this.jobExplorer.setTimeToLive(Duration.ZERO);
+		this.jobExplorer.clear();
+		this.jobExplorer.getJobExecution(1L);
+		this.jobExplorer.getJobExecution(1L);
+		verify(this.delegate, times(3)).getJobExecution(1L);
+	}
+
+	@Test
+	void testFailedJobExecutionIsNotCachedIndefinitely() throws Exception {
+		when(this.delegate.getJobExecution(1L)).thenReturn(createJobExecution(1L, BatchStatus.FAILED));
+		this.jobExplorer.setTimeToLive(Duration.ofMillis(10));
+
+		this.jobExplorer.getJobExecution(1L);
+		Thread.sleep(50);
+		this.jobExplorer.getJobExecution(1L);
+
+		verify(this.delegate, times(2)).getJobExecution(1L);
+	}
+
+	@Test
+	void testMissingJobExecutionIsNotCached() {
+		assertNull(this.jobExplorer.getJobExecution(1L));
+		assertNull(this.jobExplorer.getJobExecution(1L));
+
+		verify(this.delegate, times(2)).getJobExecution(1L);
+	}
+
+	@Test
+	void testLeastRecentlyUsedEntryIsEvicted() {
+		when(this.delegate.getJobExecution(1L)).thenReturn(createJobExecution(1L, BatchStatus.COMPLETED));
+		when(this.delegate.getJobExecution(2L)).thenReturn(createJobExecution(2L, BatchStatus.COMPLETED));
+		when(this.delegate.getJobExecution(3L)).thenReturn(createJobExecution(3L, BatchStatus.COMPLETED));
+		this.jobExplorer.setMaximumSize(2);
+
+		this.jobExplorer.getJobExecution(1L);
+		this.jobExplorer.getJobExecution(2L);
+		this.jobExplorer.getJobExecution(1L);
+		this.jobExplorer.getJobExecution(3L);
+		this.jobExplorer.getJobExecution(1L);
+		this.jobExplorer.getJobExecution(2L);
+
+		verify(this.delegate, times(1)).getJobExecution(1L);
+		verify(this.delegate, times(2)).getJobExecution(2L);
+		verify(this.delegate, times(1)).getJobExecution(3L);
+	}
+
+	@Test
+	void testCompletedStepExecutionIsCached() {
+		JobExecution jobExecution = createJobExecution(1L, BatchStatus.STARTED);
+		StepExecution stepExecution = new StepExecution("step", jobExecution, 2L);
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		when(this.delegate.getStepExecution(1L, 2L)).thenReturn(stepExecution);
+		this.jobExplorer.setTimeToLive(Duration.ZERO);
+
+		assertSame(stepExecution, this.jobExplorer.getStepExecution(1L, 2L));
+		assertSame(stepExecution, this.jobExplorer.getStepExecution(1L, 2L));
+
+		verify(this.delegate, times(1)).getStepExecution(1L, 2L);
+	}
+
+	@Test
+	void testJobExecutionsOfCompletedJobInstanceAreCached() {
+		List<JobExecution> jobExecutions = List.of(createJobExecution(2L, BatchStatus.COMPLETED),
+				createJobExecution(1L, BatchStatus.FAILED));
+		when(this.delegate.getJobExecutions(this.jobInstance)).thenReturn(jobExecutions);
+		this.jobExplorer.setTimeToLive(Duration.ZERO);
+
+		assertSame(jobExecutions, this.jobExplorer.getJobExecutions(this.jobInstance));
+		assertSame(jobExecutions, this.jobExplorer.getJobExecutions(this.jobInstance));
+
+		verify(this.delegate, times(1)).getJobExecutions(this.jobInstance);
+	}
+
+	@Test
+	void testJobExecutionsOfRestartableJobInstanceAreNotCachedIndefinitely() {
+		when(this.delegate.getJobExecutions(this.jobInstance))
+			.thenReturn(List.of(createJobExecution(1L, BatchStatus.FAILED)));
+		this.jobExplorer.setTimeToLive(Duration.ZERO);
+
+		this.jobExplorer.getJobExecutions(this.jobInstance);
+		this.jobExplorer.getJobExecutions(this.jobInstance);
+
+		verify(this.delegate, times(2)).getJobExecutions(this.jobInstance);
+	}
+
+	@Test
+	void testJobInstanceIsCached() {
+		when(this.delegate.getJobInstance(1L)).thenReturn(this.jobInstance);
+
+		assertSame(this.jobInstance, this.jobExplorer.getJobInstance(1L));
+		assertSame(this.jobInstance, this.jobExplorer.getJobInstance(1L));
+
+		verify(this.delegate, times(1)).getJobInstance(1L);
+	}
+
+	@Test
+	void testRunningJobExecutionsAreNotCached() {
+		this.jobExplorer.findRunningJobExecutions("job");
+		this.jobExplorer.findRunningJobExecutions("job");
+
+		verify(this.delegate, times(2)).findRunningJobExecutions("job");
+	}
+
+	private JobExecution createJobExecution(long id, BatchStatus status) {
+		JobExecution jobExecution = new JobExecution(this.jobInstance, id, new JobParameters());
+		jobExecution.setStatus(status);
+		return jobExecution;
+	}
+
+}
@@ -19,11 +19,15 @@ package org.springframework.batch.core.explore.support;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,7 @@ import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.item.ExecutionContext;
 
 /**
  * Test {@link SimpleJobExplorer}.
@@ -116,6 +121,30 @@ class SimpleJobExplorerTests {
 		assertNull(jobExplorer.getStepExecution(jobExecution.getId(), 123L));
 	}
 
+	@Test
+	void testGetStepExecutions() {
+		when(jobExecutionDao.getJobExecution(jobExecution.getId())).thenReturn(jobExecution);
+		when(jobInstanceDao.getJobInstance(jobExecution)).thenReturn(jobInstance);
+		StepExecution stepExecution = new StepExecution("foo", jobExecution, 123L);
+		ExecutionContext executionContext = new ExecutionContext(Map.of("foo", "bar"));
+		List<Long> stepExecutionIds = List.of(123L, 456L);
+		when(stepExecutionDao.getStepExecutions(jobExecution, stepExecutionIds)).thenReturn(List.of(stepExecution));
+		when(ecDao.getExecutionContexts(List.of(stepExecution))).thenReturn(Map.of(123L, executionContext));
+
+		List<StepExecution> stepExecutions = jobExplorer.getStepExecutions(jobExecution.getId(), stepExecutionIds);
+
+		assertEquals(List.of(stepExecution), stepExecutions);
+		assertEquals(executionContext, stepExecution.getExecutionContext());
+		assertEquals(jobInstance, stepExecution.getJobExecution().getJobInstance());
+		verify(stepExecutionDao, never()).addStepExecutions(jobExecution);
+	}
+
+	@Test
+	void testGetStepExecutionsMissingJobExecution() {
+		when(jobExecutionDao.getJobExecution(jobExecution.getId())).thenReturn(null);
+		assertTrue(jobExplorer.getStepExecutions(jobExecution.getId(), List.of(123L)).isEmpty());
+	}
+
 	@Test
 	void testGetStepExecutionMissingJobExecution() {
 		when(jobExecutionDao.getJobExecution(jobExecution.getId())).thenReturn(null);
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FileChannelBufferedReaderFactory;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
+import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
+import org.springframework.batch.item.file.separator.SuffixRecordSeparatorPolicy;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlatFileRangePartitionerTests {
+
+	private final FlatFileRangePartitioner partitioner = new FlatFileRangePartitioner();
+
+	@Test
+	void testPartitionsCoverAllRecords() throws Exception {
+		List<String> lines = new ArrayList<>();
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			lines.add("line" + i);
+			content.append("line").append(i).append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		Resource resource = getResource(content.toString());
+		partitioner.setResource(resource);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(4, partitions.size());
+		assertEquals(lines, readPartitions(resource, partitions, 0, null));
+	}
+
+	@Test
+	void testHeaderLinesExcluded() throws Exception {
+		Resource resource = getResource("header1\nheader2\n#comment\nline1\nline2\nline3\nline4\n");
+		partitioner.setResource(resource);
+		partitioner.setLinesToSkip(2);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		assertEquals(2, partitions.size());
+		assertEquals(16, partitions.get("partition0").getLong("startPosition"));
+		assertEquals(List.of("line1", "line2", "line3", "line4"), readPartitions(resource, partitions, 2, null));
+	}
+
+	@Test
+	void testMultiLineRecords() throws Exception {
+		Resource resource = getResource("\"a\nb\",1\n\"c\nd\nf\",2\n\"g\nh\",3\n\"i\",4\n");
+		partitioner.setResource(resource);
+		partitioner.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		assertEquals(List.of("\"a\nb\",1", "\"c\nd\nf\",2", "\"g\nh\",3", "\"i\",4"),
+				readPartitions(resource, partitions, 0, new DefaultRecordSeparatorPolicy()));
+	}
+
+	@Test
+	void testHeaderLinesExcludedWithMultiLineRecords() throws Exception {
+		Resource resource = getResource("id,name\n1,a;\n2,\nb;\n3,c;\n4,d;\n");
+		partitioner.setResource(resource);
+		partitioner.setLinesToSkip(1);
+		partitioner.setRecordSeparatorPolicy(new SuffixRecordSeparatorPolicy());
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		assertEquals(8, partitions.get("partition0").getLong("startPosition"));
+		assertEquals(List.of("1,a", "2,b", "3,c", "4,d"),
+				readPartitions(resource, partitions, 1, new SuffixRecordSeparatorPolicy()));
+	}
+
+	@Test
+	void testGridSizeLargerThanRecordCount() throws Exception {
+		Resource resource = getResource("line1\nline2\n");
+		partitioner.setResource(resource);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(10);
+
+		assertEquals(2, partitions.size());
+		assertEquals(List.of("line1", "line2"), readPartitions(resource, partitions, 0, null));
+	}
+
+	@Test
+	void testEmptyFile() throws Exception {
+		partitioner.setResource(getResource(""));
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(1, partitions.size());
+		assertEquals(0, partitions.get("partition0").getLong("startPosition"));
+		assertEquals(0, partitions.get("partition0").getLong("endPosition"));
+	}
+
+	@Test
+	void testSetKeyNames() throws Exception {
+		partitioner.setResource(getResource("line1\nline2\n"));
+		partitioner.setStartKeyName("start");
+		partitioner.setEndKeyName("end");
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+		assertEquals(0, partitions.get("partition0").getLong("start"));
+		assertEquals(12, partitions.get("partition0").getLong("end"));
+	}
+
+	@Test
+	void testResourceNotInFileSystem() {
+		partitioner.setResource(new ByteArrayResource("line1\nline2\n".getBytes()));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	@Test
+	void testMissingResource() {
+		partitioner.setResource(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	private List<String> readPartitions(Resource resource, Map<String, ExecutionContext> partitions, int linesToSkip,
+			RecordSeparatorPolicy recordSeparatorPolicy) throws Exception {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			assertTrue(context.getLong("startPosition") < context.getLong("endPosition"));
+			FlatFileItemReader<String> reader = new FlatFileItemReader<>();
+			reader.setResource(resource);
+			reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+			reader.setLineMapper(new PassThroughLineMapper());
+			reader.setLinesToSkip(linesToSkip);
+			if (recordSeparatorPolicy != null) {
+				reader.setRecordSeparatorPolicy(recordSeparatorPolicy);
+			}
+			reader.setStartPosition(context.getLong("startPosition"));
+			reader.setEndPosition(context.getLong("endPosition"));
+			reader.open(new ExecutionContext());
+			String item;
+			while ((item = reader.read()) != null) {
+				items.add(item);
+			}
+			reader.close();
+		}
+		return items;
+	}
+
+	private static Resource getResource(String content) throws IOException {
+		File file = File.createTempFile("partitioner-test-input-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), content);
+		return new FileSystemResource(file);
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.batch.core.partition.support;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -29,6 +30,7 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
 import org.springframework.jdbc.support.JdbcTransactionManager;
@@ -48,9 +50,11 @@ class PartitionStepTests {
 
 	private JobRepository jobRepository;
 
+	private EmbeddedDatabase embeddedDatabase;
+
 	@BeforeEach
 	void setUp() throws Exception {
-		EmbeddedDatabase embeddedDatabase = new EmbeddedDatabaseBuilder()
+		embeddedDatabase = new EmbeddedDatabaseBuilder()
 			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
 			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
 			.build();
@@ -85,6 +89,42 @@ class PartitionStepTests {
 		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
 	}
 
+	@Test
+	void testDetachedStepExecutions() throws Exception {
+		JobExplorerFactoryBean jobExplorerFactoryBean = new JobExplorerFactoryBean();
+		jobExplorerFactoryBean.setDataSource(embeddedDatabase);
+		jobExplorerFactoryBean.setTransactionManager(new JdbcTransactionManager(embeddedDatabase));
+		jobExplorerFactoryBean.afterPropertiesSet();
+		step.setJobExplorer(jobExplorerFactoryBean.getObject());
+		RuntimeException exception = new RuntimeException("Planned");
+		step.setStepExecutionSplitter(
+				new SimpleStepExecutionSplitter(jobRepository, true, step.getName(), new SimplePartitioner()));
+		step.setPartitionHandler((stepSplitter, stepExecution) -> {
+			Set<StepExecution> executions = stepSplitter.split(stepExecution, 2);
+			for (StepExecution execution : executions) {
+				execution.setStatus(BatchStatus.COMPLETED);
+				execution.setExitStatus(ExitStatus.COMPLETED);
+				execution.addFailureException(exception);
+				jobRepository.update(execution);
+			}
+			return executions;
+		});
+		step.afterPropertiesSet();
+		JobExecution jobExecution = jobRepository.createJobExecution("vanillaJob", new JobParameters());
+		StepExecution stepExecution = jobExecution.createStepExecution("foo");
+		jobRepository.add(stepExecution);
+		step.execute(stepExecution);
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertEquals(2, jobExecution.getDetachedStepExecutionIds().size());
+		// one manager and two workers loaded from the job repository
+		Collection<StepExecution> stepExecutions = jobExecution.getStepExecutions();
+		assertEquals(3, stepExecutions.size());
+		for (StepExecution execution : stepExecutions) {
+			assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		}
+		assertEquals(List.of(exception), jobExecution.getAllFailureExceptions());
+	}
+
 	@Test
 	void testFailedStepExecution() throws Exception {
 		step.setStepExecutionSplitter(
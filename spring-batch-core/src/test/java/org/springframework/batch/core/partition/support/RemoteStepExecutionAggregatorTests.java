@@ -28,6 +28,7 @@ import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -40,6 +41,8 @@ class RemoteStepExecutionAggregatorTests {
 
 	private final RemoteStepExecutionAggregator aggregator = new RemoteStepExecutionAggregator();
 
+	private JobRepository jobRepository;
+
 	private JobExecution jobExecution;
 
 	private StepExecution result;
@@ -59,7 +62,7 @@ class RemoteStepExecutionAggregatorTests {
 		factory.setDataSource(embeddedDatabase);
 		factory.setTransactionManager(transactionManager);
 		factory.afterPropertiesSet();
-		JobRepository jobRepository = factory.getObject();
+		jobRepository = factory.getObject();
 		JobExplorerFactoryBean explorerFactoryBean = new JobExplorerFactoryBean();
 		explorerFactoryBean.setDataSource(embeddedDatabase);
 		explorerFactoryBean.setTransactionManager(transactionManager);
@@ -92,6 +95,26 @@ class RemoteStepExecutionAggregatorTests {
 		assertEquals(BatchStatus.STARTING, result.getStatus());
 	}
 
+	@Test
+	void testAggregateInPages() {
+		stepExecution1.setStatus(BatchStatus.COMPLETED);
+		stepExecution1.setReadCount(1);
+		stepExecution2.setStatus(BatchStatus.FAILED);
+		stepExecution2.setReadCount(2);
+		jobRepository.update(stepExecution1);
+		jobRepository.update(stepExecution2);
+		List<Integer> pageSizes = new ArrayList<>();
+		aggregator.setDelegate((result, executions) -> {
+			pageSizes.add(executions.size());
+			new DefaultStepExecutionAggregator().aggregate(result, executions);
+		});
+		aggregator.setPageSize(1);
+		aggregator.aggregate(result, List.of(stepExecution1, stepExecution2));
+		assertEquals(List.of(1, 1), pageSizes);
+		assertEquals(BatchStatus.FAILED, result.getStatus());
+		assertEquals(3, result.getReadCount());
+	}
+
 	@Test
 	void testAggregateStatusMissingExecution() {
 		stepExecution2 = jobExecution.createStepExecution("foo:3");
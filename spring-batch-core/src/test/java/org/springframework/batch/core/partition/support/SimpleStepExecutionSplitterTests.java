@@ -138,6 +138,43 @@ class SimpleStepExecutionSplitterTests {
 		assertEquals("step:foo", split.iterator().next().getStepName());
 	}
 
+	@Test
+	void testRestoreExecutionContextsAfterFailure() throws Exception {
+		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, true, step.getName(),
+				new SimplePartitioner());
+		Set<StepExecution> split = provider.split(stepExecution, 2);
+		for (StepExecution partition : split) {
+			partition.getExecutionContext().putString("name", partition.getStepName());
+			jobRepository.updateExecutionContext(partition);
+		}
+		StepExecution nextExecution = update(split, stepExecution, BatchStatus.FAILED, false);
+
+		split = provider.split(nextExecution, 2);
+
+		assertEquals(2, split.size());
+		for (StepExecution partition : split) {
+			assertEquals(nextExecution.getJobExecutionId(), partition.getJobExecutionId());
+			assertEquals(partition.getStepName(), partition.getExecutionContext().getString("name"));
+		}
+	}
+
+	@Test
+	void testOverriddenIsStartable() throws Exception {
+		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, true, step.getName(),
+				new SimplePartitioner()) {
+			@Override
+			protected boolean isStartable(StepExecution stepExecution, ExecutionContext context)
+					throws JobExecutionException {
+				return !stepExecution.getStepName().endsWith("partition0") && super.isStartable(stepExecution, context);
+			}
+		};
+
+		Set<StepExecution> split = provider.split(stepExecution, 2);
+
+		assertEquals(1, split.size());
+		assertEquals("step:partition1", split.iterator().next().getStepName());
+	}
+
 	@Test
 	void testGetStepName() {
 		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, true, step.getName(),
@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for {@link ExecutionContextDao} implementations.
@@ -130,6 +132,26 @@ public abstract class AbstractExecutionContextDaoTests extends AbstractTransacti
 		}
 	}
 
+	@Transactional
+	@Test
+	void testSaveAndFindStepContexts() {
+		List<StepExecution> stepExecutions = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			StepExecution se = new StepExecution("step" + i, jobExecution);
+			se.getExecutionContext().putInt("index", i);
+			stepExecutions.add(se);
+		}
+		stepExecutionDao.saveStepExecutions(stepExecutions);
+		contextDao.saveExecutionContexts(stepExecutions.subList(0, 2));
+
+		Map<Long, ExecutionContext> retrieved = contextDao.getExecutionContexts(stepExecutions);
+
+		assertEquals(3, retrieved.size());
+		assertEquals(stepExecutions.get(0).getExecutionContext(), retrieved.get(stepExecutions.get(0).getId()));
+		assertEquals(stepExecutions.get(1).getExecutionContext(), retrieved.get(stepExecutions.get(1).getId()));
+		assertTrue(retrieved.get(stepExecutions.get(2).getId()).isEmpty());
+	}
+
 	@Transactional
 	@Test
 	void testSaveNullExecutionContexts() {
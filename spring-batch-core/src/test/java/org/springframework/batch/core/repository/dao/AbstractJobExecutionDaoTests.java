@@ -31,6 +31,7 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExecutionSummary;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -371,6 +372,47 @@ public abstract class AbstractJobExecutionDaoTests {
 		assertEquals(BatchStatus.UNKNOWN, exec2.getStatus());
 	}
 
+	@Transactional
+	@Test
+	void testFindJobExecutionSummaries() {
+		List<JobExecution> executions = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			JobExecution exec = new JobExecution(jobInstance, jobParameters);
+			exec.setStatus(BatchStatus.FAILED);
+			exec.setExitStatus(ExitStatus.FAILED);
+			exec.setStartTime(LocalDateTime.now());
+			exec.setEndTime(LocalDateTime.now());
+			dao.saveJobExecution(exec);
+			executions.add(exec);
+		}
+		JobInstance otherJobInstance = getJobInstanceDao().createJobInstance("otherExecTestJob", jobParameters);
+		JobExecution other = new JobExecution(otherJobInstance, jobParameters);
+		dao.saveJobExecution(other);
+
+		List<JobExecutionSummary> firstPage = dao.findJobExecutionSummaries("execTestJob", null, 2);
+		assertEquals(2, firstPage.size());
+		JobExecutionSummary summary = firstPage.get(0);
+		assertEquals(executions.get(4).getId(), summary.jobExecutionId());
+		assertEquals(jobInstance.getId(), summary.jobInstanceId());
+		assertEquals("execTestJob", summary.jobName());
+		assertEquals(BatchStatus.FAILED, summary.status());
+		assertEquals(ExitStatus.FAILED.getExitCode(), summary.exitCode());
+		assertEquals(executions.get(4).getStartTime(), summary.startTime());
+		assertEquals(executions.get(4).getEndTime(), summary.endTime());
+		assertEquals(executions.get(3).getId(), firstPage.get(1).jobExecutionId());
+
+		List<JobExecutionSummary> lastPage = dao.findJobExecutionSummaries("execTestJob",
+				firstPage.get(1).jobExecutionId(), 5);
+		assertEquals(3, lastPage.size());
+		assertEquals(executions.get(2).getId(), lastPage.get(0).jobExecutionId());
+		assertEquals(executions.get(0).getId(), lastPage.get(2).jobExecutionId());
+
+		List<JobExecutionSummary> allJobs = dao.findJobExecutionSummaries(null, null, 2);
+		assertEquals(other.getId(), allJobs.get(0).jobExecutionId());
+		assertEquals("otherExecTestJob", allJobs.get(0).jobName());
+		assertEquals(executions.get(4).getId(), allJobs.get(1).jobExecutionId());
+	}
+
 	/*
 	 * Check to make sure the executions are equal. Normally, comparing the id's is
 	 * sufficient. However, for testing purposes, especially of a DAO, we need to make
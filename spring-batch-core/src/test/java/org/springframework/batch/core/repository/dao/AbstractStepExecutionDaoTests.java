@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -188,6 +189,39 @@ public abstract class AbstractStepExecutionDaoTests extends AbstractTransactiona
 		assertEquals(lastStepExecution.getId(), retrieved.getId());
 	}
 
+	@Transactional
+	@Test
+	void testSaveAndGetLastExecutions() {
+		StepExecution stepExecution1 = new StepExecution("step1", jobExecution);
+		StepExecution stepExecution2 = new StepExecution("step1", jobExecution);
+		StepExecution stepExecution3 = new StepExecution("step2", jobExecution);
+
+		dao.saveStepExecutions(Arrays.asList(stepExecution1, stepExecution2, stepExecution3));
+
+		Map<String, StepExecution> lastStepExecutions = dao.getLastStepExecutions(jobInstance,
+				List.of("step1", "step2", "step3"));
+		assertEquals(2, lastStepExecutions.size());
+		assertEquals(stepExecution2.getId(), lastStepExecutions.get("step1").getId());
+		assertEquals(stepExecution3.getId(), lastStepExecutions.get("step2").getId());
+		assertEquals(jobExecution.getId(), lastStepExecutions.get("step1").getJobExecutionId());
+	}
+
+	@Transactional
+	@Test
+	void testSaveAndGetExecutionsById() {
+		StepExecution stepExecution1 = new StepExecution("step1", jobExecution);
+		StepExecution stepExecution2 = new StepExecution("step2", jobExecution);
+		StepExecution stepExecution3 = new StepExecution("step3", jobExecution);
+
+		dao.saveStepExecutions(Arrays.asList(stepExecution1, stepExecution2, stepExecution3));
+
+		List<StepExecution> retrieved = dao.getStepExecutions(jobExecution,
+				List.of(stepExecution3.getId(), stepExecution1.getId(), 45677L));
+		assertEquals(2, retrieved.size());
+		assertStepExecutionsAreEqual(stepExecution1, retrieved.get(0));
+		assertStepExecutionsAreEqual(stepExecution3, retrieved.get(1));
+	}
+
 	@Transactional
 	@Test
 	void testSaveNullCollectionThrowsException() {
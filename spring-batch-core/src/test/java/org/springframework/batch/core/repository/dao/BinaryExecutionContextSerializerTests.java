@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryExecutionContextSerializerTests extends AbstractExecutionContextSerializerTests {
+
+	private final BinaryExecutionContextSerializer serializer = new BinaryExecutionContextSerializer();
+
+	@Test
+	void testSerializeCommonTypes() throws IOException {
+		Map<String, Object> nested = new HashMap<>();
+		nested.put("key", "value");
+		nested.put("empty", null);
+		List<Object> list = new ArrayList<>();
+		list.add(1);
+		list.add(nested);
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("string", "café ☕");
+		m1.put("int", -42);
+		m1.put("minInt", Integer.MIN_VALUE);
+		m1.put("long", Long.MAX_VALUE);
+		m1.put("negativeLong", Long.MIN_VALUE);
+		m1.put("double", 1234567.1234D);
+		m1.put("float", 1.5F);
+		m1.put("true", true);
+		m1.put("false", false);
+		m1.put("date", new Date(123456790123L));
+		m1.put("localDate", LocalDate.of(1900, 1, 1));
+		m1.put("localTime", LocalTime.of(23, 59, 59, 999_999_999));
+		m1.put("localDateTime", LocalDateTime.of(2024, 2, 29, 12, 30));
+		m1.put("instant", Instant.ofEpochSecond(-1, 5));
+		m1.put("list", list);
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertEquals(m1, m2);
+		assertInstanceOf(Integer.class, m2.get("int"));
+		assertInstanceOf(Float.class, m2.get("float"));
+	}
+
+	@Test
+	void testOutputIsSmallerThanDefaultSerializer() throws IOException {
+		Map<String, Object> context = Map.of("FlatFileItemReader.read.count", 12345, "FlatFileItemWriter.current.count",
+				678910L, "batch.taskletType", "ChunkOrientedTasklet");
+
+		int binarySize = serialize(this.serializer, context).length();
+		int defaultSize = serialize(new DefaultExecutionContextSerializer(), context).length();
+
+		assertTrue(binarySize * 2 < defaultSize, binarySize + " vs " + defaultSize);
+	}
+
+	@Test
+	void testLargeContextCompressed() throws IOException {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("large", "x".repeat(10_000));
+
+		String serialized = serialize(this.serializer, m1);
+
+		assertTrue(serialized.startsWith("unwR"));
+		assertTrue(serialized.length() < 1000);
+		assertEquals(m1, deserialize(this.serializer, serialized));
+	}
+
+	@Test
+	void testCompressionDisabled() throws IOException {
+		this.serializer.setCompressionThreshold(Integer.MAX_VALUE);
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("large", "x".repeat(10_000));
+
+		String serialized = serialize(this.serializer, m1);
+
+		assertTrue(serialized.startsWith("unwQ"));
+		assertEquals(m1, deserialize(this.serializer, serialized));
+	}
+
+	@Test
+	void testDeserializeWithFallbackSerializer() throws IOException {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("count", 5);
+		String legacy = serialize(new DefaultExecutionContextSerializer(), m1);
+
+		this.serializer.setFallbackSerializer(new DefaultExecutionContextSerializer());
+
+		assertEquals(m1, deserialize(this.serializer, legacy));
+		assertTrue(serialize(this.serializer, m1).startsWith("unwQ"));
+	}
+
+	@Test
+	void testDeserializeWithJacksonFallbackSerializer() throws IOException {
+		Jackson2ExecutionContextStringSerializer jacksonSerializer = new Jackson2ExecutionContextStringSerializer();
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("name", "foo");
+		String legacy = serialize(jacksonSerializer, m1);
+
+		this.serializer.setFallbackSerializer(jacksonSerializer);
+
+		assertEquals(m1, deserialize(this.serializer, legacy));
+	}
+
+	@Test
+	void testDeserializeOtherFormatWithoutFallbackSerializer() throws IOException {
+		String legacy = serialize(new DefaultExecutionContextSerializer(), Map.of("count", 5));
+
+		assertThrows(IllegalArgumentException.class, () -> deserialize(this.serializer, legacy));
+	}
+
+	@Test
+	void testSerializeNonSerializable() {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("object1", new Object());
+
+		assertThrows(IllegalArgumentException.class, () -> this.serializer.serialize(m1, new ByteArrayOutputStream()));
+	}
+
+	@Override
+	protected ExecutionContextSerializer getSerializer() {
+		return this.serializer;
+	}
+
+	private static String serialize(ExecutionContextSerializer serializer, Map<String, Object> context)
+			throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize(context, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private static Map<String, Object> deserialize(ExecutionContextSerializer serializer, String serialized)
+			throws IOException {
+		return serializer.deserialize(new ByteArrayInputStream(serialized.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileJobExecutionDaoTests extends AbstractJobExecutionDaoTests {
+
+	@TempDir
+	Path directory;
+
+	private FileJobRepositoryStore store;
+
+	@Override
+	protected JobExecutionDao getJobExecutionDao() {
+		return new FileJobExecutionDao(getStore());
+	}
+
+	@Override
+	protected JobInstanceDao getJobInstanceDao() {
+		return new FileJobInstanceDao(getStore());
+	}
+
+	@Override
+	protected StepExecutionDao getStepExecutionDao() {
+		return new FileStepExecutionDao(getStore());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		this.store.close();
+	}
+
+	@Test
+	void testJobParametersRoundTrip() {
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo")
+			.addLong("count", 5L, false)
+			.addDate("date", new Date(123456789L))
+			.addLocalDate("localDate", LocalDate.of(2024, 1, 31))
+			.addLocalDateTime("localDateTime", LocalDateTime.of(2024, 1, 31, 12, 30))
+			.toJobParameters();
+		JobExecution jobExecution = new JobExecution(this.jobInstance, jobParameters);
+		this.dao.saveJobExecution(jobExecution);
+
+		JobExecution retrieved = this.dao.getJobExecution(jobExecution.getId());
+
+		assertEquals(jobParameters, retrieved.getJobParameters());
+	}
+
+	@Test
+	void testUpdateUnknownExecution() {
+		JobExecution jobExecution = new JobExecution(this.jobInstance, 42L, new JobParameters());
+		jobExecution.setVersion(0);
+
+		assertThrows(NoSuchObjectException.class, () -> this.dao.updateJobExecution(jobExecution));
+	}
+
+	private FileJobRepositoryStore getStore() {
+		if (this.store == null) {
+			this.store = new FileJobRepositoryStore(this.directory);
+			try {
+				this.store.open();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return this.store;
+	}
+
+}
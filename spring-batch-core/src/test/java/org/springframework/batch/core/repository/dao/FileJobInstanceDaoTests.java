@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileJobInstanceDaoTests extends AbstractJobInstanceDaoTests {
+
+	@TempDir
+	Path directory;
+
+	private FileJobRepositoryStore store;
+
+	@Override
+	protected JobInstanceDao getJobInstanceDao() {
+		return new FileJobInstanceDao(getStore());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		this.store.close();
+	}
+
+	@Test
+	void testCreateDuplicateInstance() {
+		dao.createJobInstance("foo", new JobParameters());
+
+		assertThrows(IllegalStateException.class, () -> dao.createJobInstance("foo", new JobParameters()));
+	}
+
+	@Test
+	void testFindJobInstanceByExecution() {
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = dao.createJobInstance("testInstance", jobParameters);
+		JobExecution jobExecution = new JobExecution(jobInstance, jobParameters);
+		new FileJobExecutionDao(getStore()).saveJobExecution(jobExecution);
+
+		assertEquals(jobInstance, dao.getJobInstance(jobExecution));
+	}
+
+	private FileJobRepositoryStore getStore() {
+		if (this.store == null) {
+			this.store = new FileJobRepositoryStore(this.directory);
+			try {
+				this.store.open();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return this.store;
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileJobRepositoryStoreTests {
+
+	@TempDir
+	Path directory;
+
+	private FileJobRepositoryStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.store = new FileJobRepositoryStore(this.directory);
+		this.store.open();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		this.store.close();
+	}
+
+	@Test
+	void testStateRestoredOnReopen() throws IOException {
+		StepExecution stepExecution = createStepExecution();
+		stepExecution.setReadCount(42);
+		stepExecution.getExecutionContext().putString("key", "value");
+		new FileStepExecutionDao(this.store).updateStepExecution(stepExecution);
+		new FileExecutionContextDao(this.store).updateExecutionContext(stepExecution);
+
+		reopen();
+
+		assertRestored(stepExecution);
+	}
+
+	@Test
+	void testTornRecordDiscardedOnReopen() throws IOException {
+		StepExecution stepExecution = createStepExecution();
+		Path log = this.directory.resolve(FileJobRepositoryStore.LOG_FILE_NAME);
+		this.store.close();
+		Files.write(log, new byte[] { 0, 0, 0, 100, 1, 2, 3 }, StandardOpenOption.APPEND);
+		long tornLength = Files.size(log);
+
+		this.store.open();
+
+		assertEquals(tornLength - 7, Files.size(log));
+		assertRestored(stepExecution);
+		new FileJobInstanceDao(this.store).createJobInstance("other", new JobParameters());
+		reopen();
+		assertNotNull(new FileJobInstanceDao(this.store).getJobInstance("other", new JobParameters()));
+	}
+
+	@Test
+	void testCompaction() throws IOException {
+		this.store.setCompactionThreshold(10);
+		StepExecution stepExecution = createStepExecution();
+		FileStepExecutionDao stepExecutionDao = new FileStepExecutionDao(this.store);
+		Path log = this.directory.resolve(FileJobRepositoryStore.LOG_FILE_NAME);
+		long initialSize = Files.size(log);
+		stepExecutionDao.updateStepExecution(stepExecution);
+		long recordSize = Files.size(log) - initialSize;
+
+		for (int i = 0; i < 25; i++) {
+			stepExecution.setReadCount(i);
+			stepExecutionDao.updateStepExecution(stepExecution);
+		}
+
+		assertTrue(Files.size(log) < initialSize + 12 * recordSize);
+		reopen();
+		assertRestored(stepExecution);
+	}
+
+	@Test
+	@DisabledOnOs(value = OS.WINDOWS, disabledReason = "an open file can not be deleted")
+	void testStoreStillWritableAfterFailedCompaction() throws IOException {
+		this.store.setCompactionThreshold(10);
+		StepExecution stepExecution = createStepExecution();
+		FileStepExecutionDao stepExecutionDao = new FileStepExecutionDao(this.store);
+		// the compacted log can not be moved over a non-empty directory
+		Path log = this.directory.resolve(FileJobRepositoryStore.LOG_FILE_NAME);
+		Files.delete(log);
+		Files.createFile(Files.createDirectory(log).resolve("file"));
+
+		for (int i = 0; i < 25; i++) {
+			stepExecution.setReadCount(i);
+			stepExecutionDao.updateStepExecution(stepExecution);
+		}
+
+		assertEquals(24, stepExecutionDao.getStepExecution(stepExecution.getJobExecution(), stepExecution.getId())
+			.getReadCount());
+	}
+
+	@Test
+	void testUnchangedExecutionContextNotWritten() throws IOException {
+		StepExecution stepExecution = createStepExecution();
+		FileExecutionContextDao executionContextDao = new FileExecutionContextDao(this.store);
+		stepExecution.getExecutionContext().putString("key", "value");
+		executionContextDao.updateExecutionContext(stepExecution);
+		Path log = this.directory.resolve(FileJobRepositoryStore.LOG_FILE_NAME);
+		long size = Files.size(log);
+
+		executionContextDao.updateExecutionContext(stepExecution);
+
+		assertEquals(size, Files.size(log));
+	}
+
+	@Test
+	void testStoreUsedByAnotherOwner() {
+		FileJobRepositoryStore other = new FileJobRepositoryStore(this.directory);
+
+		assertThrows(IllegalStateException.class, other::open);
+	}
+
+	private StepExecution createStepExecution() {
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobInstance jobInstance = new FileJobInstanceDao(this.store).createJobInstance("job", jobParameters);
+		JobExecution jobExecution = new JobExecution(jobInstance, jobParameters);
+		jobExecution.setStatus(BatchStatus.STARTED);
+		new FileJobExecutionDao(this.store).saveJobExecution(jobExecution);
+		StepExecution stepExecution = jobExecution.createStepExecution("step");
+		stepExecution.setCreateTime(LocalDateTime.now());
+		new FileStepExecutionDao(this.store).saveStepExecution(stepExecution);
+		return stepExecution;
+	}
+
+	private void assertRestored(StepExecution stepExecution) {
+		JobExecution jobExecution = new FileJobExecutionDao(this.store)
+			.getJobExecution(stepExecution.getJobExecutionId());
+		assertNotNull(jobExecution);
+		assertEquals(BatchStatus.STARTED, jobExecution.getStatus());
+		assertEquals(stepExecution.getJobExecution().getJobParameters(), jobExecution.getJobParameters());
+		StepExecution restored = new FileStepExecutionDao(this.store).getStepExecution(jobExecution,
+				stepExecution.getId());
+		assertNotNull(restored);
+		assertEquals(stepExecution.getReadCount(), restored.getReadCount());
+		assertEquals(stepExecution.getVersion(), restored.getVersion());
+		assertEquals(stepExecution.getExecutionContext(),
+				new FileExecutionContextDao(this.store).getExecutionContext(restored));
+	}
+
+	private void reopen() throws IOException {
+		this.store.close();
+		this.store.open();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.FileJobRepositoryFactoryBean;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig(FileStepExecutionDaoTests.TestConfiguration.class)
+class FileStepExecutionDaoTests extends AbstractStepExecutionDaoTests {
+
+	@TempDir
+	Path directory;
+
+	private FileJobRepositoryStore store;
+
+	@Override
+	protected StepExecutionDao getStepExecutionDao() {
+		return new FileStepExecutionDao(getStore());
+	}
+
+	@Override
+	protected JobRepository getJobRepository() {
+		FileJobRepositoryFactoryBean factoryBean = new FileJobRepositoryFactoryBean();
+		factoryBean.setStore(getStore());
+		factoryBean.setValidateTransactionState(false);
+		try {
+			factoryBean.afterPropertiesSet();
+			return factoryBean.getObject();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		this.store.close();
+	}
+
+	private FileJobRepositoryStore getStore() {
+		if (this.store == null) {
+			this.store = new FileJobRepositoryStore(this.directory);
+			try {
+				this.store.open();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return this.store;
+	}
+
+	@Configuration
+	static class TestConfiguration {
+
+		@Bean
+		public DataSource dataSource() {
+			return mock(DataSource.class);
+		}
+
+		@Bean
+		public PlatformTransactionManager transactionManager() {
+			return new ResourcelessTransactionManager();
+		}
+
+	}
+
+}
@@ -15,14 +15,29 @@
  */
 package org.springframework.batch.core.repository.dao;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringJUnitConfig(locations = { "sql-dao-test.xml" })
 class JdbcExecutionContextDaoTests extends AbstractExecutionContextDaoTests {
@@ -36,6 +51,99 @@ class JdbcExecutionContextDaoTests extends AbstractExecutionContextDaoTests {
 		assertEquals("Serializer must not be null", exception.getMessage());
 	}
 
+	@Test
+	void testUpdateOfUnchangedContextSkipped() {
+		JdbcOperations jdbcOperations = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcOperations);
+		jdbcExecutionContextDao.setSkipUnchangedContexts(true);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 2L);
+
+		stepExecution.getExecutionContext().putLong("count", 1);
+		commit(() -> jdbcExecutionContextDao.saveExecutionContext(stepExecution));
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+		stepExecution.getExecutionContext().putLong("count", 2);
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+
+		verify(jdbcOperations, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	void testUnchangedContextNotSerialized() throws Exception {
+		JdbcOperations jdbcOperations = mock();
+		ExecutionContextSerializer serializer = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcOperations);
+		jdbcExecutionContextDao.setSerializer(serializer);
+		jdbcExecutionContextDao.setSkipUnchangedContexts(true);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 2L);
+		stepExecution.getExecutionContext().putLong("count", 1);
+
+		commit(() -> jdbcExecutionContextDao.saveExecutionContext(stepExecution));
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+
+		verify(serializer, times(1)).serialize(any(), any());
+		assertTrue(stepExecution.getExecutionContext().getChangedKeys().isEmpty());
+	}
+
+	@Test
+	void testUpdateOfReplacedContextNotSkipped() {
+		JdbcOperations jdbcOperations = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcOperations);
+		jdbcExecutionContextDao.setSkipUnchangedContexts(true);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 2L);
+
+		commit(() -> jdbcExecutionContextDao.saveExecutionContext(stepExecution));
+		stepExecution.setExecutionContext(new ExecutionContext(Map.of("count", 1L)));
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+
+		verify(jdbcOperations, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	void testUpdateOfUnchangedContextNotSkippedBeforeCommit() {
+		JdbcOperations jdbcOperations = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcOperations);
+		jdbcExecutionContextDao.setSkipUnchangedContexts(true);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 2L);
+		stepExecution.getExecutionContext().putLong("count", 1);
+
+		// the transaction of the first update is rolled back
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		commit(() -> jdbcExecutionContextDao.updateExecutionContext(stepExecution));
+
+		verify(jdbcOperations, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	void testUpdateOfUnchangedContextNotSkippedByDefault() {
+		JdbcOperations jdbcOperations = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcOperations);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 2L);
+
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		verify(jdbcOperations, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	/**
+	 * Run the given action and notify the transaction synchronizations it registered that
+	 * the (test managed) transaction was committed.
+	 */
+	private static void commit(Runnable action) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		action.run();
+		TransactionSynchronizationManager.getSynchronizations()
+			.stream()
+			.filter(synchronization -> !synchronizations.contains(synchronization))
+			.forEach(TransactionSynchronization::afterCommit);
+	}
+
 	@Override
 	protected JobInstanceDao getJobInstanceDao() {
 		return applicationContext.getBean("jobInstanceDao", JobInstanceDao.class);
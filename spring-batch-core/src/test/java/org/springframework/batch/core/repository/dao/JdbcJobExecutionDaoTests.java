@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2023 the original author or authors.
+ * Copyright 2008-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.core.repository.dao;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -26,6 +28,7 @@ import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameter;
@@ -33,10 +36,19 @@ import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.jdbc.JdbcTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 /**
  * @author Parikshit Dutta
  * @author Mahmoud Ben Hassine
@@ -144,4 +156,22 @@ public class JdbcJobExecutionDaoTests extends AbstractJobExecutionDaoTests {
 		Assertions.assertEquals(doubleParameter, parameters.getDouble("double"));
 	}
 
+	@Test
+	void testFindJobExecutionSummariesSetsMaxRows() throws Exception {
+		JdbcTemplate jdbcTemplate = spy(this.jdbcTemplate);
+		JdbcJobExecutionDao jobExecutionDao = new JdbcJobExecutionDao();
+		jobExecutionDao.setJdbcTemplate(jdbcTemplate);
+
+		jobExecutionDao.findJobExecutionSummaries("job", null, 2);
+
+		ArgumentCaptor<PreparedStatementCreator> statementCreator = ArgumentCaptor
+			.forClass(PreparedStatementCreator.class);
+		verify(jdbcTemplate).query(statementCreator.capture(), any(ResultSetExtractor.class));
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		statementCreator.getValue().createPreparedStatement(connection);
+		verify(statement).setMaxRows(2);
+	}
+
 }
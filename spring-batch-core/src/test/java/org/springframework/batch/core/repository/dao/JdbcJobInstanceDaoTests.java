@@ -34,6 +34,7 @@ import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobKeyGenerator;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.jdbc.JdbcTestUtils;
@@ -119,6 +120,27 @@ public class JdbcJobInstanceDaoTests extends AbstractJobInstanceDaoTests {
 		Assertions.assertNull(dao.getJobInstance(jobInstance.getId()));
 	}
 
+	@Transactional
+	@Test
+	void testLockJobInstance() {
+		JobInstance jobInstance = dao.createJobInstance("someTestInstance", new JobParameters());
+
+		dao.lockJobInstance(jobInstance);
+
+		Assertions.assertEquals(1,
+				jdbcTemplate.queryForObject("SELECT VERSION FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID = ?",
+						Integer.class, jobInstance.getId()));
+	}
+
+	@Transactional
+	@Test
+	void testLockDeletedJobInstance() {
+		JobInstance jobInstance = dao.createJobInstance("someTestInstance", new JobParameters());
+		dao.deleteJobInstance(jobInstance);
+
+		Assertions.assertThrows(OptimisticLockingFailureException.class, () -> dao.lockJobInstance(jobInstance));
+	}
+
 	@Test
 	void testDefaultJobKeyGeneratorIsUsed() {
 		JobKeyGenerator jobKeyGenerator = (JobKeyGenerator) ReflectionTestUtils.getField(jobInstanceDao,
@@ -18,11 +18,26 @@ package org.springframework.batch.core.repository.dao;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.database.support.PooledDataFieldMaxValueIncrementer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -100,4 +115,68 @@ class JdbcStepExecutionDaoTests extends AbstractStepExecutionDaoTests {
 		assertNull(dao.getStepExecution(jobExecution, stepExecution.getId()));
 	}
 
+	@Test
+	void testSaveStepExecutionsWithSequenceIncrementer() {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(EmbeddedDatabaseType.H2)
+			.addScript("/org/springframework/batch/core/schema-h2.sql")
+			.build();
+		try {
+			JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(database));
+			JdbcJobInstanceDao jobInstanceDao = new JdbcJobInstanceDao();
+			jobInstanceDao.setJdbcTemplate(jdbcTemplate);
+			jobInstanceDao.setJobInstanceIncrementer(new H2SequenceMaxValueIncrementer(database, "BATCH_JOB_SEQ"));
+			JdbcJobExecutionDao jobExecutionDao = new JdbcJobExecutionDao();
+			jobExecutionDao.setJdbcTemplate(jdbcTemplate);
+			jobExecutionDao
+				.setJobExecutionIncrementer(new H2SequenceMaxValueIncrementer(database, "BATCH_JOB_EXECUTION_SEQ"));
+			JdbcStepExecutionDao stepExecutionDao = new JdbcStepExecutionDao();
+			stepExecutionDao.setJdbcTemplate(jdbcTemplate);
+			stepExecutionDao
+				.setStepExecutionIncrementer(new H2SequenceMaxValueIncrementer(database, "BATCH_STEP_EXECUTION_SEQ"));
+			JobExecution jobExecution = new JobExecution(jobInstanceDao.createJobInstance("job", new JobParameters()),
+					new JobParameters());
+			jobExecutionDao.saveJobExecution(jobExecution);
+			List<StepExecution> stepExecutions = List.of(new StepExecution("foo", jobExecution),
+					new StepExecution("bar", jobExecution), new StepExecution("baz", jobExecution));
+
+			stepExecutionDao.saveStepExecutions(stepExecutions);
+
+			verify(jdbcTemplate, times(1))
+				.queryForList("SELECT NEXT VALUE FOR BATCH_STEP_EXECUTION_SEQ FROM SYSTEM_RANGE(1, ?)", Long.class, 3);
+			assertEquals(3, stepExecutions.stream().map(StepExecution::getId).distinct().count());
+			for (StepExecution saved : stepExecutions) {
+				assertEquals(saved.getStepName(),
+						stepExecutionDao.getStepExecution(jobExecution, saved.getId()).getStepName());
+			}
+		}
+		finally {
+			database.shutdown();
+		}
+	}
+
+	@Transactional
+	@Test
+	void testSaveStepExecutionsWithPooledIncrementer() {
+		JdbcStepExecutionDao jdbcStepExecutionDao = (JdbcStepExecutionDao) dao;
+		DataFieldMaxValueIncrementer incrementer = (DataFieldMaxValueIncrementer) ReflectionTestUtils
+			.getField(jdbcStepExecutionDao, "stepExecutionIncrementer");
+		DataFieldMaxValueIncrementer delegate = spy(incrementer);
+		jdbcStepExecutionDao.setStepExecutionIncrementer(new PooledDataFieldMaxValueIncrementer(delegate, 10));
+		try {
+			List<StepExecution> stepExecutions = List.of(stepExecution, new StepExecution("bar", jobExecution),
+					new StepExecution("baz", jobExecution));
+
+			dao.saveStepExecutions(stepExecutions);
+
+			verify(delegate, times(1)).nextLongValue();
+			for (StepExecution saved : stepExecutions) {
+				assertEquals(saved.getStepName(), dao.getStepExecution(jobExecution, saved.getId()).getStepName());
+			}
+		}
+		finally {
+			jdbcStepExecutionDao.setStepExecutionIncrementer(incrementer);
+		}
+	}
+
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Tests for the detection of concurrent launches of the same job instance at
+ * {@code ISOLATION_READ_COMMITTED}. Job executions are created in transactions that are
+ * kept open by the tests to control how concurrent launches interleave.
+ */
+class ReadCommittedJobRepositoryTests {
+
+	private final JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+
+	private EmbeddedDatabase database;
+
+	private JobRepository jobRepository;
+
+	private TransactionTemplate transactionTemplate;
+
+	private final ThreadLocal<Boolean> secondLaunch = ThreadLocal.withInitial(() -> false);
+
+	// counted down when the second launch creates or locks the job instance of the first
+	private final CountDownLatch conflicting = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.addScript("/org/springframework/batch/core/schema-h2.sql")
+			.generateUniqueName(true)
+			.build();
+		JdbcTransactionManager transactionManager = new JdbcTransactionManager(this.database);
+		// join the transactions of the tests instead of creating new ones
+		Properties transactionAttributes = new Properties();
+		transactionAttributes.setProperty("*", "PROPAGATION_REQUIRED");
+		NameMatchTransactionAttributeSource transactionAttributeSource = new NameMatchTransactionAttributeSource();
+		transactionAttributeSource.setProperties(transactionAttributes);
+		JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean() {
+			@Override
+			protected JobInstanceDao createJobInstanceDao() throws Exception {
+				JobInstanceDao jobInstanceDao = spy(super.createJobInstanceDao());
+				Answer<?> answer = invocation -> {
+					if (secondLaunch.get()) {
+						conflicting.countDown();
+					}
+					return invocation.callRealMethod();
+				};
+				doAnswer(answer).when(jobInstanceDao).createJobInstance(any(), any());
+				doAnswer(answer).when(jobInstanceDao).lockJobInstance(any());
+				return jobInstanceDao;
+			}
+		};
+		factory.setDataSource(this.database);
+		factory.setTransactionManager(transactionManager);
+		factory.setTransactionAttributeSource(transactionAttributeSource);
+		factory.setValidateTransactionState(false);
+		factory.setIsolationLevelForCreateEnum(Isolation.READ_COMMITTED);
+		factory.afterPropertiesSet();
+		this.jobRepository = factory.getObject();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Test
+	void testConcurrentLaunchOfNewJobInstance() throws Exception {
+		assertConcurrentLaunchDetected();
+		assertEquals(1, countRows("BATCH_JOB_INSTANCE"));
+		assertEquals(1, countRows("BATCH_JOB_EXECUTION"));
+	}
+
+	@Test
+	void testConcurrentLaunchOfExistingJobInstance() throws Exception {
+		this.transactionTemplate.executeWithoutResult(status -> createJobExecution(BatchStatus.FAILED));
+
+		assertConcurrentLaunchDetected();
+		assertEquals(1, countRows("BATCH_JOB_INSTANCE"));
+		assertEquals(2, countRows("BATCH_JOB_EXECUTION"));
+	}
+
+	private void assertConcurrentLaunchDetected() throws Exception {
+		CountDownLatch created = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		CompletableFuture<JobExecution> first = CompletableFuture
+			.supplyAsync(() -> this.transactionTemplate.execute(status -> {
+				JobExecution jobExecution = createJobExecution(BatchStatus.STARTED);
+				created.countDown();
+				await(commit);
+				return jobExecution;
+			}));
+		assertTrue(created.await(10, TimeUnit.SECONDS));
+
+		// the second launch can not see the uncommitted execution of the first one
+		CompletableFuture<JobExecution> second = CompletableFuture
+			.supplyAsync(() -> this.transactionTemplate.execute(status -> {
+				this.secondLaunch.set(true);
+				return createJobExecution(BatchStatus.STARTED);
+			}));
+		assertTrue(this.conflicting.await(10, TimeUnit.SECONDS));
+		commit.countDown();
+
+		assertEquals(BatchStatus.STARTED, first.get(10, TimeUnit.SECONDS).getStatus());
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+
+		assertInstanceOf(JobExecutionAlreadyRunningException.class, exception.getCause().getCause());
+	}
+
+	private JobExecution createJobExecution(BatchStatus status) {
+		try {
+			JobExecution jobExecution = this.jobRepository.createJobExecution("job", this.jobParameters);
+			jobExecution.setStartTime(LocalDateTime.now());
+			jobExecution.setStatus(status);
+			if (!status.isRunning()) {
+				jobExecution.setEndTime(LocalDateTime.now());
+			}
+			this.jobRepository.update(jobExecution);
+			return jobExecution;
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private int countRows(String table) {
+		return new JdbcTemplate(this.database).queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -21,7 +21,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +35,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
@@ -49,6 +52,7 @@ import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.step.StepSupport;
+import org.springframework.dao.DuplicateKeyException;
 
 /**
  * Test SimpleJobRepository. The majority of test cases are tested using Mockito, however,
@@ -276,6 +280,84 @@ class SimpleJobRepositoryTests {
 				() -> jobRepository.createJobExecution("foo", new JobParameters()));
 	}
 
+	@Test
+	void testCreateJobExecutionLocksExistingJobInstance() throws Exception {
+		jobRepository.setLockJobInstanceOnCreate(true);
+		jobExecution.setStatus(BatchStatus.FAILED);
+		jobExecution.setEndTime(LocalDateTime.now());
+
+		when(jobInstanceDao.getJobInstance("foo", new JobParameters())).thenReturn(jobInstance);
+		when(jobExecutionDao.findJobExecutions(jobInstance)).thenReturn(Arrays.asList(jobExecution));
+
+		jobRepository.createJobExecution("foo", new JobParameters());
+
+		InOrder inOrder = inOrder(jobInstanceDao, jobExecutionDao);
+		inOrder.verify(jobInstanceDao).lockJobInstance(jobInstance);
+		inOrder.verify(jobExecutionDao).findJobExecutions(jobInstance);
+	}
+
+	@Test
+	void testCreateJobExecutionDoesNotLockExistingJobInstanceByDefault() throws Exception {
+		jobExecution.setStatus(BatchStatus.FAILED);
+		jobExecution.setEndTime(LocalDateTime.now());
+
+		when(jobInstanceDao.getJobInstance("foo", new JobParameters())).thenReturn(jobInstance);
+		when(jobExecutionDao.findJobExecutions(jobInstance)).thenReturn(Arrays.asList(jobExecution));
+
+		jobRepository.createJobExecution("foo", new JobParameters());
+
+		verify(jobInstanceDao, never()).lockJobInstance(jobInstance);
+	}
+
+	@Test
+	void testCreateJobExecutionWhenJobInstanceCreatedConcurrently() {
+		jobRepository.setLockJobInstanceOnCreate(true);
+		when(jobInstanceDao.createJobInstance("foo", new JobParameters()))
+			.thenThrow(new DuplicateKeyException("Unique index or primary key violation: JOB_INST_UN"));
+
+		assertThrows(JobExecutionAlreadyRunningException.class,
+				() -> jobRepository.createJobExecution("foo", new JobParameters()));
+	}
+
+	@Test
+	void testCreateJobExecutionWhenJobInstanceVisibleAfterDuplicateKey() {
+		jobRepository.setLockJobInstanceOnCreate(true);
+		when(jobInstanceDao.getJobInstance("foo", new JobParameters())).thenReturn(null, jobInstance);
+		when(jobInstanceDao.createJobInstance("foo", new JobParameters()))
+			.thenThrow(new DuplicateKeyException("Duplicate key"));
+
+		assertThrows(JobExecutionAlreadyRunningException.class,
+				() -> jobRepository.createJobExecution("foo", new JobParameters()));
+	}
+
+	@Test
+	void testCreateJobExecutionWhenJobInstanceCommittedAfterLookup() {
+		jobRepository.setLockJobInstanceOnCreate(true);
+		when(jobInstanceDao.getJobInstance("foo", new JobParameters())).thenReturn(null, jobInstance);
+		when(jobInstanceDao.createJobInstance("foo", new JobParameters()))
+			.thenThrow(new IllegalStateException("JobInstance must not already exist"));
+
+		assertThrows(JobExecutionAlreadyRunningException.class,
+				() -> jobRepository.createJobExecution("foo", new JobParameters()));
+	}
+
+	@Test
+	void testCreateJobExecutionWithOtherDuplicateKey() {
+		jobRepository.setLockJobInstanceOnCreate(true);
+		when(jobInstanceDao.createJobInstance("foo", new JobParameters()))
+			.thenThrow(new DuplicateKeyException("Duplicate key: JOB_INSTANCE_ID"));
+
+		assertThrows(DuplicateKeyException.class, () -> jobRepository.createJobExecution("foo", new JobParameters()));
+	}
+
+	@Test
+	void testCreateJobExecutionWithDuplicateKeyWhenNotLocking() {
+		when(jobInstanceDao.createJobInstance("foo", new JobParameters()))
+			.thenThrow(new DuplicateKeyException("Unique index or primary key violation: JOB_INST_UN"));
+
+		assertThrows(DuplicateKeyException.class, () -> jobRepository.createJobExecution("foo", new JobParameters()));
+	}
+
 	@Test
 	void testCreateJobExecutionStatusUnknown() {
 		jobExecution.setStatus(BatchStatus.UNKNOWN);
@@ -15,11 +15,18 @@
  */
 package org.springframework.batch.core.step.builder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.core.BatchStatus;
@@ -45,14 +52,19 @@ import org.springframework.batch.core.configuration.xml.DummyItemWriter;
 import org.springframework.batch.core.job.SimpleJob;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemStreamSupport;
 import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.batch.item.support.ListItemWriter;
+import org.springframework.batch.item.support.LookupItemProcessor;
 import org.springframework.batch.item.support.PassThroughItemProcessor;
 import org.springframework.batch.repeat.exception.DefaultExceptionHandler;
+import org.springframework.batch.repeat.policy.AdaptiveCompletionPolicy;
 import org.springframework.batch.repeat.support.RepeatTemplate;
 import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -60,6 +72,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Dave Syer
@@ -235,6 +248,281 @@ class StepBuilderTests {
 		assertEquals("3", writtenItems.get(2));
 	}
 
+	@Test
+	void testPipelinedStep() throws Exception {
+		List<Long> items = Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+		ListItemWriter<String> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<Long, String>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.processor(item -> item % 2 == 0 ? null : item.toString())
+			.writer(itemWriter)
+			.pipelined()
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(List.of("1", "3", "5", "7"), itemWriter.getWrittenItems());
+		assertEquals(7, execution.getReadCount());
+		assertEquals(3, execution.getFilterCount());
+		assertEquals(4, execution.getWriteCount());
+		assertEquals(3, execution.getCommitCount());
+	}
+
+	@Test
+	void testPipelinedStepDestroysStepScopeOnce() throws Exception {
+		StepScopeDestructionListener listener = new StepScopeDestructionListener();
+		TaskletStep step = new StepBuilder("step", jobRepository).listener(listener)
+			.<Long, Long>chunk(4, transactionManager)
+			.reader(new ListItemReader<>(LongStream.range(0, 12).boxed().toList()))
+			.processor(item -> item)
+			.writer(new ListItemWriter<>())
+			.pipelined()
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(1, listener.destructions.get());
+	}
+
+	@Test
+	void testPipelinedFaultTolerantStep() {
+		FaultTolerantStepBuilder<Long, Long> builder = new StepBuilder("step", jobRepository)
+			.<Long, Long>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(List.of(1L)))
+			.writer(new ListItemWriter<>())
+			.pipelined()
+			.faultTolerant();
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	@Test
+	void testFanOutStep() throws Exception {
+		List<Long> items = LongStream.range(0, 100).boxed().toList();
+
+		List<Long> writtenItems = Collections.synchronizedList(new ArrayList<>());
+		TaskletStep step = new StepBuilder("step", jobRepository).<Long, Long>chunk(5, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.processor(item -> item % 10 == 0 ? null : item)
+			.writer(chunk -> writtenItems.addAll(chunk.getItems()))
+			.taskExecutor(new SimpleAsyncTaskExecutor())
+			.fanOut(2)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(items.stream().filter(item -> item % 10 != 0).toList(), writtenItems.stream().sorted().toList());
+		assertEquals(100, execution.getReadCount());
+		assertEquals(10, execution.getFilterCount());
+		assertEquals(90, execution.getWriteCount());
+	}
+
+	@Test
+	void testFanOutStepDestroysStepScopeOnce() throws Exception {
+		StepScopeDestructionListener listener = new StepScopeDestructionListener();
+		TaskletStep step = new StepBuilder("step", jobRepository).listener(listener)
+			.<Long, Long>chunk(4, transactionManager)
+			.reader(new ListItemReader<>(LongStream.range(0, 12).boxed().toList()))
+			.processor(item -> item)
+			.writer(new ListItemWriter<>())
+			.taskExecutor(new SimpleAsyncTaskExecutor())
+			.fanOut(2)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(1, listener.destructions.get());
+	}
+
+	@Test
+	void testFanOutFaultTolerantStep() {
+		FaultTolerantStepBuilder<Long, Long> builder = new StepBuilder("step", jobRepository)
+			.<Long, Long>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(List.of(1L)))
+			.writer(new ListItemWriter<>())
+			.fanOut(2)
+			.faultTolerant();
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	@Test
+	void testConcurrentProcessing() throws Exception {
+		List<Long> items = LongStream.range(0, 20).boxed().toList();
+
+		ListItemWriter<Long> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<Long, Long>chunk(10, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.processor(item -> {
+				if (item == 5L) {
+					throw new IllegalStateException("Planned failure");
+				}
+				return item % 3 == 0 ? null : item;
+			})
+			.writer(itemWriter)
+			.concurrentProcessing(4)
+			.faultTolerant()
+			.skip(IllegalStateException.class)
+			.skipLimit(1)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(items.stream().filter(item -> item != 5L && item % 3 != 0).toList(), itemWriter.getWrittenItems());
+		assertEquals(7, execution.getFilterCount());
+		assertEquals(1, execution.getProcessSkipCount());
+	}
+
+	@Test
+	void testConcurrentProcessingDestroysStepScopeOnce() throws Exception {
+		StepScopeDestructionListener listener = new StepScopeDestructionListener();
+		TaskletStep step = new StepBuilder("step", jobRepository).listener(listener)
+			.<Long, Long>chunk(4, transactionManager)
+			.reader(new ListItemReader<>(LongStream.range(0, 12).boxed().toList()))
+			.processor(item -> item)
+			.writer(new ListItemWriter<>())
+			.concurrentProcessing(4)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(1, listener.destructions.get());
+	}
+
+	@Test
+	void testBisectingScan() throws Exception {
+		List<Long> items = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+
+		ListItemWriter<Long> delegate = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<Long, Long>chunk(10, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.writer(chunk -> {
+				if (chunk.getItems().contains(5L)) {
+					throw new IllegalStateException("Planned failure");
+				}
+				delegate.write(chunk);
+			})
+			.faultTolerant()
+			.skip(IllegalStateException.class)
+			.skipLimit(1)
+			.bisectingScan()
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L), delegate.getWrittenItems());
+		assertEquals(9, execution.getWriteCount());
+		assertEquals(1, execution.getWriteSkipCount());
+		assertEquals(4, execution.getRollbackCount());
+	}
+
+	@Test
+	void testAdaptiveCompletionPolicy() throws Exception {
+		List<Long> items = Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+		AdaptiveCompletionPolicy completionPolicy = new AdaptiveCompletionPolicy(3);
+		completionPolicy.setMinChunkSize(3);
+		completionPolicy.setMaxChunkSize(3);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ListItemWriter<Long> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).meterRegistry(meterRegistry)
+			.<Long, Long>chunk(completionPolicy, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.writer(itemWriter)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(items, itemWriter.getWrittenItems());
+		assertEquals(3, execution.getCommitCount());
+		assertEquals(3, execution.getExecutionContext().getInt("AdaptiveCompletionPolicy.chunk.size"));
+		assertEquals(3,
+				meterRegistry.get("spring.batch.chunk.size")
+					.tag("spring.batch.chunk.size.job.name", execution.getJobExecution().getJobInstance().getJobName())
+					.tag("spring.batch.chunk.size.step.name", "step")
+					.gauge()
+					.value());
+	}
+
+	@Test
+	void testLookupItemProcessor() throws Exception {
+		List<Long> items = Arrays.asList(1L, 2L, 1L, 3L, 2L, 4L, 1L);
+		List<Collection<Long>> loadedKeys = new ArrayList<>();
+
+		LookupItemProcessor<Long, Long, String, String> processor = new LookupItemProcessor<>(item -> item, keys -> {
+			loadedKeys.add(new ArrayList<>(keys));
+			return keys.stream().collect(Collectors.toMap(key -> key, key -> "value" + key));
+		}, (item, value) -> value);
+		processor.setName("lookup");
+		processor.setCacheSize(3);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ListItemWriter<String> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).meterRegistry(meterRegistry)
+			.<Long, String>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.processor(processor)
+			.writer(itemWriter)
+			.build();
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(Arrays.asList("value1", "value2", "value1", "value3", "value2", "value4", "value1"),
+				itemWriter.getWrittenItems());
+		assertEquals(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Arrays.asList(1L)), loadedKeys);
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.lookup.cache.hits")
+					.tag("spring.batch.item.lookup.cache.name", "lookup")
+					.tag("spring.batch.item.lookup.cache.job.name", "foo")
+					.tag("spring.batch.item.lookup.cache.step.name", "step")
+					.functionCounter()
+					.count());
+		assertEquals(5,
+				meterRegistry.get("spring.batch.item.lookup.cache.misses")
+					.tag("spring.batch.item.lookup.cache.name", "lookup")
+					.functionCounter()
+					.count());
+		assertEquals(2,
+				meterRegistry.get("spring.batch.item.lookup.cache.evictions")
+					.tag("spring.batch.item.lookup.cache.name", "lookup")
+					.functionCounter()
+					.count());
+	}
+
+	@Test
+	void testLookupItemProcessorMetricsOfStepsWithDefaultProcessorNames() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		// function counters only keep a weak reference to the processors
+		List<LookupItemProcessor<Long, Long, String, String>> processors = new ArrayList<>();
+		for (String stepName : List.of("step1", "step2")) {
+			LookupItemProcessor<Long, Long, String, String> processor = new LookupItemProcessor<>(item -> item,
+					keys -> keys.stream().collect(Collectors.toMap(key -> key, key -> "value" + key)),
+					(item, value) -> value);
+			processors.add(processor);
+			StepExecution stepExecution = this.execution.getJobExecution().createStepExecution(stepName);
+			this.jobRepository.add(stepExecution);
+			new StepBuilder(stepName, jobRepository).meterRegistry(meterRegistry)
+				.<Long, String>chunk(3, transactionManager)
+				.reader(new ListItemReader<>(stepName.equals("step1") ? List.of(1L) : List.of(1L, 2L)))
+				.processor(processor)
+				.writer(new ListItemWriter<>())
+				.build()
+				.execute(stepExecution);
+		}
+
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.lookup.cache.misses")
+					.tag("spring.batch.item.lookup.cache.name", "LookupItemProcessor")
+					.tag("spring.batch.item.lookup.cache.step.name", "step1")
+					.functionCounter()
+					.count());
+		assertEquals(2,
+				meterRegistry.get("spring.batch.item.lookup.cache.misses")
+					.tag("spring.batch.item.lookup.cache.name", "LookupItemProcessor")
+					.tag("spring.batch.item.lookup.cache.step.name", "step2")
+					.functionCounter()
+					.count());
+		assertEquals(2, processors.size());
+	}
+
 	@Test
 	void testReturnedTypeOfChunkListenerIsAssignableToSimpleStepBuilder() throws Exception {
 		testReturnedTypeOfSetterIsAssignableToSimpleStepBuilder(builder -> builder.listener(new ChunkListener() {
@@ -335,6 +623,21 @@ class StepBuilderTests {
 
 	}
 
+	/**
+	 * Registers a step scope destruction callback, as a step scoped bean would.
+	 */
+	static class StepScopeDestructionListener implements StepExecutionListener {
+
+		final AtomicInteger destructions = new AtomicInteger();
+
+		@Override
+		public void beforeStep(StepExecution stepExecution) {
+			StepSynchronizationManager.getContext()
+				.registerDestructionCallback("bean", this.destructions::incrementAndGet);
+		}
+
+	}
+
 	public static class InterfaceBasedItemReadListenerListener implements ItemReadListener<String> {
 
 		static int beforeReadCount = 0;
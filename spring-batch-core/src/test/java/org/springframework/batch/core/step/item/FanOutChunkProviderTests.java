@@ -0,0 +1,224 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FanOutChunkProviderTests {
+
+	private final StepExecution stepExecution = new StepExecution("step",
+			new JobExecution(new JobInstance(123L, "job"), new JobParameters()));
+
+	private final ExecutionContext executionContext = new ExecutionContext();
+
+	@BeforeEach
+	void setUp() {
+		StepSynchronizationManager.register(this.stepExecution);
+	}
+
+	@AfterEach
+	void tearDown() {
+		StepSynchronizationManager.release();
+	}
+
+	@Test
+	void testProvideAllChunks() throws Exception {
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(new CountingReader(5, -1));
+
+		chunkProvider.open(this.executionContext);
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		List<String> items = new ArrayList<>();
+		Chunk<String> chunk;
+		while (!(chunk = chunkProvider.provide(contribution)).isEnd()) {
+			items.addAll(chunk.getItems());
+		}
+		// the end of the input is seen by all the threads of the step
+		assertTrue(chunkProvider.provide(contribution).isEnd());
+		chunkProvider.close();
+
+		assertEquals(List.of("0", "1", "2", "3", "4"), items);
+		assertEquals(5, contribution.getReadCount());
+	}
+
+	@Test
+	void testUpdateSavesStateOfContiguousCommittedChunks() throws Exception {
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(new CountingReader(10, -1));
+
+		chunkProvider.open(this.executionContext);
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		Chunk<String> first = chunkProvider.provide(contribution);
+		Chunk<String> second = chunkProvider.provide(contribution);
+		Chunk<String> third = chunkProvider.provide(contribution);
+
+		chunkProvider.update(this.executionContext);
+		assertEquals(0, this.executionContext.getInt("counting.read.count"));
+		chunkProvider.postProcess(contribution, third);
+		chunkProvider.update(this.executionContext);
+		assertEquals(0, this.executionContext.getInt("counting.read.count"));
+		chunkProvider.postProcess(contribution, first);
+		chunkProvider.update(this.executionContext);
+		assertEquals(2, this.executionContext.getInt("counting.read.count"));
+		chunkProvider.postProcess(contribution, second);
+		chunkProvider.update(this.executionContext);
+		chunkProvider.close();
+
+		assertEquals(6, this.executionContext.getInt("counting.read.count"));
+	}
+
+	@Test
+	void testChunkCommittedWithTransaction() throws Exception {
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(new CountingReader(10, -1));
+
+		chunkProvider.open(this.executionContext);
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		Chunk<String> first = chunkProvider.provide(contribution);
+		complete(chunkProvider, contribution, first, TransactionSynchronization.STATUS_ROLLED_BACK);
+		chunkProvider.update(this.executionContext);
+		assertEquals(0, this.executionContext.getInt("counting.read.count"));
+		complete(chunkProvider, contribution, first, TransactionSynchronization.STATUS_COMMITTED);
+		chunkProvider.update(this.executionContext);
+		chunkProvider.close();
+
+		assertEquals(2, this.executionContext.getInt("counting.read.count"));
+	}
+
+	@Test
+	void testReadFailureRethrownToAllThreads() throws Exception {
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(new CountingReader(10, 3));
+
+		chunkProvider.open(this.executionContext);
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		Chunk<String> chunk = chunkProvider.provide(contribution);
+		Exception exception = assertThrows(IllegalStateException.class, () -> chunkProvider.provide(contribution));
+		assertThrows(IllegalStateException.class, () -> chunkProvider.provide(contribution));
+		chunkProvider.close();
+
+		assertEquals(List.of("0", "1"), chunk.getItems());
+		assertEquals("Failed to read item 3", exception.getMessage());
+	}
+
+	@Test
+	void testProvideBeforeOpen() {
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(new CountingReader(1, -1));
+		assertThrows(IllegalStateException.class,
+				() -> chunkProvider.provide(this.stepExecution.createStepContribution()));
+	}
+
+	@Test
+	void testCloseWithUnprocessedChunks() throws Exception {
+		CountingReader reader = new CountingReader(100, -1);
+		FanOutChunkProvider<String> chunkProvider = createChunkProvider(reader);
+
+		chunkProvider.open(this.executionContext);
+		chunkProvider.provide(this.stepExecution.createStepContribution());
+		chunkProvider.close();
+
+		// the reader thread stops once the buffer is full
+		assertTrue(reader.readCount() <= 8);
+	}
+
+	private void complete(FanOutChunkProvider<String> chunkProvider, StepContribution contribution, Chunk<String> chunk,
+			int status) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			chunkProvider.postProcess(contribution, chunk);
+			TransactionSynchronizationUtils
+				.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), status);
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private FanOutChunkProvider<String> createChunkProvider(CountingReader reader) {
+		RepeatTemplate repeatTemplate = new RepeatTemplate();
+		repeatTemplate.setCompletionPolicy(new SimpleCompletionPolicy(2));
+		FanOutChunkProvider<String> chunkProvider = new FanOutChunkProvider<>(
+				new SimpleChunkProvider<>(reader, repeatTemplate));
+		chunkProvider.setBufferSize(2);
+		return chunkProvider;
+	}
+
+	private static class CountingReader extends AbstractItemCountingItemStreamItemReader<String> {
+
+		private final int itemCount;
+
+		private final int failingItem;
+
+		private volatile int current;
+
+		CountingReader(int itemCount, int failingItem) {
+			this.itemCount = itemCount;
+			this.failingItem = failingItem;
+			setName("counting");
+		}
+
+		int readCount() {
+			return this.current;
+		}
+
+		@Override
+		protected String doRead() {
+			int item = this.current++;
+			if (item >= this.itemCount) {
+				return null;
+			}
+			if (item == this.failingItem) {
+				throw new IllegalStateException("Failed to read item " + item);
+			}
+			return String.valueOf(item);
+		}
+
+		@Override
+		protected void jumpToItem(int itemIndex) {
+			this.current = itemIndex;
+		}
+
+		@Override
+		protected void doOpen() {
+		}
+
+		@Override
+		protected void doClose() {
+		}
+
+	}
+
+}
@@ -27,18 +27,21 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.listener.ItemListenerSupport;
 import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.support.PassThroughItemProcessor;
 import org.springframework.classify.BinaryExceptionClassifier;
@@ -133,6 +136,92 @@ class FaultTolerantChunkProcessorTests {
 		assertEquals(1, contribution.getFilterCount());
 	}
 
+	@Test
+	void testFilterCountOnSkipWithConcurrentProcessing() throws Exception {
+		processor.setProcessSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setItemProcessor(item -> {
+			if (item.equals("1")) {
+				throw new RuntimeException("Skippable");
+			}
+			return item.equals("3") ? null : item;
+		});
+		processor.setProcessingConcurrency(3);
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "1", "2", "4"));
+		Exception exception = assertThrows(Exception.class, () -> processor.process(contribution, inputs));
+		assertEquals("Skippable", exception.getMessage());
+		processor.process(contribution, inputs);
+		assertEquals(Arrays.asList("2", "4"), list);
+		assertEquals(1, contribution.getSkipCount());
+		assertEquals(1, contribution.getFilterCount());
+	}
+
+	@Test
+	void testChunkItemProcessorFallsBackToItemProcessing() throws Exception {
+		List<Integer> chunkSizes = new ArrayList<>();
+		processor.setProcessSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setItemProcessor((ChunkItemProcessor<String, String>) items -> {
+			chunkSizes.add(items.size());
+			if (items.getItems().contains("1")) {
+				throw new RuntimeException("Skippable");
+			}
+			return new Chunk<>(items.getItems().stream().map(item -> item.equals("3") ? null : item).toList());
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "1", "2"));
+		Exception exception = assertThrows(Exception.class, () -> processor.process(contribution, inputs));
+		assertEquals("Skippable", exception.getMessage());
+		processor.process(contribution, inputs);
+		assertEquals(List.of("2"), list);
+		assertEquals(1, contribution.getSkipCount());
+		assertEquals(1, contribution.getFilterCount());
+		// the failed chunk is processed item by item
+		assertEquals(List.of(3, 1, 1, 2, 1), chunkSizes);
+	}
+
+	@Test
+	void testChunkItemProcessorFailureReportedForFailedItemOnly() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		List<String> events = new ArrayList<>();
+		processor.setMeterRegistry(meterRegistry);
+		processor.setProcessSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setItemProcessor((ChunkItemProcessor<String, String>) items -> {
+			if (items.getItems().contains("1")) {
+				throw new RuntimeException("Skippable");
+			}
+			return new Chunk<>(items.getItems());
+		});
+		processor.registerListener(new ItemListenerSupport<String, String>() {
+			@Override
+			public void beforeProcess(String item) {
+				events.add("before:" + item);
+			}
+
+			@Override
+			public void afterProcess(String item, @Nullable String result) {
+				events.add("after:" + item);
+			}
+
+			@Override
+			public void onProcessError(String item, Exception e) {
+				events.add("error:" + item);
+			}
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "1", "2"));
+
+		assertThrows(Exception.class, () -> processor.process(contribution, inputs));
+
+		assertEquals(List.of("before:3", "after:3", "before:1", "error:1"), events);
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.process")
+					.tag("spring.batch.item.process.status", "FAILURE")
+					.timer()
+					.count());
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.process")
+					.tag("spring.batch.item.process.status", "SUCCESS")
+					.timer()
+					.count());
+	}
+
 	@Test
 	// BATCH-2663
 	void testFilterCountOnSkipInWriteWithoutRetry() throws Exception {
@@ -530,6 +619,89 @@ class FaultTolerantChunkProcessorTests {
 		assertEquals("[1, 2, skip, skip, 3, fail, fail, 4, 5]", processedItems.toString());
 	}
 
+	@Test
+	void testBisectingScan() throws Exception {
+		List<String> skipped = new ArrayList<>();
+		ChunkMonitor chunkMonitor = new ChunkMonitor();
+		processor.setChunkMonitor(chunkMonitor);
+		processor.setBisectingScan(true);
+		processor.setWriteSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setListeners(Arrays.asList(new SkipListener<String, String>() {
+			@Override
+			public void onSkipInWrite(String item, Throwable t) {
+				skipped.add(item);
+			}
+		}, new ItemListenerSupport<String, String>() {
+			@Override
+			public void onWriteError(Exception e, Chunk<? extends String> chunk) {
+				writeError.addAll(chunk.getItems());
+			}
+		}));
+		Chunk<String> chunk = new Chunk<>(Arrays.asList("1", "2", "3", "4", "5", "fail", "7", "8"));
+
+		processAndExpectPlannedRuntimeException(chunk); // 1..8
+		processor.process(contribution, chunk); // 1..4
+		assertEquals(4, chunkMonitor.getOffset());
+		processAndExpectPlannedRuntimeException(chunk); // 5, fail
+		processor.process(contribution, chunk); // 5
+		processAndExpectPlannedRuntimeException(chunk); // fail
+		processor.process(contribution, chunk); // 7, 8
+
+		assertTrue(chunk.isEmpty());
+		assertFalse(chunk.isBusy());
+		assertEquals(0, chunkMonitor.getOffset());
+		assertEquals("[1, 2, 3, 4, 5, 7, 8]", list.toString());
+		assertEquals("[fail]", skipped.toString());
+		// the whole chunk on the first write, then the isolated item only
+		assertEquals("[1, 2, 3, 4, 5, fail, 7, 8, fail]", writeError.toString());
+		assertEquals(7, contribution.getWriteCount());
+		assertEquals(1, contribution.getWriteSkipCount());
+	}
+
+	@Test
+	void testBisectingScanSkipsSameItemsAsLinearScan() throws Exception {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			items.add(i == 3 || i == 17 || i == 18 ? "fail" + i : String.valueOf(i));
+		}
+		processor.setItemWriter(chunk -> {
+			for (String item : chunk) {
+				if (item.startsWith("fail")) {
+					throw new RuntimeException("Planned failure!");
+				}
+			}
+			list.addAll(chunk.getItems());
+		});
+		processor.setWriteSkipPolicy(new AlwaysSkipItemSkipPolicy());
+
+		int linearTransactions = processUntilComplete(new Chunk<>(items));
+		List<String> linearWritten = new ArrayList<>(list);
+		list.clear();
+		processor.setBisectingScan(true);
+		int bisectingTransactions = processUntilComplete(new Chunk<>(items));
+
+		assertEquals(linearWritten, list);
+		assertEquals(29, list.size());
+		assertEquals(6, contribution.getWriteSkipCount());
+		assertTrue(bisectingTransactions < linearTransactions,
+				bisectingTransactions + " transactions instead of " + linearTransactions);
+	}
+
+	private int processUntilComplete(Chunk<String> chunk) {
+		int transactions = 0;
+		do {
+			transactions++;
+			try {
+				processor.process(contribution, chunk);
+			}
+			catch (Exception e) {
+				assertEquals("Planned failure!", e.getMessage());
+			}
+		}
+		while ((!chunk.isEmpty() || chunk.isBusy()) && transactions < 100);
+		return transactions;
+	}
+
 	protected void processAndExpectPlannedRuntimeException(Chunk<String> chunk) {
 		Exception exception = assertThrows(RuntimeException.class, () -> processor.process(contribution, chunk));
 		assertEquals("Planned failure!", exception.getMessage());
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelinedChunkOrientedTaskletTests {
+
+	private final StepExecution stepExecution = new StepExecution("step",
+			new JobExecution(new JobInstance(123L, "job"), new JobParameters()));
+
+	private final ExecutionContext executionContext = new ExecutionContext();
+
+	private final List<String> written = new ArrayList<>();
+
+	@Test
+	void testReadAllChunks() throws Exception {
+		PipelinedChunkOrientedTasklet<String, String> tasklet = createTasklet(new CountingReader(5, -1),
+				item -> item.equals("3") ? null : item, chunk -> this.written.addAll(chunk.getItems()));
+
+		tasklet.open(this.executionContext);
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet, contribution));
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet, contribution));
+		assertEquals(RepeatStatus.FINISHED, execute(tasklet, contribution));
+		tasklet.close();
+
+		assertEquals(List.of("0", "1", "2", "4"), this.written);
+		assertEquals(5, contribution.getReadCount());
+		assertEquals(1, contribution.getFilterCount());
+		assertEquals(4, contribution.getWriteCount());
+	}
+
+	@Test
+	void testNextChunkReadWhileWriting() throws Exception {
+		CountingReader reader = new CountingReader(10, -1);
+		CountDownLatch nextChunkRead = new CountDownLatch(1);
+		PipelinedChunkOrientedTasklet<String, String> tasklet = createTasklet(reader, item -> {
+			if (item.equals("3")) {
+				nextChunkRead.countDown();
+			}
+			return item;
+		}, chunk -> {
+			if (chunk.getItems().contains("0")) {
+				assertTrue(nextChunkRead.await(10, TimeUnit.SECONDS));
+			}
+			this.written.addAll(chunk.getItems());
+		});
+
+		tasklet.open(this.executionContext);
+		execute(tasklet, this.stepExecution.createStepContribution());
+		tasklet.close();
+
+		assertEquals(List.of("0", "1"), this.written);
+	}
+
+	@Test
+	void testUpdateSavesStateOfWrittenChunk() throws Exception {
+		CountingReader reader = new CountingReader(10, -1);
+		PipelinedChunkOrientedTasklet<String, String> tasklet = createTasklet(reader, item -> item,
+				chunk -> this.written.addAll(chunk.getItems()));
+
+		tasklet.open(this.executionContext);
+		tasklet.update(this.executionContext);
+		assertEquals(0, this.executionContext.getInt("counting.read.count"));
+		execute(tasklet, this.stepExecution.createStepContribution());
+		awaitReadCount(reader, 4);
+		tasklet.update(this.executionContext);
+		tasklet.close();
+
+		assertEquals(2, this.executionContext.getInt("counting.read.count"));
+	}
+
+	@Test
+	void testReadFailureRethrownWithNextChunk() throws Exception {
+		PipelinedChunkOrientedTasklet<String, String> tasklet = createTasklet(new CountingReader(10, 3), item -> item,
+				chunk -> this.written.addAll(chunk.getItems()));
+
+		tasklet.open(this.executionContext);
+		execute(tasklet, this.stepExecution.createStepContribution());
+		Exception exception = assertThrows(IllegalStateException.class,
+				() -> execute(tasklet, this.stepExecution.createStepContribution()));
+		tasklet.update(this.executionContext);
+		tasklet.close();
+
+		assertEquals("Failed to read item 3", exception.getMessage());
+		assertEquals(List.of("0", "1"), this.written);
+		assertEquals(2, this.executionContext.getInt("counting.read.count"));
+	}
+
+	@Test
+	void testExecuteBeforeOpen() {
+		PipelinedChunkOrientedTasklet<String, String> tasklet = createTasklet(new CountingReader(1, -1), item -> item,
+				chunk -> this.written.addAll(chunk.getItems()));
+		assertThrows(IllegalStateException.class, () -> execute(tasklet, this.stepExecution.createStepContribution()));
+	}
+
+	private RepeatStatus execute(PipelinedChunkOrientedTasklet<String, String> tasklet, StepContribution contribution)
+			throws Exception {
+		return tasklet.execute(contribution, new ChunkContext(null));
+	}
+
+	private PipelinedChunkOrientedTasklet<String, String> createTasklet(CountingReader reader,
+			ItemProcessor<String, String> processor, ItemWriter<String> writer) {
+		RepeatTemplate repeatTemplate = new RepeatTemplate();
+		repeatTemplate.setCompletionPolicy(new SimpleCompletionPolicy(2));
+		return new PipelinedChunkOrientedTasklet<>(new SimpleChunkProvider<>(reader, repeatTemplate),
+				new SimpleChunkProcessor<>(processor, writer));
+	}
+
+	private static void awaitReadCount(CountingReader reader, int count) throws InterruptedException {
+		while (reader.readCount() < count) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static class CountingReader extends AbstractItemCountingItemStreamItemReader<String> {
+
+		private final int itemCount;
+
+		private final int failingItem;
+
+		private volatile int current;
+
+		CountingReader(int itemCount, int failingItem) {
+			this.itemCount = itemCount;
+			this.failingItem = failingItem;
+			setName("counting");
+		}
+
+		int readCount() {
+			return this.current;
+		}
+
+		@Override
+		protected String doRead() {
+			int item = this.current++;
+			if (item >= this.itemCount) {
+				return null;
+			}
+			if (item == this.failingItem) {
+				throw new IllegalStateException("Failed to read item " + item);
+			}
+			return String.valueOf(item);
+		}
+
+		@Override
+		protected void jumpToItem(int itemIndex) {
+			this.current = itemIndex;
+		}
+
+		@Override
+		protected void doOpen() {
+		}
+
+		@Override
+		protected void doClose() {
+		}
+
+	}
+
+}
@@ -16,12 +16,18 @@
 package org.springframework.batch.core.step.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecution;
@@ -29,7 +35,9 @@ import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.listener.ItemListenerSupport;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.lang.Nullable;
@@ -65,6 +73,25 @@ class SimpleChunkProcessorTests {
 		list.clear();
 	}
 
+	@Test
+	void testProcessWithChunkTimings() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		processor.setMeterRegistry(meterRegistry);
+		processor.setChunkTimings(true);
+
+		processor.process(contribution, Chunk.of("foo", "err", "bar"));
+
+		assertEquals(Arrays.asList("foo", "bar"), list);
+		assertEquals(1,
+				meterRegistry.get("spring.batch.chunk.process")
+					.tag("spring.batch.chunk.process.step.name", "foo")
+					.tag("spring.batch.chunk.process.status", "SUCCESS")
+					.timer()
+					.count());
+		assertEquals(1, meterRegistry.get("spring.batch.chunk.write").timer().count());
+		assertNull(meterRegistry.find("spring.batch.item.process").timer());
+	}
+
 	@Test
 	void testProcess() throws Exception {
 		Chunk<String> chunk = new Chunk<>();
@@ -88,4 +115,101 @@ class SimpleChunkProcessorTests {
 		assertTrue(outputs.isEnd());
 	}
 
+	@Test
+	void testConcurrentProcessing() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		AtomicBoolean concurrent = new AtomicBoolean();
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(item -> {
+			latch.countDown();
+			if (latch.await(5, TimeUnit.SECONDS)) {
+				concurrent.set(true);
+			}
+			// complete the items out of order
+			Thread.sleep(10 - Integer.parseInt(item));
+			return item.equals("3") ? null : item;
+		}, chunk -> list.addAll(chunk.getItems()));
+		processor.setProcessingConcurrency(4);
+
+		processor.process(contribution, new Chunk<>(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7")));
+
+		assertTrue(concurrent.get());
+		assertEquals(Arrays.asList("0", "1", "2", "4", "5", "6", "7"), list);
+		assertEquals(1, contribution.getFilterCount());
+		assertEquals(7, contribution.getWriteCount());
+	}
+
+	@Test
+	void testConcurrentProcessingFailure() {
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(item -> {
+			if (item.equals("2")) {
+				throw new IllegalStateException("Planned failure");
+			}
+			return item;
+		}, chunk -> list.addAll(chunk.getItems()));
+		processor.setProcessingConcurrency(4);
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("0", "1", "2", "3"));
+
+		Exception exception = assertThrows(IllegalStateException.class, () -> processor.process(contribution, inputs));
+
+		assertEquals("Planned failure", exception.getMessage());
+		assertTrue(inputs.isEmpty());
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	void testChunkItemProcessor() throws Exception {
+		List<List<String>> processedChunks = new ArrayList<>();
+		List<String> afterProcess = new ArrayList<>();
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(
+				(ChunkItemProcessor<String, String>) items -> {
+					processedChunks.add(new ArrayList<>(items.getItems()));
+					return new Chunk<>(items.getItems()
+						.stream()
+						.map(item -> item.equals("err") ? null : item.toUpperCase())
+						.toList());
+				}, chunk -> list.addAll(chunk.getItems()));
+		processor.registerListener(new ItemListenerSupport<String, String>() {
+			@Override
+			public void afterProcess(String item, @Nullable String result) {
+				afterProcess.add(item);
+			}
+		});
+
+		processor.process(contribution, new Chunk<>(Arrays.asList("foo", "err", "bar")));
+
+		assertEquals(List.of(List.of("foo", "err", "bar")), processedChunks);
+		assertEquals(Arrays.asList("FOO", "BAR"), list);
+		assertEquals(Arrays.asList("foo", "err", "bar"), afterProcess);
+		assertEquals(1, contribution.getFilterCount());
+		assertEquals(2, contribution.getWriteCount());
+	}
+
+	@Test
+	void testChunkItemProcessorFailure() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		List<String> errors = new ArrayList<>();
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(
+				(ChunkItemProcessor<String, String>) items -> {
+					throw new RuntimeException("Planned failure");
+				}, chunk -> list.addAll(chunk.getItems()));
+		processor.setMeterRegistry(meterRegistry);
+		processor.registerListener(new ItemListenerSupport<String, String>() {
+			@Override
+			public void onProcessError(String item, Exception e) {
+				errors.add(item);
+			}
+		});
+
+		assertThrows(RuntimeException.class,
+				() -> processor.process(contribution, new Chunk<>(Arrays.asList("foo", "bar"))));
+
+		// the failed item is not known
+		assertEquals(List.of("foo", "bar"), errors);
+		assertEquals(1,
+				meterRegistry.get("spring.batch.item.process")
+					.tag("spring.batch.item.process.status", "FAILURE")
+					.timer()
+					.count());
+	}
+
 }
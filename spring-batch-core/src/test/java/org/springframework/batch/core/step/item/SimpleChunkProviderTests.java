@@ -17,9 +17,11 @@ package org.springframework.batch.core.step.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Arrays;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
@@ -62,4 +64,23 @@ class SimpleChunkProviderTests {
 		assertEquals(1, chunk.getErrors().size());
 	}
 
+	@Test
+	void testProvideWithChunkTimings() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		provider = new SimpleChunkProvider<>(new ListItemReader<>(Arrays.asList("foo", "bar")), new RepeatTemplate());
+		provider.setMeterRegistry(meterRegistry);
+		provider.setChunkTimings(true);
+
+		Chunk<String> chunk = provider.provide(contribution);
+
+		assertEquals(2, chunk.getItems().size());
+		assertEquals(1,
+				meterRegistry.get("spring.batch.chunk.read")
+					.tag("spring.batch.chunk.read.step.name", "foo")
+					.tag("spring.batch.chunk.read.status", "SUCCESS")
+					.timer()
+					.count());
+		assertNull(meterRegistry.find("spring.batch.item.read").timer());
+	}
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link StepTimers}.
+ */
+class StepTimersTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final StepTimers timers = new StepTimers(this.meterRegistry, "item.read", "Item reading");
+
+	@Test
+	void testTimersAreReused() {
+		StepExecution stepExecution = createStepExecution("job", "step");
+
+		Timer timer = this.timers.getTimer(stepExecution, "SUCCESS");
+
+		assertSame(timer, this.timers.getTimer(stepExecution, "SUCCESS"));
+		assertSame(timer, this.timers.getTimer(createStepExecution("job", "step"), "SUCCESS"));
+		assertNotSame(timer, this.timers.getTimer(stepExecution, "FAILURE"));
+		assertSame(timer, this.timers.getTimer(stepExecution, "SUCCESS"));
+		assertEquals(2, this.meterRegistry.getMeters().size());
+	}
+
+	@Test
+	void testTimersAreTaggedWithStep() {
+		Timer timer = this.timers.getTimer(createStepExecution("job", "step1"), "SUCCESS");
+		Timer otherTimer = this.timers.getTimer(createStepExecution("job", "step2"), "SUCCESS");
+
+		assertNotSame(timer, otherTimer);
+		assertSame(timer,
+				this.meterRegistry.get("spring.batch.item.read")
+					.tag("spring.batch.item.read.job.name", "job")
+					.tag("spring.batch.item.read.step.name", "step1")
+					.tag("spring.batch.item.read.status", "SUCCESS")
+					.timer());
+		assertEquals("Item reading duration", timer.getId().getDescription());
+	}
+
+	private static StepExecution createStepExecution(String jobName, String stepName) {
+		return new StepExecution(stepName, new JobExecution(new JobInstance(1L, jobName), new JobParameters()));
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class JdbcMetadataPurgeTaskletTests {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	private EmbeddedDatabase database;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private JobRepository jobRepository;
+
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.database = new EmbeddedDatabaseBuilder().addScript("/org/springframework/batch/core/schema-hsqldb.sql")
+			.generateUniqueName(true)
+			.build();
+		this.jdbcTemplate = new JdbcTemplate(this.database);
+		JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+		factory.setDataSource(this.database);
+		factory.setTransactionManager(new JdbcTransactionManager(this.database));
+		factory.afterPropertiesSet();
+		this.jobRepository = factory.getObject();
+		this.stepExecution = new StepExecution("purge", new JobExecution(0L));
+		this.stepExecution.setStartTime(LocalDateTime.now());
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Test
+	void testPurge() throws Exception {
+		createJobExecution("job1", BatchStatus.FAILED, CUTOFF.minusDays(2));
+		createJobExecution("job1", BatchStatus.COMPLETED, CUTOFF.minusDays(1));
+		createJobExecution("job2", BatchStatus.FAILED, CUTOFF.minusDays(1));
+		JobExecution recent = createJobExecution("job2", BatchStatus.COMPLETED, CUTOFF.plusDays(1));
+		JobExecution running = createJobExecution("job3", BatchStatus.STARTED, null);
+
+		JdbcMetadataPurgeTasklet tasklet = createTasklet(2);
+
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet));
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet));
+		assertEquals(RepeatStatus.FINISHED, execute(tasklet));
+
+		assertEquals(2, countRows("BATCH_JOB_INSTANCE"));
+		assertEquals(2, countRows("BATCH_JOB_EXECUTION"));
+		assertEquals(2, countRows("BATCH_JOB_EXECUTION_CONTEXT"));
+		assertEquals(2, countRows("BATCH_JOB_EXECUTION_PARAMS"));
+		assertEquals(2, countRows("BATCH_STEP_EXECUTION"));
+		assertEquals(2, countRows("BATCH_STEP_EXECUTION_CONTEXT"));
+		assertEquals(recent.getId(), getJobExecutionId("job2"));
+		assertEquals(running.getId(), getJobExecutionId("job3"));
+		// 3 rows per table for the job executions and 1 job instance
+		assertEquals(16, this.stepExecution.getWriteCount());
+		assertEquals(3, this.stepExecution.getExecutionContext()
+			.getLong(JdbcMetadataPurgeTasklet.PURGED_ROWS_KEY_PREFIX + "JOB_EXECUTION"));
+		assertEquals(1, this.stepExecution.getExecutionContext()
+			.getLong(JdbcMetadataPurgeTasklet.PURGED_ROWS_KEY_PREFIX + "JOB_INSTANCE"));
+	}
+
+	@Test
+	void testPurgeWithArchive() throws Exception {
+		for (String table : new String[] { "JOB_INSTANCE", "JOB_EXECUTION", "JOB_EXECUTION_PARAMS",
+				"JOB_EXECUTION_CONTEXT", "STEP_EXECUTION", "STEP_EXECUTION_CONTEXT" }) {
+			this.jdbcTemplate
+				.execute("CREATE TABLE ARCHIVE_" + table + " AS (SELECT * FROM BATCH_" + table + ") WITH NO DATA");
+		}
+		JobExecution old = createJobExecution("job1", BatchStatus.COMPLETED, CUTOFF.minusDays(1));
+		createJobExecution("job2", BatchStatus.COMPLETED, CUTOFF.plusDays(1));
+
+		JdbcMetadataPurgeTasklet tasklet = createTasklet(10);
+		tasklet.setArchiveTablePrefix("ARCHIVE_");
+		tasklet.afterPropertiesSet();
+
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet));
+		assertEquals(RepeatStatus.FINISHED, execute(tasklet));
+
+		assertEquals(1, countRows("BATCH_JOB_INSTANCE"));
+		assertEquals(1, countRows("BATCH_STEP_EXECUTION_CONTEXT"));
+		assertEquals(1, countRows("ARCHIVE_JOB_INSTANCE"));
+		assertEquals(1, countRows("ARCHIVE_JOB_EXECUTION"));
+		assertEquals(1, countRows("ARCHIVE_JOB_EXECUTION_PARAMS"));
+		assertEquals(1, countRows("ARCHIVE_JOB_EXECUTION_CONTEXT"));
+		assertEquals(1, countRows("ARCHIVE_STEP_EXECUTION"));
+		assertEquals(1, countRows("ARCHIVE_STEP_EXECUTION_CONTEXT"));
+		assertEquals(old.getId(),
+				this.jdbcTemplate.queryForObject("SELECT JOB_EXECUTION_ID FROM ARCHIVE_JOB_EXECUTION", Long.class));
+	}
+
+	@Test
+	void testRestartWithSameCutoff() throws Exception {
+		createJobExecution("job1", BatchStatus.COMPLETED, CUTOFF.minusDays(2));
+		createJobExecution("job2", BatchStatus.COMPLETED, CUTOFF.minusDays(1));
+
+		assertEquals(RepeatStatus.CONTINUABLE, execute(createTasklet(1)));
+		assertEquals(1, countRows("BATCH_JOB_EXECUTION"));
+
+		// the cutoff of the first execution is used on restart
+		JdbcMetadataPurgeTasklet restarted = new JdbcMetadataPurgeTasklet();
+		restarted.setDataSource(this.database);
+		restarted.setCutoff(CUTOFF.minusYears(1));
+		restarted.afterPropertiesSet();
+		assertEquals(RepeatStatus.CONTINUABLE, execute(restarted));
+		assertEquals(RepeatStatus.FINISHED, execute(restarted));
+		assertEquals(0, countRows("BATCH_JOB_EXECUTION"));
+		assertEquals(0, countRows("BATCH_JOB_INSTANCE"));
+	}
+
+	@Test
+	void testJobExecutionsSelectedWithMaxRows() throws Exception {
+		createJobExecution("job1", BatchStatus.COMPLETED, CUTOFF.minusDays(2));
+		createJobExecution("job2", BatchStatus.COMPLETED, CUTOFF.minusDays(1));
+		List<Integer> maxRows = new ArrayList<>();
+		DataSource dataSource = new DelegatingDataSource(this.database) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				Connection connection = spy(super.getConnection());
+				doAnswer(invocation -> {
+					PreparedStatement statement = spy((PreparedStatement) invocation.callRealMethod());
+					doAnswer(setMaxRows -> {
+						maxRows.add(setMaxRows.getArgument(0));
+						return setMaxRows.callRealMethod();
+					}).when(statement).setMaxRows(anyInt());
+					return statement;
+				}).when(connection).prepareStatement(anyString());
+				return connection;
+			}
+		};
+		JdbcMetadataPurgeTasklet tasklet = new JdbcMetadataPurgeTasklet();
+		tasklet.setDataSource(dataSource);
+		tasklet.setCutoff(CUTOFF);
+		tasklet.setChunkSize(1);
+		tasklet.afterPropertiesSet();
+
+		assertEquals(RepeatStatus.CONTINUABLE, execute(tasklet));
+
+		assertEquals(List.of(1), maxRows);
+		assertEquals(1, countRows("BATCH_JOB_EXECUTION"));
+	}
+
+	@Test
+	void testInvalidConfiguration() {
+		JdbcMetadataPurgeTasklet tasklet = new JdbcMetadataPurgeTasklet();
+		tasklet.setDataSource(this.database);
+		assertThrows(IllegalStateException.class, tasklet::afterPropertiesSet);
+		tasklet.setCutoff(CUTOFF);
+		tasklet.setChunkSize(1000);
+		assertThrows(IllegalStateException.class, tasklet::afterPropertiesSet);
+		tasklet.setChunkSize(100);
+		tasklet.setArchiveTablePrefix("BATCH_");
+		assertThrows(IllegalStateException.class, tasklet::afterPropertiesSet);
+	}
+
+	private JdbcMetadataPurgeTasklet createTasklet(int chunkSize) throws Exception {
+		JdbcMetadataPurgeTasklet tasklet = new JdbcMetadataPurgeTasklet();
+		tasklet.setDataSource(this.database);
+		tasklet.setCutoff(CUTOFF);
+		tasklet.setChunkSize(chunkSize);
+		tasklet.afterPropertiesSet();
+		return tasklet;
+	}
+
+	private RepeatStatus execute(Tasklet tasklet) throws Exception {
+		StepContribution contribution = this.stepExecution.createStepContribution();
+		RepeatStatus status = tasklet.execute(contribution, new ChunkContext(new StepContext(this.stepExecution)));
+		this.stepExecution.apply(contribution);
+		return status;
+	}
+
+	private JobExecution createJobExecution(String jobName, BatchStatus status, LocalDateTime endTime)
+			throws Exception {
+		JobExecution jobExecution = this.jobRepository.createJobExecution(jobName,
+				new JobParametersBuilder().addString("name", jobName).toJobParameters());
+		jobExecution.setStartTime(CUTOFF.minusDays(10));
+		jobExecution.setStatus(status);
+		jobExecution.setEndTime(endTime);
+		jobExecution.getExecutionContext().putString("foo", "bar");
+		this.jobRepository.update(jobExecution);
+		this.jobRepository.updateExecutionContext(jobExecution);
+		StepExecution stepExecution = jobExecution.createStepExecution("step");
+		this.jobRepository.add(stepExecution);
+		this.jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET END_TIME = ? WHERE JOB_EXECUTION_ID = ?",
+				endTime == null ? null : Timestamp.valueOf(endTime), jobExecution.getId());
+		return jobExecution;
+	}
+
+	private Long getJobExecutionId(String jobName) {
+		return this.jdbcTemplate.queryForObject(
+				"SELECT E.JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION E JOIN BATCH_JOB_INSTANCE I ON E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID WHERE I.JOB_NAME = ?",
+				Long.class, jobName);
+	}
+
+	private int countRows(String table) {
+		return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+}
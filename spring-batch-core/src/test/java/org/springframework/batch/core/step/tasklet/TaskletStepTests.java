@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -900,6 +901,74 @@ class TaskletStepTests {
 		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
 	}
 
+	@Test
+	void testCheckpointInterval() throws Exception {
+		CountingItemStreamReader reader = new CountingItemStreamReader(10);
+		CheckpointCountingJobRepository jobRepository = new CheckpointCountingJobRepository();
+		TaskletStep step = getCheckpointingStep(reader, itemWriter, jobRepository);
+		step.setCheckpointInterval(5);
+		StepExecution stepExecution = new StepExecution(step.getName(), new JobExecution(jobInstance, jobParameters));
+
+		step.execute(stepExecution);
+
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertEquals(10, processed.size());
+		assertEquals(11, stepExecution.getCommitCount());
+		// start and end of the step, and checkpoints at chunks 5, 10 and 11 (the last)
+		assertEquals(5, jobRepository.updateCount);
+		assertEquals(10, stepExecution.getExecutionContext().getInt("count"));
+	}
+
+	@Test
+	void testCheckpointIntervalOnFailure() throws Exception {
+		CountingItemStreamReader reader = new CountingItemStreamReader(10);
+		ItemWriter<String> failingWriter = chunk -> {
+			if (chunk.getItems().contains("8")) {
+				throw new IllegalStateException("Planned failure");
+			}
+			processed.addAll(chunk.getItems());
+		};
+		TaskletStep step = getCheckpointingStep(reader, failingWriter, new CheckpointCountingJobRepository());
+		step.setCheckpointInterval(5);
+		StepExecution stepExecution = new StepExecution(step.getName(), new JobExecution(jobInstance, jobParameters));
+
+		step.execute(stepExecution);
+
+		assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+		assertEquals(7, processed.size());
+		// a restart replays the chunks committed after the checkpoint at chunk 5
+		assertEquals(5, stepExecution.getExecutionContext().getInt("count"));
+	}
+
+	@Test
+	void testCheckpointTimeInterval() throws Exception {
+		CountingItemStreamReader reader = new CountingItemStreamReader(10);
+		CheckpointCountingJobRepository jobRepository = new CheckpointCountingJobRepository();
+		TaskletStep step = getCheckpointingStep(reader, itemWriter, jobRepository);
+		step.setCheckpointTimeInterval(Duration.ofHours(1));
+		StepExecution stepExecution = new StepExecution(step.getName(), new JobExecution(jobInstance, jobParameters));
+
+		step.execute(stepExecution);
+
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertEquals(10, processed.size());
+		// start and end of the step, and a checkpoint at the last chunk
+		assertEquals(3, jobRepository.updateCount);
+		assertEquals(10, stepExecution.getExecutionContext().getInt("count"));
+	}
+
+	private TaskletStep getCheckpointingStep(CountingItemStreamReader reader, ItemWriter<String> writer,
+			JobRepository jobRepository) {
+		RepeatTemplate template = new RepeatTemplate();
+		template.setCompletionPolicy(new SimpleCompletionPolicy(1));
+		TaskletStep step = new TaskletStep("stepName");
+		step.setTasklet(new TestingChunkOrientedTasklet<>(reader, writer, template));
+		step.registerStream(reader);
+		step.setJobRepository(jobRepository);
+		step.setTransactionManager(transactionManager);
+		return step;
+	}
+
 	private static class JobRepositoryStub extends JobRepositorySupport {
 
 		private int updateCount = 0;
@@ -914,6 +983,40 @@ class TaskletStepTests {
 
 	}
 
+	private static class CheckpointCountingJobRepository extends JobRepositorySupport {
+
+		private int updateCount = 0;
+
+		@Override
+		public void update(StepExecution stepExecution) {
+			updateCount++;
+		}
+
+	}
+
+	private static class CountingItemStreamReader extends AbstractItemStreamItemReader<String> {
+
+		private final int itemCount;
+
+		private int count = 0;
+
+		CountingItemStreamReader(int itemCount) {
+			this.itemCount = itemCount;
+		}
+
+		@Nullable
+		@Override
+		public String read() {
+			return count < itemCount ? String.valueOf(++count) : null;
+		}
+
+		@Override
+		public void update(ExecutionContext executionContext) {
+			executionContext.putInt("count", count);
+		}
+
+	}
+
 	private static class JobRepositoryFailedUpdateStub extends JobRepositorySupport {
 
 		private int called = 0;
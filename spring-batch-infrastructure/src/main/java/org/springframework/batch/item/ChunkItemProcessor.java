@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item;
+
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ItemProcessor} able to process the items of a chunk at once, for example to
+ * enrich them with a single query to a database instead of one query per item. Chunk
+ * oriented steps call {@link #processChunk(Chunk)} with all the items of a chunk, and
+ * {@link #process(Object)} when the items have to be processed one by one, for example to
+ * find the item that failed to be processed in a fault tolerant step.
+ *
+ * @since 5.2
+ * @param <I> type of input item
+ * @param <O> type of output item
+ */
+@FunctionalInterface
+public interface ChunkItemProcessor<I, O> extends ItemProcessor<I, O> {
+
+	/**
+	 * Process the provided items, returning a chunk with one output per input item, in
+	 * the same order. An output is {@code null} if the processing of the corresponding
+	 * input item should not continue.
+	 * @param items to be processed, never {@code null} nor empty
+	 * @return the outputs of the items, {@code null} for the items that are filtered
+	 * @throws Exception thrown if exception occurs during processing
+	 */
+	Chunk<O> processChunk(Chunk<? extends I> items) throws Exception;
+
+	/**
+	 * Process a single item. Defaults to processing a chunk containing only the given
+	 * item.
+	 * @param item to be processed, never {@code null}
+	 * @return potentially modified or new item for continued processing, {@code null} if
+	 * processing of the provided item should not continue
+	 * @throws Exception thrown if exception occurs during processing
+	 */
+	@Nullable
+	@Override
+	default O process(@NonNull I item) throws Exception {
+		return processChunk(new Chunk<>(List.of(item))).getItems().get(0);
+	}
+
+}
@@ -28,7 +28,8 @@ import org.springframework.lang.Nullable;
 /**
  * Object representing a context for an {@link ItemStream}. It is a thin wrapper for a map
  * that allows optionally for type safety on reads. It also allows for dirty checking by
- * setting a 'dirty' flag whenever any put is called.
+ * setting a 'dirty' flag whenever any put is called, and keeps track of the keys that
+ * were changed since the flag was last cleared.
  * <p>
  * Non-transient entries should be serializable, otherwise a custom serializer should be
  * used. Note that putting <code>null</code> value is equivalent to removing the entry for
@@ -40,10 +41,17 @@ import org.springframework.lang.Nullable;
  */
 public class ExecutionContext implements Serializable {
 
+	// the serialized form is the same as before the changed keys were tracked
+	private static final long serialVersionUID = 9019233443489650184L;
+
 	private volatile boolean dirty = false;
 
 	private final Map<String, Object> map;
 
+	// created on first change, not serialized
+	@Nullable
+	private transient volatile Set<String> changedKeys;
+
 	/**
 	 * Default constructor. Initializes a new execution context with an empty internal
 	 * map.
@@ -130,6 +138,23 @@ public class ExecutionContext implements Serializable {
 			Object result = this.map.remove(key);
 			this.dirty = result != null;
 		}
+		if (this.dirty) {
+			keyChanged(key);
+		}
+	}
+
+	private void keyChanged(String key) {
+		Set<String> changedKeys = this.changedKeys;
+		if (changedKeys == null) {
+			synchronized (this) {
+				changedKeys = this.changedKeys;
+				if (changedKeys == null) {
+					changedKeys = ConcurrentHashMap.newKeySet();
+					this.changedKeys = changedKeys;
+				}
+			}
+		}
+		changedKeys.add(key);
 	}
 
 	/**
@@ -142,6 +167,18 @@ public class ExecutionContext implements Serializable {
 		return this.dirty;
 	}
 
+	/**
+	 * Return the keys that were added, changed or removed since the dirty flag was last
+	 * cleared. Unlike {@link #isDirty()}, which reflects the last operation only, the
+	 * returned set accumulates the changes of all operations.
+	 * @return an unmodifiable snapshot of the changed keys
+	 * @since 5.2
+	 */
+	public Set<String> getChangedKeys() {
+		Set<String> changedKeys = this.changedKeys;
+		return changedKeys != null ? Set.copyOf(changedKeys) : Collections.emptySet();
+	}
+
 	/**
 	 * Typesafe Getter for the String represented by the provided key.
 	 * @param key The key to get a value for
@@ -328,10 +365,14 @@ public class ExecutionContext implements Serializable {
 	}
 
 	/**
-	 * Clears the dirty flag.
+	 * Clears the dirty flag and the set of changed keys.
 	 */
 	public void clearDirtyFlag() {
 		this.dirty = false;
+		Set<String> changedKeys = this.changedKeys;
+		if (changedKeys != null) {
+			changedKeys.clear();
+		}
 	}
 
 	/**
@@ -372,7 +413,11 @@ public class ExecutionContext implements Serializable {
 	 */
 	@Nullable
 	public Object remove(String key) {
-		return this.map.remove(key);
+		Object result = this.map.remove(key);
+		if (result != null) {
+			keyChanged(key);
+		}
+		return result;
 	}
 
 	/**
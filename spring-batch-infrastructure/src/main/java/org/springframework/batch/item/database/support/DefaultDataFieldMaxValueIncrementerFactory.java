@@ -33,6 +33,7 @@ import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncr
 import org.springframework.jdbc.support.incrementer.SqlServerSequenceMaxValueIncrementer;
 import org.springframework.jdbc.support.incrementer.SybaseMaxValueIncrementer;
 import org.springframework.jdbc.support.incrementer.MariaDBSequenceMaxValueIncrementer;
+import org.springframework.util.Assert;
 
 import static org.springframework.batch.support.DatabaseType.DB2;
 import static org.springframework.batch.support.DatabaseType.DB2AS400;
@@ -68,6 +69,8 @@ public class DefaultDataFieldMaxValueIncrementerFactory implements DataFieldMaxV
 
 	private String incrementerColumnName = "ID";
 
+	private int poolSize = 1;
+
 	/**
 	 * Public setter for the column name (defaults to "ID") in the incrementer. Only used
 	 * by some platforms (Derby, HSQL, MySQL, SQL Server and Sybase), and should be fine
@@ -79,12 +82,32 @@ public class DefaultDataFieldMaxValueIncrementerFactory implements DataFieldMaxV
 		this.incrementerColumnName = incrementerColumnName;
 	}
 
+	/**
+	 * Public setter for the number of values reserved at once by the incrementers
+	 * (defaults to 1). When greater than 1, the incrementers are wrapped in a
+	 * {@link PooledDataFieldMaxValueIncrementer}, which reserves blocks of values with
+	 * the hi/lo algorithm and saves a database access for all but one value of each
+	 * block. All the applications sharing the same Spring Batch meta data must use the
+	 * same pool size.
+	 * @param poolSize the number of values reserved at once, must be greater than zero
+	 * @since 5.2
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, "The pool size must be greater than zero");
+		this.poolSize = poolSize;
+	}
+
 	public DefaultDataFieldMaxValueIncrementerFactory(DataSource dataSource) {
 		this.dataSource = dataSource;
 	}
 
 	@Override
 	public DataFieldMaxValueIncrementer getIncrementer(String incrementerType, String incrementerName) {
+		DataFieldMaxValueIncrementer incrementer = getDatabaseIncrementer(incrementerType, incrementerName);
+		return this.poolSize > 1 ? new PooledDataFieldMaxValueIncrementer(incrementer, this.poolSize) : incrementer;
+	}
+
+	private DataFieldMaxValueIncrementer getDatabaseIncrementer(String incrementerType, String incrementerName) {
 		DatabaseType databaseType = DatabaseType.valueOf(incrementerType.toUpperCase());
 
 		if (databaseType == DB2 || databaseType == DB2AS400) {
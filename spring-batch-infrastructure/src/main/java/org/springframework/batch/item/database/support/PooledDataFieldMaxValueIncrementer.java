@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database.support;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataFieldMaxValueIncrementer} reserving blocks of values with the hi/lo
+ * algorithm: each value {@code hi} obtained from the delegate incrementer reserves the
+ * block of {@code poolSize} values starting at {@code hi * poolSize}, which are then
+ * handed out without accessing the database.
+ * <p>
+ * Values are unique across all the incrementers sharing the same database sequence as
+ * long as they all use the same pool size. Values obtained by the delegate directly, or
+ * by an incrementer with a different pool size, may collide with the reserved blocks.
+ * Switching an existing sequence to a pooled incrementer is safe, since new blocks start
+ * after the current value of the sequence, but switching back is not. Values that are
+ * reserved but not used (for instance, when the JVM stops) are lost, which leaves gaps in
+ * the sequence of values.
+ *
+ * @since 5.2
+ */
+public class PooledDataFieldMaxValueIncrementer implements DataFieldMaxValueIncrementer {
+
+	private final DataFieldMaxValueIncrementer delegate;
+
+	private final int poolSize;
+
+	private final Lock lock = new ReentrantLock();
+
+	private long next;
+
+	private long remaining;
+
+	/**
+	 * Create a new {@link PooledDataFieldMaxValueIncrementer}.
+	 * @param delegate the incrementer used to reserve blocks of values
+	 * @param poolSize the number of values in a block, must be greater than zero
+	 */
+	public PooledDataFieldMaxValueIncrementer(DataFieldMaxValueIncrementer delegate, int poolSize) {
+		Assert.notNull(delegate, "The delegate incrementer must not be null");
+		Assert.isTrue(poolSize > 0, "The pool size must be greater than zero");
+		this.delegate = delegate;
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * @return the number of values reserved at once
+	 */
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	@Override
+	public int nextIntValue() throws DataAccessException {
+		return (int) nextLongValue();
+	}
+
+	@Override
+	public long nextLongValue() throws DataAccessException {
+		this.lock.lock();
+		try {
+			if (this.remaining == 0) {
+				reserveBlock();
+			}
+			this.remaining--;
+			return this.next++;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public String nextStringValue() throws DataAccessException {
+		return String.valueOf(nextLongValue());
+	}
+
+	/**
+	 * Return the given number of values at once, reserving as few blocks as needed.
+	 * @param count the number of values to return
+	 * @return the next values, in ascending order
+	 * @throws DataAccessException if a block of values can not be reserved
+	 */
+	public long[] nextLongValues(int count) throws DataAccessException {
+		long[] values = new long[count];
+		this.lock.lock();
+		try {
+			for (int i = 0; i < count; i++) {
+				if (this.remaining == 0) {
+					reserveBlock();
+				}
+				this.remaining--;
+				values[i] = this.next++;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return values;
+	}
+
+	private void reserveBlock() {
+		this.next = Math.multiplyExact(this.delegate.nextLongValue(), (long) this.poolSize);
+		this.remaining = this.poolSize;
+	}
+
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BufferedReader} that reads lines from a {@link SeekableByteChannel}. Lines are
+ * split on the raw bytes of the channel and decoded one at a time, which allows the
+ * reader to keep track of the byte offset of each line and to be repositioned at such an
+ * offset (see {@link SeekableReader}). As with the standard {@link BufferedReader}, a
+ * line is considered to be terminated by any one of a line feed ('\n'), a carriage return
+ * ('\r'), or a carriage return followed immediately by a line feed.
+ * <p>
+ * Splitting lines on raw bytes is only possible for charsets in which line terminators
+ * are encoded as single bytes that cannot appear inside the encoding of another
+ * character, see {@link #supports(Charset)}.
+ * <p>
+ * Character based reads are supported but are served one line at a time. Marking the
+ * stream is not supported. As with the standard {@link BufferedReader}, reads are guarded
+ * by a lock, so that lines are never interleaved when the reader is shared between
+ * threads.
+ *
+ * @since 5.2
+ */
+class ChannelBufferedReader extends BufferedReader implements SeekableReader {
+
+	private static final Set<Charset> SUPPORTED_CHARSETS = Set.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII,
+			StandardCharsets.ISO_8859_1);
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private final SeekableByteChannel channel;
+
+	private final Charset charset;
+
+	private final ByteBuffer buffer;
+
+	private byte[] lineBuffer = new byte[128];
+
+	private long position;
+
+	private CharBuffer pendingChars;
+
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * Create a new {@link ChannelBufferedReader}.
+	 * @param channel the channel to read from, positioned at the start of a line
+	 * @param charset the charset of the data, must be {@link #supports(Charset)
+	 * supported}
+	 * @param buffer the buffer to use for reading from the channel
+	 * @throws IOException if the current position of the channel cannot be determined
+	 */
+	ChannelBufferedReader(SeekableByteChannel channel, Charset charset, ByteBuffer buffer) throws IOException {
+		super(Reader.nullReader(), 1);
+		this.channel = channel;
+		this.charset = charset;
+		this.buffer = buffer;
+		this.buffer.clear().flip();
+		this.position = channel.position();
+	}
+
+	/**
+	 * Check whether lines encoded with the given charset can be split on raw bytes.
+	 * @param charset the charset to check
+	 * @return true if the charset is supported by this reader
+	 */
+	static boolean supports(Charset charset) {
+		return SUPPORTED_CHARSETS.contains(charset);
+	}
+
+	/**
+	 * Check whether lines encoded with the given encoding can be split on raw bytes.
+	 * @param encoding the name of the encoding to check
+	 * @return true if the encoding is known and supported by this reader
+	 */
+	static boolean supports(String encoding) {
+		try {
+			return supports(Charset.forName(encoding));
+		}
+		catch (IllegalArgumentException e) {
+			// let the caller report the unsupported encoding
+			return false;
+		}
+	}
+
+	@Override
+	public String readLine() throws IOException {
+		this.lock.lock();
+		try {
+			if (this.pendingChars != null && this.pendingChars.hasRemaining()) {
+				String remainder = this.pendingChars.toString();
+				this.pendingChars = null;
+				return stripLineTerminator(remainder);
+			}
+			int length = readLineBytes(false);
+			if (length < 0) {
+				return null;
+			}
+			return new String(this.lineBuffer, 0, length, this.charset);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		this.lock.lock();
+		try {
+			if (!fillPendingChars()) {
+				return -1;
+			}
+			return this.pendingChars.get();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		this.lock.lock();
+		try {
+			if (!fillPendingChars()) {
+				return -1;
+			}
+			int count = Math.min(len, this.pendingChars.remaining());
+			this.pendingChars.get(cbuf, off, count);
+			return count;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n < 0L) {
+			throw new IllegalArgumentException("skip value is negative");
+		}
+		this.lock.lock();
+		try {
+			long skipped = 0;
+			while (skipped < n && fillPendingChars()) {
+				int count = (int) Math.min(n - skipped, this.pendingChars.remaining());
+				this.pendingChars.position(this.pendingChars.position() + count);
+				skipped += count;
+			}
+			return skipped;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		return (this.pendingChars != null && this.pendingChars.hasRemaining()) || this.buffer.hasRemaining();
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	@Override
+	public long position() {
+		this.lock.lock();
+		try {
+			return this.position;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void position(long position) throws IOException {
+		this.lock.lock();
+		try {
+			this.channel.position(position);
+			this.buffer.clear().flip();
+			this.pendingChars = null;
+			this.position = position;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean fillPendingChars() throws IOException {
+		if (this.pendingChars != null && this.pendingChars.hasRemaining()) {
+			return true;
+		}
+		int length = readLineBytes(true);
+		if (length < 0) {
+			this.pendingChars = null;
+			return false;
+		}
+		this.pendingChars = CharBuffer.wrap(new String(this.lineBuffer, 0, length, this.charset));
+		return true;
+	}
+
+	/**
+	 * Read the bytes of the next line in the line buffer.
+	 * @param keepLineTerminator whether to append the line terminator to the line buffer
+	 * @return the number of bytes of the line in the line buffer or -1 if the end of the
+	 * channel has been reached
+	 */
+	private int readLineBytes(boolean keepLineTerminator) throws IOException {
+		int length = 0;
+		while (this.buffer.hasRemaining() || fill()) {
+			int start = this.buffer.position();
+			int limit = this.buffer.limit();
+			int end = indexOfLineTerminator(start, limit);
+			if (end < 0) {
+				length = appendToLine(start, limit - start, length);
+				this.buffer.position(limit);
+				this.position += limit - start;
+				continue;
+			}
+			byte terminator = this.buffer.get(end);
+			length = appendToLine(start, end - start, length);
+			this.buffer.position(end + 1);
+			this.position += end + 1 - start;
+			if (keepLineTerminator) {
+				length = appendToLine(terminator, length);
+			}
+			if (terminator == CR && (this.buffer.hasRemaining() || fill())
+					&& this.buffer.get(this.buffer.position()) == LF) {
+				this.buffer.get();
+				this.position++;
+				if (keepLineTerminator) {
+					length = appendToLine(LF, length);
+				}
+			}
+			return length;
+		}
+		return length > 0 ? length : -1;
+	}
+
+	private int indexOfLineTerminator(int start, int limit) {
+		if (this.buffer.hasArray()) {
+			byte[] bytes = this.buffer.array();
+			int offset = this.buffer.arrayOffset();
+			for (int i = start + offset; i < limit + offset; i++) {
+				if (bytes[i] == LF || bytes[i] == CR) {
+					return i - offset;
+				}
+			}
+			return -1;
+		}
+		for (int i = start; i < limit; i++) {
+			byte b = this.buffer.get(i);
+			if (b == LF || b == CR) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean fill() throws IOException {
+		this.buffer.clear();
+		int count;
+		do {
+			count = this.channel.read(this.buffer);
+		}
+		while (count == 0);
+		this.buffer.flip();
+		return count > 0;
+	}
+
+	private int appendToLine(int offset, int count, int length) {
+		ensureLineCapacity(length + count);
+		this.buffer.get(offset, this.lineBuffer, length, count);
+		return length + count;
+	}
+
+	private int appendToLine(byte b, int length) {
+		ensureLineCapacity(length + 1);
+		this.lineBuffer[length] = b;
+		return length + 1;
+	}
+
+	private void ensureLineCapacity(int capacity) {
+		if (capacity > this.lineBuffer.length) {
+			byte[] newLineBuffer = new byte[Math.max(capacity, this.lineBuffer.length * 2)];
+			System.arraycopy(this.lineBuffer, 0, newLineBuffer, 0, this.lineBuffer.length);
+			this.lineBuffer = newLineBuffer;
+		}
+	}
+
+	private static String stripLineTerminator(String line) {
+		int end = line.length();
+		if (end > 0 && line.charAt(end - 1) == LF) {
+			end--;
+		}
+		if (end > 0 && line.charAt(end - 1) == CR) {
+			end--;
+		}
+		return line.substring(0, end);
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link BufferedReaderFactory} tuned for large files in the file system. Files are
+ * read through a {@link FileChannel} into a large buffer and lines are split on raw bytes
+ * before being decoded, which avoids the intermediate copies and the char by char
+ * decoding of an {@link java.io.InputStreamReader}. This is only possible for files
+ * encoded in UTF-8, US-ASCII or ISO-8859-1: other encodings and resources that are not
+ * files in the file system are read as with the {@link DefaultBufferedReaderFactory}.
+ * <p>
+ * Readers created by this factory implement {@link SeekableReader}, so that the
+ * {@link FlatFileItemReader} can seek directly to the last processed record on restart. A
+ * new buffer is allocated each time a reader is created, so the buffer size should be
+ * chosen with the number of concurrently open readers in mind.
+ *
+ * @since 5.2
+ */
+public class FileChannelBufferedReaderFactory implements BufferedReaderFactory {
+
+	/**
+	 * The default size of the buffer, in bytes.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	private final BufferedReaderFactory fallbackFactory = new DefaultBufferedReaderFactory();
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private boolean direct = false;
+
+	/**
+	 * Set the size of the buffer used to read from the file channel. Defaults to
+	 * {@link #DEFAULT_BUFFER_SIZE}.
+	 * @param bufferSize the size of the buffer in bytes, must be greater than zero
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "bufferSize must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set whether the buffer used to read from the file channel should be a direct
+	 * buffer. Lines are searched directly in the backing array of a heap buffer, while a
+	 * direct buffer is searched byte by byte, so a direct buffer is usually slower.
+	 * Defaults to {@code false}.
+	 * @param direct true to allocate a direct buffer, false for a heap buffer
+	 */
+	public void setDirect(boolean direct) {
+		this.direct = direct;
+	}
+
+	@Override
+	public BufferedReader create(Resource resource, String encoding) throws IOException {
+		if (!resource.isFile() || !ChannelBufferedReader.supports(encoding)) {
+			return this.fallbackFactory.create(resource, encoding);
+		}
+		ByteBuffer buffer = this.direct ? ByteBuffer.allocateDirect(this.bufferSize)
+				: ByteBuffer.allocate(this.bufferSize);
+		FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+		return new ChannelBufferedReader(channel, Charset.forName(encoding), buffer);
+	}
+
+}
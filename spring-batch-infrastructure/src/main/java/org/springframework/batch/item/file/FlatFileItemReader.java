@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import java.nio.charset.StandardCharsets;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ReaderNotOpenException;
 import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.batch.item.file.separator.SimpleRecordSeparatorPolicy;
@@ -44,6 +46,23 @@ import org.springframework.util.StringUtils;
  * line and its line number.
  *
  * <p>
+ * If the {@link BufferedReader} created for the resource implements
+ * {@link SeekableReader} (which is the case for files in the file system with the
+ * {@link FileChannelBufferedReaderFactory}), the byte offset of the last record read and
+ * the current line count are saved in the execution context, and the reader seeks
+ * directly to that offset on restart. Otherwise, lines are re-read one by one up to the
+ * last processed record.
+ * </p>
+ *
+ * <p>
+ * The reader can also be restricted to a range of bytes of the resource (see
+ * {@link #setStartPosition(long)} and {@link #setEndPosition(long)}), so that a single
+ * large file can be read by several readers in parallel, typically in partitions created
+ * by a partitioner that aligns the ranges to record boundaries. This requires the reader
+ * created for the resource to implement {@link SeekableReader}.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -59,6 +78,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	public static final String[] DEFAULT_COMMENT_PREFIXES = new String[] { "#" };
 
+	private static final String READ_POSITION = "read.position";
+
+	private static final String LINE_COUNT = "line.count";
+
 	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
 
 	private Resource resource;
@@ -83,6 +106,14 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private long restartPosition = -1;
+
+	private int restartLineCount = 0;
+
+	private long startPosition = 0;
+
+	private long endPosition = Long.MAX_VALUE;
+
 	public FlatFileItemReader() {
 		setName(ClassUtils.getShortName(FlatFileItemReader.class));
 	}
@@ -172,6 +203,33 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		this.recordSeparatorPolicy = recordSeparatorPolicy;
 	}
 
+	/**
+	 * Set the byte offset at which reading starts. The offset must be the start of a
+	 * record (or of a comment line). When the offset is greater than zero, the reader
+	 * seeks directly to it, the {@link #setLinesToSkip(int) lines to skip} are ignored
+	 * and the line numbers reported by the reader are relative to that offset. Defaults
+	 * to 0.
+	 * @param startPosition the byte offset of the first record to read
+	 * @since 5.2
+	 */
+	public void setStartPosition(long startPosition) {
+		Assert.isTrue(startPosition >= 0, "startPosition must not be negative");
+		this.startPosition = startPosition;
+	}
+
+	/**
+	 * Set the byte offset at which reading ends. Records are read as long as they start
+	 * before that offset, so a record that starts before it and ends after it is read by
+	 * this reader. Defaults to {@link Long#MAX_VALUE}, meaning that the resource is read
+	 * to the end.
+	 * @param endPosition the byte offset (exclusive) before which records must start
+	 * @since 5.2
+	 */
+	public void setEndPosition(long endPosition) {
+		Assert.isTrue(endPosition >= 0, "endPosition must not be negative");
+		this.endPosition = endPosition;
+	}
+
 	/**
 	 * @return string corresponding to logical record according to
 	 * {@link #setRecordSeparatorPolicy(RecordSeparatorPolicy)} (might span multiple lines
@@ -213,12 +271,18 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		String line = null;
 
 		try {
+			if (isEndOfRange()) {
+				return null;
+			}
 			line = this.reader.readLine();
 			if (line == null) {
 				return null;
 			}
 			lineCount++;
 			while (isComment(line)) {
+				if (isEndOfRange()) {
+					return null;
+				}
 				line = reader.readLine();
 				if (line == null) {
 					return null;
@@ -238,6 +302,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		return line;
 	}
 
+	private boolean isEndOfRange() throws IOException {
+		return this.endPosition < Long.MAX_VALUE && ((SeekableReader) this.reader).position() >= this.endPosition;
+	}
+
 	protected boolean isComment(String line) {
 		for (String prefix : comments) {
 			if (line.startsWith(prefix)) {
@@ -255,6 +323,39 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		}
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		this.restartPosition = -1;
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(READ_POSITION))
+				&& executionContext.containsKey(getExecutionContextKey(LINE_COUNT))) {
+			this.restartPosition = executionContext.getLong(getExecutionContextKey(READ_POSITION));
+			this.restartLineCount = executionContext.getInt(getExecutionContextKey(LINE_COUNT));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (!isSaveState()) {
+			return;
+		}
+		if (!noInput && reader instanceof SeekableReader seekableReader) {
+			try {
+				executionContext.putLong(getExecutionContextKey(READ_POSITION), seekableReader.position());
+			}
+			catch (IOException e) {
+				throw new ItemStreamException("Unable to get the current position in resource: [" + resource + "]", e);
+			}
+			executionContext.putInt(getExecutionContextKey(LINE_COUNT), lineCount);
+		}
+		else {
+			// the position saved before a read failure can not be trusted anymore
+			executionContext.remove(getExecutionContextKey(READ_POSITION));
+			executionContext.remove(getExecutionContextKey(LINE_COUNT));
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 		Assert.notNull(resource, "Input resource must be set");
@@ -279,6 +380,16 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		}
 
 		reader = bufferedReaderFactory.create(resource, encoding);
+		if (startPosition > 0 || endPosition < Long.MAX_VALUE) {
+			Assert.state(reader instanceof SeekableReader,
+					"Reading a range of the resource requires a SeekableReader, but the BufferedReaderFactory created a "
+							+ reader.getClass().getName() + " for resource: " + resource);
+		}
+		if (startPosition > 0) {
+			((SeekableReader) reader).position(startPosition);
+			noInput = false;
+			return;
+		}
 		for (int i = 0; i < linesToSkip; i++) {
 			String line = readLine();
 			if (skippedLinesCallback != null) {
@@ -295,6 +406,11 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	@Override
 	protected void jumpToItem(int itemIndex) throws Exception {
+		if (restartPosition >= 0 && reader instanceof SeekableReader seekableReader) {
+			seekableReader.position(restartPosition);
+			lineCount = restartLineCount;
+			return;
+		}
 		for (int i = 0; i < itemIndex; i++) {
 			readLine();
 		}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Interface to be implemented by {@link BufferedReader}s created by a
+ * {@link BufferedReaderFactory} that are able to report the byte offset of the lines
+ * consumed so far and to reposition themselves at such an offset. When the reader created
+ * for a resource implements this interface, the {@link FlatFileItemReader} saves the byte
+ * offset of the last record read in the execution context and seeks directly to it on
+ * restart, instead of re-reading all lines that were already processed.
+ *
+ * @since 5.2
+ */
+public interface SeekableReader {
+
+	/**
+	 * Return the offset, in bytes from the start of the resource, of the first byte that
+	 * was not consumed yet by {@link BufferedReader#readLine()}.
+	 * @return the current byte offset
+	 * @throws IOException if the position cannot be determined
+	 */
+	long position() throws IOException;
+
+	/**
+	 * Reposition the reader at the given byte offset. The offset must be the start of a
+	 * line, typically a value previously returned by {@link #position()}.
+	 * @param position the byte offset to move to
+	 * @throws IOException if the reader cannot be repositioned
+	 */
+	void position(long position) throws IOException;
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,10 +31,12 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.item.file.BufferedReaderFactory;
 import org.springframework.batch.item.file.DefaultBufferedReaderFactory;
+import org.springframework.batch.item.file.FileChannelBufferedReaderFactory;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.LineCallbackHandler;
 import org.springframework.batch.item.file.LineMapper;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.CompiledFieldSetMapper;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.mapping.FieldSetMapper;
 import org.springframework.batch.item.file.mapping.RecordFieldSetMapper;
@@ -103,6 +105,8 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private boolean beanMapperStrict = true;
 
+	private boolean compiledFieldSetMapper;
+
 	private BigInteger tokenizerValidator = new BigInteger("0");
 
 	private boolean saveState = true;
@@ -113,6 +117,10 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private long startPosition = 0;
+
+	private long endPosition = Long.MAX_VALUE;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -211,6 +219,40 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Read files in the file system through a {@link FileChannelBufferedReaderFactory}
+	 * using a buffer of the given size. This replaces any {@link BufferedReaderFactory}
+	 * configured previously.
+	 * @param bufferSize the size of the buffer in bytes
+	 * @return The current instance of the builder.
+	 * @see FileChannelBufferedReaderFactory#setBufferSize(int)
+	 * @since 5.2
+	 */
+	public FlatFileItemReaderBuilder<T> fileChannelBufferSize(int bufferSize) {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		factory.setBufferSize(bufferSize);
+		this.bufferedReaderFactory = factory;
+		return this;
+	}
+
+	/**
+	 * Restrict the reader to the records starting in the given range of bytes of the
+	 * resource, typically the range assigned to a partition. Reading a range requires a
+	 * {@link FileChannelBufferedReaderFactory}, which is used unless another
+	 * {@link #bufferedReaderFactory(BufferedReaderFactory) factory} is configured.
+	 * @param startPosition the byte offset of the first record to read
+	 * @param endPosition the byte offset (exclusive) before which records must start
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setStartPosition(long)
+	 * @see FlatFileItemReader#setEndPosition(long)
+	 * @since 5.2
+	 */
+	public FlatFileItemReaderBuilder<T> byteRange(long startPosition, long endPosition) {
+		this.startPosition = startPosition;
+		this.endPosition = endPosition;
+		return this;
+	}
+
 	/**
 	 * The {@link Resource} to be used as input.
 	 * @param resource the input to the reader.
@@ -407,6 +449,20 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * If set to true, the items of the {@link #targetType(Class) target type} are mapped
+	 * with a {@link CompiledFieldSetMapper}, which resolves the binding of the target
+	 * type once instead of for every line.
+	 * @param compiledFieldSetMapper defaults to false
+	 * @return The current instance of the builder.
+	 * @see CompiledFieldSetMapper
+	 * @since 5.2
+	 */
+	public FlatFileItemReaderBuilder<T> compiledFieldSetMapper(boolean compiledFieldSetMapper) {
+		this.compiledFieldSetMapper = compiledFieldSetMapper;
+		return this;
+	}
+
 	/**
 	 * Builds the {@link FlatFileItemReader}.
 	 * @return a {@link FlatFileItemReader}
@@ -465,7 +521,8 @@ public class FlatFileItemReaderBuilder<T> {
 					lineMapper.setFieldSetMapper(mapper);
 				}
 				else {
-					BeanWrapperFieldSetMapper<T> mapper = new BeanWrapperFieldSetMapper<>();
+					BeanWrapperFieldSetMapper<T> mapper = this.compiledFieldSetMapper ? new CompiledFieldSetMapper<>()
+							: new BeanWrapperFieldSetMapper<>();
 					mapper.setTargetType(this.targetType);
 					mapper.setPrototypeBeanName(this.prototypeBeanName);
 					mapper.setStrict(this.beanMapperStrict);
@@ -496,9 +553,17 @@ public class FlatFileItemReaderBuilder<T> {
 
 		reader.setSkippedLinesCallback(this.skippedLinesCallback);
 		reader.setRecordSeparatorPolicy(this.recordSeparatorPolicy);
-		reader.setBufferedReaderFactory(this.bufferedReaderFactory);
+		if ((this.startPosition > 0 || this.endPosition < Long.MAX_VALUE)
+				&& this.bufferedReaderFactory instanceof DefaultBufferedReaderFactory) {
+			reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		}
+		else {
+			reader.setBufferedReaderFactory(this.bufferedReaderFactory);
+		}
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setCurrentItemCount(this.currentItemCount);
+		reader.setStartPosition(this.startPosition);
+		reader.setEndPosition(this.endPosition);
 		reader.setSaveState(this.saveState);
 		reader.setStrict(this.strict);
 
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.mapping;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.beans.PropertyEditor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MethodInvocationException;
+import org.springframework.beans.PropertyAccessException;
+import org.springframework.beans.PropertyAccessorUtils;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.Property;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingErrorProcessor;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.DefaultBindingErrorProcessor;
+
+/**
+ * {@link BeanWrapperFieldSetMapper} that resolves the binding of the target type once
+ * instead of for every {@link FieldSet}. The first time a {@link FieldSet} with a given
+ * set of names is mapped, each name is matched to a property of the target type with the
+ * same fuzzy matching rules as the {@link BeanWrapperFieldSetMapper}, the setter of that
+ * property is compiled to a {@link BiConsumer} with the {@link LambdaMetafactory} (or
+ * bound as a {@link MethodHandle} if that is not possible) and the conversion of its
+ * values is resolved. Mapping a {@link FieldSet} then only creates the target instance,
+ * converts the values and invokes the setters: neither a {@link DataBinder} nor a
+ * {@link java.util.Properties} is created.<br>
+ * <br>
+ *
+ * Values that cannot be converted and setters that throw an exception are reported in a
+ * {@link BindException} with the same field errors as the {@link DataBinder} of the
+ * {@link BeanWrapperFieldSetMapper}, and exceptions thrown by the constructor of the
+ * target type are rethrown as a {@link BeanInstantiationException}.<br>
+ * <br>
+ *
+ * Whether a field set can be bound that way is decided once for its names. Field sets
+ * that cannot be bound that way are mapped by the {@link BeanWrapperFieldSetMapper}
+ * itself. This is the case for field sets without names, for prototype beans, for nested
+ * or indexed property paths, and for names that do not match a writable property in
+ * strict mode. Note that customizations of the {@link DataBinder} through
+ * {@link #createBinder(Object)} or {@link #initBinder(DataBinder)} only apply to the
+ * field sets mapped by the {@link BeanWrapperFieldSetMapper}.
+ *
+ * @param <T> type of mapped items
+ * @since 5.2
+ */
+public class CompiledFieldSetMapper<T> extends BeanWrapperFieldSetMapper<T> {
+
+	private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+	private static final Set<Class<?>> NUMBER_TYPES = Set.of(Byte.class, Short.class, Integer.class, Long.class,
+			Float.class, Double.class, BigInteger.class, BigDecimal.class);
+
+	private Class<? extends T> type;
+
+	private boolean prototype;
+
+	private int distanceLimit = 5;
+
+	private boolean strict = true;
+
+	private ConversionService conversionService;
+
+	private final BindingErrorProcessor bindingErrorProcessor = new DefaultBindingErrorProcessor();
+
+	private volatile Binding binding;
+
+	@Override
+	public void setTargetType(Class<? extends T> type) {
+		super.setTargetType(type);
+		this.type = type;
+		this.binding = null;
+	}
+
+	@Override
+	public void setPrototypeBeanName(String name) {
+		super.setPrototypeBeanName(name);
+		this.prototype = name != null;
+		this.binding = null;
+	}
+
+	@Override
+	public void setDistanceLimit(int distanceLimit) {
+		super.setDistanceLimit(distanceLimit);
+		this.distanceLimit = distanceLimit;
+		this.binding = null;
+	}
+
+	@Override
+	public void setStrict(boolean strict) {
+		super.setStrict(strict);
+		this.strict = strict;
+		this.binding = null;
+	}
+
+	@Override
+	public void setConversionService(ConversionService conversionService) {
+		super.setConversionService(conversionService);
+		this.conversionService = conversionService;
+		this.binding = null;
+	}
+
+	@Override
+	public void setCustomEditors(Map<?, ? extends PropertyEditor> customEditors) {
+		super.setCustomEditors(customEditors);
+		this.binding = null;
+	}
+
+	/**
+	 * Map the {@link FieldSet} to a new instance of the target type through the compiled
+	 * binding of its names, or through the {@link BeanWrapperFieldSetMapper} if the field
+	 * set cannot be bound that way.
+	 * @see BeanWrapperFieldSetMapper#mapFieldSet(FieldSet)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T mapFieldSet(FieldSet fs) throws BindException {
+		Binding binding = getBinding(fs);
+		if (binding == null) {
+			return super.mapFieldSet(fs);
+		}
+		Object target;
+		try {
+			target = binding.instantiator.get();
+		}
+		catch (RuntimeException e) {
+			throw new BeanInstantiationException(this.type, "Constructor threw exception", e);
+		}
+		BindingResult errors = null;
+		for (int i = 0; i < binding.writers.length; i++) {
+			PropertyWriter writer = binding.writers[i];
+			String value = writer != null ? fs.readString(i) : null;
+			if (value == null) {
+				continue;
+			}
+			PropertyAccessException failure = writer.write(target, value);
+			if (failure != null) {
+				if (errors == null) {
+					errors = new BeanPropertyBindingResult(target, DataBinder.DEFAULT_OBJECT_NAME);
+				}
+				this.bindingErrorProcessor.processPropertyAccessException(failure, errors);
+			}
+		}
+		if (errors != null) {
+			throw new BindException(errors);
+		}
+		return (T) target;
+	}
+
+	@Nullable
+	private Binding getBinding(FieldSet fs) {
+		if (this.type == null || this.prototype || !fs.hasNames()) {
+			return null;
+		}
+		String[] names = fs.getNames();
+		Binding binding = this.binding;
+		if (binding == null || !Arrays.equals(binding.names, names)) {
+			binding = compile(names);
+			this.binding = binding;
+		}
+		return binding.writers != null ? binding : null;
+	}
+
+	private Binding compile(String[] names) {
+		Supplier<Object> instantiator = createInstantiator(this.type);
+		if (instantiator == null || new HashSet<>(Arrays.asList(names)).size() != names.length) {
+			return new Binding(names, null, null);
+		}
+		SimpleTypeConverter editors = new SimpleTypeConverter();
+		registerCustomEditors(editors);
+		PropertyWriter[] writers = new PropertyWriter[names.length];
+		Set<String> properties = new HashSet<>();
+		for (int i = 0; i < names.length; i++) {
+			if (PropertyAccessorUtils.isNestedOrIndexedProperty(names[i])) {
+				return new Binding(names, null, null);
+			}
+			String propertyName = findPropertyName(names[i]);
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(this.type, propertyName);
+			if (descriptor == null || descriptor.getWriteMethod() == null) {
+				if (this.strict) {
+					return new Binding(names, null, null);
+				}
+				continue;
+			}
+			BiConsumer<Object, Object> setter = createSetter(descriptor.getWriteMethod());
+			if (setter == null || !properties.add(descriptor.getName())) {
+				return new Binding(names, null, null);
+			}
+			writers[i] = new PropertyWriter(descriptor.getName(), descriptor.getPropertyType(), setter,
+					createConverter(descriptor, editors));
+		}
+		return new Binding(names, instantiator, writers);
+	}
+
+	private String findPropertyName(String key) {
+		if (this.distanceLimit == 0) {
+			return key;
+		}
+		for (int distance = 0; distance <= this.distanceLimit; distance++) {
+			String[] candidates = PropertyMatches.forProperty(key, this.type, distance).getPossibleMatches();
+			// If we find precisely one match, then use that one...
+			if (candidates.length == 1) {
+				return candidates[0];
+			}
+		}
+		return key;
+	}
+
+	private Function<String, Object> createConverter(PropertyDescriptor descriptor, SimpleTypeConverter editors) {
+		Class<?> propertyType = descriptor.getPropertyType();
+		TypeDescriptor targetType = new TypeDescriptor(
+				new Property(this.type, descriptor.getReadMethod(), descriptor.getWriteMethod(), descriptor.getName()));
+		ConversionService conversionService = this.conversionService;
+		Function<String, Object> editorConverter = value -> {
+			SimpleTypeConverter typeConverter = new SimpleTypeConverter();
+			registerCustomEditors(typeConverter);
+			if (conversionService != null) {
+				typeConverter.setConversionService(conversionService);
+			}
+			return typeConverter.convertIfNecessary(value, propertyType, targetType);
+		};
+		// Same precedence as the bean wrapper: custom editors, conversion service and
+		// then default editors
+		if (editors.findCustomEditor(propertyType, null) == null) {
+			if (conversionService != null && conversionService.canConvert(STRING_TYPE, targetType)) {
+				return value -> {
+					try {
+						return conversionService.convert(value, STRING_TYPE, targetType);
+					}
+					catch (ConversionFailedException e) {
+						// like the bean wrapper, fall back to the default editors
+						return editorConverter.apply(value);
+					}
+				};
+			}
+			if (propertyType.isAssignableFrom(String.class)) {
+				return value -> value;
+			}
+			if (NUMBER_TYPES.contains(ClassUtils.resolvePrimitiveIfNecessary(propertyType))) {
+				@SuppressWarnings("unchecked")
+				Class<? extends Number> numberType = (Class<? extends Number>) ClassUtils
+					.resolvePrimitiveIfNecessary(propertyType);
+				boolean allowEmpty = !propertyType.isPrimitive();
+				return value -> allowEmpty && !StringUtils.hasText(value) ? null
+						: NumberUtils.parseNumber(value, numberType);
+			}
+		}
+		return editorConverter;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> createInstantiator(Class<?> type) {
+		if (Modifier.isAbstract(type.getModifiers())) {
+			return null;
+		}
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			if (!constructor.canAccess(null)) {
+				return null;
+			}
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflectConstructor(constructor);
+			try {
+				CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+						MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+				return (Supplier<Object>) callSite.getTarget().invokeExact();
+			}
+			catch (Throwable e) {
+				MethodHandle instantiator = handle.asType(MethodType.methodType(Object.class));
+				return () -> {
+					try {
+						return instantiator.invokeExact();
+					}
+					catch (RuntimeException | Error ex) {
+						throw ex;
+					}
+					catch (Throwable ex) {
+						throw new UndeclaredThrowableException(ex);
+					}
+				};
+			}
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> createSetter(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			try {
+				CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+						MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class), handle,
+						MethodType.methodType(void.class, declaringClass,
+								ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0])));
+				return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+			}
+			catch (Throwable e) {
+				// the lookup cannot define a class for the target type, invoke the
+				// handle directly
+				MethodHandle setter = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return (target, value) -> {
+					try {
+						setter.invokeExact(target, value);
+					}
+					catch (RuntimeException | Error ex) {
+						throw ex;
+					}
+					catch (Throwable ex) {
+						throw new UndeclaredThrowableException(ex);
+					}
+				};
+			}
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private record PropertyWriter(String propertyName, Class<?> propertyType, BiConsumer<Object, Object> setter,
+			Function<String, Object> converter) {
+
+		/**
+		 * Convert the value and set it on the target, returning the failure in the same
+		 * form as the bean wrapper does.
+		 */
+		@Nullable
+		PropertyAccessException write(Object target, String value) {
+			Object convertedValue;
+			try {
+				convertedValue = this.converter.apply(value);
+			}
+			catch (RuntimeException e) {
+				return new TypeMismatchException(new PropertyChangeEvent(target, this.propertyName, null, value),
+						this.propertyType, e);
+			}
+			try {
+				this.setter.accept(target, convertedValue);
+			}
+			catch (RuntimeException e) {
+				return new MethodInvocationException(
+						new PropertyChangeEvent(target, this.propertyName, null, convertedValue), e);
+			}
+			return null;
+		}
+
+	}
+
+	private record Binding(String[] names, @Nullable Supplier<Object> instantiator,
+			@Nullable PropertyWriter[] writers) {
+	}
+
+}
@@ -15,19 +15,35 @@
  */
 package org.springframework.batch.item.file.mapping;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * This is a {@link FieldSetMapper} that supports Java records mapping (requires JKD 14 or
  * higher). It uses the record's canonical constructor to map components with the same
  * name as tokens in the {@link FieldSet}.
+ * <p>
+ * The constructor, the conversion of each component and the position of each component in
+ * the field set are resolved once, so that mapping a {@link FieldSet} only converts its
+ * values and invokes the constructor through a {@link MethodHandle}.
  *
  * @param <T> type of mapped items
  * @author Mahmoud Ben Hassine
@@ -35,6 +51,8 @@ import org.springframework.util.Assert;
  */
 public class RecordFieldSetMapper<T> implements FieldSetMapper<T> {
 
+	private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
 	private final SimpleTypeConverter typeConverter = new SimpleTypeConverter();
 
 	private final Constructor<T> mappedConstructor;
@@ -43,6 +61,13 @@ public class RecordFieldSetMapper<T> implements FieldSetMapper<T> {
 
 	private Class<?>[] constructorParameterTypes;
 
+	private List<Function<String, Object>> constructorParameterConverters;
+
+	@Nullable
+	private MethodHandle constructorHandle;
+
+	private volatile FieldIndexes fieldIndexes;
+
 	/**
 	 * Create a new {@link RecordFieldSetMapper}.
 	 * @param targetType type of mapped items
@@ -62,7 +87,12 @@ public class RecordFieldSetMapper<T> implements FieldSetMapper<T> {
 		if (this.mappedConstructor.getParameterCount() > 0) {
 			this.constructorParameterNames = BeanUtils.getParameterNames(this.mappedConstructor);
 			this.constructorParameterTypes = this.mappedConstructor.getParameterTypes();
+			this.constructorParameterConverters = new ArrayList<>(this.constructorParameterTypes.length);
+			for (Class<?> constructorParameterType : this.constructorParameterTypes) {
+				this.constructorParameterConverters.add(createConverter(constructorParameterType, conversionService));
+			}
 		}
+		this.constructorHandle = createConstructorHandle(targetType, this.mappedConstructor);
 	}
 
 	@Override
@@ -72,14 +102,88 @@ public class RecordFieldSetMapper<T> implements FieldSetMapper<T> {
 		Assert.isTrue(fieldSet.hasNames(), "Field names must be specified");
 		Object[] args = new Object[0];
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
+			int[] indexes = getFieldIndexes(fieldSet);
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				Class<?> type = this.constructorParameterTypes[i];
-				args[i] = this.typeConverter.convertIfNecessary(fieldSet.readRawString(name), type);
+				String value = indexes[i] >= 0 ? fieldSet.readRawString(indexes[i])
+						: fieldSet.readRawString(this.constructorParameterNames[i]);
+				args[i] = this.constructorParameterConverters.get(i).apply(value);
 			}
 		}
-		return BeanUtils.instantiateClass(this.mappedConstructor, args);
+		return instantiate(args);
+	}
+
+	private int[] getFieldIndexes(FieldSet fieldSet) {
+		String[] names = fieldSet.getNames();
+		FieldIndexes fieldIndexes = this.fieldIndexes;
+		if (fieldIndexes == null || !Arrays.equals(fieldIndexes.names, names)) {
+			int[] indexes = new int[this.constructorParameterNames.length];
+			for (int i = 0; i < indexes.length; i++) {
+				indexes[i] = Arrays.asList(names).indexOf(this.constructorParameterNames[i]);
+			}
+			fieldIndexes = new FieldIndexes(names, indexes);
+			this.fieldIndexes = fieldIndexes;
+		}
+		return fieldIndexes.indexes;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T instantiate(Object[] args) {
+		if (this.constructorHandle == null || hasNullPrimitiveArgument(args)) {
+			return BeanUtils.instantiateClass(this.mappedConstructor, args);
+		}
+		try {
+			return (T) this.constructorHandle.invokeExact(args);
+		}
+		catch (Throwable e) {
+			throw new BeanInstantiationException(this.mappedConstructor, "Constructor threw exception", e);
+		}
+	}
+
+	private boolean hasNullPrimitiveArgument(Object[] args) {
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] == null && this.constructorParameterTypes[i].isPrimitive()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Function<String, Object> createConverter(Class<?> type, ConversionService conversionService) {
+		TypeDescriptor targetType = TypeDescriptor.valueOf(type);
+		if (!conversionService.canConvert(STRING_TYPE, targetType)) {
+			return value -> this.typeConverter.convertIfNecessary(value, type);
+		}
+		return value -> {
+			if (value != null) {
+				try {
+					return conversionService.convert(value, STRING_TYPE, targetType);
+				}
+				catch (ConversionFailedException e) {
+					// fall back to the default property editors
+				}
+			}
+			return this.typeConverter.convertIfNecessary(value, type);
+		};
+	}
+
+	@Nullable
+	private static MethodHandle createConstructorHandle(Class<?> targetType, Constructor<?> constructor) {
+		if (KotlinDetector.isKotlinReflectPresent() && KotlinDetector.isKotlinType(targetType)) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetType, MethodHandles.lookup());
+			return lookup.unreflectConstructor(constructor)
+				.asSpreader(Object[].class, constructor.getParameterCount())
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private record FieldIndexes(String[] names, int[] indexes) {
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,8 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 
 	private FieldSetFactory fieldSetFactory = new DefaultFieldSetFactory();
 
+	private boolean charSequenceFieldSet = false;
+
 	/**
 	 * Public setter for the strict flag. If true (the default) then number of tokens in
 	 * line must match the number of tokens defined (by {@link Range}, columns, etc.) in
@@ -71,6 +73,20 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 		this.fieldSetFactory = fieldSetFactory;
 	}
 
+	/**
+	 * Public setter for the charSequenceFieldSet flag. If true, lines are tokenized into
+	 * the boundaries of their tokens (see {@link #doTokenizeBoundaries(String)}) and the
+	 * {@link FieldSet} is created with
+	 * {@link FieldSetFactory#create(String, int[], String[])}, which, with the default
+	 * factory, returns a {@link CharSequenceFieldSet} that does not copy each token into
+	 * its own String. Defaults to false.
+	 * @param charSequenceFieldSet the charSequenceFieldSet flag to set
+	 * @since 5.2
+	 */
+	public void setCharSequenceFieldSet(boolean charSequenceFieldSet) {
+		this.charSequenceFieldSet = charSequenceFieldSet;
+	}
+
 	/**
 	 * Setter for column names. Optional, but if set, then all lines must have as many or
 	 * fewer tokens.
@@ -118,6 +134,13 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 			line = "";
 		}
 
+		if (charSequenceFieldSet) {
+			int[] boundaries = doTokenizeBoundaries(line);
+			if (boundaries != null) {
+				return createFieldSet(line, boundaries);
+			}
+		}
+
 		List<String> tokens = new ArrayList<>(doTokenize(line));
 
 		// if names are set and strict flag is false
@@ -138,6 +161,43 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 
 	protected abstract List<String> doTokenize(String line);
 
+	/**
+	 * Yields the boundaries of the tokens resulting from the splitting of the supplied
+	 * <code>line</code>: for token {@code i}, {@code boundaries[2 * i]} is the index of
+	 * its first character in the line and {@code boundaries[2 * i + 1]} the index after
+	 * its last character. Only used if the charSequenceFieldSet flag is set. The default
+	 * implementation returns {@code null}, in which case the line is tokenized with
+	 * {@link #doTokenize(String)}.
+	 * @param line the line to be tokenized
+	 * @return the boundaries of the tokens, or {@code null} if the tokens of this line
+	 * cannot be expressed as boundaries in the line
+	 * @since 5.2
+	 * @see #setCharSequenceFieldSet(boolean)
+	 */
+	@Nullable
+	protected int[] doTokenizeBoundaries(String line) {
+		return null;
+	}
+
+	private FieldSet createFieldSet(String line, int[] boundaries) {
+		int tokenCount = boundaries.length / 2;
+
+		// if names are set and strict flag is false
+		if ((names.length != 0) && (!strict) && (names.length != tokenCount)) {
+			// pad with empty tokens or truncate to match the expected number of tokens
+			boundaries = Arrays.copyOf(boundaries, 2 * names.length);
+			tokenCount = names.length;
+		}
+
+		if (names.length == 0) {
+			return fieldSetFactory.create(line, boundaries, null);
+		}
+		else if (tokenCount != names.length) {
+			throw new IncorrectTokenCountException(names.length, tokenCount, line);
+		}
+		return fieldSetFactory.create(line, boundaries, names);
+	}
+
 	/**
 	 * Adds empty tokens or truncates existing token list to match expected (configured)
 	 * number of tokens in {@link LineTokenizer}.
@@ -0,0 +1,697 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link FieldSet} implementation that is a view over the line it was tokenized from.
+ * Instead of holding a String per field, it only records the boundaries of each field in
+ * the original line. Values are extracted only when they are read as Strings, and the
+ * typed accessors {@link #readInt(int)}, {@link #readLong(int)},
+ * {@link #readBigDecimal(int)} and {@link #readDate(int)} parse plain values directly
+ * from the line without creating intermediate Strings. Values that do not have a plain
+ * form (grouping separators, exponents, custom formats, etc.) are parsed exactly as with
+ * the {@link DefaultFieldSet}.
+ * <p>
+ * Strings are trimmed before parsing, and so are plain String values.
+ *
+ * @since 5.2
+ * @see AbstractLineTokenizer#setCharSequenceFieldSet(boolean)
+ */
+public class CharSequenceFieldSet implements FieldSet {
+
+	private final static String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
+
+	// number of digits that always fit in a long
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private final String line;
+
+	private final int[] boundaries;
+
+	@Nullable
+	private final String[] names;
+
+	private DateFormat dateFormat;
+
+	private NumberFormat numberFormat;
+
+	private final boolean defaultDateFormat;
+
+	private final boolean defaultNumberFormat;
+
+	private String grouping;
+
+	private String decimal;
+
+	/**
+	 * Create a FieldSet over the given line.
+	 * @param line the line the fields were tokenized from
+	 * @param boundaries the boundaries of the fields in the line: for field {@code i},
+	 * {@code boundaries[2 * i]} is the index of its first character and
+	 * {@code boundaries[2 * i + 1]} the index after its last character
+	 * @param names the names of the fields, or {@code null} if the fields are anonymous
+	 * and can only be retrieved by column number
+	 * @param dateFormat the {@link DateFormat} to use, or {@code null} for the ISO
+	 * standard {@code yyyy-MM-dd} pattern
+	 * @param numberFormat the {@link NumberFormat} to use, or {@code null} for
+	 * {@link Locale#US}
+	 */
+	public CharSequenceFieldSet(String line, int[] boundaries, @Nullable String[] names,
+			@Nullable DateFormat dateFormat, @Nullable NumberFormat numberFormat) {
+		Assert.notNull(line, "Line must not be null");
+		Assert.notNull(boundaries, "Boundaries must not be null");
+		Assert.isTrue(boundaries.length % 2 == 0, "Boundaries must contain a start and an end index per field");
+		if (names != null && names.length != boundaries.length / 2) {
+			throw new IllegalArgumentException("Field names must be same length as values: names="
+					+ Arrays.asList(names) + ", values=" + (boundaries.length / 2));
+		}
+		this.line = line;
+		this.boundaries = boundaries;
+		this.names = names;
+		this.dateFormat = dateFormat;
+		this.defaultDateFormat = dateFormat == null;
+		this.numberFormat = numberFormat;
+		this.defaultNumberFormat = numberFormat == null;
+	}
+
+	@Override
+	public String[] getNames() {
+		if (names == null) {
+			throw new IllegalStateException("Field names are not known");
+		}
+		return names.clone();
+	}
+
+	@Override
+	public boolean hasNames() {
+		return names != null;
+	}
+
+	@Override
+	public String[] getValues() {
+		String[] values = new String[getFieldCount()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = readRawString(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Read the trimmed value at the given index as a {@link CharSequence} backed by the
+	 * original line, without copying it.
+	 * @param index the field index
+	 * @return a view over the trimmed value
+	 */
+	public CharSequence readCharSequence(int index) {
+		return CharBuffer.wrap(line, trimmedStart(index), trimmedEnd(index));
+	}
+
+	/**
+	 * Read the trimmed value of the field with the given name as a {@link CharSequence}
+	 * backed by the original line, without copying it.
+	 * @param name the field name
+	 * @return a view over the trimmed value
+	 */
+	public CharSequence readCharSequence(String name) {
+		return readCharSequence(indexOf(name));
+	}
+
+	@Override
+	public String readString(int index) {
+		return readAndTrim(index);
+	}
+
+	@Override
+	public String readString(String name) {
+		return readString(indexOf(name));
+	}
+
+	@Override
+	public String readRawString(int index) {
+		checkIndex(index);
+		return line.substring(boundaries[2 * index], boundaries[2 * index + 1]);
+	}
+
+	@Override
+	public String readRawString(String name) {
+		return readRawString(indexOf(name));
+	}
+
+	@Override
+	public boolean readBoolean(int index) {
+		return readBoolean(index, "true");
+	}
+
+	@Override
+	public boolean readBoolean(String name) {
+		return readBoolean(indexOf(name));
+	}
+
+	@Override
+	public boolean readBoolean(int index, String trueValue) {
+		Assert.notNull(trueValue, "'trueValue' cannot be null.");
+
+		int start = trimmedStart(index);
+		int end = trimmedEnd(index);
+		return end - start == trueValue.length() && line.startsWith(trueValue, start);
+	}
+
+	@Override
+	public boolean readBoolean(String name, String trueValue) {
+		return readBoolean(indexOf(name), trueValue);
+	}
+
+	@Override
+	public char readChar(int index) {
+		int start = trimmedStart(index);
+		int end = trimmedEnd(index);
+
+		Assert.isTrue(end - start == 1, () -> "Cannot convert field value '" + readAndTrim(index) + "' to char.");
+
+		return line.charAt(start);
+	}
+
+	@Override
+	public char readChar(String name) {
+		return readChar(indexOf(name));
+	}
+
+	@Override
+	public byte readByte(int index) {
+		return Byte.parseByte(readAndTrim(index));
+	}
+
+	@Override
+	public byte readByte(String name) {
+		return readByte(indexOf(name));
+	}
+
+	@Override
+	public short readShort(int index) {
+		return Short.parseShort(readAndTrim(index));
+	}
+
+	@Override
+	public short readShort(String name) {
+		return readShort(indexOf(name));
+	}
+
+	@Override
+	public int readInt(int index) {
+		if (defaultNumberFormat) {
+			long value = parsePlainLong(trimmedStart(index), trimmedEnd(index), false);
+			if (value != Long.MIN_VALUE) {
+				return (int) value;
+			}
+		}
+		return parseNumber(readAndTrim(index)).intValue();
+	}
+
+	@Override
+	public int readInt(String name) {
+		return readInt(indexOf(name));
+	}
+
+	@Override
+	public int readInt(int index, int defaultValue) {
+		int start = trimmedStart(index);
+		int end = trimmedEnd(index);
+		if (start == end) {
+			return defaultValue;
+		}
+		long value = parsePlainLong(start, end, true);
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			return (int) value;
+		}
+		return Integer.parseInt(line.substring(start, end));
+	}
+
+	@Override
+	public int readInt(String name, int defaultValue) {
+		return readInt(indexOf(name), defaultValue);
+	}
+
+	@Override
+	public long readLong(int index) {
+		if (defaultNumberFormat) {
+			long value = parsePlainLong(trimmedStart(index), trimmedEnd(index), false);
+			if (value != Long.MIN_VALUE) {
+				return value;
+			}
+		}
+		return parseNumber(readAndTrim(index)).longValue();
+	}
+
+	@Override
+	public long readLong(String name) {
+		return readLong(indexOf(name));
+	}
+
+	@Override
+	public long readLong(int index, long defaultValue) {
+		int start = trimmedStart(index);
+		int end = trimmedEnd(index);
+		if (start == end) {
+			return defaultValue;
+		}
+		long value = parsePlainLong(start, end, true);
+		if (value != Long.MIN_VALUE) {
+			return value;
+		}
+		return Long.parseLong(line.substring(start, end));
+	}
+
+	@Override
+	public long readLong(String name, long defaultValue) {
+		return readLong(indexOf(name), defaultValue);
+	}
+
+	@Override
+	public float readFloat(int index) {
+		return parseNumber(readAndTrim(index)).floatValue();
+	}
+
+	@Override
+	public float readFloat(String name) {
+		return readFloat(indexOf(name));
+	}
+
+	@Override
+	public double readDouble(int index) {
+		return parseNumber(readAndTrim(index)).doubleValue();
+	}
+
+	@Override
+	public double readDouble(String name) {
+		return readDouble(indexOf(name));
+	}
+
+	@Override
+	public BigDecimal readBigDecimal(int index) {
+		return readBigDecimal(index, null);
+	}
+
+	@Override
+	public BigDecimal readBigDecimal(String name) {
+		return readBigDecimal(name, null);
+	}
+
+	@Override
+	public BigDecimal readBigDecimal(int index, BigDecimal defaultValue) {
+		if (defaultNumberFormat) {
+			BigDecimal value = parsePlainBigDecimal(trimmedStart(index), trimmedEnd(index));
+			if (value != null) {
+				return value;
+			}
+		}
+
+		String candidate = readAndTrim(index);
+
+		if (!StringUtils.hasText(candidate)) {
+			return defaultValue;
+		}
+
+		try {
+			String result = removeSeparators(candidate);
+			return new BigDecimal(result);
+		}
+		catch (NumberFormatException e) {
+			throw new NumberFormatException("Unparseable number: " + candidate);
+		}
+	}
+
+	@Override
+	public BigDecimal readBigDecimal(String name, BigDecimal defaultValue) {
+		try {
+			return readBigDecimal(indexOf(name), defaultValue);
+		}
+		catch (NumberFormatException e) {
+			throw new NumberFormatException(e.getMessage() + ", name: [" + name + "]");
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(int index) {
+		if (defaultDateFormat) {
+			Date value = parseIsoDate(trimmedStart(index), trimmedEnd(index));
+			if (value != null) {
+				return value;
+			}
+		}
+		return parseDate(readAndTrim(index), getDateFormat());
+	}
+
+	@Override
+	public Date readDate(int index, Date defaultValue) {
+		String candidate = readAndTrim(index);
+		return StringUtils.hasText(candidate) ? readDate(index) : defaultValue;
+	}
+
+	@Override
+	public Date readDate(String name) {
+		try {
+			return readDate(indexOf(name));
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(String name, Date defaultValue) {
+		try {
+			return readDate(indexOf(name), defaultValue);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(int index, String pattern) {
+		SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+		sdf.setLenient(false);
+		return parseDate(readAndTrim(index), sdf);
+	}
+
+	@Override
+	public Date readDate(int index, String pattern, Date defaultValue) {
+		String candidate = readAndTrim(index);
+		return StringUtils.hasText(candidate) ? readDate(index, pattern) : defaultValue;
+	}
+
+	@Override
+	public Date readDate(String name, String pattern) {
+		try {
+			return readDate(indexOf(name), pattern);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public Date readDate(String name, String pattern, Date defaultValue) {
+		try {
+			return readDate(indexOf(name), pattern, defaultValue);
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(e.getMessage() + ", name: [" + name + "]");
+		}
+	}
+
+	@Override
+	public int getFieldCount() {
+		return boundaries.length / 2;
+	}
+
+	@Override
+	public Properties getProperties() {
+		if (names == null) {
+			throw new IllegalStateException("Cannot create properties without meta data");
+		}
+		Properties props = new Properties();
+		for (int i = 0; i < names.length; i++) {
+			props.setProperty(names[i], readAndTrim(i));
+		}
+		return props;
+	}
+
+	/**
+	 * Read and trim the {@link String} value at '<code>index</code>'.
+	 * @param index the field index
+	 * @return the trimmed value
+	 */
+	protected String readAndTrim(int index) {
+		return line.substring(trimmedStart(index), trimmedEnd(index));
+	}
+
+	/**
+	 * Retrieve the index of where a specified column is located based on the {@code name}
+	 * parameter.
+	 * @param name the name of the column
+	 * @return the index of the column
+	 * @throws IllegalArgumentException if a column with given name is not defined.
+	 */
+	protected int indexOf(String name) {
+		if (names == null) {
+			throw new IllegalArgumentException("Cannot access columns by name without meta data");
+		}
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Cannot access column [" + name + "] from " + Arrays.asList(names));
+	}
+
+	@Override
+	public String toString() {
+		if (names != null) {
+			return getProperties().toString();
+		}
+		return Arrays.asList(getValues()).toString();
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object instanceof CharSequenceFieldSet fs) {
+			return Arrays.equals(getValues(), fs.getValues());
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(getValues());
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= getFieldCount()) {
+			throw new ArrayIndexOutOfBoundsException("Index " + index + " out of bounds for length " + getFieldCount());
+		}
+	}
+
+	private int trimmedStart(int index) {
+		checkIndex(index);
+		int start = boundaries[2 * index];
+		int end = boundaries[2 * index + 1];
+		while (start < end && line.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private int trimmedEnd(int index) {
+		int start = trimmedStart(index);
+		int end = boundaries[2 * index + 1];
+		while (end > start && line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Parse a plain integral number made of ASCII digits, with an optional leading minus
+	 * sign (or plus sign if allowed), and at most {@value #MAX_LONG_DIGITS} digits.
+	 * @return the parsed value or {@link Long#MIN_VALUE} if the value is not plain
+	 */
+	private long parsePlainLong(int start, int end, boolean allowPlusSign) {
+		boolean negative = false;
+		int i = start;
+		if (i < end) {
+			char first = line.charAt(i);
+			if (first == '-') {
+				negative = true;
+				i++;
+			}
+			else if (first == '+' && allowPlusSign) {
+				i++;
+			}
+		}
+		if (i == end || end - i > MAX_LONG_DIGITS) {
+			return Long.MIN_VALUE;
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			char c = line.charAt(i);
+			if (c < '0' || c > '9') {
+				return Long.MIN_VALUE;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parse a plain decimal number made of ASCII digits, with an optional sign and an
+	 * optional '.' decimal separator, and at most {@value #MAX_LONG_DIGITS} digits.
+	 * @return the parsed value or {@code null} if the value is not plain
+	 */
+	@Nullable
+	private BigDecimal parsePlainBigDecimal(int start, int end) {
+		boolean negative = false;
+		int i = start;
+		if (i < end) {
+			char first = line.charAt(i);
+			if (first == '-' || first == '+') {
+				negative = first == '-';
+				i++;
+			}
+		}
+		long unscaledValue = 0;
+		int digits = 0;
+		int scale = -1;
+		for (; i < end; i++) {
+			char c = line.charAt(i);
+			if (c == '.' && scale < 0) {
+				scale = 0;
+			}
+			else if (c >= '0' && c <= '9' && digits < MAX_LONG_DIGITS) {
+				unscaledValue = unscaledValue * 10 + (c - '0');
+				digits++;
+				if (scale >= 0) {
+					scale++;
+				}
+			}
+			else {
+				return null;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+		return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, Math.max(scale, 0));
+	}
+
+	/**
+	 * Parse a date in the ISO {@code yyyy-MM-dd} format, as the default date format of
+	 * this field set would.
+	 * @return the parsed date or {@code null} if the value does not have this exact
+	 * format or is not a valid Gregorian date
+	 */
+	@Nullable
+	private Date parseIsoDate(int start, int end) {
+		if (end - start != DEFAULT_DATE_PATTERN.length() || line.charAt(start + 4) != '-'
+				|| line.charAt(start + 7) != '-') {
+			return null;
+		}
+		int year = parseDigits(start, start + 4);
+		int month = parseDigits(start + 5, start + 7);
+		int day = parseDigits(start + 8, start + 10);
+		// dates before the Gregorian cutover are left to the Julian calendar of the
+		// date format
+		if (year <= 1582 || month < 0 || day < 0) {
+			return null;
+		}
+		try {
+			ZoneId zone = (dateFormat != null) ? dateFormat.getTimeZone().toZoneId() : ZoneId.systemDefault();
+			return Date.from(LocalDate.of(year, month, day).atStartOfDay(zone).toInstant());
+		}
+		catch (DateTimeException e) {
+			return null;
+		}
+	}
+
+	private int parseDigits(int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			char c = line.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	private DateFormat getDateFormat() {
+		if (dateFormat == null) {
+			dateFormat = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
+			dateFormat.setLenient(false);
+		}
+		return dateFormat;
+	}
+
+	private NumberFormat getNumberFormat() {
+		if (numberFormat == null) {
+			numberFormat = NumberFormat.getInstance(Locale.US);
+		}
+		return numberFormat;
+	}
+
+	private String removeSeparators(String candidate) {
+		if (grouping == null) {
+			NumberFormat format = getNumberFormat();
+			if (format instanceof DecimalFormat decimalFormat) {
+				grouping = String.valueOf(decimalFormat.getDecimalFormatSymbols().getGroupingSeparator());
+				decimal = String.valueOf(decimalFormat.getDecimalFormatSymbols().getDecimalSeparator());
+			}
+			else {
+				return candidate;
+			}
+		}
+		return candidate.replace(grouping, "").replace(decimal, ".");
+	}
+
+	private Number parseNumber(String candidate) {
+		try {
+			return getNumberFormat().parse(candidate);
+		}
+		catch (ParseException e) {
+			throw new NumberFormatException("Unparseable number: " + candidate);
+		}
+	}
+
+	private Date parseDate(String readAndTrim, DateFormat dateFormat) {
+		try {
+			return dateFormat.parse(readAndTrim);
+		}
+		catch (ParseException e) {
+			String pattern;
+			if (dateFormat instanceof SimpleDateFormat) {
+				pattern = ((SimpleDateFormat) dateFormat).toPattern();
+			}
+			else {
+				pattern = dateFormat.toString();
+			}
+			throw new IllegalArgumentException(e.getMessage() + ", format: [" + pattern + "]");
+		}
+	}
+
+}
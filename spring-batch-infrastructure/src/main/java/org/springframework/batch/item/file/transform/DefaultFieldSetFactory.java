@@ -22,7 +22,9 @@ import org.springframework.lang.Nullable;
 
 /**
  * Default implementation of {@link FieldSetFactory} with no special knowledge of the
- * {@link FieldSet} required. Returns a {@link DefaultFieldSet} from both factory methods.
+ * {@link FieldSet} required. Returns a {@link DefaultFieldSet} from the factory methods
+ * taking token values and a {@link CharSequenceFieldSet} from the factory method taking
+ * token boundaries.
  *
  * @author Dave Syer
  * @author Mahmoud Ben Hassine
@@ -85,4 +87,12 @@ public class DefaultFieldSetFactory implements FieldSetFactory {
 		return new DefaultFieldSet(values, dateFormat, numberFormat);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public FieldSet create(String line, int[] boundaries, @Nullable String[] names) {
+		return new CharSequenceFieldSet(line, boundaries, names, dateFormat, numberFormat);
+	}
+
 }
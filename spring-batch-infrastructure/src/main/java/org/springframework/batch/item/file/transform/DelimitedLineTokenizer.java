@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.batch.item.file.transform;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -186,6 +187,118 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		return tokens;
 	}
 
+	/**
+	 * Yields the boundaries of the tokens resulting from the splitting of the supplied
+	 * <code>line</code>. Quotes around a token are excluded from its boundaries. Lines in
+	 * which a quoted token contains escaped quotes cannot be expressed as boundaries and
+	 * are tokenized with {@link #doTokenize(String)} instead.
+	 * @param line the line to be tokenized
+	 * @return the boundaries of the resulting tokens, or {@code null} if the line
+	 * contains escaped quotes
+	 */
+	@Override
+	protected int[] doTokenizeBoundaries(String line) {
+
+		int[] boundaries = new int[16];
+		int size = 0;
+
+		boolean inQuoted = false;
+		int lastCut = 0;
+		int length = line.length();
+		int fieldCount = 0;
+		int endIndexLastDelimiter = -1;
+
+		for (int i = 0; i < length; i++) {
+			char currentChar = line.charAt(i);
+			boolean isEnd = (i == (length - 1));
+
+			boolean isDelimiter = endsWithDelimiter(line, i, endIndexLastDelimiter);
+
+			if ((isDelimiter && !inQuoted) || isEnd) {
+				endIndexLastDelimiter = i;
+				int endPosition = (isEnd ? (length - lastCut) : (i - lastCut));
+
+				if (isEnd && isDelimiter) {
+					endPosition = endPosition - delimiter.length();
+				}
+				else if (!isEnd) {
+					endPosition = (endPosition - delimiter.length()) + 1;
+				}
+
+				if (includedFields == null || includedFields.contains(fieldCount)) {
+					if (size + 4 > boundaries.length) {
+						boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+					}
+					if (!addBoundariesWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition,
+							boundaries, size)) {
+						return null;
+					}
+					size += 2;
+				}
+
+				fieldCount++;
+
+				if (isEnd && (isDelimiter)) {
+					if (includedFields == null || includedFields.contains(fieldCount)) {
+						// empty token
+						size += 2;
+					}
+					fieldCount++;
+				}
+
+				lastCut = i + 1;
+			}
+			else if (isQuoteCharacter(currentChar)) {
+				inQuoted = !inQuoted;
+			}
+
+		}
+
+		return Arrays.copyOf(boundaries, size);
+	}
+
+	/**
+	 * Boundaries counterpart of
+	 * {@link #substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String, int, int)}.
+	 * @return false if the token cannot be expressed as boundaries in the line
+	 */
+	private boolean addBoundariesWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String line, int offset, int count,
+			int[] boundaries, int index) {
+		int start = offset;
+		int len = count;
+
+		while ((start < (start + len - 1)) && (line.charAt(start) <= ' ')) {
+			start++;
+			len--;
+		}
+
+		while ((start < (start + len))
+				&& ((start + len - 1 < line.length()) && (line.charAt(start + len - 1) <= ' '))) {
+			len--;
+		}
+
+		if ((line.length() >= 2) && isQuoteCharacter(line.charAt(start))
+				&& isQuoteCharacter(line.charAt(start + len - 1))) {
+			int beginIndex = start + 1;
+			int endIndex = beginIndex + len - 2;
+			if (endIndex < beginIndex) {
+				return false;
+			}
+			int escapedQuoteIndex = line.indexOf(escapedQuoteString, beginIndex);
+			if (escapedQuoteIndex >= 0 && escapedQuoteIndex + escapedQuoteString.length() <= endIndex) {
+				return false;
+			}
+			boundaries[index] = beginIndex;
+			boundaries[index + 1] = endIndex;
+		}
+		else {
+			boundaries[index] = offset;
+			boundaries[index + 1] = offset + count;
+		}
+
+		return true;
+	}
+
 	/**
 	 * Trim any leading or trailing quotes (and any leading or trailing whitespace before
 	 * or after the quotes) from within the specified character array beginning at the
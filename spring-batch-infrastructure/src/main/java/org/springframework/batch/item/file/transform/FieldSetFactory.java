@@ -1,5 +1,5 @@
 /*
- * Copyright 2009-2010 the original author or authors.
+ * Copyright 2009-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.item.file.transform;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Factory interface for creating {@link FieldSet} instances.
  *
@@ -44,4 +46,25 @@ public interface FieldSetFactory {
 	 */
 	FieldSet create(String[] values);
 
+	/**
+	 * Create a FieldSet from the boundaries of the tokens in a line. The default
+	 * implementation extracts each token from the line and delegates to
+	 * {@link #create(String[], String[])} or {@link #create(String[])}.
+	 * @param line the line the tokens were found in
+	 * @param boundaries the boundaries of the tokens in the line: for token {@code i},
+	 * {@code boundaries[2 * i]} is the index of its first character and
+	 * {@code boundaries[2 * i + 1]} the index after its last character
+	 * @param names the names of the tokens, or {@code null} for anonymous tokens
+	 * @return an instance of {@link FieldSet}.
+	 * @since 5.2
+	 * @see CharSequenceFieldSet
+	 */
+	default FieldSet create(String line, int[] boundaries, @Nullable String[] names) {
+		String[] values = new String[boundaries.length / 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = line.substring(boundaries[2 * i], boundaries[2 * i + 1]);
+		}
+		return names == null ? create(values) : create(values, names);
+	}
+
 }
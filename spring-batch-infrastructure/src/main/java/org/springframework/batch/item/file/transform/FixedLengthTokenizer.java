@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -101,15 +101,7 @@ public class FixedLengthTokenizer extends AbstractLineTokenizer {
 
 		lineLength = line.length();
 
-		if (lineLength < maxRange && isStrict()) {
-			throw new IncorrectLineLengthException("Line is shorter than max range " + maxRange, maxRange, lineLength,
-					line);
-		}
-
-		if (!open && lineLength > maxRange && isStrict()) {
-			throw new IncorrectLineLengthException("Line is longer than max range " + maxRange, maxRange, lineLength,
-					line);
-		}
+		checkLineLength(line, lineLength);
 
 		for (Range range : ranges) {
 
@@ -132,4 +124,50 @@ public class FixedLengthTokenizer extends AbstractLineTokenizer {
 		return tokens;
 	}
 
+	/**
+	 * Yields the boundaries of the tokens resulting from the splitting of the supplied
+	 * <code>line</code>.
+	 * @param line the line to be tokenized
+	 * @return the boundaries of the resulting tokens
+	 * @throws IncorrectLineLengthException if line length is greater than or less than
+	 * the max range set.
+	 */
+	@Override
+	protected int[] doTokenizeBoundaries(String line) {
+		int[] boundaries = new int[2 * ranges.length];
+		int lineLength = line.length();
+
+		checkLineLength(line, lineLength);
+
+		for (int i = 0; i < ranges.length; i++) {
+
+			int startPos = ranges[i].getMin() - 1;
+			int endPos = ranges[i].getMax();
+
+			if (lineLength >= endPos) {
+				boundaries[2 * i] = startPos;
+				boundaries[2 * i + 1] = endPos;
+			}
+			else if (lineLength >= startPos) {
+				boundaries[2 * i] = startPos;
+				boundaries[2 * i + 1] = lineLength;
+			}
+			// else empty token
+		}
+
+		return boundaries;
+	}
+
+	private void checkLineLength(String line, int lineLength) {
+		if (lineLength < maxRange && isStrict()) {
+			throw new IncorrectLineLengthException("Line is shorter than max range " + maxRange, maxRange, lineLength,
+					line);
+		}
+
+		if (!open && lineLength > maxRange && isStrict()) {
+			throw new IncorrectLineLengthException("Line is longer than max range " + maxRange, maxRange, lineLength,
+					line);
+		}
+	}
+
 }
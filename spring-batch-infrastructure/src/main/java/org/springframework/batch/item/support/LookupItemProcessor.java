@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ChunkItemProcessor} enriching items with values looked up by key, for example
+ * from a reference table. The keys of all the items of a chunk are gathered and the
+ * values of the keys that are not cached are loaded with a single call to the bulk
+ * loader. Each item is then combined with the value of its key, which is {@code null} if
+ * the key of the item is {@code null} or if the loader did not return a value for it.
+ * <p>
+ * Loaded values, including the absence of a value, are kept in a cache evicting the least
+ * recently used entries once its maximum size is reached. The cache is cleared when the
+ * processor is closed, so that it lives for the step by default. It can be kept for the
+ * lifetime of the processor instead (for example, a job scoped processor shared by the
+ * steps of a job) with {@link #setClearCacheOnClose(boolean)}. The number of cache hits,
+ * misses and evictions are available from the processor and are reported as metrics by
+ * chunk oriented steps.
+ * <p>
+ * This processor is thread-safe as long as the key extractor, the loader and the combiner
+ * are.
+ *
+ * @since 5.2
+ * @param <I> type of input item
+ * @param <K> type of lookup key
+ * @param <V> type of looked up value
+ * @param <O> type of output item
+ */
+public class LookupItemProcessor<I, K, V, O> extends ItemStreamSupport implements ChunkItemProcessor<I, O> {
+
+	private static final Object ABSENT = new Object();
+
+	private final Function<I, K> keyExtractor;
+
+	private final Function<Collection<K>, Map<K, V>> loader;
+
+	private final BiFunction<I, V, O> combiner;
+
+	private int cacheSize = 1000;
+
+	private boolean clearCacheOnClose = true;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<K, Object> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Object> eldest) {
+			if (size() > cacheSize) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * Create a new {@link LookupItemProcessor}.
+	 * @param keyExtractor the function extracting the lookup key of an item, returning
+	 * {@code null} if the item has nothing to look up
+	 * @param loader the function loading the values of the given keys, missing keys
+	 * having no value
+	 * @param combiner the function combining an item with the value of its key
+	 */
+	public LookupItemProcessor(Function<I, K> keyExtractor, Function<Collection<K>, Map<K, V>> loader,
+			BiFunction<I, V, O> combiner) {
+		Assert.notNull(keyExtractor, "The key extractor must not be null");
+		Assert.notNull(loader, "The loader must not be null");
+		Assert.notNull(combiner, "The combiner must not be null");
+		this.keyExtractor = keyExtractor;
+		this.loader = loader;
+		this.combiner = combiner;
+		setName(ClassUtils.getShortName(LookupItemProcessor.class));
+	}
+
+	/**
+	 * Set the maximum number of cached keys. The least recently used keys are evicted
+	 * first. Zero disables caching, in which case the values are loaded for each chunk.
+	 * Defaults to 1000.
+	 * @param cacheSize the maximum number of cached keys
+	 */
+	public void setCacheSize(int cacheSize) {
+		Assert.isTrue(cacheSize >= 0, "The cache size must not be negative");
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Set whether the cache should be cleared when the processor is closed, at the end of
+	 * the step. Defaults to {@code true}.
+	 * @param clearCacheOnClose {@code false} to keep the cache for the lifetime of the
+	 * processor
+	 */
+	public void setClearCacheOnClose(boolean clearCacheOnClose) {
+		this.clearCacheOnClose = clearCacheOnClose;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Chunk<O> processChunk(Chunk<? extends I> items) throws Exception {
+		List<? extends I> inputs = items.getItems();
+		List<K> keys = new ArrayList<>(inputs.size());
+		for (I item : inputs) {
+			keys.add(this.keyExtractor.apply(item));
+		}
+		Map<K, V> values = new HashMap<>();
+		Set<K> missingKeys = new LinkedHashSet<>();
+		this.lock.lock();
+		try {
+			for (K key : keys) {
+				if (key == null || values.containsKey(key) || missingKeys.contains(key)) {
+					continue;
+				}
+				Object value = this.cache.get(key);
+				if (value == null) {
+					missingKeys.add(key);
+				}
+				else {
+					this.hits.increment();
+					values.put(key, value == ABSENT ? null : (V) value);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (!missingKeys.isEmpty()) {
+			this.misses.add(missingKeys.size());
+			Map<K, V> loaded = this.loader.apply(Collections.unmodifiableSet(missingKeys));
+			this.lock.lock();
+			try {
+				for (K key : missingKeys) {
+					V value = loaded == null ? null : loaded.get(key);
+					values.put(key, value);
+					if (this.cacheSize > 0) {
+						this.cache.put(key, value == null ? ABSENT : value);
+					}
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		List<O> outputs = new ArrayList<>(inputs.size());
+		for (int i = 0; i < inputs.size(); i++) {
+			K key = keys.get(i);
+			outputs.add(this.combiner.apply(inputs.get(i), key == null ? null : values.get(key)));
+		}
+		return new Chunk<>(outputs);
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (this.clearCacheOnClose) {
+			clear();
+		}
+	}
+
+	/**
+	 * Remove all the entries from the cache. Hit, miss and eviction counts are not reset.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.cache.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of keys found in the cache since the creation of the processor
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return the number of keys passed to the loader since the creation of the processor
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the number of keys evicted from the cache because it was full since the
+	 * creation of the processor
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ReaderNotOpenException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ItemStreamReader} decorator that reads items from the delegate ahead of time, in
+ * a background thread, into a bounded buffer. This lets the latency of a slow reader
+ * overlap with the processing and writing of the items already read.
+ * <p>
+ * The background thread is obtained from a {@link TaskExecutor}, a
+ * {@link SimpleAsyncTaskExecutor} by default (which can be configured to use virtual
+ * threads). Once opened, the delegate is only accessed by that thread, until the reader
+ * is closed. Exceptions thrown by the delegate are rethrown by {@link #read()} in the
+ * order they occurred, and reading ahead continues after them, so that skippable read
+ * errors are handled as usual.
+ * <p>
+ * To stay restartable, the state of the delegate is captured after each item is read, by
+ * calling its {@link ItemStreamReader#update(ExecutionContext) update} method with an
+ * empty {@link ExecutionContext}, and {@link #update(ExecutionContext)} only saves the
+ * state captured for the last item returned by {@link #read()}. Items waiting in the
+ * buffer are read again on restart. Capturing the state has a cost for each item, which
+ * is usually negligible compared to the latency of the readers this class is meant for.
+ * <p>
+ * Closing the reader waits for the thread reading ahead to stop, for at most the
+ * {@link #setCloseTimeout(Duration) close timeout}, after which that thread is
+ * interrupted. A {@link #read()} waiting for the next item when the reader is closed
+ * fails with a {@link ReaderNotOpenException}.
+ * <p>
+ * Delegates that rely on resources bound to the thread of the step, such as a connection
+ * bound to the step transaction, are not supported, and neither are transactional readers
+ * that need to be reset on rollback.
+ *
+ * @since 5.2
+ * @param <T> type of object being read
+ */
+public class ReadAheadItemStreamReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+	/**
+	 * The default number of items read ahead.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 100;
+
+	/**
+	 * The default time to wait for the thread reading ahead to stop when the reader is
+	 * closed.
+	 */
+	public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private ItemStreamReader<T> delegate;
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("read-ahead-");
+
+	private Duration closeTimeout = DEFAULT_CLOSE_TIMEOUT;
+
+	// guards the state of the reader, and is never held while waiting for an item
+	private final Lock lock = new ReentrantLock();
+
+	// keeps the items returned in the order they were read when read concurrently
+	private final Lock readLock = new ReentrantLock();
+
+	private ReadAhead readAhead;
+
+	private ExecutionContext consumedState;
+
+	private boolean exhausted;
+
+	private Throwable fatalFailure;
+
+	/**
+	 * Set the reader to read items from.
+	 * @param delegate the delegate reader
+	 */
+	public void setDelegate(ItemStreamReader<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the maximum number of items read ahead. Defaults to
+	 * {@link #DEFAULT_BUFFER_SIZE}.
+	 * @param bufferSize the capacity of the buffer, must be greater than zero
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "bufferSize must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set the task executor used to run the thread reading ahead. It must be able to
+	 * start a new thread for each opened reader, as that thread runs until the reader is
+	 * exhausted or closed. Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param taskExecutor the task executor to use
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set how long {@link #close()} waits for the thread reading ahead to stop, for
+	 * example when the delegate is blocked in a read, before interrupting it. Defaults to
+	 * {@link #DEFAULT_CLOSE_TIMEOUT}.
+	 * @param closeTimeout the time to wait for the thread reading ahead to stop
+	 */
+	public void setCloseTimeout(Duration closeTimeout) {
+		Assert.notNull(closeTimeout, "closeTimeout must not be null");
+		Assert.isTrue(!closeTimeout.isNegative(), "closeTimeout must not be negative");
+		this.closeTimeout = closeTimeout;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(this.delegate != null, "A delegate item reader is required");
+		Assert.state(this.taskExecutor != null, "A task executor is required");
+	}
+
+	/**
+	 * Open the delegate and start reading ahead. If the reader is already open, it is
+	 * closed first.
+	 */
+	@Override
+	public void open(ExecutionContext executionContext) {
+		if (isOpen()) {
+			close();
+		}
+		this.delegate.open(executionContext);
+		this.lock.lock();
+		try {
+			this.consumedState = captureState();
+			this.exhausted = false;
+			this.fatalFailure = null;
+			this.readAhead = new ReadAhead(new ArrayBlockingQueue<>(this.bufferSize));
+			this.taskExecutor.execute(this.readAhead);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean isOpen() {
+		this.lock.lock();
+		try {
+			return this.readAhead != null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the next item read ahead, waiting for it if necessary.
+	 */
+	@Nullable
+	@Override
+	public T read() throws Exception {
+		this.readLock.lock();
+		try {
+			ReadAhead readAhead;
+			this.lock.lock();
+			try {
+				readAhead = this.readAhead;
+				if (readAhead == null) {
+					throw new ReaderNotOpenException("Reader must be open before it can be read.");
+				}
+				if (this.fatalFailure != null) {
+					rethrow(this.fatalFailure);
+				}
+				if (this.exhausted) {
+					return null;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+			ReadResult<T> result = readAhead.take();
+			this.lock.lock();
+			try {
+				if (this.readAhead != readAhead) {
+					throw new ReaderNotOpenException("Reader was closed while waiting for the next item.");
+				}
+				if (result.state() != null) {
+					this.consumedState = result.state();
+				}
+				if (result.isLast()) {
+					this.exhausted = true;
+					this.fatalFailure = result.failure();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+			if (result.failure() != null) {
+				rethrow(result.failure());
+			}
+			return result.item();
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	/**
+	 * Save the state of the delegate as it was after reading the last item returned by
+	 * {@link #read()}.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) {
+		this.lock.lock();
+		try {
+			if (this.consumedState != null) {
+				for (Map.Entry<String, Object> entry : this.consumedState.entrySet()) {
+					executionContext.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Stop reading ahead, discard the items in the buffer and close the delegate. The
+	 * thread reading ahead is interrupted if it does not stop within the
+	 * {@link #setCloseTimeout(Duration) close timeout}.
+	 * @throws ItemStreamException if the thread reading ahead does not stop after being
+	 * interrupted, in which case the delegate is not closed
+	 */
+	@Override
+	public void close() {
+		ReadAhead readAhead;
+		this.lock.lock();
+		try {
+			readAhead = this.readAhead;
+			this.readAhead = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (readAhead != null) {
+			readAhead.stop(this.closeTimeout);
+		}
+		this.delegate.close();
+	}
+
+	private ReadResult<T> readNext() {
+		try {
+			T item = null;
+			Exception failure = null;
+			try {
+				item = this.delegate.read();
+			}
+			catch (Exception e) {
+				failure = e;
+			}
+			return new ReadResult<>(item, failure, captureState());
+		}
+		catch (Throwable t) {
+			// the delegate is in an unknown state, stop reading ahead
+			return new ReadResult<>(null, t, null);
+		}
+	}
+
+	private ExecutionContext captureState() {
+		ExecutionContext state = new ExecutionContext();
+		this.delegate.update(state);
+		return state;
+	}
+
+	private static void rethrow(Throwable failure) throws Exception {
+		if (failure instanceof Exception exception) {
+			throw exception;
+		}
+		throw (Error) failure;
+	}
+
+	/**
+	 * The task reading ahead into the buffer of an opened reader.
+	 */
+	private class ReadAhead implements Runnable {
+
+		private final BlockingQueue<ReadResult<T>> buffer;
+
+		private final CountDownLatch stopped = new CountDownLatch(1);
+
+		private volatile boolean running = true;
+
+		private volatile Thread thread;
+
+		ReadAhead(BlockingQueue<ReadResult<T>> buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void run() {
+			this.thread = Thread.currentThread();
+			try {
+				while (this.running) {
+					ReadResult<T> result = readNext();
+					this.buffer.put(result);
+					if (result.isLast()) {
+						return;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				this.thread = null;
+				this.stopped.countDown();
+			}
+		}
+
+		/**
+		 * Wait for the next result, until the reader is closed.
+		 */
+		ReadResult<T> take() throws InterruptedException {
+			ReadResult<T> result;
+			while ((result = this.buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+				if (!this.running) {
+					throw new ReaderNotOpenException("Reader was closed while waiting for the next item.");
+				}
+			}
+			return result;
+		}
+
+		void stop(Duration timeout) {
+			this.running = false;
+			// unblock the thread reading ahead if the buffer is full
+			this.buffer.clear();
+			try {
+				if (this.stopped.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+					return;
+				}
+				Thread thread = this.thread;
+				if (thread != null) {
+					thread.interrupt();
+				}
+				if (!this.stopped.await(timeout.toMillis(), TimeUnit.MILLISECONDS) && this.thread != null) {
+					throw new ItemStreamException("The read-ahead thread did not stop within " + timeout);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ItemStreamException("Interrupted while waiting for the read-ahead thread to stop", e);
+			}
+		}
+
+	}
+
+	private record ReadResult<T>(@Nullable T item, @Nullable Throwable failure, @Nullable ExecutionContext state) {
+
+		boolean isLast() {
+			return this.state == null || (this.item == null && this.failure == null);
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support.builder;
+
+import java.time.Duration;
+
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.ReadAheadItemStreamReader;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Creates a fully qualified {@link ReadAheadItemStreamReader}.
+ *
+ * @since 5.2
+ */
+public class ReadAheadItemStreamReaderBuilder<T> {
+
+	private ItemStreamReader<T> delegate;
+
+	private int bufferSize = ReadAheadItemStreamReader.DEFAULT_BUFFER_SIZE;
+
+	private TaskExecutor taskExecutor;
+
+	private Duration closeTimeout = ReadAheadItemStreamReader.DEFAULT_CLOSE_TIMEOUT;
+
+	/**
+	 * The item stream reader to use as a delegate. Items are read ahead from the delegate
+	 * and passed to the caller in {@link ReadAheadItemStreamReader#read()}.
+	 * @param delegate the delegate to set
+	 * @return this instance for method chaining
+	 * @see ReadAheadItemStreamReader#setDelegate(ItemStreamReader)
+	 */
+	public ReadAheadItemStreamReaderBuilder<T> delegate(ItemStreamReader<T> delegate) {
+		this.delegate = delegate;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of items read ahead.
+	 * @param bufferSize the capacity of the buffer
+	 * @return this instance for method chaining
+	 * @see ReadAheadItemStreamReader#setBufferSize(int)
+	 */
+	public ReadAheadItemStreamReaderBuilder<T> bufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+
+		return this;
+	}
+
+	/**
+	 * The task executor used to run the thread reading ahead.
+	 * @param taskExecutor the task executor to use
+	 * @return this instance for method chaining
+	 * @see ReadAheadItemStreamReader#setTaskExecutor(TaskExecutor)
+	 */
+	public ReadAheadItemStreamReaderBuilder<T> taskExecutor(TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+
+		return this;
+	}
+
+	/**
+	 * How long closing the reader waits for the thread reading ahead to stop before
+	 * interrupting it.
+	 * @param closeTimeout the time to wait for the thread reading ahead to stop
+	 * @return this instance for method chaining
+	 * @see ReadAheadItemStreamReader#setCloseTimeout(Duration)
+	 */
+	public ReadAheadItemStreamReaderBuilder<T> closeTimeout(Duration closeTimeout) {
+		this.closeTimeout = closeTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Returns a fully constructed {@link ReadAheadItemStreamReader}.
+	 * @return a new {@link ReadAheadItemStreamReader}
+	 */
+	public ReadAheadItemStreamReader<T> build() {
+		Assert.notNull(this.delegate, "A delegate is required");
+
+		ReadAheadItemStreamReader<T> reader = new ReadAheadItemStreamReader<>();
+		reader.setDelegate(this.delegate);
+		reader.setBufferSize(this.bufferSize);
+		reader.setCloseTimeout(this.closeTimeout);
+		if (this.taskExecutor != null) {
+			reader.setTaskExecutor(this.taskExecutor);
+		}
+		return reader;
+	}
+
+}
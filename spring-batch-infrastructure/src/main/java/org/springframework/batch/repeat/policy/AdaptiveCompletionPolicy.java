@@ -0,0 +1,273 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.repeat.policy;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.util.ExecutionContextUserSupport;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Policy for terminating a batch after a number of operations that is tuned from one
+ * batch to the next, to maximise the throughput. It is meant to be used as the completion
+ * policy of the chunks of a step, instead of a fixed chunk size.
+ * <p>
+ * The time elapsed between the start of two consecutive batches is taken as the duration
+ * of the first one, which, for a chunk, includes reading, processing, writing and
+ * committing the items. The chunk size is then adjusted by hill climbing: it is moved by
+ * a fixed increment in the same direction as long as the throughput (items per second)
+ * does not drop, and the direction is reversed when it does. If a chunk takes longer than
+ * the maximum duration, the chunk size is halved, to keep transactions short. The chunk
+ * size always stays between the minimum and maximum sizes, and batches that end before
+ * reaching the chunk size (e.g. at the end of the input) are not used as feedback.
+ * <p>
+ * The policy is also an {@link ItemStream}: the current chunk size is saved in the
+ * {@link ExecutionContext} so that a restart resumes from the tuned value. This requires
+ * the policy to be registered as a stream of the step (which the step builders do). As
+ * the measures are taken between successive batches, a policy instance must not be shared
+ * by concurrent batches, e.g. in a multi-threaded step.
+ *
+ * @since 5.2
+ */
+public class AdaptiveCompletionPolicy extends DefaultResultCompletionPolicy implements ItemStream {
+
+	/**
+	 * Default maximum duration of a batch (the value equivalent to 30 seconds).
+	 */
+	public static final Duration DEFAULT_MAX_DURATION = Duration.ofSeconds(30);
+
+	private static final String CHUNK_SIZE_KEY = "chunk.size";
+
+	// relative drop of throughput considered as noise
+	private static final double TOLERANCE = 0.05;
+
+	private final ExecutionContextUserSupport executionContextUserSupport = new ExecutionContextUserSupport(
+			ClassUtils.getShortName(AdaptiveCompletionPolicy.class));
+
+	private final int initialChunkSize;
+
+	private int minChunkSize = 1;
+
+	private int maxChunkSize = Integer.MAX_VALUE;
+
+	private int increment;
+
+	private Duration maxDuration = DEFAULT_MAX_DURATION;
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile int chunkSize;
+
+	private AdaptiveTerminationContext lastContext;
+
+	private double lastThroughput;
+
+	private int direction = 1;
+
+	/**
+	 * Create a new {@link AdaptiveCompletionPolicy} starting with the given chunk size.
+	 * The chunk size is adjusted by increments of a tenth of the initial chunk size by
+	 * default.
+	 * @param initialChunkSize the initial chunk size, must be greater than zero
+	 */
+	public AdaptiveCompletionPolicy(int initialChunkSize) {
+		Assert.isTrue(initialChunkSize > 0, "The initial chunk size must be greater than zero");
+		this.initialChunkSize = initialChunkSize;
+		this.chunkSize = initialChunkSize;
+		this.increment = Math.max(initialChunkSize / 10, 1);
+	}
+
+	/**
+	 * @param minChunkSize the minimum chunk size, must be greater than zero. Defaults to
+	 * 1.
+	 */
+	public void setMinChunkSize(int minChunkSize) {
+		Assert.isTrue(minChunkSize > 0, "The minimum chunk size must be greater than zero");
+		this.minChunkSize = minChunkSize;
+		this.chunkSize = bound(this.chunkSize);
+	}
+
+	/**
+	 * @param maxChunkSize the maximum chunk size. Defaults to {@link Integer#MAX_VALUE}.
+	 */
+	public void setMaxChunkSize(int maxChunkSize) {
+		Assert.isTrue(maxChunkSize > 0, "The maximum chunk size must be greater than zero");
+		this.maxChunkSize = maxChunkSize;
+		this.chunkSize = bound(this.chunkSize);
+	}
+
+	/**
+	 * @param increment the number of items added to or removed from the chunk size at
+	 * each adjustment, must be greater than zero. Defaults to a tenth of the initial
+	 * chunk size.
+	 */
+	public void setIncrement(int increment) {
+		Assert.isTrue(increment > 0, "The increment must be greater than zero");
+		this.increment = increment;
+	}
+
+	/**
+	 * @param maxDuration the duration of a batch above which the chunk size is halved.
+	 * Defaults to {@link #DEFAULT_MAX_DURATION}.
+	 */
+	public void setMaxDuration(Duration maxDuration) {
+		Assert.notNull(maxDuration, "The maximum duration must not be null");
+		this.maxDuration = maxDuration;
+	}
+
+	/**
+	 * @param clock the clock used to measure the duration of batches. Defaults to the
+	 * system clock.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "The clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * @param name the name used as a prefix of the keys of the {@link ExecutionContext}.
+	 * Defaults to the short name of this class.
+	 */
+	public void setName(String name) {
+		this.executionContextUserSupport.setName(name);
+	}
+
+	/**
+	 * @return the chunk size used for the next batch
+	 */
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	/**
+	 * Restore the chunk size saved in the {@link ExecutionContext}, if any, or the
+	 * initial chunk size otherwise.
+	 */
+	@Override
+	public void open(ExecutionContext executionContext) {
+		String key = this.executionContextUserSupport.getKey(CHUNK_SIZE_KEY);
+		int restored = executionContext.containsKey(key) ? executionContext.getInt(key) : this.initialChunkSize;
+		this.chunkSize = bound(restored);
+		this.lastContext = null;
+		this.lastThroughput = 0;
+		this.direction = 1;
+	}
+
+	/**
+	 * Save the current chunk size in the {@link ExecutionContext}.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) {
+		executionContext.putInt(this.executionContextUserSupport.getKey(CHUNK_SIZE_KEY), this.chunkSize);
+	}
+
+	/**
+	 * Adjust the chunk size from the last batch, if any, and start a new batch.
+	 *
+	 * @see org.springframework.batch.repeat.CompletionPolicy#start(RepeatContext)
+	 */
+	@Override
+	public RepeatContext start(RepeatContext context) {
+		long now = this.clock.millis();
+		AdaptiveTerminationContext last = this.lastContext;
+		if (last != null && last.getStartedCount() >= last.chunkSize) {
+			adjust(last.getStartedCount(), now - last.startTime);
+		}
+		this.lastContext = new AdaptiveTerminationContext(context, now, this.chunkSize);
+		return this.lastContext;
+	}
+
+	/**
+	 * Terminate if the chunk size has been reached, or the result is null.
+	 *
+	 * @see org.springframework.batch.repeat.CompletionPolicy#isComplete(RepeatContext,
+	 * RepeatStatus)
+	 */
+	@Override
+	public boolean isComplete(RepeatContext context, RepeatStatus result) {
+		return super.isComplete(context, result) || isComplete(context);
+	}
+
+	/**
+	 * Terminate if the chunk size has been reached.
+	 *
+	 * @see org.springframework.batch.repeat.CompletionPolicy#isComplete(RepeatContext)
+	 */
+	@Override
+	public boolean isComplete(RepeatContext context) {
+		AdaptiveTerminationContext terminationContext = (AdaptiveTerminationContext) context;
+		return terminationContext.getStartedCount() >= terminationContext.chunkSize;
+	}
+
+	/**
+	 * Increment the counter in the context.
+	 *
+	 * @see org.springframework.batch.repeat.CompletionPolicy#update(RepeatContext)
+	 */
+	@Override
+	public void update(RepeatContext context) {
+		((AdaptiveTerminationContext) context).increment();
+	}
+
+	private void adjust(int count, long elapsed) {
+		long size = this.chunkSize;
+		double throughput = count * 1000.0 / Math.max(elapsed, 1);
+		if (elapsed > this.maxDuration.toMillis()) {
+			size = size / 2;
+			this.direction = -1;
+		}
+		else {
+			if (throughput < this.lastThroughput * (1 - TOLERANCE)) {
+				this.direction = -this.direction;
+			}
+			size = size + (long) this.direction * this.increment;
+		}
+		this.lastThroughput = throughput;
+		this.chunkSize = bound(size);
+	}
+
+	private int bound(long size) {
+		// computed in long so that adjusting a size close to the maximum can not overflow
+		return (int) Math.min(Math.max(size, this.minChunkSize), this.maxChunkSize);
+	}
+
+	@Override
+	public String toString() {
+		return ClassUtils.getShortName(AdaptiveCompletionPolicy.class) + ": chunkSize=" + this.chunkSize;
+	}
+
+	private static class AdaptiveTerminationContext extends RepeatContextSupport {
+
+		private final long startTime;
+
+		private final int chunkSize;
+
+		AdaptiveTerminationContext(RepeatContext parent, long startTime, int chunkSize) {
+			super(parent);
+			this.startTime = startTime;
+			this.chunkSize = chunkSize;
+		}
+
+	}
+
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.util.SerializationUtils;
@@ -97,6 +98,34 @@ class ExecutionContextTests {
 		assertFalse(context.isDirty());
 	}
 
+	@Test
+	void testChangedKeys() {
+		context.putString("1", "test");
+		context.putLong("2", 1);
+		context.putString("3", "test");
+		context.clearDirtyFlag();
+		assertTrue(context.getChangedKeys().isEmpty());
+
+		context.putString("1", "test"); // unchanged
+		context.putLong("2", 2);
+		context.remove("3");
+		context.remove("4"); // missing
+
+		assertEquals(Set.of("2", "3"), context.getChangedKeys());
+		context.clearDirtyFlag();
+		assertTrue(context.getChangedKeys().isEmpty());
+	}
+
+	@Test
+	void testChangedKeysNotSerialized() {
+		context.putString("1", "test");
+		ExecutionContext copy = SerializationUtils.clone(context);
+		assertTrue(copy.getChangedKeys().isEmpty());
+
+		copy.putString("1", "changed");
+		assertEquals(Set.of("1"), copy.getChangedKeys());
+	}
+
 	@Test
 	void testContains() {
 		context.putString("1", "testString");
@@ -17,7 +17,9 @@ package org.springframework.batch.item.database.support;
 
 import javax.sql.DataSource;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -68,6 +70,15 @@ class DefaultDataFieldMaxValueIncrementerFactoryTests {
 		assertTrue(factory.isSupportedIncrementerType("mariadb"));
 	}
 
+	@Test
+	void testPooledIncrementer() {
+		factory.setPoolSize(50);
+
+		PooledDataFieldMaxValueIncrementer incrementer = assertInstanceOf(PooledDataFieldMaxValueIncrementer.class,
+				factory.getIncrementer("postgres", "NAME"));
+		assertEquals(50, incrementer.getPoolSize());
+	}
+
 	@Test
 	void testUnsupportedDatabaseType() {
 		assertFalse(factory.isSupportedIncrementerType("invalidtype"));
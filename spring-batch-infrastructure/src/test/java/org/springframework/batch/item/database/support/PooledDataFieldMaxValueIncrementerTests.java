@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database.support;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PooledDataFieldMaxValueIncrementerTests {
+
+	private final DataFieldMaxValueIncrementer delegate = mock();
+
+	@Test
+	void testValuesServedFromReservedBlock() {
+		when(this.delegate.nextLongValue()).thenReturn(3L, 4L);
+		PooledDataFieldMaxValueIncrementer incrementer = new PooledDataFieldMaxValueIncrementer(this.delegate, 10);
+
+		for (long expected = 30; expected < 40; expected++) {
+			assertEquals(expected, incrementer.nextLongValue());
+		}
+		verify(this.delegate, times(1)).nextLongValue();
+
+		assertEquals(40, incrementer.nextIntValue());
+		assertEquals("41", incrementer.nextStringValue());
+		verify(this.delegate, times(2)).nextLongValue();
+	}
+
+	@Test
+	void testNextLongValuesSpanningBlocks() {
+		when(this.delegate.nextLongValue()).thenReturn(1L, 7L);
+		PooledDataFieldMaxValueIncrementer incrementer = new PooledDataFieldMaxValueIncrementer(this.delegate, 3);
+		incrementer.nextLongValue();
+
+		long[] values = incrementer.nextLongValues(4);
+
+		assertArrayEquals(new long[] { 4, 5, 21, 22 }, values);
+		assertEquals(23, incrementer.nextLongValue());
+		verify(this.delegate, times(2)).nextLongValue();
+	}
+
+	@Test
+	void testInvalidPoolSize() {
+		assertThrows(IllegalArgumentException.class, () -> new PooledDataFieldMaxValueIncrementer(this.delegate, 0));
+	}
+
+}
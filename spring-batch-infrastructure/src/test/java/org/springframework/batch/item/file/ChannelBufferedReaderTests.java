@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ChannelBufferedReader}.
+ */
+class ChannelBufferedReaderTests {
+
+	@Test
+	void testReadLineWithMixedLineTerminators() throws Exception {
+		try (ChannelBufferedReader reader = createReader("a\nb\r\nc\rd\n\ne", StandardCharsets.UTF_8, 2)) {
+			assertEquals("a", reader.readLine());
+			assertEquals(2, reader.position());
+			assertEquals("b", reader.readLine());
+			assertEquals(5, reader.position());
+			assertEquals("c", reader.readLine());
+			assertEquals(7, reader.position());
+			assertEquals("d", reader.readLine());
+			assertEquals("", reader.readLine());
+			assertEquals("e", reader.readLine());
+			assertNull(reader.readLine());
+			assertEquals(11, reader.position());
+		}
+	}
+
+	@Test
+	void testReadLineWithMultiByteCharacters() throws Exception {
+		try (ChannelBufferedReader reader = createReader("äöü\r\n€uro\n", StandardCharsets.UTF_8, 3)) {
+			assertEquals("äöü", reader.readLine());
+			assertEquals(8, reader.position());
+			assertEquals("€uro", reader.readLine());
+			assertEquals(15, reader.position());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testSeek() throws Exception {
+		try (ChannelBufferedReader reader = createReader("line1\nline2\nline3\n", StandardCharsets.US_ASCII, 4)) {
+			assertEquals("line1", reader.readLine());
+			assertEquals("line2", reader.readLine());
+			long position = reader.position();
+			assertEquals("line3", reader.readLine());
+
+			reader.position(position);
+			assertEquals("line3", reader.readLine());
+			reader.position(0);
+			assertEquals("line1", reader.readLine());
+		}
+	}
+
+	@Test
+	void testCharacterReads() throws Exception {
+		try (ChannelBufferedReader reader = createReader("ab\r\ncd\nef", StandardCharsets.ISO_8859_1, 8192)) {
+			assertEquals('a', reader.read());
+			assertEquals("b", reader.readLine());
+			char[] chars = new char[10];
+			assertEquals(3, reader.read(chars, 0, 10));
+			assertEquals("cd\n", new String(chars, 0, 3));
+			assertEquals(1, reader.skip(1));
+			assertEquals('f', reader.read());
+			assertEquals(-1, reader.read());
+		}
+	}
+
+	@Test
+	void testSupportedCharsets() {
+		assertTrue(ChannelBufferedReader.supports(StandardCharsets.UTF_8));
+		assertTrue(ChannelBufferedReader.supports(StandardCharsets.US_ASCII));
+		assertTrue(ChannelBufferedReader.supports(StandardCharsets.ISO_8859_1));
+		assertFalse(ChannelBufferedReader.supports(StandardCharsets.UTF_16));
+	}
+
+	private ChannelBufferedReader createReader(String content, Charset charset, int bufferSize) throws IOException {
+		File file = File.createTempFile("channel-reader-test-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), content, charset);
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		return new ChannelBufferedReader(channel, charset, ByteBuffer.allocate(bufferSize));
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Tests for {@link FileChannelBufferedReaderFactory}.
+ */
+class FileChannelBufferedReaderFactoryTests {
+
+	@Test
+	void testCreateForFile() throws Exception {
+		File file = File.createTempFile("file-channel-factory-test-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), "ÄBC\r\nDEF\nGHI", StandardCharsets.ISO_8859_1);
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		factory.setBufferSize(2);
+
+		try (BufferedReader reader = factory.create(new FileSystemResource(file), "ISO-8859-1")) {
+			SeekableReader seekableReader = assertInstanceOf(SeekableReader.class, reader);
+			assertEquals("ÄBC", reader.readLine());
+			assertEquals(5, seekableReader.position());
+			assertEquals("DEF", reader.readLine());
+			assertEquals("GHI", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testCreateWithDirectBuffer() throws Exception {
+		File file = File.createTempFile("file-channel-factory-test-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), "a\nb");
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		factory.setDirect(true);
+
+		try (BufferedReader reader = factory.create(new FileSystemResource(file), "UTF-8")) {
+			assertEquals("a", reader.readLine());
+			assertEquals("b", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testCreateForNonFileResource() throws Exception {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+
+		try (BufferedReader reader = factory.create(new ByteArrayResource("a\nb".getBytes()), "UTF-8")) {
+			assertEquals("a", reader.readLine());
+			assertFalse(reader instanceof SeekableReader);
+		}
+	}
+
+	@Test
+	void testInvalidBufferSize() {
+		FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+		assertThrows(IllegalArgumentException.class, () -> factory.setBufferSize(0));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2023 the original author or authors.
+ * Copyright 2008-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,13 +19,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -263,6 +270,177 @@ class FlatFileItemReaderTests {
 		assertEquals(4, executionContext.getInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.count"));
 	}
 
+	@Test
+	void testRestartFromSavedPosition() throws Exception {
+		String header = "header\n#comment\n";
+		String processed = "testLine1\r\ntestLine2\n";
+		Resource resource = getFileResource(header + processed + "#comment\ntestLine3\ntestLine4");
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(resource);
+		reader.setLinesToSkip(1);
+		reader.setLineMapper((line, lineNumber) -> line + "@" + lineNumber);
+		reader.open(executionContext);
+
+		assertEquals("testLine1@3", reader.read());
+		assertEquals("testLine2@4", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		String prefix = ClassUtils.getShortName(FlatFileItemReader.class);
+		assertEquals(header.length() + processed.length(), executionContext.getLong(prefix + ".read.position"));
+		assertEquals(4, executionContext.getInt(prefix + ".line.count"));
+
+		// replace the processed lines so that re-reading them would be noticed
+		char[] replacement = new char[processed.length()];
+		Arrays.fill(replacement, 'x');
+		Files.writeString(resource.getFile().toPath(),
+				header + new String(replacement) + "#comment\ntestLine3\ntestLine4");
+
+		reader.open(executionContext);
+		assertEquals("testLine3@6", reader.read());
+		assertEquals("testLine4@7", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartFromSavedPositionWithCustomRecordSeparatorPolicy() throws Exception {
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(getFileResource("testLine1\ntestLine2\ntestLine3\ntestLine4\ntestLine5\ntestLine6"));
+		reader.setRecordSeparatorPolicy(new RecordSeparatorPolicy() {
+			// 1 record = 2 lines
+			boolean pair = true;
+
+			@Override
+			public boolean isEndOfRecord(String line) {
+				pair = !pair;
+				return pair;
+			}
+
+			@Override
+			public String postProcess(String record) {
+				return record;
+			}
+
+			@Override
+			public String preProcess(String record) {
+				return record;
+			}
+		});
+		reader.open(executionContext);
+
+		assertEquals("testLine1testLine2", reader.read());
+		assertEquals("testLine3testLine4", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		String prefix = ClassUtils.getShortName(FlatFileItemReader.class);
+		assertEquals(40, executionContext.getLong(prefix + ".read.position"));
+		assertEquals(4, executionContext.getInt(prefix + ".line.count"));
+
+		reader.open(executionContext);
+		assertEquals("testLine5testLine6", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testReadRange() throws Exception {
+		// ranges start at record boundaries: [0, 10) holds testLine1, [10, 30) the next
+		// two
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(getFileResource("testLine1\ntestLine2\ntestLine3\ntestLine4"));
+		reader.setLinesToSkip(1);
+		reader.setStartPosition(10);
+		reader.setEndPosition(30);
+		reader.open(executionContext);
+
+		assertEquals("testLine2", reader.read());
+		assertEquals("testLine3", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testReadRangeIncludesRecordEndingAfterEnd() throws Exception {
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(getFileResource("#comment\ntestLine1\ntestLine2\ntestLine3"));
+		reader.setEndPosition(10);
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartInRange() throws Exception {
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(getFileResource("testLine1\ntestLine2\ntestLine3\ntestLine4\ntestLine5"));
+		reader.setStartPosition(10);
+		reader.setEndPosition(40);
+		reader.open(executionContext);
+
+		assertEquals("testLine2", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		reader.open(executionContext);
+		assertEquals("testLine3", reader.read());
+		assertEquals("testLine4", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testSavedPositionRemovedAfterReadFailure() throws Exception {
+		reader.setResource(getFileResource("testLine1\ntestLine2\ntestLine3"));
+		reader.setBufferedReaderFactory((resource, encoding) -> new ChannelBufferedReader(
+				FileChannel.open(resource.getFile().toPath()), StandardCharsets.UTF_8, ByteBuffer.allocate(64)) {
+			int lines;
+
+			@Override
+			public String readLine() throws IOException {
+				if (++lines > 1) {
+					throw new IOException("Planned failure");
+				}
+				return super.readLine();
+			}
+		});
+		reader.open(executionContext);
+		assertEquals("testLine1", reader.read());
+		reader.update(executionContext);
+
+		String prefix = ClassUtils.getShortName(FlatFileItemReader.class);
+		assertTrue(executionContext.containsKey(prefix + ".read.position"));
+		assertThrows(NonTransientFlatFileException.class, reader::read);
+		reader.update(executionContext);
+		reader.close();
+
+		assertFalse(executionContext.containsKey(prefix + ".read.position"));
+		assertFalse(executionContext.containsKey(prefix + ".line.count"));
+	}
+
+	@Test
+	void testReadRangeRequiresSeekableReader() {
+		reader.setEndPosition(10);
+		Exception exception = assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+	}
+
+	@Test
+	void testNoPositionSavedForNonSeekableResource() throws Exception {
+		reader.open(executionContext);
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		String prefix = ClassUtils.getShortName(FlatFileItemReader.class);
+		assertEquals(1, executionContext.getInt(prefix + ".read.count"));
+		assertFalse(executionContext.containsKey(prefix + ".read.position"));
+		assertFalse(executionContext.containsKey(prefix + ".line.count"));
+	}
+
 	@Test
 	void testCurrentItemCount() throws Exception {
 
@@ -524,6 +702,13 @@ class FlatFileItemReaderTests {
 		return new ByteArrayResource(input.getBytes());
 	}
 
+	private Resource getFileResource(String input) throws IOException {
+		File file = File.createTempFile("flatfile-test-input-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), input, StandardCharsets.UTF_8);
+		return new FileSystemResource(file);
+	}
+
 	private static class NonExistentResource extends AbstractResource {
 
 		public NonExistentResource() {
@@ -15,16 +15,20 @@
  */
 package org.springframework.batch.item.file.builder;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FileChannelBufferedReaderFactory;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.CompiledFieldSetMapper;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.mapping.RecordFieldSetMapper;
 import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
@@ -585,6 +589,30 @@ class FlatFileItemReaderBuilderTests {
 		assertTrue(fieldSetMapper instanceof RecordFieldSetMapper);
 	}
 
+	@Test
+	void testCompiledFieldSetMapper() throws Exception {
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(getResource("1,2,3\n4,5,6"))
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.compiledFieldSetMapper(true)
+			.build();
+
+		Object lineMapper = ReflectionTestUtils.getField(reader, "lineMapper");
+		assertTrue(ReflectionTestUtils.getField(lineMapper, "fieldSetMapper") instanceof CompiledFieldSetMapper);
+		reader.open(new ExecutionContext());
+		Foo item = reader.read();
+		assertEquals(1, item.getFirst());
+		assertEquals(2, item.getSecond());
+		assertEquals("3", item.getThird());
+		item = reader.read();
+		assertEquals(4, item.getFirst());
+		assertEquals(5, item.getSecond());
+		assertEquals("6", item.getThird());
+		assertNull(reader.read());
+	}
+
 	@Test
 	void testSetupWithClassTargetType() {
 		// given
@@ -613,6 +641,58 @@ class FlatFileItemReaderBuilderTests {
 		assertTrue(fieldSetMapper instanceof BeanWrapperFieldSetMapper);
 	}
 
+	@Test
+	void testByteRange() throws Exception {
+		File file = File.createTempFile("flatfile-builder-test-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), "1,2,3\n4,5,6\n7,8,9");
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(new FileSystemResource(file))
+			.byteRange(6, 12)
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.build();
+
+		assertTrue(ReflectionTestUtils.getField(reader,
+				"bufferedReaderFactory") instanceof FileChannelBufferedReaderFactory);
+
+		reader.open(new ExecutionContext());
+		assertEquals(4, reader.read().getFirst());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testFileChannelBufferSize() throws Exception {
+		File file = File.createTempFile("flatfile-builder-test-", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), "1,2,3\n4,5,6");
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(new FileSystemResource(file))
+			.fileChannelBufferSize(4)
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.build();
+
+		Object bufferedReaderFactory = ReflectionTestUtils.getField(reader, "bufferedReaderFactory");
+		assertTrue(bufferedReaderFactory instanceof FileChannelBufferedReaderFactory);
+		assertEquals(4, ReflectionTestUtils.getField(bufferedReaderFactory, "bufferSize"));
+
+		reader.open(new ExecutionContext());
+		Foo item = reader.read();
+		assertEquals(1, item.getFirst());
+		assertEquals(2, item.getSecond());
+		assertEquals("3", item.getThird());
+		item = reader.read();
+		assertEquals(4, item.getFirst());
+		assertEquals(5, item.getSecond());
+		assertEquals("6", item.getThird());
+		assertNull(reader.read());
+		reader.close();
+	}
+
 	private Resource getResource(String contents) {
 		return new ByteArrayResource(contents.getBytes());
 	}
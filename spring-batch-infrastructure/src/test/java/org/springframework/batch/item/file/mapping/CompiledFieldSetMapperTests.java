@@ -0,0 +1,278 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.mapping;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapperTests.TestConversion;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapperTests.TestNestedA;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapperTests.TestObject;
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.NotWritablePropertyException;
+import org.springframework.beans.propertyeditors.CustomNumberEditor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.validation.BindException;
+import org.springframework.validation.DataBinder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledFieldSetMapperTests {
+
+	@Test
+	void testVanillaBeanCreatedFromType() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		mapper.afterPropertiesSet();
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "This is some dummy string", "true", "C", "00009" },
+				new String[] { "varString", "varBoolean", "varChar", "varLong" });
+		TestObject result = mapper.mapFieldSet(fieldSet);
+		assertEquals("This is some dummy string", result.getVarString());
+		assertTrue(result.isVarBoolean());
+		assertEquals('C', result.getVarChar());
+		assertEquals(9, result.getVarLong());
+	}
+
+	@Test
+	void testBindingReusedForSameNames() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		String[] names = { "varString", "varInt" };
+
+		TestObject first = mapper.mapFieldSet(new DefaultFieldSet(new String[] { "foo", "1" }, names));
+		TestObject second = mapper.mapFieldSet(new DefaultFieldSet(new String[] { "bar", "2" }, names));
+		TestObject third = mapper.mapFieldSet(new DefaultFieldSet(new String[] { "3" }, new String[] { "varInt" }));
+
+		assertEquals("foo", first.getVarString());
+		assertEquals(1, first.getVarInt());
+		assertEquals("bar", second.getVarString());
+		assertEquals(2, second.getVarInt());
+		assertNull(third.getVarString());
+		assertEquals(3, third.getVarInt());
+	}
+
+	@Test
+	void testDataBinderNotUsed() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>() {
+			@Override
+			protected DataBinder createBinder(Object target) {
+				throw new IllegalStateException("Unexpected binder creation");
+			}
+		};
+		mapper.setTargetType(TestObject.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "1" }, new String[] { "varString", "varInt" });
+		TestObject result = mapper.mapFieldSet(fieldSet);
+		assertEquals("foo", result.getVarString());
+		assertEquals(1, result.getVarInt());
+	}
+
+	@Test
+	void testPropertyNameMatching() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		mapper.setDistanceLimit(2);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "This is some dummy string", "true", "C" },
+				new String[] { "VarString", "VAR_BOOLEAN", "VAR_CHAR" });
+		TestObject result = mapper.mapFieldSet(fieldSet);
+		assertEquals("This is some dummy string", result.getVarString());
+		assertTrue(result.isVarBoolean());
+		assertEquals('C', result.getVarChar());
+	}
+
+	@Test
+	void testNestedPathsMappedByBeanWrapper() throws Exception {
+		CompiledFieldSetMapper<TestNestedA> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestNestedA.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "Foo", "Bar" },
+				new String[] { "valueA", "testObjectB.valueA" });
+		TestNestedA result = mapper.mapFieldSet(fieldSet);
+		assertEquals("Foo", result.getValueA());
+		assertEquals("Bar", result.getTestObjectB().getValueA());
+	}
+
+	@Test
+	void testDefaultConversion() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		mapper.setConversionService(new DefaultConversionService());
+		mapper.afterPropertiesSet();
+		String dateString = new Date().toString();
+
+		FieldSet fieldSet = new DefaultFieldSet(
+				new String[] { "12", "true", "Z", "123", "12345", dateString, "12345", "myString" },
+				new String[] { "varInt", "varBoolean", "varChar", "varByte", "varDouble", "varDate", "varBigDecimal",
+						"varString" });
+		TestObject bean = mapper.mapFieldSet(fieldSet);
+
+		assertEquals(12, bean.getVarInt());
+		assertTrue(bean.isVarBoolean());
+		assertEquals('Z', bean.getVarChar());
+		assertEquals(123, bean.getVarByte());
+		assertEquals(12345D, bean.getVarDouble(), 1D);
+		assertEquals(dateString, bean.getVarDate().toString());
+		assertEquals(new BigDecimal(12345L), bean.getVarBigDecimal());
+		assertEquals("myString", bean.getVarString());
+	}
+
+	@Test
+	void testConversionWithTestConverter() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		mapper.setConversionService(new TestConversion());
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "SHOULD BE CONVERTED" }, new String[] { "varString" });
+		TestObject bean = mapper.mapFieldSet(fieldSet);
+
+		assertEquals("CONVERTED", bean.getVarString());
+	}
+
+	@Test
+	void testCustomEditor() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+		mapper.setCustomEditors(Collections.singletonMap(Long.TYPE,
+				new CustomNumberEditor(Long.class, NumberFormat.getNumberInstance(Locale.US), true)));
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1,234", "78" }, new String[] { "varLong", "varInt" });
+		TestObject bean = mapper.mapFieldSet(fieldSet);
+
+		assertEquals(1234, bean.getVarLong());
+		assertEquals(78, bean.getVarInt());
+	}
+
+	@Test
+	void testBinderWithErrors() {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(TestObject.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "7890.1" },
+				new String[] { "varDouble", "varFloat" });
+		BindException exception = assertThrows(BindException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals(1, exception.getErrorCount());
+		assertEquals("typeMismatch", exception.getFieldError("varDouble").getCode());
+	}
+
+	@Test
+	void testStrict() {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setStrict(true);
+		mapper.setTargetType(TestObject.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "This is some dummy string", "This won't be mapped" },
+				new String[] { "varString", "illegalPropertyName" });
+		Exception exception = assertThrows(NotWritablePropertyException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertTrue(exception.getMessage().contains("'illegalPropertyName'"));
+	}
+
+	@Test
+	void testNotStrict() throws Exception {
+		CompiledFieldSetMapper<TestObject> mapper = new CompiledFieldSetMapper<>();
+		mapper.setStrict(false);
+		mapper.setTargetType(TestObject.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "This is some dummy string", "This won't be mapped" },
+				new String[] { "varString", "illegalPropertyName" });
+		TestObject result = mapper.mapFieldSet(fieldSet);
+		assertEquals("This is some dummy string", result.getVarString());
+	}
+
+	@Test
+	void testNonPublicTargetType() throws Exception {
+		CompiledFieldSetMapper<Item> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(Item.class);
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "42", "" },
+				new String[] { "name", "quantity", "price" });
+		Item item = mapper.mapFieldSet(fieldSet);
+		assertEquals("foo", item.name);
+		assertEquals(42, item.quantity);
+		assertNull(item.price);
+	}
+
+	@Test
+	void testSetterExceptionReportedOnce() {
+		CompiledFieldSetMapper<FailingItem> mapper = new CompiledFieldSetMapper<>();
+		mapper.setTargetType(FailingItem.class);
+		FailingItem.instances = 0;
+		FailingItem.calls = 0;
+
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "bar" }, new String[] { "name", "code" });
+		BindException exception = assertThrows(BindException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals(1, exception.getErrorCount());
+		assertEquals("methodInvocation", exception.getFieldError("code").getCode());
+		assertEquals(1, FailingItem.instances);
+		assertEquals(1, FailingItem.calls);
+	}
+
+	static class FailingItem {
+
+		static int instances;
+
+		static int calls;
+
+		private String name;
+
+		FailingItem() {
+			instances++;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setCode(String code) {
+			calls++;
+			throw new IllegalArgumentException("Invalid code: " + code);
+		}
+
+	}
+
+	static class Item {
+
+		private String name;
+
+		private int quantity;
+
+		private Double price;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public void setPrice(Double price) {
+			this.price = price;
+		}
+
+	}
+
+}
@@ -19,10 +19,12 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.item.file.transform.DefaultFieldSet;
 import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.BeanInstantiationException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Mahmoud Ben Hassine
@@ -44,6 +46,33 @@ class RecordFieldSetMapperTests {
 		assertEquals("foo", person.name());
 	}
 
+	@Test
+	void testMapFieldSetWithNamesInDifferentOrder() {
+		// given
+		RecordFieldSetMapper<Person> recordFieldSetMapper = new RecordFieldSetMapper<>(Person.class);
+		String[] names = { "name", "id" };
+
+		// when
+		Person foo = recordFieldSetMapper.mapFieldSet(new DefaultFieldSet(new String[] { "foo", "1" }, names));
+		Person bar = recordFieldSetMapper.mapFieldSet(new DefaultFieldSet(new String[] { "bar", "2" }, names));
+
+		// then
+		assertEquals(new Person(1, "foo"), foo);
+		assertEquals(new Person(2, "bar"), bar);
+	}
+
+	@Test
+	void testMapFieldSetWhenConstructorThrowsException() {
+		// given
+		RecordFieldSetMapper<Amount> recordFieldSetMapper = new RecordFieldSetMapper<>(Amount.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "-1" }, new String[] { "value" });
+
+		// when
+		Exception exception = assertThrows(BeanInstantiationException.class,
+				() -> recordFieldSetMapper.mapFieldSet(fieldSet));
+		assertTrue(exception.getCause() instanceof IllegalArgumentException);
+	}
+
 	@Test
 	void testMapFieldSetWhenFieldCountIsIncorrect() {
 		// given
@@ -71,4 +100,12 @@ class RecordFieldSetMapperTests {
 	record Person(int id, String name) {
 	}
 
+	record Amount(long value) {
+		Amount {
+			if (value < 0) {
+				throw new IllegalArgumentException("Amount must be positive");
+			}
+		}
+	}
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CharSequenceFieldSet}. Typed reads are checked against the ones of a
+ * {@link DefaultFieldSet} holding the same values.
+ */
+class CharSequenceFieldSetTests {
+
+	private static final String[] VALUES = { "123", " -45 ", "+7", "1,234", "12.7", "0012", "99999999999",
+			"123456789012345678901", "", "  ", "abc", "-", "1.50", "-0.5", ".5", "1.", "1e3", "1.2.3", "2007-10-12",
+			" 2024-02-29 ", "2023-02-29", "1500-01-01", "2007-1-12", "2007-10-12x", "١٢٣" };
+
+	@Test
+	void testTypedReadsMatchDefaultFieldSet() {
+		for (int i = 0; i < VALUES.length; i++) {
+			assertSameResult(i, FieldSet::readString);
+			assertSameResult(i, FieldSet::readRawString);
+			assertSameResult(i, FieldSet::readInt);
+			assertSameResult(i, (fieldSet, index) -> fieldSet.readInt(index, -1));
+			assertSameResult(i, FieldSet::readLong);
+			assertSameResult(i, (fieldSet, index) -> fieldSet.readLong(index, -1L));
+			assertSameResult(i, FieldSet::readBigDecimal);
+			assertSameResult(i, (fieldSet, index) -> fieldSet.readBigDecimal(index, BigDecimal.TEN));
+			assertSameResult(i, FieldSet::readDate);
+			assertSameResult(i, (fieldSet, index) -> fieldSet.readDate(index, new Date(0)));
+			assertSameResult(i, FieldSet::readBoolean);
+		}
+	}
+
+	@Test
+	void testCustomFormats() {
+		NumberFormat numberFormat = NumberFormat.getInstance(Locale.GERMAN);
+		SimpleDateFormat dateFormat = new SimpleDateFormat("dd.MM.yyyy");
+		FieldSet fieldSet = createFieldSet(new String[] { "1.234", "1.234,5", "12.10.2007" }, null, dateFormat,
+				numberFormat);
+		FieldSet expected = new DefaultFieldSet(new String[] { "1.234", "1.234,5", "12.10.2007" }, dateFormat,
+				numberFormat);
+
+		assertEquals(expected.readInt(0), fieldSet.readInt(0));
+		assertEquals(expected.readBigDecimal(1), fieldSet.readBigDecimal(1));
+		assertEquals(expected.readDate(2), fieldSet.readDate(2));
+	}
+
+	@Test
+	void testNames() {
+		FieldSet fieldSet = createFieldSet(new String[] { " foo ", "42" }, new String[] { "name", "value" }, null,
+				null);
+		assertTrue(fieldSet.hasNames());
+		assertArrayEquals(new String[] { "name", "value" }, fieldSet.getNames());
+		assertEquals("foo", fieldSet.readString("name"));
+		assertEquals(" foo ", fieldSet.readRawString("name"));
+		assertEquals(42, fieldSet.readInt("value"));
+		assertEquals("foo", fieldSet.getProperties().getProperty("name"));
+		assertThrows(IllegalArgumentException.class, () -> fieldSet.readString("unknown"));
+	}
+
+	@Test
+	void testNamesNotKnown() {
+		FieldSet fieldSet = createFieldSet(new String[] { "foo" }, null, null, null);
+		assertFalse(fieldSet.hasNames());
+		assertThrows(IllegalStateException.class, fieldSet::getNames);
+		assertThrows(IllegalArgumentException.class, () -> fieldSet.readString("foo"));
+	}
+
+	@Test
+	void testReadCharSequence() {
+		CharSequenceFieldSet fieldSet = createFieldSet(new String[] { "a", " bcd " }, null, null, null);
+		assertEquals("bcd", fieldSet.readCharSequence(1).toString());
+		assertEquals('a', fieldSet.readChar(0));
+		assertThrows(IllegalArgumentException.class, () -> fieldSet.readChar(1));
+	}
+
+	@Test
+	void testIndexOutOfBounds() {
+		FieldSet fieldSet = createFieldSet(new String[] { "a" }, null, null, null);
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> fieldSet.readString(1));
+	}
+
+	@Test
+	void testEquals() {
+		FieldSet fieldSet = createFieldSet(new String[] { "a", "b" }, null, null, null);
+		assertEquals(createFieldSet(new String[] { "a", "b" }, null, null, null), fieldSet);
+		assertEquals(createFieldSet(new String[] { "a", "b" }, null, null, null).hashCode(), fieldSet.hashCode());
+	}
+
+	@Test
+	void testInvalidNames() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new CharSequenceFieldSet("ab", new int[] { 0, 1, 1, 2 }, new String[] { "a" }, null, null));
+	}
+
+	private void assertSameResult(int index, FieldReader reader) {
+		FieldSet expected = new DefaultFieldSet(VALUES);
+		FieldSet actual = createFieldSet(VALUES, null, null, null);
+		Function<FieldSet, Object> read = fieldSet -> {
+			try {
+				return reader.read(fieldSet, index);
+			}
+			catch (Exception e) {
+				return e.getClass();
+			}
+		};
+		assertEquals(read.apply(expected), read.apply(actual), "value [" + VALUES[index] + "]");
+	}
+
+	private static CharSequenceFieldSet createFieldSet(String[] values, String[] names, SimpleDateFormat dateFormat,
+			NumberFormat numberFormat) {
+		StringBuilder line = new StringBuilder("#");
+		int[] boundaries = new int[2 * values.length];
+		for (int i = 0; i < values.length; i++) {
+			boundaries[2 * i] = line.length();
+			line.append(values[i]);
+			boundaries[2 * i + 1] = line.length();
+			line.append('|');
+		}
+		return new CharSequenceFieldSet(line.toString(), boundaries, names, dateFormat, numberFormat);
+	}
+
+	private interface FieldReader {
+
+		Object read(FieldSet fieldSet, int index);
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,9 @@ package org.springframework.batch.item.file.transform;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DelimitedLineTokenizerTests {
@@ -380,4 +382,55 @@ class DelimitedLineTokenizerTests {
 		assertEquals("value2\nvalue2cont", line.readString(1));
 	}
 
+	@Test
+	void testCharSequenceFieldSetMatchesDefaultFieldSet() {
+		String[] lines = { "sfd,\"Well,I have no idea what to do in the afternoon\",sFj, asdf,,as\n", "First string,",
+				"   ", "\"\"", "a,b,c", " \"quoted\" , x ,", "value1;\"value2\nvalue2cont\";value3", "," };
+		DelimitedLineTokenizer charSequenceTokenizer = new DelimitedLineTokenizer();
+		charSequenceTokenizer.setCharSequenceFieldSet(true);
+		for (String line : lines) {
+			FieldSet expected = tokenizer.tokenize(line);
+			FieldSet actual = charSequenceTokenizer.tokenize(line);
+			assertInstanceOf(CharSequenceFieldSet.class, actual);
+			assertArrayEquals(expected.getValues(), actual.getValues(), line);
+		}
+	}
+
+	@Test
+	void testCharSequenceFieldSetWithEscapedQuotes() {
+		tokenizer.setCharSequenceFieldSet(true);
+		FieldSet line = tokenizer.tokenize("a,\"b\"\"c\",d");
+		assertInstanceOf(DefaultFieldSet.class, line);
+		assertEquals("b\"c", line.readString(1));
+	}
+
+	@Test
+	void testCharSequenceFieldSetWithIncludedFieldsAndNames() {
+		tokenizer.setCharSequenceFieldSet(true);
+		tokenizer.setIncludedFields(1, 3);
+		tokenizer.setNames("foo", "bar");
+		FieldSet line = tokenizer.tokenize("a,b,c,\"d\"");
+		assertInstanceOf(CharSequenceFieldSet.class, line);
+		assertEquals("b", line.readString("foo"));
+		assertEquals("d", line.readString("bar"));
+	}
+
+	@Test
+	void testCharSequenceFieldSetNonStrict() {
+		tokenizer.setCharSequenceFieldSet(true);
+		tokenizer.setStrict(false);
+		tokenizer.setNames("foo", "bar", "spam");
+		FieldSet line = tokenizer.tokenize("a,b");
+		assertArrayEquals(new String[] { "a", "b", "" }, line.getValues());
+		line = tokenizer.tokenize("a,b,c,d");
+		assertArrayEquals(new String[] { "a", "b", "c" }, line.getValues());
+	}
+
+	@Test
+	void testCharSequenceFieldSetWithTooFewNames() {
+		tokenizer.setCharSequenceFieldSet(true);
+		tokenizer.setNames("foo");
+		assertThrows(IncorrectTokenCountException.class, () -> tokenizer.tokenize("a,b"));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.batch.item.file.transform;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -191,4 +193,33 @@ class FixedLengthTokenizerTests {
 		assertEquals(1, exception.getActualCount());
 	}
 
+	@Test
+	void testCharSequenceFieldSet() {
+		tokenizer.setColumns(new Range(1, 5), new Range(6, 10), new Range(11));
+		tokenizer.setNames("first", "second", "rest");
+		tokenizer.setCharSequenceFieldSet(true);
+		FieldSet tokens = tokenizer.tokenize("  123abcde 2024-01-31");
+		assertInstanceOf(CharSequenceFieldSet.class, tokens);
+		assertArrayEquals(new String[] { "  123", "abcde", " 2024-01-31" }, tokens.getValues());
+		assertEquals(123, tokens.readInt("first"));
+		assertEquals("abcde", tokens.readString("second"));
+		assertEquals("2024-01-31", tokens.readString("rest"));
+	}
+
+	@Test
+	void testCharSequenceFieldSetWithShortLineNonStrict() {
+		tokenizer.setColumns(new Range(1, 5), new Range(6, 10), new Range(11, 15));
+		tokenizer.setStrict(false);
+		tokenizer.setCharSequenceFieldSet(true);
+		FieldSet tokens = tokenizer.tokenize("12345678");
+		assertArrayEquals(new String[] { "12345", "678", "" }, tokens.getValues());
+	}
+
+	@Test
+	void testCharSequenceFieldSetWithShortLineStrict() {
+		tokenizer.setColumns(new Range(1, 5), new Range(6, 10));
+		tokenizer.setCharSequenceFieldSet(true);
+		assertThrows(IncorrectLineLengthException.class, () -> tokenizer.tokenize("12345"));
+	}
+
 }
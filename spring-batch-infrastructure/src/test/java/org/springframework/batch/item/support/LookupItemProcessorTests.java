@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.Chunk;
+
+/**
+ * Tests for {@link LookupItemProcessor}.
+ */
+class LookupItemProcessorTests {
+
+	private final List<List<Integer>> loadedKeys = new ArrayList<>();
+
+	private final LookupItemProcessor<String, Integer, String, String> processor = new LookupItemProcessor<>(
+			item -> item.isEmpty() ? null : item.length(), this::load, (item, value) -> item + ":" + value);
+
+	private Map<Integer, String> load(Collection<Integer> keys) {
+		this.loadedKeys.add(new ArrayList<>(keys));
+		return keys.stream().filter(key -> key < 5).collect(Collectors.toMap(key -> key, key -> "v" + key));
+	}
+
+	@Test
+	void testProcessChunk() throws Exception {
+		Chunk<String> outputs = this.processor.processChunk(Chunk.of("a", "bb", "", "c", "ccccc"));
+
+		assertEquals(Arrays.asList("a:v1", "bb:v2", ":null", "c:v1", "ccccc:null"), outputs.getItems());
+		assertEquals(List.of(List.of(1, 2, 5)), this.loadedKeys);
+		assertEquals(0, this.processor.getHitCount());
+		assertEquals(3, this.processor.getMissCount());
+	}
+
+	@Test
+	void testCachedKeysAreNotLoaded() throws Exception {
+		this.processor.processChunk(Chunk.of("a", "bbbbb"));
+		Chunk<String> outputs = this.processor.processChunk(Chunk.of("c", "bb", "ddddd"));
+
+		assertEquals(Arrays.asList("c:v1", "bb:v2", "ddddd:null"), outputs.getItems());
+		assertEquals(List.of(List.of(1, 5), List.of(2)), this.loadedKeys);
+		assertEquals(2, this.processor.getHitCount());
+		assertEquals(3, this.processor.getMissCount());
+	}
+
+	@Test
+	void testLeastRecentlyUsedKeysAreEvicted() throws Exception {
+		this.processor.setCacheSize(2);
+
+		this.processor.processChunk(Chunk.of("a", "bb"));
+		this.processor.processChunk(Chunk.of("a", "ccc"));
+		this.processor.processChunk(Chunk.of("a", "bb"));
+
+		assertEquals(List.of(List.of(1, 2), List.of(3), List.of(2)), this.loadedKeys);
+		assertEquals(2, this.processor.getEvictionCount());
+	}
+
+	@Test
+	void testCachingDisabled() throws Exception {
+		this.processor.setCacheSize(0);
+
+		this.processor.processChunk(Chunk.of("a"));
+		this.processor.processChunk(Chunk.of("a"));
+
+		assertEquals(List.of(List.of(1), List.of(1)), this.loadedKeys);
+		assertEquals(0, this.processor.getHitCount());
+		assertEquals(0, this.processor.getEvictionCount());
+	}
+
+	@Test
+	void testCacheClearedOnClose() throws Exception {
+		this.processor.processChunk(Chunk.of("a"));
+		this.processor.close();
+		this.processor.processChunk(Chunk.of("a"));
+
+		assertEquals(List.of(List.of(1), List.of(1)), this.loadedKeys);
+	}
+
+	@Test
+	void testCacheKeptOnClose() throws Exception {
+		this.processor.setClearCacheOnClose(false);
+
+		this.processor.processChunk(Chunk.of("a"));
+		this.processor.close();
+		assertEquals("b:v1", this.processor.process("b"));
+
+		assertEquals(List.of(List.of(1)), this.loadedKeys);
+	}
+
+	@Test
+	void testProcessItemWithoutKey() throws Exception {
+		assertEquals(":null", this.processor.process(""));
+		assertEquals(0, this.loadedKeys.size());
+	}
+
+	@Test
+	void testLoaderReturningNull() throws Exception {
+		LookupItemProcessor<String, String, String, String> processor = new LookupItemProcessor<>(item -> item,
+				keys -> null, (item, value) -> value);
+
+		assertNull(processor.process("a"));
+	}
+
+}
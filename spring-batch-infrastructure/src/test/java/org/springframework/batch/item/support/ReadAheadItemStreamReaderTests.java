@@ -0,0 +1,296 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ReaderNotOpenException;
+import org.springframework.beans.factory.InitializingBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadAheadItemStreamReaderTests {
+
+	private final ExecutionContext executionContext = new ExecutionContext();
+
+	@Test
+	void testReadAllItems() throws Exception {
+		ReadAheadItemStreamReader<Integer> reader = createReader(new CountingReader(10, -1));
+
+		reader.open(executionContext);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i, reader.read());
+		}
+		assertNull(reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testUpdateSavesConsumedItemsOnly() throws Exception {
+		CountingReader delegate = new CountingReader(10, -1);
+		ReadAheadItemStreamReader<Integer> reader = createReader(delegate);
+
+		reader.open(executionContext);
+		reader.update(executionContext);
+		assertEquals(0, executionContext.getInt("counting.read.count"));
+		assertEquals(0, reader.read());
+		assertEquals(1, reader.read());
+		awaitReadCount(delegate, 6);
+		reader.update(executionContext);
+		reader.close();
+		assertEquals(2, executionContext.getInt("counting.read.count"));
+
+		ReadAheadItemStreamReader<Integer> restarted = createReader(new CountingReader(10, -1));
+		restarted.open(executionContext);
+		assertEquals(2, restarted.read());
+		restarted.close();
+	}
+
+	@Test
+	void testExceptionsRethrownInOrder() throws Exception {
+		ReadAheadItemStreamReader<Integer> reader = createReader(new CountingReader(4, 1));
+
+		reader.open(executionContext);
+		assertEquals(0, reader.read());
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+		assertEquals("Failed to read item 1", exception.getMessage());
+		assertEquals(2, reader.read());
+		reader.update(executionContext);
+		assertEquals(3, executionContext.getInt("counting.read.count"));
+		assertEquals(3, reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testCloseStopsReadingAhead() {
+		CountingReader delegate = new CountingReader(Integer.MAX_VALUE, -1);
+		ReadAheadItemStreamReader<Integer> reader = createReader(delegate);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(executionContext);
+			assertEquals(0, reader.read());
+			awaitReadCount(delegate, 6);
+			reader.close();
+		});
+		assertTrue(delegate.closed.get());
+	}
+
+	@Test
+	void testCloseInterruptsBlockedDelegate() {
+		BlockingReader delegate = new BlockingReader();
+		ReadAheadItemStreamReader<Integer> reader = new ReadAheadItemStreamReader<>();
+		reader.setDelegate(delegate);
+		reader.setCloseTimeout(Duration.ofMillis(100));
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(executionContext);
+			awaitActiveReads(delegate, 1);
+			reader.close();
+		});
+		assertEquals(0, delegate.activeReads.get());
+		assertEquals(1, delegate.closeCount.get());
+	}
+
+	@Test
+	void testUpdateAndCloseWhileReadIsWaiting() {
+		BlockingReader delegate = new BlockingReader();
+		ReadAheadItemStreamReader<Integer> reader = new ReadAheadItemStreamReader<>();
+		reader.setDelegate(delegate);
+		reader.setCloseTimeout(Duration.ofMillis(100));
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		Thread readingThread = new Thread(() -> {
+			try {
+				reader.read();
+			}
+			catch (Exception e) {
+				failure.set(e);
+			}
+		});
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(executionContext);
+			awaitActiveReads(delegate, 1);
+			readingThread.start();
+			while (readingThread.getState() != Thread.State.TIMED_WAITING
+					&& readingThread.getState() != Thread.State.WAITING) {
+				Thread.sleep(10);
+			}
+			reader.update(new ExecutionContext());
+			reader.close();
+			readingThread.join();
+		});
+		assertInstanceOf(ReaderNotOpenException.class, failure.get());
+		assertEquals(1, delegate.closeCount.get());
+	}
+
+	@Test
+	void testOpenTwiceStopsFirstReadAhead() {
+		BlockingReader delegate = new BlockingReader();
+		ReadAheadItemStreamReader<Integer> reader = new ReadAheadItemStreamReader<>();
+		reader.setDelegate(delegate);
+		reader.setCloseTimeout(Duration.ofMillis(100));
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			reader.open(executionContext);
+			awaitActiveReads(delegate, 1);
+			reader.open(executionContext);
+			assertEquals(1, delegate.closeCount.get());
+			awaitActiveReads(delegate, 1);
+			reader.close();
+		});
+		assertEquals(0, delegate.activeReads.get());
+		assertEquals(2, delegate.openCount.get());
+		assertEquals(2, delegate.closeCount.get());
+	}
+
+	@Test
+	void testReadBeforeOpen() {
+		ReadAheadItemStreamReader<Integer> reader = createReader(new CountingReader(1, -1));
+		assertThrows(ReaderNotOpenException.class, reader::read);
+	}
+
+	@Test
+	void testDelegateIsNotNullWhenPropertiesSet() {
+		Exception exception = assertThrows(IllegalStateException.class,
+				() -> ((InitializingBean) new ReadAheadItemStreamReader<>()).afterPropertiesSet());
+		assertEquals("A delegate item reader is required", exception.getMessage());
+	}
+
+	@Test
+	void testInvalidBufferSize() {
+		assertThrows(IllegalArgumentException.class, () -> new ReadAheadItemStreamReader<>().setBufferSize(0));
+	}
+
+	private ReadAheadItemStreamReader<Integer> createReader(CountingReader delegate) {
+		ReadAheadItemStreamReader<Integer> reader = new ReadAheadItemStreamReader<>();
+		reader.setDelegate(delegate);
+		reader.setBufferSize(5);
+		return reader;
+	}
+
+	private static void awaitReadCount(CountingReader delegate, int count) throws InterruptedException {
+		// the buffer holds 5 items and the thread reading ahead blocks on the next one
+		while (delegate.readCount() < count) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void awaitActiveReads(BlockingReader delegate, int count) throws InterruptedException {
+		while (delegate.activeReads.get() != count) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static class BlockingReader implements ItemStreamReader<Integer> {
+
+		private final CountDownLatch never = new CountDownLatch(1);
+
+		private final AtomicInteger activeReads = new AtomicInteger();
+
+		private final AtomicInteger openCount = new AtomicInteger();
+
+		private final AtomicInteger closeCount = new AtomicInteger();
+
+		@Override
+		public Integer read() throws Exception {
+			this.activeReads.incrementAndGet();
+			try {
+				this.never.await();
+				return null;
+			}
+			finally {
+				this.activeReads.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void open(ExecutionContext executionContext) {
+			this.openCount.incrementAndGet();
+		}
+
+		@Override
+		public void close() {
+			this.closeCount.incrementAndGet();
+		}
+
+	}
+
+	private static class CountingReader extends AbstractItemCountingItemStreamItemReader<Integer> {
+
+		private final int itemCount;
+
+		private final int failingItem;
+
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private volatile int current;
+
+		CountingReader(int itemCount, int failingItem) {
+			this.itemCount = itemCount;
+			this.failingItem = failingItem;
+			setName("counting");
+		}
+
+		int readCount() {
+			return this.current;
+		}
+
+		@Override
+		protected Integer doRead() {
+			int item = this.current++;
+			if (item >= this.itemCount) {
+				return null;
+			}
+			if (item == this.failingItem) {
+				throw new IllegalStateException("Failed to read item " + item);
+			}
+			return item;
+		}
+
+		@Override
+		protected void jumpToItem(int itemIndex) {
+			this.current = itemIndex;
+		}
+
+		@Override
+		protected void doOpen() {
+			assertFalse(this.closed.get());
+		}
+
+		@Override
+		protected void doClose() {
+			this.closed.set(true);
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support.builder;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.IteratorItemReader;
+import org.springframework.batch.item.support.ReadAheadItemStreamReader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReadAheadItemStreamReaderBuilderTests {
+
+	@Test
+	void testConfiguration() throws Exception {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+		ReadAheadItemStreamReader<String> reader = new ReadAheadItemStreamReaderBuilder<String>()
+			.delegate(new StreamReader<>(List.of("foo", "bar")))
+			.bufferSize(5)
+			.taskExecutor(taskExecutor)
+			.build();
+
+		assertEquals(5, ReflectionTestUtils.getField(reader, "bufferSize"));
+		assertSame(taskExecutor, ReflectionTestUtils.getField(reader, "taskExecutor"));
+		reader.open(new ExecutionContext());
+		assertEquals("foo", reader.read());
+		assertEquals("bar", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testBuilderDelegateIsNotNull() {
+		ReadAheadItemStreamReaderBuilder<Object> builder = new ReadAheadItemStreamReaderBuilder<>();
+		Exception expectedException = assertThrows(IllegalArgumentException.class, builder::build);
+		assertEquals("A delegate is required", expectedException.getMessage());
+	}
+
+	private static class StreamReader<T> extends IteratorItemReader<T> implements ItemStreamReader<T> {
+
+		StreamReader(List<T> items) {
+			super(items);
+		}
+
+	}
+
+}
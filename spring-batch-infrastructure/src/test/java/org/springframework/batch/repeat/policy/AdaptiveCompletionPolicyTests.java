@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.repeat.policy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveCompletionPolicyTests {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final AdaptiveCompletionPolicy policy = new AdaptiveCompletionPolicy(10);
+
+	@Test
+	void testCompleteWhenChunkSizeReached() {
+		RepeatContext context = this.policy.start(null);
+		for (int i = 0; i < 9; i++) {
+			this.policy.update(context);
+			assertFalse(this.policy.isComplete(context, RepeatStatus.CONTINUABLE));
+		}
+		this.policy.update(context);
+		assertTrue(this.policy.isComplete(context, RepeatStatus.CONTINUABLE));
+	}
+
+	@Test
+	void testCompleteWhenResultIsNull() {
+		RepeatContext context = this.policy.start(null);
+		this.policy.update(context);
+		assertTrue(this.policy.isComplete(context, null));
+	}
+
+	@Test
+	void testChunkSizeIncreasedWhileThroughputImproves() {
+		this.policy.setClock(this.clock);
+		runBatch(100);
+		runBatch(100);
+		assertEquals(11, this.policy.getChunkSize());
+		runBatch(100);
+		assertEquals(12, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testDirectionReversedWhenThroughputDrops() {
+		this.policy.setClock(this.clock);
+		runBatch(100); // 10 items at 100 items/s
+		runBatch(220); // 11 items at 50 items/s
+		runBatch(100); // 10 items at 100 items/s
+		assertEquals(10, this.policy.getChunkSize());
+		runBatch(100);
+		assertEquals(9, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testChunkSizeHalvedWhenMaxDurationExceeded() {
+		this.policy.setClock(this.clock);
+		this.policy.setMaxDuration(Duration.ofSeconds(1));
+		runBatch(2000);
+		runBatch(100);
+		assertEquals(5, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testChunkSizeBounded() {
+		this.policy.setClock(this.clock);
+		this.policy.setMaxChunkSize(11);
+		this.policy.setMinChunkSize(8);
+		this.policy.setMaxDuration(Duration.ofSeconds(1));
+		runBatch(100);
+		runBatch(100);
+		runBatch(100);
+		assertEquals(11, this.policy.getChunkSize());
+		runBatch(5000);
+		runBatch(100);
+		assertEquals(8, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testChunkSizeIncrementDoesNotOverflow() {
+		this.policy.setClock(this.clock);
+		this.policy.setIncrement(Integer.MAX_VALUE);
+		runBatch(100);
+		this.policy.start(null);
+		assertEquals(Integer.MAX_VALUE, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testPartialBatchIgnored() {
+		this.policy.setClock(this.clock);
+		RepeatContext context = this.policy.start(null);
+		this.policy.update(context);
+		this.clock.advance(5000);
+		this.policy.start(null);
+		assertEquals(10, this.policy.getChunkSize());
+	}
+
+	@Test
+	void testChunkSizeRestoredFromExecutionContext() {
+		this.policy.setClock(this.clock);
+		runBatch(100);
+		runBatch(100);
+		ExecutionContext executionContext = new ExecutionContext();
+		this.policy.update(executionContext);
+		assertEquals(11, executionContext.getInt("AdaptiveCompletionPolicy.chunk.size"));
+
+		AdaptiveCompletionPolicy restarted = new AdaptiveCompletionPolicy(10);
+		restarted.open(executionContext);
+		assertEquals(11, restarted.getChunkSize());
+		RepeatContext context = restarted.start(null);
+		for (int i = 0; i < 10; i++) {
+			restarted.update(context);
+		}
+		assertFalse(restarted.isComplete(context));
+	}
+
+	@Test
+	void testInitialChunkSizeWhenNothingToRestore() {
+		this.policy.setName("foo");
+		this.policy.open(new ExecutionContext());
+		assertEquals(10, this.policy.getChunkSize());
+		ExecutionContext executionContext = new ExecutionContext();
+		this.policy.update(executionContext);
+		assertEquals(10, executionContext.getInt("foo.chunk.size"));
+	}
+
+	@Test
+	void testInvalidInitialChunkSize() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompletionPolicy(0));
+	}
+
+	private void runBatch(long durationInMillis) {
+		RepeatContext context = this.policy.start(null);
+		while (!this.policy.isComplete(context)) {
+			this.policy.update(context);
+		}
+		this.clock.advance(durationInMillis);
+	}
+
+	private static class MutableClock extends Clock {
+
+		private long millis;
+
+		void advance(long millis) {
+			this.millis += millis;
+		}
+
+		@Override
+		public long millis() {
+			return this.millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(this.millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+	}
+
+}
@@ -28,7 +28,6 @@ import javax.sql.DataSource;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
@@ -254,10 +253,9 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 		Set<Long> partitionStepExecutionIds = split.stream().map(StepExecution::getId).collect(Collectors.toSet());
 
 		Callable<Set<StepExecution>> callback = () -> {
-			JobExecution jobExecution = jobExplorer.getJobExecution(managerStepExecution.getJobExecutionId());
-			Set<StepExecution> finishedStepExecutions = jobExecution.getStepExecutions()
+			Set<StepExecution> finishedStepExecutions = jobExplorer
+				.getStepExecutions(managerStepExecution.getJobExecutionId(), partitionStepExecutionIds)
 				.stream()
-				.filter(stepExecution -> partitionStepExecutionIds.contains(stepExecution.getId()))
 				.filter(stepExecution -> !stepExecution.getStatus().isRunning())
 				.collect(Collectors.toSet());
 
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -175,12 +177,10 @@ class MessageChannelPartitionHandlerTests {
 		stepExecutions.add(partition2);
 		stepExecutions.add(partition3);
 		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
-		JobExecution runningJobExecution = new JobExecution(5L, new JobParameters());
-		runningJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition3));
-		JobExecution completedJobExecution = new JobExecution(5L, new JobParameters());
-		completedJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition4));
-		when(jobExplorer.getJobExecution(5L)).thenReturn(runningJobExecution, runningJobExecution, runningJobExecution,
-				completedJobExecution);
+		List<StepExecution> runningStepExecutions = Arrays.asList(partition2, partition1, partition3);
+		List<StepExecution> completedStepExecutions = Arrays.asList(partition2, partition1, partition4);
+		when(jobExplorer.getStepExecutions(eq(5L), anyCollection())).thenReturn(runningStepExecutions,
+				runningStepExecutions, runningStepExecutions, completedStepExecutions);
 
 		// set
 		messageChannelPartitionHandler.setMessagingOperations(operations);
@@ -225,9 +225,8 @@ class MessageChannelPartitionHandlerTests {
 		stepExecutions.add(partition2);
 		stepExecutions.add(partition3);
 		when(stepExecutionSplitter.split(any(StepExecution.class), eq(1))).thenReturn(stepExecutions);
-		JobExecution runningJobExecution = new JobExecution(5L, new JobParameters());
-		runningJobExecution.addStepExecutions(Arrays.asList(partition2, partition1, partition3));
-		when(jobExplorer.getJobExecution(5L)).thenReturn(runningJobExecution);
+		when(jobExplorer.getStepExecutions(eq(5L), anyCollection()))
+			.thenReturn(Arrays.asList(partition2, partition1, partition3));
 
 		// set
 		messageChannelPartitionHandler.setMessagingOperations(operations);